@@ -0,0 +1,47 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.storage.entity.FeedbackResponse;
+import teammates.storage.entity.FeedbackResponseComment;
+
+/**
+ * Script to fill in the sections list of FeedbackResponseComment entities saved before the list was added,
+ * which section-filtered queries of comments rely on.
+ *
+ * <p>The script can be re-run safely.
+ */
+public class DataMigrationForFeedbackResponseCommentSections
+        extends DataMigrationEntitiesBaseScript<FeedbackResponseComment> {
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackResponseCommentSections().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackResponseComment> getFilterQuery() {
+        return ofy().load().type(FeedbackResponseComment.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackResponseComment comment) {
+        return !FeedbackResponse.generateSections(comment.getGiverSection(), comment.getReceiverSection())
+                .equals(comment.getSections());
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackResponseComment comment) {
+        // setting the section regenerates the sections list
+        comment.setGiverSection(comment.getGiverSection());
+
+        saveEntityDeferred(comment);
+    }
+
+}
@@ -0,0 +1,45 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.storage.entity.FeedbackResponse;
+
+/**
+ * Script to fill in the sections list of FeedbackResponse entities saved before the list was added,
+ * which section-filtered queries of responses rely on.
+ *
+ * <p>The script can be re-run safely.
+ */
+public class DataMigrationForFeedbackResponseSections extends DataMigrationEntitiesBaseScript<FeedbackResponse> {
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForFeedbackResponseSections().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackResponse> getFilterQuery() {
+        return ofy().load().type(FeedbackResponse.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackResponse response) {
+        return !FeedbackResponse.generateSections(response.getGiverSection(), response.getRecipientSection())
+                .equals(response.getSections());
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackResponse response) {
+        // setting the section regenerates the sections list
+        response.setGiverSection(response.getGiverSection());
+
+        saveEntityDeferred(response);
+    }
+
+}
@@ -0,0 +1,68 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.SessionRespondent;
+
+/**
+ * Script to move the respondent lists kept in FeedbackSession entities to SessionRespondent entities.
+ *
+ * <p>The respondent lists of a migrated session are cleared. The script can be re-run safely.
+ */
+public class DataMigrationForSessionRespondents extends DataMigrationEntitiesBaseScript<FeedbackSession> {
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForSessionRespondents().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackSession> getFilterQuery() {
+        return ofy().load().type(FeedbackSession.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackSession session) {
+        return !isEmpty(session.getRespondingStudentList()) || !isEmpty(session.getRespondingInstructorList());
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackSession session) {
+        List<SessionRespondent> respondents = new ArrayList<>();
+        addRespondents(respondents, session, session.getRespondingStudentList(), false);
+        addRespondents(respondents, session, session.getRespondingInstructorList(), true);
+        ofy().save().entities(respondents).now();
+
+        session.setRespondingStudentList(new HashSet<>());
+        session.setRespondingInstructorList(new HashSet<>());
+
+        saveEntityDeferred(session);
+    }
+
+    private void addRespondents(List<SessionRespondent> respondents, FeedbackSession session,
+                                Set<String> emails, boolean isInstructor) {
+        if (emails == null) {
+            return;
+        }
+        for (String email : emails) {
+            respondents.add(new SessionRespondent(
+                    session.getCourseId(), session.getFeedbackSessionName(), email, isInstructor));
+        }
+    }
+
+    private static boolean isEmpty(Set<String> emails) {
+        return emails == null || emails.isEmpty();
+    }
+
+}
@@ -2,6 +2,7 @@ package teammates.common.datatransfer;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,8 +18,8 @@ import teammates.common.util.StringHelper;
  */
 public class CourseRoster {
 
-    private final Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
-    private final Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    private final Map<String, StudentAttributes> studentListByEmail = new LinkedHashMap<>();
+    private final Map<String, InstructorAttributes> instructorListByEmail = new LinkedHashMap<>();
     private final Map<String, List<StudentAttributes>> teamToMembersTable;
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
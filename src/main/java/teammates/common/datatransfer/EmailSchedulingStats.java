@@ -0,0 +1,55 @@
+package teammates.common.datatransfer;
+
+/**
+ * A snapshot of the scheduling of emails sent through the email service in use.
+ */
+public class EmailSchedulingStats {
+
+    private final String emailService;
+    private final int rateLimit;
+    private final long backlog;
+    private final long backlogClearingMillis;
+    private final double sendRate;
+
+    public EmailSchedulingStats(String emailService, int rateLimit, long backlog, long backlogClearingMillis,
+                                double sendRate) {
+        this.emailService = emailService;
+        this.rateLimit = rateLimit;
+        this.backlog = backlog;
+        this.backlogClearingMillis = backlogClearingMillis;
+        this.sendRate = sendRate;
+    }
+
+    public String getEmailService() {
+        return emailService;
+    }
+
+    /**
+     * Gets the maximum number of emails sent per second.
+     */
+    public int getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Gets the number of emails scheduled but not yet due to be sent within the rate limit.
+     */
+    public long getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * Gets the time until all scheduled emails are due to be sent.
+     */
+    public long getBacklogClearingMillis() {
+        return backlogClearingMillis;
+    }
+
+    /**
+     * Gets the average number of emails sent per second recently.
+     */
+    public double getSendRate() {
+        return sendRate;
+    }
+
+}
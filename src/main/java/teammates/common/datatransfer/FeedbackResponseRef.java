@@ -0,0 +1,72 @@
+package teammates.common.datatransfer;
+
+/**
+ * Identifies a feedback response and the participants involved in it, without the response details.
+ *
+ * <p>Useful for callers which only need to know which responses exist, as the response details
+ * are the bulk of a feedback response and do not need to be fetched from the database.
+ */
+public class FeedbackResponseRef {
+
+    private final String id;
+    private final String feedbackSessionName;
+    private final String courseId;
+    private final String feedbackQuestionId;
+    private final String giver;
+    private final String giverSection;
+    private final String recipient;
+    private final String recipientSection;
+
+    public FeedbackResponseRef(String id, String feedbackSessionName, String courseId, String feedbackQuestionId,
+                               String giver, String giverSection, String recipient, String recipientSection) {
+        this.id = id;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.giver = giver;
+        this.giverSection = giverSection;
+        this.recipient = recipient;
+        this.recipientSection = recipientSection;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getGiver() {
+        return giver;
+    }
+
+    public String getGiverSection() {
+        return giverSection;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getRecipientSection() {
+        return recipientSection;
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackResponseRef [id=" + id + ", feedbackSessionName=" + feedbackSessionName
+                + ", courseId=" + courseId + ", feedbackQuestionId=" + feedbackQuestionId
+                + ", giver=" + giver + ", giverSection=" + giverSection
+                + ", recipient=" + recipient + ", recipientSection=" + recipientSection + "]";
+    }
+
+}
@@ -0,0 +1,36 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Represents a page of the responses to a feedback question, ordered by giver and then by recipient.
+ */
+public class FeedbackResponsesPage {
+
+    private final List<FeedbackResponseAttributes> responses;
+    private final String nextCursor;
+
+    public FeedbackResponsesPage(List<FeedbackResponseAttributes> responses, @Nullable String nextCursor) {
+        this.responses = responses;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<FeedbackResponseAttributes> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Gets the cursor from which the next page of responses can be retrieved.
+     *
+     * @return null if there are no more responses
+     */
+    @Nullable
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+}
@@ -0,0 +1,139 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+
+/**
+ * Represents the missing responses to a feedback question, i.e. the pairs of giver and recipient without a response.
+ *
+ * <p>The pairs are kept as bitsets over the givers and recipients of groups of participants, e.g. a team,
+ * so that no response is created until the missing responses are shown.
+ */
+public class MissingResponses {
+
+    private final String feedbackQuestionId;
+    private final String feedbackSessionName;
+    private final String courseId;
+    private final List<Group> groups = new ArrayList<>();
+
+    public MissingResponses(String feedbackQuestionId, String feedbackSessionName, String courseId) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+    }
+
+    /**
+     * Adds a group of givers and recipients, between whom the missing pairs can then be marked.
+     */
+    public Group addGroup(List<String> givers, List<String> giverSections,
+                          List<String> recipients, List<String> recipientSections) {
+        Group group = new Group(givers, giverSections, recipients, recipientSections);
+        groups.add(group);
+        return group;
+    }
+
+    /**
+     * Gets the number of missing responses.
+     */
+    public int size() {
+        return groups.stream().mapToInt(group -> group.missingPairs.cardinality()).sum();
+    }
+
+    /**
+     * Creates the missing responses, ordered by group, then by giver and then by recipient.
+     *
+     * @param responseVisibilityTable the table to which the visibility of the names in the missing responses is added
+     */
+    public List<FeedbackResponseAttributes> materialize(Map<String, boolean[]> responseVisibilityTable) {
+        List<FeedbackResponseAttributes> missingResponses = new ArrayList<>(size());
+        for (Group group : groups) {
+            for (int pair = group.missingPairs.nextSetBit(0); pair >= 0; pair = group.missingPairs.nextSetBit(pair + 1)) {
+                int giverIndex = pair / group.recipients.size();
+                int recipientIndex = pair % group.recipients.size();
+
+                FeedbackResponseAttributes missingResponse = FeedbackResponseAttributes
+                        .builder(feedbackQuestionId, group.givers.get(giverIndex), group.recipients.get(recipientIndex))
+                        .withCourseId(courseId)
+                        .withFeedbackSessionName(feedbackSessionName)
+                        .withGiverSection(group.giverSections.get(giverIndex))
+                        .withRecipientSection(group.recipientSections.get(recipientIndex))
+                        .withResponseDetails(
+                                new FeedbackTextResponseDetails(Const.INSTRUCTOR_FEEDBACK_RESULTS_MISSING_RESPONSE))
+                        .build();
+
+                boolean[] responseVisibility = new boolean[2];
+                responseVisibility[Const.VISIBILITY_TABLE_GIVER] = group.giverNameVisiblePairs.get(pair);
+                responseVisibility[Const.VISIBILITY_TABLE_RECIPIENT] = group.recipientNameVisiblePairs.get(pair);
+                responseVisibilityTable.put(missingResponse.getId(), responseVisibility);
+
+                missingResponses.add(missingResponse);
+            }
+        }
+        return missingResponses;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    /**
+     * A group of givers and recipients, e.g. the members of a team, with the missing pairs among them.
+     */
+    public static final class Group {
+
+        private final List<String> givers;
+        private final List<String> giverSections;
+        private final List<String> recipients;
+        private final List<String> recipientSections;
+
+        /**
+         * The missing pairs and the visibility of their names, indexed by
+         * {@code giverIndex * recipients.size() + recipientIndex}.
+         */
+        private final BitSet missingPairs = new BitSet();
+        private final BitSet giverNameVisiblePairs = new BitSet();
+        private final BitSet recipientNameVisiblePairs = new BitSet();
+
+        private Group(List<String> givers, List<String> giverSections,
+                      List<String> recipients, List<String> recipientSections) {
+            this.givers = givers;
+            this.giverSections = giverSections;
+            this.recipients = recipients;
+            this.recipientSections = recipientSections;
+        }
+
+        /**
+         * Marks the pair of the giver and the recipient at the indexes as missing a response.
+         */
+        public void markMissing(int giverIndex, int recipientIndex,
+                                boolean isGiverNameVisible, boolean isRecipientNameVisible) {
+            int pair = giverIndex * recipients.size() + recipientIndex;
+            missingPairs.set(pair);
+            giverNameVisiblePairs.set(pair, isGiverNameVisible);
+            recipientNameVisiblePairs.set(pair, isRecipientNameVisible);
+        }
+
+        public List<String> getGivers() {
+            return givers;
+        }
+
+        public List<String> getGiverSections() {
+            return giverSections;
+        }
+
+        public List<String> getRecipients() {
+            return recipients;
+        }
+
+        public List<String> getRecipientSections() {
+            return recipientSections;
+        }
+    }
+
+}
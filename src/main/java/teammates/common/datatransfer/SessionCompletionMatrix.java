@@ -0,0 +1,68 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The questions of a feedback session which each of its givers has not fully answered.
+ *
+ * <p>Only the students and instructors who have at least one question to answer in the session are included;
+ * a giver without any question to answer is considered to have completed the session.
+ */
+public class SessionCompletionMatrix {
+
+    private final Map<String, Set<String>> incompleteQuestionIdsByStudentEmail;
+    private final Map<String, Set<String>> incompleteQuestionIdsByInstructorEmail;
+
+    public SessionCompletionMatrix(Map<String, Set<String>> incompleteQuestionIdsByStudentEmail,
+                                   Map<String, Set<String>> incompleteQuestionIdsByInstructorEmail) {
+        this.incompleteQuestionIdsByStudentEmail = incompleteQuestionIdsByStudentEmail;
+        this.incompleteQuestionIdsByInstructorEmail = incompleteQuestionIdsByInstructorEmail;
+    }
+
+    /**
+     * Gets the IDs of the questions which the student has not fully answered.
+     */
+    public Set<String> getIncompleteQuestionIdsForStudent(String studentEmail) {
+        return Collections.unmodifiableSet(
+                incompleteQuestionIdsByStudentEmail.getOrDefault(studentEmail, Collections.emptySet()));
+    }
+
+    /**
+     * Gets the IDs of the questions which the instructor has not fully answered.
+     */
+    public Set<String> getIncompleteQuestionIdsForInstructor(String instructorEmail) {
+        return Collections.unmodifiableSet(
+                incompleteQuestionIdsByInstructorEmail.getOrDefault(instructorEmail, Collections.emptySet()));
+    }
+
+    /**
+     * Returns true if the student has any question to answer in the session.
+     */
+    public boolean hasQuestionsForStudent(String studentEmail) {
+        return incompleteQuestionIdsByStudentEmail.containsKey(studentEmail);
+    }
+
+    /**
+     * Returns true if the instructor has any question to answer in the session.
+     */
+    public boolean hasQuestionsForInstructor(String instructorEmail) {
+        return incompleteQuestionIdsByInstructorEmail.containsKey(instructorEmail);
+    }
+
+    /**
+     * Returns true if the student has fully answered all questions meant for the student.
+     */
+    public boolean isCompletedByStudent(String studentEmail) {
+        return getIncompleteQuestionIdsForStudent(studentEmail).isEmpty();
+    }
+
+    /**
+     * Returns true if the instructor has fully answered all questions meant for the instructor.
+     */
+    public boolean isCompletedByInstructor(String instructorEmail) {
+        return getIncompleteQuestionIdsForInstructor(instructorEmail).isEmpty();
+    }
+
+}
@@ -1,6 +1,7 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,7 +21,8 @@ public class SessionResultsBundle {
     private final FeedbackSessionAttributes feedbackSession;
     private final Map<String, FeedbackQuestionAttributes> questionsMap;
     private final Map<String, List<FeedbackResponseAttributes>> questionResponseMap;
-    private final Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap;
+    private final Map<String, MissingResponses> missingResponsesMap;
+    private Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap;
     private final Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap;
     private final Map<String, boolean[]> responseVisibilityTable;
     private final Map<Long, boolean[]> commentVisibilityTable;
@@ -34,6 +36,24 @@ public class SessionResultsBundle {
                                 Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
                                 Map<Long, boolean[]> commentVisibilityTable,
                                 CourseRoster roster) {
+        this(feedbackSession, questionsMap, responses, Collections.emptyMap(), responseVisibilityTable,
+                responseCommentsMap, commentVisibilityTable, roster);
+        this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+    }
+
+    /**
+     * Creates the results with the missing responses kept compactly, which are only created when first requested.
+     *
+     * @param missingResponsesMap the missing responses of the questions, by the ID of the question
+     */
+    public SessionResultsBundle(FeedbackSessionAttributes feedbackSession,
+                                Map<String, FeedbackQuestionAttributes> questionsMap,
+                                List<FeedbackResponseAttributes> responses,
+                                Map<String, MissingResponses> missingResponsesMap,
+                                Map<String, boolean[]> responseVisibilityTable,
+                                Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
+                                Map<Long, boolean[]> commentVisibilityTable,
+                                CourseRoster roster) {
 
         this.feedbackSession = feedbackSession;
         this.questionsMap = questionsMap;
@@ -42,7 +62,7 @@ public class SessionResultsBundle {
         this.commentVisibilityTable = commentVisibilityTable;
         this.roster = roster;
         this.questionResponseMap = buildQuestionToResponseMap(responses);
-        this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+        this.missingResponsesMap = missingResponsesMap;
     }
 
     private Map<String, List<FeedbackResponseAttributes>> buildQuestionToResponseMap(
@@ -122,7 +142,19 @@ public class SessionResultsBundle {
         return questionResponseMap;
     }
 
+    /**
+     * Gets the missing responses of each question.
+     *
+     * <p>Missing responses which are kept compactly are created on the first call,
+     * with the visibility of their names added to the response visibility table.
+     */
     public Map<String, List<FeedbackResponseAttributes>> getQuestionMissingResponseMap() {
+        if (questionMissingResponseMap == null) {
+            questionMissingResponseMap = buildQuestionToResponseMap(Collections.emptyList());
+            missingResponsesMap.forEach((questionId, missingResponses) ->
+                    questionMissingResponseMap.get(questionId).addAll(
+                            missingResponses.materialize(responseVisibilityTable)));
+        }
         return questionMissingResponseMap;
     }
 
@@ -0,0 +1,37 @@
+package teammates.common.datatransfer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents a page of the results of a feedback session, ordered by question and then by giver and recipient.
+ *
+ * <p>Unlike the full results, a page does not contain the missing responses of the questions.
+ */
+public class SessionResultsPage {
+
+    private final SessionResultsBundle bundle;
+    private final String nextCursor;
+
+    public SessionResultsPage(SessionResultsBundle bundle, @Nullable String nextCursor) {
+        this.bundle = bundle;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the results in the page, which contain only the questions whose responses are in the page.
+     */
+    public SessionResultsBundle getBundle() {
+        return bundle;
+    }
+
+    /**
+     * Gets the cursor from which the next page of results can be retrieved.
+     *
+     * @return null if there are no more results
+     */
+    @Nullable
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+}
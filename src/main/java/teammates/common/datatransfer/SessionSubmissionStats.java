@@ -0,0 +1,85 @@
+package teammates.common.datatransfer;
+
+/**
+ * The precomputed submission statistics of a feedback session.
+ *
+ * <p>Besides the expected number of submissions, the kinds of givers the questions of the session are meant for
+ * are kept, so that the expected number can be recomputed after a roster change without loading the questions.
+ * The version of the roster the statistics were computed against is kept to tell when that is needed.
+ * The number of times the statistics had been invalidated when they were computed is kept as well,
+ * so that they can be recomputed without overwriting statistics invalidated in the meantime.
+ */
+public class SessionSubmissionStats {
+
+    private final String feedbackSessionName;
+    private final String courseId;
+    private final boolean hasQuestionsForStudents;
+    private final boolean hasQuestionsForInstructors;
+    private final boolean hasQuestionsForCreator;
+    private final Long rosterVersion;
+    private final int expectedTotalSubmission;
+    private final long invalidationCount;
+
+    public SessionSubmissionStats(String feedbackSessionName, String courseId, boolean hasQuestionsForStudents,
+                                  boolean hasQuestionsForInstructors, boolean hasQuestionsForCreator,
+                                  Long rosterVersion, int expectedTotalSubmission) {
+        this(feedbackSessionName, courseId, hasQuestionsForStudents, hasQuestionsForInstructors, hasQuestionsForCreator,
+                rosterVersion, expectedTotalSubmission, 0);
+    }
+
+    public SessionSubmissionStats(String feedbackSessionName, String courseId, boolean hasQuestionsForStudents,
+                                  boolean hasQuestionsForInstructors, boolean hasQuestionsForCreator,
+                                  Long rosterVersion, int expectedTotalSubmission, long invalidationCount) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.hasQuestionsForStudents = hasQuestionsForStudents;
+        this.hasQuestionsForInstructors = hasQuestionsForInstructors;
+        this.hasQuestionsForCreator = hasQuestionsForCreator;
+        this.rosterVersion = rosterVersion;
+        this.expectedTotalSubmission = expectedTotalSubmission;
+        this.invalidationCount = invalidationCount;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public boolean hasQuestionsForStudents() {
+        return hasQuestionsForStudents;
+    }
+
+    public boolean hasQuestionsForInstructors() {
+        return hasQuestionsForInstructors;
+    }
+
+    public boolean hasQuestionsForCreator() {
+        return hasQuestionsForCreator;
+    }
+
+    public Long getRosterVersion() {
+        return rosterVersion;
+    }
+
+    public int getExpectedTotalSubmission() {
+        return expectedTotalSubmission;
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    @Override
+    public String toString() {
+        return "SessionSubmissionStats [feedbackSessionName=" + feedbackSessionName + ", courseId=" + courseId
+                + ", hasQuestionsForStudents=" + hasQuestionsForStudents
+                + ", hasQuestionsForInstructors=" + hasQuestionsForInstructors
+                + ", hasQuestionsForCreator=" + hasQuestionsForCreator
+                + ", rosterVersion=" + rosterVersion + ", expectedTotalSubmission=" + expectedTotalSubmission
+                + ", invalidationCount=" + invalidationCount + "]";
+    }
+
+}
@@ -0,0 +1,59 @@
+package teammates.common.datatransfer;
+
+/**
+ * Records how the team and section of an existing student are changed by an enrollment.
+ *
+ * <p>Used to cascade the change to the feedback responses of the student after the enrollment is done.
+ */
+public class StudentEnrollmentChange {
+
+    private final String email;
+    private final String originalTeam;
+    private final String team;
+    private final String originalSection;
+    private final String section;
+
+    public StudentEnrollmentChange(String email, String originalTeam, String team,
+                                   String originalSection, String section) {
+        this.email = email;
+        this.originalTeam = originalTeam;
+        this.team = team;
+        this.originalSection = originalSection;
+        this.section = section;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getOriginalTeam() {
+        return originalTeam;
+    }
+
+    public String getTeam() {
+        return team;
+    }
+
+    public String getOriginalSection() {
+        return originalSection;
+    }
+
+    public String getSection() {
+        return section;
+    }
+
+    public boolean isTeamChanged() {
+        return !originalTeam.equals(team);
+    }
+
+    public boolean isSectionChanged() {
+        return !originalSection.equals(section);
+    }
+
+    @Override
+    public String toString() {
+        return "StudentEnrollmentChange [email=" + email + ", originalTeam=" + originalTeam + ", team=" + team
+                + ", originalSection=" + originalSection + ", section=" + section + "]";
+    }
+
+}
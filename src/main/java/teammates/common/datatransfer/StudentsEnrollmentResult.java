@@ -0,0 +1,30 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * The outcome of enrolling a list of students into a course.
+ */
+public class StudentsEnrollmentResult {
+
+    private final List<StudentAttributes> enrolledStudents = new ArrayList<>();
+    private final List<StudentEnrollmentChange> changes = new ArrayList<>();
+
+    /**
+     * Gets the students successfully enrolled, in the order they are given for enrollment.
+     */
+    public List<StudentAttributes> getEnrolledStudents() {
+        return enrolledStudents;
+    }
+
+    /**
+     * Gets the changes of team or section of existing students which are yet to be cascaded to their responses.
+     */
+    public List<StudentEnrollmentChange> getChanges() {
+        return changes;
+    }
+
+}
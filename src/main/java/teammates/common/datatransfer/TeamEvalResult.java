@@ -1,6 +1,8 @@
 package teammates.common.datatransfer;
 
 import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
@@ -38,7 +40,7 @@ public class TeamEvalResult {
          * other methods are set as public for the ease of testing.
          */
 
-        log.fine("==================\n" + "starting result calculation for\n"
+        log.fine(() -> "==================\n" + "starting result calculation for\n"
                 + pointsToString(submissionValues));
 
         claimed = submissionValues;
@@ -46,43 +48,43 @@ public class TeamEvalResult {
         normalizedClaimed = normalizeValues(claimed);
 
         int[][] claimedSanitized = sanitizeInput(submissionValues);
-        log.fine("claimed values sanitized :\n"
+        log.fine(() -> "claimed values sanitized :\n"
                 + pointsToString(claimedSanitized));
 
         double[][] claimedSanitizedNormalized = normalizeValues(intToDouble(claimedSanitized));
-        log.fine("claimed values sanitized and normalized :\n"
+        log.fine(() -> "claimed values sanitized and normalized :\n"
                 + pointsToString(claimedSanitizedNormalized));
 
         double[][] peerContributionRatioAsDouble = calculatePeerContributionRatio(claimedSanitizedNormalized);
-        log.fine("peerContributionRatio as double :\n"
+        log.fine(() -> "peerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         double[] averagePerceivedAsDouble = averageColumns(peerContributionRatioAsDouble);
-        log.fine("averagePerceived as double:\n"
+        log.fine(() -> "averagePerceived as double:\n"
                 + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
 
         double[] normalizedAveragePerceivedAsDouble = normalizeValues(averagePerceivedAsDouble);
-        log.fine("normalizedAveragePerceivedAsDouble as double:\n"
+        log.fine(() -> "normalizedAveragePerceivedAsDouble as double:\n"
                 + replaceMagicNumbers(Arrays
                         .toString(normalizedAveragePerceivedAsDouble)));
 
         double[][] normalizedPeerContributionRatioAsDouble =
                 adjustPeerContributionRatioToTallyNormalizedAveragePerceived(peerContributionRatioAsDouble);
-        log.fine("normalizedPeerContributionRatio as double :\n"
+        log.fine(() -> "normalizedPeerContributionRatio as double :\n"
                 + pointsToString(peerContributionRatioAsDouble));
 
         normalizedPeerContributionRatio = doubleToInt(normalizedPeerContributionRatioAsDouble);
-        log.fine("normalizedUnbiasedClaimed as int :\n"
+        log.fine(() -> "normalizedUnbiasedClaimed as int :\n"
                 + pointsToString(normalizedPeerContributionRatio));
 
         denormalizedAveragePerceived = calculatePerceivedForStudents(
                 claimedSanitized, normalizedAveragePerceivedAsDouble);
-        log.fine("perceived to students :\n"
+        log.fine(() -> "perceived to students :\n"
                 + pointsToString(denormalizedAveragePerceived));
 
         normalizedAveragePerceived = doubleToInt(normalizedAveragePerceivedAsDouble);
 
-        log.fine("Final result:\n" + this.toString());
+        log.fine(() -> "Final result:\n" + this.toString());
 
         log.fine("==================");
     }
@@ -138,7 +140,7 @@ public class TeamEvalResult {
     static int[] calculatePerceivedForStudent(int[] claimedSanitizedRow,
             double[] normalizedAveragePerceivedAsDouble) {
 
-        verify("Unsanitized value received ", isSanitized(claimedSanitizedRow));
+        verify(() -> "Unsanitized value received ", isSanitized(claimedSanitizedRow));
 
         // remove from each array values matching special values in the other
         double[] filteredPerceived = purgeValuesCorrespondingToSpecialValuesInFilter(
@@ -225,7 +227,7 @@ public class TeamEvalResult {
             return 0;
         }
 
-        verify("Unsanitized value in " + Arrays.toString(input),
+        verify(() -> "Unsanitized value in " + Arrays.toString(input),
                 isSanitized(doubleToInt(input)));
 
         double sum = NA;
@@ -270,20 +272,21 @@ public class TeamEvalResult {
     }
 
     private static double calculateFactor(double[] input) {
-        double actualSum = 0;
+        double sum = 0;
         int count = 0;
         for (double value : input) {
             int valueAsInt = (int) value;
             if (isSpecialValue(valueAsInt)) {
                 continue;
             }
-            actualSum += value;
+            sum += value;
             count++;
         }
 
+        double actualSum = sum;
         double idealSum = count * 100.0;
         double factor = actualSum == 0 ? 0 : idealSum / actualSum;
-        log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
+        log.fine(() -> "Factor = " + idealSum + "/" + actualSum + " = " + factor);
         return factor;
     }
 
@@ -307,11 +310,12 @@ public class TeamEvalResult {
         double[] output = new double[input.length];
 
         for (int i = 0; i < input.length; i++) {
-            verify("Unsanitized value in " + Arrays.toString(input[i]),
-                    isSanitized(doubleToInt(input[i])));
+            double[] row = input[i];
+            verify(() -> "Unsanitized value in " + Arrays.toString(row),
+                    isSanitized(doubleToInt(row)));
             output[i] = averageColumn(input, i);
         }
-        log.fine("Column averages: "
+        log.fine(() -> "Column averages: "
                 + replaceMagicNumbers(Arrays.toString(output)));
         return output;
     }
@@ -319,11 +323,9 @@ public class TeamEvalResult {
     private static double averageColumn(double[][] arrayOfArrays, int columnIndex) {
         double sum = 0;
         int count = 0;
-        StringBuilder values = new StringBuilder();
         for (double[] array : arrayOfArrays) {
             double value = array[columnIndex];
 
-            values.append(value).append(' ');
             if (isValidSpecialValue(value)) {
                 continue;
             }
@@ -333,12 +335,17 @@ public class TeamEvalResult {
         // omit calculation if no data points
         double average = count == 0 ? NA : (double) (sum / count);
 
-        String logMessage = "Average(" + values.toString().trim() + ") = " + average;
-        log.fine(replaceMagicNumbers(logMessage));
+        log.fine(() -> replaceMagicNumbers("Average(" + columnToString(arrayOfArrays, columnIndex) + ") = " + average));
 
         return average;
     }
 
+    private static String columnToString(double[][] arrayOfArrays, int columnIndex) {
+        return Arrays.stream(arrayOfArrays)
+                .map(array -> String.valueOf(array[columnIndex]))
+                .collect(Collectors.joining(" "));
+    }
+
     static String pointsToString(int[][] array) {
         return pointsToString(intToDouble(array)).replace(".0", "");
     }
@@ -416,7 +423,10 @@ public class TeamEvalResult {
         return sb.toString();
     }
 
-    private static void verify(String message, boolean condition) {
-        Assumption.assertTrue("Internal assertion failure : " + message, condition);
+    private static void verify(Supplier<String> message, boolean condition) {
+        // the message is only constructed upon failure
+        if (!condition) {
+            Assumption.fail("Internal assertion failure : " + message.get());
+        }
     }
 }
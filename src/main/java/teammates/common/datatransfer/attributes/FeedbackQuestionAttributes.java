@@ -176,7 +176,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
             return true;
         }
 
-        return this.getQuestionDetails().shouldChangesRequireResponseDeletion(newAttributes.getQuestionDetails());
+        return questionDetails.shouldChangesRequireResponseDeletion(newAttributes.getReadOnlyQuestionDetails());
     }
 
     @Override
@@ -378,6 +378,16 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         return questionDetails.getDeepCopy();
     }
 
+    /**
+     * Gets the question details without copying them.
+     *
+     * <p>The returned details are shared with this object and must not be modified;
+     * use {@link #getQuestionDetails()} to obtain a copy that can be modified.
+     */
+    public FeedbackQuestionDetails getReadOnlyQuestionDetails() {
+        return questionDetails;
+    }
+
     public String getSerializedQuestionDetails() {
         return questionDetails.getJsonString();
     }
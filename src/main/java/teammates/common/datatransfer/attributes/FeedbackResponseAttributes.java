@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -16,6 +17,9 @@ import teammates.storage.entity.FeedbackResponse;
 
 public class FeedbackResponseAttributes extends EntityAttributes<FeedbackResponse> {
 
+    private static final AtomicLong NUMBER_OF_LAZILY_LOADED_RESPONSES = new AtomicLong();
+    private static final AtomicLong NUMBER_OF_DESERIALIZED_RESPONSES = new AtomicLong();
+
     public String feedbackQuestionId;
     /**
     * Depending on the question giver type, {@code giver} may contain the giver's email, the team name,
@@ -31,11 +35,23 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     public String feedbackSessionName;
     public String courseId;
 
-    public FeedbackResponseDetails responseDetails;
-
     public String giverSection;
     public String recipientSection;
 
+    /**
+     * The response details, or null if they have not been deserialized from {@link #serializedResponseDetails} yet.
+     */
+    private FeedbackResponseDetails responseDetails;
+
+    /**
+     * The response details loaded from the datastore, kept in serialized form until they are first accessed.
+     *
+     * <p>The response details and their serialized form are only accessed while holding the lock of this object,
+     * as responses may be shared by threads loading the results of a session in parallel.
+     */
+    private transient String serializedResponseDetails;
+    private transient FeedbackQuestionType serializedResponseDetailsQuestionType;
+
     private transient Instant createdAt;
     private transient Instant updatedAt;
 
@@ -62,7 +78,17 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         this.recipientSection = copy.recipientSection;
         this.createdAt = copy.createdAt;
         this.updatedAt = copy.updatedAt;
-        this.responseDetails = copy.getResponseDetails();
+        synchronized (copy) {
+            if (copy.isResponseDetailsDeserialized()) {
+                // copied directly, as the details of the copy are not being deserialized
+                this.responseDetails = copy.responseDetails.getDeepCopy();
+            } else {
+                // the serialized details are immutable and can be shared without being deserialized
+                this.serializedResponseDetails = copy.serializedResponseDetails;
+                this.serializedResponseDetailsQuestionType = copy.serializedResponseDetailsQuestionType;
+                NUMBER_OF_LAZILY_LOADED_RESPONSES.incrementAndGet();
+            }
+        }
     }
 
     public static FeedbackResponseAttributes valueOf(FeedbackResponse fr) {
@@ -79,16 +105,37 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         if (fr.getRecipientSection() != null) {
             fra.recipientSection = fr.getRecipientSection();
         }
-        fra.responseDetails =
-                fra.deserializeResponseFromSerializedString(fr.getResponseMetaData(), fr.getFeedbackQuestionType());
+        // the response details are only deserialized when they are first accessed
+        fra.serializedResponseDetails = fr.getResponseMetaData();
+        fra.serializedResponseDetailsQuestionType = fr.getFeedbackQuestionType();
+        NUMBER_OF_LAZILY_LOADED_RESPONSES.incrementAndGet();
         fra.createdAt = fr.getCreatedAt();
         fra.updatedAt = fr.getUpdatedAt();
 
         return fra;
     }
 
+    /**
+     * Gets the number of responses loaded from the datastore whose details have never been deserialized.
+     */
+    public static long getNumberOfResponsesNeverDeserialized() {
+        return NUMBER_OF_LAZILY_LOADED_RESPONSES.get() - NUMBER_OF_DESERIALIZED_RESPONSES.get();
+    }
+
+    /**
+     * Gets the number of responses loaded from the datastore whose details have been deserialized.
+     */
+    public static long getNumberOfResponsesDeserialized() {
+        return NUMBER_OF_DESERIALIZED_RESPONSES.get();
+    }
+
     public FeedbackQuestionType getFeedbackQuestionType() {
-        return responseDetails.getQuestionType();
+        synchronized (this) {
+            if (!isResponseDetailsDeserialized()) {
+                return serializedResponseDetailsQuestionType;
+            }
+            return responseDetails.getQuestionType();
+        }
     }
 
     public String getId() {
@@ -201,15 +248,48 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     }
 
     public String getSerializedFeedbackResponseDetail() {
-        return responseDetails.getJsonString();
+        synchronized (this) {
+            if (!isResponseDetailsDeserialized()) {
+                return serializedResponseDetails;
+            }
+            return responseDetails.getJsonString();
+        }
     }
 
     public FeedbackResponseDetails getResponseDetails() {
-        return responseDetails.getDeepCopy();
+        return getReadOnlyResponseDetails().getDeepCopy();
+    }
+
+    /**
+     * Gets the response details without copying them.
+     *
+     * <p>The returned details are shared with this object and must not be modified;
+     * use {@link #getResponseDetails()} to obtain a copy that can be modified.
+     */
+    public FeedbackResponseDetails getReadOnlyResponseDetails() {
+        synchronized (this) {
+            if (!isResponseDetailsDeserialized()) {
+                responseDetails = deserializeResponseFromSerializedString(
+                        serializedResponseDetails, serializedResponseDetailsQuestionType);
+                serializedResponseDetails = null;
+                serializedResponseDetailsQuestionType = null;
+                NUMBER_OF_DESERIALIZED_RESPONSES.incrementAndGet();
+            }
+            return responseDetails;
+        }
     }
 
     public void setResponseDetails(FeedbackResponseDetails newFeedbackResponseDetails) {
-        responseDetails = newFeedbackResponseDetails.getDeepCopy();
+        FeedbackResponseDetails newResponseDetails = newFeedbackResponseDetails.getDeepCopy();
+        synchronized (this) {
+            responseDetails = newResponseDetails;
+            serializedResponseDetails = null;
+            serializedResponseDetailsQuestionType = null;
+        }
+    }
+
+    private boolean isResponseDetailsDeserialized() {
+        return serializedResponseDetailsQuestionType == null;
     }
 
     private FeedbackResponseDetails deserializeResponseFromSerializedString(String serializedResponseDetails,
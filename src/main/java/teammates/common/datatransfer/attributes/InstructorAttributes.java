@@ -109,6 +109,13 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
         return key;
     }
 
+    /**
+     * Format: email%courseId e.g., adam@gmail.com%cs1101.
+     */
+    public String getId() {
+        return email + "%" + courseId;
+    }
+
     public boolean isArchived() {
         return isArchived;
     }
@@ -0,0 +1,53 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Statistics of questions answered by choosing options, i.e. MCQ and MSQ questions.
+ */
+public class ChoiceStatistics extends FeedbackQuestionDetails.TallyStatistics {
+
+    public final Map<String, Integer> answerFrequency = new LinkedHashMap<>();
+    public final Map<String, Double> percentagePerOption = new LinkedHashMap<>();
+    public final Map<String, Double> weightPerOption;
+    public final Map<String, Double> weightedPercentagePerOption = new LinkedHashMap<>();
+
+    /**
+     * Computes the statistics from the answers counted under {@link FeedbackResponsesTally#NO_DIMENSION}.
+     *
+     * @param options the options in the order to be shown, to which answers outside of them are appended
+     * @param weightPerOption the weight of each option, or an empty map if the options are not weighted
+     * @param numberOfAnswers the total from which the percentage of each option is computed
+     */
+    ChoiceStatistics(FeedbackResponsesTally tally, List<String> options, Map<String, Double> weightPerOption,
+                     int numberOfAnswers) {
+        super(tally);
+        this.weightPerOption = weightPerOption;
+
+        for (String option : options) {
+            answerFrequency.put(option, 0);
+        }
+        // answers to generated options are not known in advance
+        new TreeMap<>(tally.getAnswerCounts(FeedbackResponsesTally.NO_DIMENSION)).forEach(answerFrequency::put);
+
+        answerFrequency.forEach((option, frequency) ->
+                percentagePerOption.put(option, FeedbackQuestionDetails.getPercentage(frequency, numberOfAnswers)));
+
+        if (weightPerOption.isEmpty()) {
+            return;
+        }
+        double totalWeightedFrequency = 0;
+        for (Map.Entry<String, Integer> entry : answerFrequency.entrySet()) {
+            totalWeightedFrequency += weightPerOption.getOrDefault(entry.getKey(), 0.0) * entry.getValue();
+        }
+        for (Map.Entry<String, Double> entry : weightPerOption.entrySet()) {
+            double weightedFrequency = entry.getValue() * answerFrequency.getOrDefault(entry.getKey(), 0);
+            weightedPercentagePerOption.put(entry.getKey(), totalWeightedFrequency == 0 ? 0
+                    : FeedbackQuestionDetails.roundTo2dp(100 * weightedFrequency / totalWeightedFrequency));
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import teammates.common.datatransfer.TeamEvalResult;
+
+/**
+ * Computes the {@link TeamEvalResult} of every team for a contribution question.
+ *
+ * <ul>
+ * <li>The teams are computed in parallel on a shared {@link ForkJoinPool}.</li>
+ * <li>The results of a question are memoized, keyed by the question and the version of the response set
+ * the results are computed from. As responses carry no version of their own, the submission matrices of
+ * the teams serve as the version: any change to the responses changes the matrices, and viewers who are
+ * shown different subsets of the responses never share results. The least recently used results are
+ * evicted first once the number of memoized questions exceeds its limit.</li>
+ * </ul>
+ */
+final class ContributionStatisticsEngine {
+
+    private static final ForkJoinPool TEAM_EVALUATION_POOL =
+            new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    // access-ordered, so that iteration starts from the least recently used results
+    private final Map<ResultsKey, Map<String, TeamEvalResult>> cachedResults = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxNumberOfCachedQuestions;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    ContributionStatisticsEngine(int maxNumberOfCachedQuestions) {
+        this.maxNumberOfCachedQuestions = maxNumberOfCachedQuestions;
+    }
+
+    /**
+     * Gets the results of the teams of a contribution question.
+     *
+     * @param questionId the ID of the question
+     * @param teamSubmissionArrays the submission matrix of each team, in the order the results are to be returned
+     * @return an unmodifiable map of the results, which may be shared with other callers and must not be modified
+     */
+    Map<String, TeamEvalResult> getTeamResults(String questionId, Map<String, int[][]> teamSubmissionArrays) {
+        ResultsKey key = new ResultsKey(questionId, teamSubmissionArrays);
+
+        synchronized (cachedResults) {
+            Map<String, TeamEvalResult> results = cachedResults.get(key);
+            if (results != null) {
+                hitCount.incrementAndGet();
+                return results;
+            }
+        }
+
+        missCount.incrementAndGet();
+        Map<String, TeamEvalResult> results = Collections.unmodifiableMap(computeTeamResults(teamSubmissionArrays));
+
+        synchronized (cachedResults) {
+            cachedResults.put(key, results);
+            Iterator<ResultsKey> iterator = cachedResults.keySet().iterator();
+            while (cachedResults.size() > maxNumberOfCachedQuestions) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the number of times memoized results are reused.
+     */
+    long getCacheHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of times results have to be computed.
+     */
+    long getCacheMissCount() {
+        return missCount.get();
+    }
+
+    private static Map<String, TeamEvalResult> computeTeamResults(Map<String, int[][]> teamSubmissionArrays) {
+        Map<String, TeamEvalResult> results = new LinkedHashMap<>();
+        if (teamSubmissionArrays.size() <= 1) {
+            // not worth handing over to the pool
+            teamSubmissionArrays.forEach((team, submissions) -> results.put(team, new TeamEvalResult(submissions)));
+            return results;
+        }
+
+        Map<String, ForkJoinTask<TeamEvalResult>> tasks = new LinkedHashMap<>();
+        teamSubmissionArrays.forEach((team, submissions) ->
+                tasks.put(team, TEAM_EVALUATION_POOL.submit(() -> new TeamEvalResult(submissions))));
+        tasks.forEach((team, task) -> results.put(team, task.join()));
+        return results;
+    }
+
+    /**
+     * Identifies the results of a question computed from a particular set of submission matrices.
+     */
+    private static final class ResultsKey {
+
+        private final String questionId;
+        private final List<String> teams;
+        private final int[][][] submissionArrays;
+        private final int hashCode;
+
+        ResultsKey(String questionId, Map<String, int[][]> teamSubmissionArrays) {
+            this.questionId = questionId;
+            this.teams = new ArrayList<>(teamSubmissionArrays.keySet());
+            this.submissionArrays = teamSubmissionArrays.values().toArray(new int[0][][]);
+            this.hashCode = Objects.hash(questionId, teams, Arrays.deepHashCode(submissionArrays));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ResultsKey)) {
+                return false;
+            }
+            ResultsKey otherKey = (ResultsKey) other;
+            return hashCode == otherKey.hashCode
+                    && Objects.equals(questionId, otherKey.questionId)
+                    && teams.equals(otherKey.teams)
+                    && Arrays.deepEquals(submissionArrays, otherKey.submissionArrays);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
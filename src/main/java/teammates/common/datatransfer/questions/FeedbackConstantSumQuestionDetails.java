@@ -2,12 +2,16 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
 
 public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails {
     private int numOfConstSumOptions;
@@ -30,6 +34,25 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         this.distributePointsFor = FeedbackConstantSumDistributePointsType.NONE.getDisplayedOption();
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackConstantSumQuestionDetails(FeedbackConstantSumQuestionDetails other) {
+        super(other);
+        this.numOfConstSumOptions = other.numOfConstSumOptions;
+        this.constSumOptions = copyOf(other.constSumOptions);
+        this.distributeToRecipients = other.distributeToRecipients;
+        this.pointsPerOption = other.pointsPerOption;
+        this.forceUnevenDistribution = other.forceUnevenDistribution;
+        this.distributePointsFor = other.distributePointsFor;
+        this.points = other.points;
+    }
+
+    @Override
+    public FeedbackConstantSumQuestionDetails getDeepCopy() {
+        return new FeedbackConstantSumQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -203,6 +226,36 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return "";
     }
 
+    @Override
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        List<Integer> answers = ((FeedbackConstantSumResponseDetails) response.getReadOnlyResponseDetails()).getAnswers();
+        if (distributeToRecipients) {
+            if (!answers.isEmpty()) {
+                tally.tallyAnswer(response, response.getRecipient(), String.valueOf(answers.get(0)), delta);
+            }
+            return;
+        }
+        for (int i = 0; i < answers.size() && i < constSumOptions.size(); i++) {
+            tally.tallyAnswer(response, constSumOptions.get(i), String.valueOf(answers.get(i)), delta);
+        }
+    }
+
+    @Override
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        ConstantSumStatistics statistics = new ConstantSumStatistics(tally);
+        if (distributeToRecipients) {
+            for (String recipient : tally.getDimensions()) {
+                statistics.addPoints(getRecipientIdentifierForInstructors(question, recipient),
+                        tally.getAnswerCounts(recipient));
+            }
+        } else {
+            for (String option : constSumOptions) {
+                statistics.addPoints(option, tally.getAnswerCounts(option));
+            }
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
     public int getNumOfConstSumOptions() {
         return numOfConstSumOptions;
     }
@@ -258,4 +311,24 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     public void setPoints(int points) {
         this.points = points;
     }
+
+    /**
+     * Statistics of a constant sum question, where the options are the recipients if points are distributed
+     * among recipients.
+     */
+    public static class ConstantSumStatistics extends TallyStatistics {
+        public final Map<String, Integer> totalPointsPerOption = new LinkedHashMap<>();
+        public final Map<String, Double> averagePointsPerOption = new LinkedHashMap<>();
+
+        ConstantSumStatistics(FeedbackResponsesTally tally) {
+            super(tally);
+        }
+
+        private void addPoints(String option, Map<String, Integer> countPerPoints) {
+            int numberOfAnswers = getNumberOfAnswers(countPerPoints);
+            double totalPoints = getSumOfAnswers(countPerPoints);
+            totalPointsPerOption.put(option, (int) totalPoints);
+            averagePointsPerOption.put(option, numberOfAnswers == 0 ? 0 : roundTo2dp(totalPoints / numberOfAnswers));
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class FeedbackConstantSumResponseDetails extends
@@ -10,6 +11,19 @@ public class FeedbackConstantSumResponseDetails extends
         super(FeedbackQuestionType.CONSTSUM);
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackConstantSumResponseDetails(FeedbackConstantSumResponseDetails other) {
+        super(other);
+        this.answers = other.answers == null ? null : new ArrayList<>(other.answers);
+    }
+
+    @Override
+    public FeedbackConstantSumResponseDetails getDeepCopy() {
+        return new FeedbackConstantSumResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         String listString = answers.toString(); //[1, 2, 3] format
@@ -28,6 +28,9 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
     private static final Logger log = Logger.getLogger();
 
+    private static final ContributionStatisticsEngine STATISTICS_ENGINE =
+            new ContributionStatisticsEngine(Const.SystemParams.MAX_CACHED_CONTRIBUTION_QUESTION_RESULTS);
+
     private boolean isNotSureAllowed;
 
     public FeedbackContributionQuestionDetails() {
@@ -35,6 +38,19 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         isNotSureAllowed = true;
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackContributionQuestionDetails(FeedbackContributionQuestionDetails other) {
+        super(other);
+        this.isNotSureAllowed = other.isNotSureAllowed;
+    }
+
+    @Override
+    public FeedbackContributionQuestionDetails getDeepCopy() {
+        return new FeedbackContributionQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackContributionQuestionDetails newContribDetails = (FeedbackContributionQuestionDetails) newDetails;
@@ -46,6 +62,12 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return false;
     }
 
+    @Override
+    public boolean canComputeStatisticsFromTally() {
+        // the statistics of a team depend on all the responses within the team
+        return false;
+    }
+
     @Override
     public String getQuestionResultStatisticsJson(
             FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
@@ -63,16 +85,19 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         // Each team's member (email) list
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
+        // Each team's member (email) to index in the member list
+        Map<String, Map<String, Integer>> teamMembersIndex = getTeamMembersIndex(teamMembersEmail);
+
         // Each team's responses
         Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(responses, bundle, teamNames);
 
         // Get each team's submission array. -> int[teamSize][teamSize]
         // Where int[0][1] refers points from student 0 to student 1
         // Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(teamNames, teamMembersEmail, teamResponses);
+        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(teamNames, teamMembersIndex, teamResponses);
 
         // Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray);
+        Map<String, TeamEvalResult> teamResults = STATISTICS_ENGINE.getTeamResults(question.getId(), teamSubmissionArray);
         ContributionStatistics output = new ContributionStatistics();
 
         if (isStudent) {
@@ -80,7 +105,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
             if (currentUserTeamResults != null) {
                 List<String> teamEmails = teamMembersEmail.get(currentUserTeam);
-                int currentUserIndex = teamEmails.indexOf(studentEmail);
+                int currentUserIndex = teamMembersIndex.get(currentUserTeam).get(studentEmail);
                 int[] claimedNumbers = currentUserTeamResults.claimed[currentUserIndex];
                 int[] perceivedNumbers = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex];
 
@@ -119,7 +144,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 String team = bundle.getRoster().getStudentForEmail(email).getTeam();
                 List<String> teamEmails = teamMembersEmail.get(team);
                 TeamEvalResult teamResult = teamResults.get(team);
-                int studentIndex = teamEmails.indexOf(email);
+                int studentIndex = teamMembersIndex.get(team).get(email);
                 Map<String, Integer> claimedOthers = new HashMap<>();
                 List<Integer> perceivedOthers = new ArrayList<>();
                 for (int i = 0; i < teamResult.normalizedPeerContributionRatio.length; i++) {
@@ -157,22 +182,13 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return studentResults;
     }
 
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
-            Map<String, int[][]> teamSubmissionArray) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamResults.put(team, teamEvalResult);
-        }
-        return teamResults;
-    }
-
     private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
-            Map<String, List<String>> teamMembersEmail,
+            Map<String, Map<String, Integer>> teamMembersIndex,
             Map<String, List<FeedbackResponseAttributes>> teamResponses) {
         Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
         for (String team : teamNames) {
-            int teamSize = teamMembersEmail.get(team).size();
+            Map<String, Integer> memberIndex = teamMembersIndex.get(team);
+            int teamSize = memberIndex.size();
             teamSubmissionArray.put(team, new int[teamSize][teamSize]);
             //Initialize all as not submitted.
             for (int i = 0; i < teamSize; i++) {
@@ -182,14 +198,13 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             }
             //Fill in submitted points
             List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
-            List<String> memberEmailList = teamMembersEmail.get(team);
             for (FeedbackResponseAttributes response : teamResponseList) {
-                int giverIndx = memberEmailList.indexOf(response.giver);
-                int recipientIndx = memberEmailList.indexOf(response.recipient);
-                if (giverIndx == -1 || recipientIndx == -1) {
+                Integer giverIndx = memberIndex.get(response.giver);
+                Integer recipientIndx = memberIndex.get(response.recipient);
+                if (giverIndx == null || recipientIndx == null) {
                     continue;
                 }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
+                int points = ((FeedbackContributionResponseDetails) response.getReadOnlyResponseDetails()).getAnswer();
                 teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
             }
         }
@@ -223,6 +238,18 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return teamMembersEmail;
     }
 
+    private Map<String, Map<String, Integer>> getTeamMembersIndex(Map<String, List<String>> teamMembersEmail) {
+        Map<String, Map<String, Integer>> teamMembersIndex = new HashMap<>();
+        teamMembersEmail.forEach((teamName, memberEmails) -> {
+            Map<String, Integer> memberIndex = new HashMap<>();
+            for (int i = 0; i < memberEmails.size(); i++) {
+                memberIndex.put(memberEmails.get(i), i);
+            }
+            teamMembersIndex.put(teamName, memberIndex);
+        });
+        return teamMembersIndex;
+    }
+
     private List<String> getTeamsWithAtLeastOneResponse(
             List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle) {
         Set<String> teamNames = new HashSet<>();
@@ -14,6 +14,19 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
         answer = Const.POINTS_NOT_SUBMITTED;
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackContributionResponseDetails(FeedbackContributionResponseDetails other) {
+        super(other);
+        this.answer = other.answer;
+    }
+
+    @Override
+    public FeedbackContributionResponseDetails getDeepCopy() {
+        return new FeedbackContributionResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         return Integer.toString(answer);
@@ -1,11 +1,15 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
 
@@ -29,6 +33,25 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         this.generateOptionsFor = FeedbackParticipantType.NONE;
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackMcqQuestionDetails(FeedbackMcqQuestionDetails other) {
+        super(other);
+        this.hasAssignedWeights = other.hasAssignedWeights;
+        this.mcqWeights = copyOf(other.mcqWeights);
+        this.mcqOtherWeight = other.mcqOtherWeight;
+        this.numOfMcqChoices = other.numOfMcqChoices;
+        this.mcqChoices = copyOf(other.mcqChoices);
+        this.otherEnabled = other.otherEnabled;
+        this.generateOptionsFor = other.generateOptionsFor;
+    }
+
+    @Override
+    public FeedbackMcqQuestionDetails getDeepCopy() {
+        return new FeedbackMcqQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMcqQuestionDetails newMcqDetails = (FeedbackMcqQuestionDetails) newDetails;
@@ -138,6 +161,33 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        FeedbackMcqResponseDetails details = (FeedbackMcqResponseDetails) response.getReadOnlyResponseDetails();
+        String answer = details.isOther() ? Const.FeedbackQuestion.MCQ_MSQ_ANSWER_OTHER : details.getAnswer();
+        tally.tallyAnswer(response, FeedbackResponsesTally.NO_DIMENSION, answer, delta);
+    }
+
+    @Override
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        List<String> options = new ArrayList<>(mcqChoices);
+        if (otherEnabled) {
+            options.add(Const.FeedbackQuestion.MCQ_MSQ_ANSWER_OTHER);
+        }
+
+        Map<String, Double> weightPerOption = new LinkedHashMap<>();
+        if (hasAssignedWeights) {
+            for (int i = 0; i < mcqChoices.size(); i++) {
+                weightPerOption.put(mcqChoices.get(i), mcqWeights.get(i));
+            }
+            if (otherEnabled) {
+                weightPerOption.put(Const.FeedbackQuestion.MCQ_MSQ_ANSWER_OTHER, mcqOtherWeight);
+            }
+        }
+
+        return JsonUtils.toJson(new ChoiceStatistics(tally, options, weightPerOption, tally.getNumberOfResponses()));
+    }
+
     public boolean hasAssignedWeights() {
         return hasAssignedWeights;
     }
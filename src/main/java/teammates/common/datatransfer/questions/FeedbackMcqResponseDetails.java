@@ -12,6 +12,21 @@ public class FeedbackMcqResponseDetails extends FeedbackResponseDetails {
         otherFieldContent = "";
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackMcqResponseDetails(FeedbackMcqResponseDetails other) {
+        super(other);
+        this.answer = other.answer;
+        this.isOther = other.isOther;
+        this.otherFieldContent = other.otherFieldContent;
+    }
+
+    @Override
+    public FeedbackMcqResponseDetails getDeepCopy() {
+        return new FeedbackMcqResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         if (isOther) {
@@ -1,11 +1,15 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
     private List<String> msqChoices;
@@ -31,6 +35,27 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         this.msqOtherWeight = 0;
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackMsqQuestionDetails(FeedbackMsqQuestionDetails other) {
+        super(other);
+        this.msqChoices = copyOf(other.msqChoices);
+        this.otherEnabled = other.otherEnabled;
+        this.hasAssignedWeights = other.hasAssignedWeights;
+        this.msqWeights = copyOf(other.msqWeights);
+        this.msqOtherWeight = other.msqOtherWeight;
+        this.generateOptionsFor = other.generateOptionsFor;
+        this.maxSelectableChoices = other.maxSelectableChoices;
+        this.minSelectableChoices = other.minSelectableChoices;
+        // numOfGeneratedMsqChoices is transient and is not part of the details
+    }
+
+    @Override
+    public FeedbackMsqQuestionDetails getDeepCopy() {
+        return new FeedbackMsqQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMsqQuestionDetails newMsqDetails = (FeedbackMsqQuestionDetails) newDetails;
@@ -238,6 +263,49 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        FeedbackMsqResponseDetails details = (FeedbackMsqResponseDetails) response.getReadOnlyResponseDetails();
+        if (details.isOther()) {
+            tally.tallyAnswer(response, FeedbackResponsesTally.NO_DIMENSION,
+                    Const.FeedbackQuestion.MCQ_MSQ_ANSWER_OTHER, delta);
+        }
+
+        for (String answer : details.getAnswers()) {
+            if (Const.FeedbackQuestion.MSQ_ANSWER_NONE_OF_THE_ABOVE.equals(answer)) {
+                // 'None of the above' is not an option
+                continue;
+            }
+            if (!msqChoices.contains(answer) && generateOptionsFor == FeedbackParticipantType.NONE) {
+                // the 'other' answer is already counted
+                continue;
+            }
+            tally.tallyAnswer(response, FeedbackResponsesTally.NO_DIMENSION, answer, delta);
+        }
+    }
+
+    @Override
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        List<String> options = new ArrayList<>(msqChoices);
+        if (otherEnabled) {
+            options.add(Const.FeedbackQuestion.MCQ_MSQ_ANSWER_OTHER);
+        }
+
+        Map<String, Double> weightPerOption = new LinkedHashMap<>();
+        if (hasAssignedWeights) {
+            for (int i = 0; i < msqChoices.size(); i++) {
+                weightPerOption.put(msqChoices.get(i), msqWeights.get(i));
+            }
+            if (otherEnabled) {
+                weightPerOption.put(Const.FeedbackQuestion.MCQ_MSQ_ANSWER_OTHER, msqOtherWeight);
+            }
+        }
+
+        // each response may choose more than one option
+        int numberOfAnswers = getNumberOfAnswers(tally.getAnswerCounts(FeedbackResponsesTally.NO_DIMENSION));
+        return JsonUtils.toJson(new ChoiceStatistics(tally, options, weightPerOption, numberOfAnswers));
+    }
+
     public List<String> getMsqChoices() {
         return msqChoices;
     }
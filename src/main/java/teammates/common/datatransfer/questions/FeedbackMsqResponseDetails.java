@@ -17,6 +17,21 @@ public class FeedbackMsqResponseDetails extends FeedbackResponseDetails {
         otherFieldContent = "";
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackMsqResponseDetails(FeedbackMsqResponseDetails other) {
+        super(other);
+        this.answers = other.answers == null ? null : new ArrayList<>(other.answers);
+        this.isOther = other.isOther;
+        this.otherFieldContent = other.otherFieldContent;
+    }
+
+    @Override
+    public FeedbackMsqResponseDetails getDeepCopy() {
+        return new FeedbackMsqResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         return StringHelper.toString(answers, ", ");
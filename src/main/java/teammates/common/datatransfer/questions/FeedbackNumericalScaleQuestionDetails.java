@@ -2,9 +2,13 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetails {
     private int minScale;
@@ -18,6 +22,21 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         this.step = 0.5;
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackNumericalScaleQuestionDetails(FeedbackNumericalScaleQuestionDetails other) {
+        super(other);
+        this.minScale = other.minScale;
+        this.maxScale = other.maxScale;
+        this.step = other.step;
+    }
+
+    @Override
+    public FeedbackNumericalScaleQuestionDetails getDeepCopy() {
+        return new FeedbackNumericalScaleQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -85,6 +104,22 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         return "";
     }
 
+    @Override
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        double answer = ((FeedbackNumericalScaleResponseDetails) response.getReadOnlyResponseDetails()).getAnswer();
+        tally.tallyAnswer(response, response.getRecipient(), String.valueOf(answer), delta);
+    }
+
+    @Override
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        NumericalScaleStatistics statistics = new NumericalScaleStatistics(tally);
+        for (String recipient : tally.getDimensions()) {
+            statistics.recipientStatistics.put(getRecipientIdentifierForInstructors(question, recipient),
+                    new RecipientScores(tally.getAnswerCounts(recipient), tally.getAnswerCountsExcludingSelf(recipient)));
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
     public int getMinScale() {
         return minScale;
     }
@@ -108,4 +143,37 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     public void setStep(double step) {
         this.step = step;
     }
+
+    /**
+     * Statistics of a numerical scale question.
+     */
+    public static class NumericalScaleStatistics extends TallyStatistics {
+        public final Map<String, RecipientScores> recipientStatistics = new TreeMap<>();
+
+        NumericalScaleStatistics(FeedbackResponsesTally tally) {
+            super(tally);
+        }
+    }
+
+    /**
+     * Statistics of the scores received by a recipient of a numerical scale question.
+     */
+    public static class RecipientScores {
+        public final int numberOfResponses;
+        public final double average;
+        public final double min;
+        public final double max;
+        public final double averageExcludingSelf;
+
+        RecipientScores(Map<String, Integer> countPerScore, Map<String, Integer> countPerScoreExcludingSelf) {
+            this.numberOfResponses = getNumberOfAnswers(countPerScore);
+            this.average = roundTo2dp(getSumOfAnswers(countPerScore) / numberOfResponses);
+            this.min = countPerScore.keySet().stream().mapToDouble(Double::parseDouble).min().orElse(0);
+            this.max = countPerScore.keySet().stream().mapToDouble(Double::parseDouble).max().orElse(0);
+
+            int numberOfResponsesExcludingSelf = getNumberOfAnswers(countPerScoreExcludingSelf);
+            this.averageExcludingSelf = numberOfResponsesExcludingSelf == 0 ? 0
+                    : roundTo2dp(getSumOfAnswers(countPerScoreExcludingSelf) / numberOfResponsesExcludingSelf);
+        }
+    }
 }
@@ -10,6 +10,19 @@ public class FeedbackNumericalScaleResponseDetails extends FeedbackResponseDetai
         super(FeedbackQuestionType.NUMSCALE);
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackNumericalScaleResponseDetails(FeedbackNumericalScaleResponseDetails other) {
+        super(other);
+        this.answer = other.answer;
+    }
+
+    @Override
+    public FeedbackNumericalScaleResponseDetails getDeepCopy() {
+        return new FeedbackNumericalScaleResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         return StringHelper.toDecimalFormatString(answer);
@@ -1,10 +1,13 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.JsonUtils;
 
@@ -28,6 +31,14 @@ public abstract class FeedbackQuestionDetails {
         this.questionText = questionText;
     }
 
+    /**
+     * Copies the fields common to all question types from {@code other}.
+     */
+    protected FeedbackQuestionDetails(FeedbackQuestionDetails other) {
+        this.questionType = other.questionType;
+        this.questionText = other.questionText;
+    }
+
     /**
      * Get question result statistics as JSON string.
      */
@@ -41,6 +52,76 @@ public abstract class FeedbackQuestionDetails {
         return "";
     }
 
+    /**
+     * Get question result statistics as JSON string, computed from the running tally of the responses.
+     *
+     * <p>Unlike {@link #getQuestionResultStatisticsJson(FeedbackQuestionAttributes, String, SessionResultsBundle)},
+     * the statistics cover all responses to the question, and are only meant for instructors who can view them all.
+     */
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        return JsonUtils.toJson(new TallyStatistics(tally));
+    }
+
+    /**
+     * Counts the answer of a response in the running tally of the question,
+     * or discounts it if {@code delta} is negative.
+     *
+     * <p>Override for question types whose statistics are computed from the answers.
+     */
+    @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract")
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        // only the number of responses is tallied by default
+    }
+
+    /**
+     * Checks whether the statistics of the question can be computed from the running tally of its responses.
+     */
+    public boolean canComputeStatisticsFromTally() {
+        return true;
+    }
+
+    /**
+     * Gets the identifier of a recipient to be shown in statistics for instructors.
+     *
+     * <p>The identifier is anonymized if the name of the recipient is not visible to instructors.
+     */
+    static String getRecipientIdentifierForInstructors(FeedbackQuestionAttributes question, String recipient) {
+        if (question.getShowRecipientNameTo().contains(FeedbackParticipantType.INSTRUCTORS)) {
+            return recipient;
+        }
+        FeedbackParticipantType participantType = question.getRecipientType() == FeedbackParticipantType.SELF
+                ? question.getGiverType()
+                : question.getRecipientType();
+        return SessionResultsBundle.getAnonName(participantType, recipient);
+    }
+
+    /**
+     * Gets the percentage of {@code count} in {@code total}, rounded to 2 decimal places.
+     */
+    static double getPercentage(int count, int total) {
+        return total == 0 ? 0 : roundTo2dp(100.0 * count / total);
+    }
+
+    static double roundTo2dp(double num) {
+        return Math.round(num * 100) / 100.0;
+    }
+
+    /**
+     * Gets the number of answers in a tally of the number of times each value is answered.
+     */
+    static int getNumberOfAnswers(Map<String, Integer> countPerValue) {
+        return countPerValue.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Gets the sum of the answers in a tally of the number of times each numeric value is answered.
+     */
+    static double getSumOfAnswers(Map<String, Integer> countPerValue) {
+        return countPerValue.entrySet().stream()
+                .mapToDouble(entry -> Double.parseDouble(entry.getKey()) * entry.getValue())
+                .sum();
+    }
+
     /**
      * Checks whether the changes to the question details require deletion of corresponding responses.
      */
@@ -125,10 +206,30 @@ public abstract class FeedbackQuestionDetails {
         return JsonUtils.toJson(this, questionType.getQuestionDetailsClass());
     }
 
-    public FeedbackQuestionDetails getDeepCopy() {
-        Assumption.assertNotNull(questionType);
-        String serializedDetails = getJsonString();
-        return JsonUtils.fromJson(serializedDetails, questionType.getQuestionDetailsClass());
+    /**
+     * Creates a deep copy of the question details.
+     */
+    public abstract FeedbackQuestionDetails getDeepCopy();
+
+    /**
+     * Copies a list of immutable elements, preserving null.
+     */
+    static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    /**
+     * Copies a list of lists of immutable elements, preserving null.
+     */
+    static <T> List<List<T>> copyOfNested(List<List<T>> lists) {
+        if (lists == null) {
+            return null;
+        }
+        List<List<T>> copy = new ArrayList<>(lists.size());
+        for (List<T> list : lists) {
+            copy.add(copyOf(list));
+        }
+        return copy;
     }
 
     public FeedbackQuestionType getQuestionType() {
@@ -146,4 +247,15 @@ public abstract class FeedbackQuestionDetails {
     public void setQuestionText(String questionText) {
         this.questionText = questionText;
     }
+
+    /**
+     * Statistics of a question computed from the running tally of its responses.
+     */
+    public static class TallyStatistics {
+        public final int numberOfResponses;
+
+        public TallyStatistics(FeedbackResponsesTally tally) {
+            this.numberOfResponses = tally.getNumberOfResponses();
+        }
+    }
 }
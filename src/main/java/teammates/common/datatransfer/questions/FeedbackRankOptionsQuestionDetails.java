@@ -1,12 +1,17 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDetails {
     public static final transient int MIN_NUM_OF_OPTIONS = 2;
@@ -32,6 +37,19 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
         this.options = new ArrayList<>();
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackRankOptionsQuestionDetails(FeedbackRankOptionsQuestionDetails other) {
+        super(other);
+        this.options = copyOf(other.options);
+    }
+
+    @Override
+    public FeedbackRankOptionsQuestionDetails getDeepCopy() {
+        return new FeedbackRankOptionsQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackRankOptionsQuestionDetails newRankQuestionDetails = (FeedbackRankOptionsQuestionDetails) newDetails;
@@ -130,6 +148,37 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
         return "";
     }
 
+    @Override
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        FeedbackRankOptionsResponseDetails details =
+                (FeedbackRankOptionsResponseDetails) response.getReadOnlyResponseDetails();
+
+        // the ranks given may not be consecutive, e.g. when some options are left unranked
+        Map<Integer, Integer> normalizedRanks = new HashMap<>();
+        for (int rank : details.getFilteredSortedAnswerList()) {
+            normalizedRanks.putIfAbsent(rank, normalizedRanks.size() + 1);
+        }
+
+        List<Integer> answers = details.getAnswers();
+        for (int i = 0; i < answers.size() && i < options.size(); i++) {
+            if (answers.get(i) != Const.POINTS_NOT_SUBMITTED) {
+                tally.tallyAnswer(response, options.get(i), String.valueOf(normalizedRanks.get(answers.get(i))), delta);
+            }
+        }
+    }
+
+    @Override
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        Map<String, Double> averageRanks = getAverageRanks(tally, false);
+        Map<String, Double> averageRanksInOrder = new LinkedHashMap<>();
+        for (String option : options) {
+            if (averageRanks.containsKey(option)) {
+                averageRanksInOrder.put(option, averageRanks.get(option));
+            }
+        }
+        return JsonUtils.toJson(new RankStatistics(tally, averageRanksInOrder));
+    }
+
     public List<String> getOptions() {
         return options;
     }
@@ -12,6 +12,19 @@ public class FeedbackRankOptionsResponseDetails extends FeedbackResponseDetails
         super(FeedbackQuestionType.RANK_OPTIONS);
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackRankOptionsResponseDetails(FeedbackRankOptionsResponseDetails other) {
+        super(other);
+        this.answers = other.answers == null ? null : new ArrayList<>(other.answers);
+    }
+
+    @Override
+    public FeedbackRankOptionsResponseDetails getDeepCopy() {
+        return new FeedbackRankOptionsResponseDetails(this);
+    }
+
     /**
      * Returns List of sorted answers, with uninitialised values filtered out.
      */
@@ -1,5 +1,10 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetails {
 
     static final transient int NO_VALUE = Integer.MIN_VALUE;
@@ -13,6 +18,48 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
         maxOptionsToBeRanked = NO_VALUE;
     }
 
+    FeedbackRankQuestionDetails(FeedbackRankQuestionDetails other) {
+        super(other);
+        this.minOptionsToBeRanked = other.minOptionsToBeRanked;
+        this.maxOptionsToBeRanked = other.maxOptionsToBeRanked;
+        this.areDuplicatesAllowed = other.areDuplicatesAllowed;
+    }
+
+    /**
+     * Gets the average rank of each option from the ranks counted under each option in the tally.
+     */
+    static Map<String, Double> getAverageRanks(FeedbackResponsesTally tally, boolean isSelfExcluded) {
+        Map<String, Double> averageRanks = new LinkedHashMap<>();
+        for (String option : tally.getDimensions()) {
+            Map<String, Integer> countPerRank = isSelfExcluded
+                    ? tally.getAnswerCountsExcludingSelf(option)
+                    : tally.getAnswerCounts(option);
+            int numberOfRanks = getNumberOfAnswers(countPerRank);
+            if (numberOfRanks > 0) {
+                averageRanks.put(option, getSumOfAnswers(countPerRank) / numberOfRanks);
+            }
+        }
+        return averageRanks;
+    }
+
+    /**
+     * Ranks the options by their average rank, with options of the same average rank sharing the same rank.
+     */
+    static Map<String, Integer> getOverallRanks(Map<String, Double> averageRanks) {
+        List<Map.Entry<String, Double>> optionsOrderedByRank = new ArrayList<>(averageRanks.entrySet());
+        optionsOrderedByRank.sort(Map.Entry.comparingByValue());
+
+        Map<String, Integer> overallRanks = new LinkedHashMap<>();
+        for (int i = 0; i < optionsOrderedByRank.size(); i++) {
+            Map.Entry<String, Double> option = optionsOrderedByRank.get(i);
+            boolean isTiedWithPreviousOption =
+                    i > 0 && option.getValue().equals(optionsOrderedByRank.get(i - 1).getValue());
+            overallRanks.put(option.getKey(),
+                    isTiedWithPreviousOption ? overallRanks.get(optionsOrderedByRank.get(i - 1).getKey()) : i + 1);
+        }
+        return overallRanks;
+    }
+
     public int getMinOptionsToBeRanked() {
         return minOptionsToBeRanked;
     }
@@ -36,4 +83,18 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
     public void setAreDuplicatesAllowed(boolean areDuplicatesAllowed) {
         this.areDuplicatesAllowed = areDuplicatesAllowed;
     }
+
+    /**
+     * Statistics of a rank question.
+     */
+    public static class RankStatistics extends TallyStatistics {
+        public final Map<String, Double> averageRankPerOption = new LinkedHashMap<>();
+        public final Map<String, Integer> rankPerOption;
+
+        RankStatistics(FeedbackResponsesTally tally, Map<String, Double> averageRanks) {
+            super(tally);
+            averageRanks.forEach((option, averageRank) -> averageRankPerOption.put(option, roundTo2dp(averageRank)));
+            this.rankPerOption = getOverallRanks(averageRanks);
+        }
+    }
 }
@@ -2,10 +2,14 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
 
 public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionDetails {
 
@@ -13,6 +17,18 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         super(FeedbackQuestionType.RANK_RECIPIENTS);
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackRankRecipientsQuestionDetails(FeedbackRankRecipientsQuestionDetails other) {
+        super(other);
+    }
+
+    @Override
+    public FeedbackRankRecipientsQuestionDetails getDeepCopy() {
+        return new FeedbackRankRecipientsQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         return false;
@@ -62,4 +78,43 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     public String validateGiverRecipientVisibility(FeedbackQuestionAttributes feedbackQuestionAttributes) {
         return "";
     }
+
+    @Override
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        int answer = ((FeedbackRankRecipientsResponseDetails) response.getReadOnlyResponseDetails()).getAnswer();
+        tally.tallyAnswer(response, response.getRecipient(), String.valueOf(answer), delta);
+    }
+
+    @Override
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        return JsonUtils.toJson(new RankRecipientsStatistics(question, tally));
+    }
+
+    /**
+     * Statistics of a rank recipients question, where the options are the recipients.
+     */
+    public static class RankRecipientsStatistics extends RankStatistics {
+        public final Map<String, Integer> rankPerOptionExcludeSelf;
+        public final Map<String, Integer> selfRankPerOption = new LinkedHashMap<>();
+
+        RankRecipientsStatistics(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+            super(tally, getAverageRanksOfRecipients(question, tally, false));
+            this.rankPerOptionExcludeSelf = getOverallRanks(getAverageRanksOfRecipients(question, tally, true));
+            for (String recipient : tally.getDimensions()) {
+                Map<String, Integer> countPerSelfRank = tally.getSelfAnswerCounts(recipient);
+                if (!countPerSelfRank.isEmpty()) {
+                    selfRankPerOption.put(getRecipientIdentifierForInstructors(question, recipient),
+                            (int) Math.round(getSumOfAnswers(countPerSelfRank) / getNumberOfAnswers(countPerSelfRank)));
+                }
+            }
+        }
+
+        private static Map<String, Double> getAverageRanksOfRecipients(
+                FeedbackQuestionAttributes question, FeedbackResponsesTally tally, boolean isSelfExcluded) {
+            Map<String, Double> averageRanks = new LinkedHashMap<>();
+            getAverageRanks(tally, isSelfExcluded).forEach((recipient, averageRank) ->
+                    averageRanks.put(getRecipientIdentifierForInstructors(question, recipient), averageRank));
+            return averageRanks;
+        }
+    }
 }
@@ -7,6 +7,19 @@ public class FeedbackRankRecipientsResponseDetails extends FeedbackResponseDetai
         super(FeedbackQuestionType.RANK_RECIPIENTS);
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackRankRecipientsResponseDetails(FeedbackRankRecipientsResponseDetails other) {
+        super(other);
+        this.answer = other.answer;
+    }
+
+    @Override
+    public FeedbackRankRecipientsResponseDetails getDeepCopy() {
+        return new FeedbackRankRecipientsResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         return Integer.toString(answer);
@@ -18,6 +18,13 @@ public abstract class FeedbackResponseDetails {
         this.questionType = questionType;
     }
 
+    /**
+     * Copies the fields common to all question types from {@code other}.
+     */
+    protected FeedbackResponseDetails(FeedbackResponseDetails other) {
+        this.questionType = other.questionType;
+    }
+
     public abstract String getAnswerString();
 
     public String getJsonString() {
@@ -30,14 +37,10 @@ public abstract class FeedbackResponseDetails {
         return JsonUtils.toJson(this, questionType.getResponseDetailsClass());
     }
 
-    public FeedbackResponseDetails getDeepCopy() {
-        Assumption.assertNotNull(questionType);
-        if (questionType == FeedbackQuestionType.TEXT) {
-            return new FeedbackTextResponseDetails(getAnswerString());
-        }
-        String serializedResponseDetails = getJsonString();
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
-    }
+    /**
+     * Creates a deep copy of the response details.
+     */
+    public abstract FeedbackResponseDetails getDeepCopy();
 
     public void setQuestionType(FeedbackQuestionType questionType) {
         this.questionType = questionType;
@@ -0,0 +1,156 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Running tally of the answers to a feedback question, from which the statistics of the question
+ * can be computed without loading its responses.
+ *
+ * <p>Each answer is counted under a dimension (e.g. an option, a sub-question or a recipient) and a value
+ * (e.g. a rank or a number of points). Answers given by a participant to themselves are also counted apart,
+ * for statistics which exclude self-evaluation.
+ *
+ * @see FeedbackQuestionDetails#tallyResponse(FeedbackResponseAttributes, FeedbackResponsesTally, int)
+ */
+public class FeedbackResponsesTally {
+
+    /**
+     * Dimension of answers which are not broken down any further, e.g. the chosen option of a MCQ question.
+     */
+    public static final String NO_DIMENSION = "";
+
+    private int numberOfResponses;
+
+    // dimension -> value -> number of times the value is answered
+    private final Map<String, Map<String, Integer>> answerCounts = new HashMap<>();
+    private final Map<String, Map<String, Integer>> selfAnswerCounts = new HashMap<>();
+
+    /**
+     * Adds a response to the tally.
+     */
+    public void addResponse(FeedbackQuestionDetails questionDetails, FeedbackResponseAttributes response) {
+        numberOfResponses++;
+        questionDetails.tallyResponse(response, this, 1);
+    }
+
+    /**
+     * Removes a response previously added to the tally.
+     */
+    public void removeResponse(FeedbackQuestionDetails questionDetails, FeedbackResponseAttributes response) {
+        numberOfResponses--;
+        questionDetails.tallyResponse(response, this, -1);
+    }
+
+    /**
+     * Counts an answer of a response, or discounts it if {@code delta} is negative.
+     */
+    public void tallyAnswer(FeedbackResponseAttributes response, String dimension, String value, int delta) {
+        tally(answerCounts, dimension, value, delta);
+        if (response.getGiver().equals(response.getRecipient())) {
+            tally(selfAnswerCounts, dimension, value, delta);
+        }
+    }
+
+    /**
+     * Adds the counts of another tally, e.g. the changes made to a tally by a number of responses, to the tally.
+     * The counts of the other tally may be negative.
+     */
+    public void merge(FeedbackResponsesTally other) {
+        numberOfResponses += other.numberOfResponses;
+        other.answerCounts.forEach((dimension, valueCounts) ->
+                valueCounts.forEach((value, count) -> tally(answerCounts, dimension, value, count)));
+        other.selfAnswerCounts.forEach((dimension, valueCounts) ->
+                valueCounts.forEach((value, count) -> tally(selfAnswerCounts, dimension, value, count)));
+    }
+
+    /**
+     * Returns true if nothing is counted by the tally.
+     */
+    public boolean isEmpty() {
+        return numberOfResponses == 0 && answerCounts.isEmpty() && selfAnswerCounts.isEmpty();
+    }
+
+    private static void tally(Map<String, Map<String, Integer>> counts, String dimension, String value, int delta) {
+        Map<String, Integer> valueCounts = counts.computeIfAbsent(dimension, key -> new HashMap<>());
+        valueCounts.merge(value, delta, (count, change) -> count + change == 0 ? null : count + change);
+        if (valueCounts.isEmpty()) {
+            counts.remove(dimension);
+        }
+    }
+
+    public int getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    /**
+     * Gets the dimensions under which answers have been counted.
+     */
+    public Set<String> getDimensions() {
+        return Collections.unmodifiableSet(answerCounts.keySet());
+    }
+
+    /**
+     * Gets the number of times each value is answered under a dimension.
+     */
+    public Map<String, Integer> getAnswerCounts(String dimension) {
+        return Collections.unmodifiableMap(answerCounts.getOrDefault(dimension, Collections.emptyMap()));
+    }
+
+    /**
+     * Gets the number of times each value is answered under a dimension,
+     * excluding the answers given by participants to themselves.
+     */
+    public Map<String, Integer> getAnswerCountsExcludingSelf(String dimension) {
+        Map<String, Integer> counts = new HashMap<>(answerCounts.getOrDefault(dimension, Collections.emptyMap()));
+        selfAnswerCounts.getOrDefault(dimension, Collections.emptyMap()).forEach((value, selfCount) ->
+                counts.merge(value, -selfCount, (count, change) -> count + change == 0 ? null : count + change));
+        return counts;
+    }
+
+    /**
+     * Gets the number of times each value is answered under a dimension by participants to themselves.
+     */
+    public Map<String, Integer> getSelfAnswerCounts(String dimension) {
+        return Collections.unmodifiableMap(selfAnswerCounts.getOrDefault(dimension, Collections.emptyMap()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        FeedbackResponsesTally otherTally = (FeedbackResponsesTally) other;
+        return numberOfResponses == otherTally.numberOfResponses
+                && answerCounts.equals(otherTally.answerCounts)
+                && selfAnswerCounts.equals(otherTally.selfAnswerCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(numberOfResponses, answerCounts, selfAnswerCounts);
+    }
+
+    public String getJsonString() {
+        return JsonUtils.toJson(this);
+    }
+
+    /**
+     * Restores a tally from its JSON string.
+     *
+     * @see #getJsonString()
+     */
+    public static FeedbackResponsesTally fromJsonString(String jsonString) {
+        return JsonUtils.fromJson(jsonString, FeedbackResponsesTally.class);
+    }
+
+}
@@ -2,9 +2,12 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
@@ -28,6 +31,25 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         this.rubricWeightsForEachCell = new ArrayList<>();
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackRubricQuestionDetails(FeedbackRubricQuestionDetails other) {
+        super(other);
+        this.hasAssignedWeights = other.hasAssignedWeights;
+        this.rubricWeightsForEachCell = copyOfNested(other.rubricWeightsForEachCell);
+        this.numOfRubricChoices = other.numOfRubricChoices;
+        this.rubricChoices = copyOf(other.rubricChoices);
+        this.numOfRubricSubQuestions = other.numOfRubricSubQuestions;
+        this.rubricSubQuestions = copyOf(other.rubricSubQuestions);
+        this.rubricDescriptions = copyOfNested(other.rubricDescriptions);
+    }
+
+    @Override
+    public FeedbackRubricQuestionDetails getDeepCopy() {
+        return new FeedbackRubricQuestionDetails(this);
+    }
+
     /**
      * Checks if the dimensions of rubricDescription is valid according
      * to numOfRubricSubQuestions and numOfRubricChoices.
@@ -161,6 +183,22 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public void tallyResponse(FeedbackResponseAttributes response, FeedbackResponsesTally tally, int delta) {
+        List<Integer> answer = ((FeedbackRubricResponseDetails) response.getReadOnlyResponseDetails()).getAnswer();
+        for (int subQuestion = 0; subQuestion < answer.size(); subQuestion++) {
+            int choice = answer.get(subQuestion);
+            if (choice != Const.FeedbackQuestion.RUBRIC_ANSWER_NOT_CHOSEN) {
+                tally.tallyAnswer(response, String.valueOf(subQuestion), String.valueOf(choice), delta);
+            }
+        }
+    }
+
+    @Override
+    public String getQuestionResultStatisticsJson(FeedbackQuestionAttributes question, FeedbackResponsesTally tally) {
+        return JsonUtils.toJson(new RubricStatistics(this, tally));
+    }
+
     /**
      * Returns a list of rubric weights if the weights are assigned,
      * otherwise returns an empty list.
@@ -228,4 +266,72 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     public void setRubricDescriptions(List<List<String>> rubricDescriptions) {
         this.rubricDescriptions = rubricDescriptions;
     }
+
+    /**
+     * Statistics of a rubric question, indexed by sub-question and then by choice.
+     */
+    public static class RubricStatistics extends TallyStatistics {
+        public final int[][] answers;
+        public final double[][] percentages;
+        public final double[] subQuestionWeightAverage;
+        public final int[][] answersExcludeSelf;
+        public final double[][] percentagesExcludeSelf;
+        public final double[] subQuestionWeightAverageExcludeSelf;
+
+        RubricStatistics(FeedbackRubricQuestionDetails details, FeedbackResponsesTally tally) {
+            super(tally);
+            answers = new int[details.numOfRubricSubQuestions][details.numOfRubricChoices];
+            answersExcludeSelf = new int[details.numOfRubricSubQuestions][details.numOfRubricChoices];
+            for (int subQuestion = 0; subQuestion < details.numOfRubricSubQuestions; subQuestion++) {
+                countAnswers(tally.getAnswerCounts(String.valueOf(subQuestion)), answers[subQuestion]);
+                countAnswers(tally.getAnswerCountsExcludingSelf(String.valueOf(subQuestion)),
+                        answersExcludeSelf[subQuestion]);
+            }
+
+            percentages = getPercentages(answers);
+            percentagesExcludeSelf = getPercentages(answersExcludeSelf);
+            List<List<Double>> weights = details.getRubricWeights();
+            subQuestionWeightAverage = weights.isEmpty() ? new double[0] : getWeightAverages(answers, weights);
+            subQuestionWeightAverageExcludeSelf =
+                    weights.isEmpty() ? new double[0] : getWeightAverages(answersExcludeSelf, weights);
+        }
+
+        private static void countAnswers(Map<String, Integer> countPerChoice, int[] subQuestionAnswers) {
+            countPerChoice.forEach((choice, count) -> {
+                int choiceIndex = Integer.parseInt(choice);
+                if (choiceIndex < subQuestionAnswers.length) {
+                    subQuestionAnswers[choiceIndex] = count;
+                }
+            });
+        }
+
+        private static double[][] getPercentages(int[][] counts) {
+            double[][] percentagesPerChoice = new double[counts.length][];
+            for (int subQuestion = 0; subQuestion < counts.length; subQuestion++) {
+                int total = 0;
+                for (int count : counts[subQuestion]) {
+                    total += count;
+                }
+                percentagesPerChoice[subQuestion] = new double[counts[subQuestion].length];
+                for (int choice = 0; choice < counts[subQuestion].length; choice++) {
+                    percentagesPerChoice[subQuestion][choice] = getPercentage(counts[subQuestion][choice], total);
+                }
+            }
+            return percentagesPerChoice;
+        }
+
+        private static double[] getWeightAverages(int[][] counts, List<List<Double>> weights) {
+            double[] weightAverages = new double[counts.length];
+            for (int subQuestion = 0; subQuestion < counts.length; subQuestion++) {
+                int total = 0;
+                double totalWeight = 0;
+                for (int choice = 0; choice < counts[subQuestion].length; choice++) {
+                    total += counts[subQuestion][choice];
+                    totalWeight += counts[subQuestion][choice] * weights.get(subQuestion).get(choice);
+                }
+                weightAverages[subQuestion] = total == 0 ? 0 : roundTo2dp(totalWeight / total);
+            }
+            return weightAverages;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class FeedbackRubricResponseDetails extends FeedbackResponseDetails {
@@ -14,6 +15,19 @@ public class FeedbackRubricResponseDetails extends FeedbackResponseDetails {
         super(FeedbackQuestionType.RUBRIC);
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackRubricResponseDetails(FeedbackRubricResponseDetails other) {
+        super(other);
+        this.answer = other.answer == null ? null : new ArrayList<>(other.answer);
+    }
+
+    @Override
+    public FeedbackRubricResponseDetails getDeepCopy() {
+        return new FeedbackRubricResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         return this.answer.toString();
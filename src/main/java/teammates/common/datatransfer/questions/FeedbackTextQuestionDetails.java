@@ -23,6 +23,19 @@ public class FeedbackTextQuestionDetails extends FeedbackQuestionDetails {
         recommendedLength = null;
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackTextQuestionDetails(FeedbackTextQuestionDetails other) {
+        super(other);
+        this.recommendedLength = other.recommendedLength;
+    }
+
+    @Override
+    public FeedbackTextQuestionDetails getDeepCopy() {
+        return new FeedbackTextQuestionDetails(this);
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         return false;
@@ -17,6 +17,19 @@ public class FeedbackTextResponseDetails extends FeedbackResponseDetails {
         this.answer = SanitizationHelper.sanitizeForRichText(answer);
     }
 
+    /**
+     * Creates a deep copy of {@code other}.
+     */
+    private FeedbackTextResponseDetails(FeedbackTextResponseDetails other) {
+        super(other);
+        this.answer = other.answer;
+    }
+
+    @Override
+    public FeedbackTextResponseDetails getDeepCopy() {
+        return new FeedbackTextResponseDetails(this);
+    }
+
     @Override
     public String getAnswerString() {
         return SanitizationHelper.sanitizeForRichText(answer);
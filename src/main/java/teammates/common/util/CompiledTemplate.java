@@ -0,0 +1,120 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A template which is split once into literal text and variables (e.g. {@code ${userName}}),
+ * so that it can be populated in a single pass.
+ *
+ * <p>Unlike {@link Templates#populateTemplate(String, String...)}, the values are never searched for variables,
+ * i.e. a value containing a variable is inserted as it is.
+ * Variables without a given value are left in the populated template as they are.
+ */
+public final class CompiledTemplate {
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$\\{[^}]*}");
+
+    /**
+     * The literal text between the variables; there is always one more literal than there are variables.
+     */
+    private final List<String> literals;
+    private final List<String> variables;
+    private final int literalsLength;
+
+    private CompiledTemplate(List<String> literals, List<String> variables) {
+        this.literals = literals;
+        this.variables = variables;
+        this.literalsLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Compiles the given template.
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        Matcher matcher = VARIABLE_PATTERN.matcher(template);
+        int literalStart = 0;
+        while (matcher.find()) {
+            literals.add(template.substring(literalStart, matcher.start()));
+            variables.add(matcher.group());
+            literalStart = matcher.end();
+        }
+        literals.add(template.substring(literalStart));
+
+        return new CompiledTemplate(literals, variables);
+    }
+
+    /**
+     * Populates some of the variables of the template, e.g. those which are the same for all users
+     * the template is populated for.
+     *
+     * @param keyValuePairs even number of variables and their values: { "key1", "val1", "key2", "val2", ... }
+     * @return the template in which the given variables are replaced by their values
+     */
+    public CompiledTemplate partiallyPopulate(String... keyValuePairs) {
+        assertKeyValuePairs(keyValuePairs);
+
+        List<String> newLiterals = new ArrayList<>();
+        List<String> newVariables = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(literals.get(0));
+        for (int i = 0; i < variables.size(); i++) {
+            String variable = variables.get(i);
+            String value = getValue(variable, keyValuePairs);
+            if (value == null) {
+                newLiterals.add(literal.toString());
+                newVariables.add(variable);
+                literal.setLength(0);
+            } else {
+                literal.append(value);
+            }
+            literal.append(literals.get(i + 1));
+        }
+        newLiterals.add(literal.toString());
+
+        return new CompiledTemplate(newLiterals, newVariables);
+    }
+
+    /**
+     * Populates the template.
+     *
+     * @param keyValuePairs even number of variables and their values: { "key1", "val1", "key2", "val2", ... }
+     * @return the populated template
+     */
+    public String populate(String... keyValuePairs) {
+        assertKeyValuePairs(keyValuePairs);
+
+        int valuesLength = 0;
+        for (int i = 1; i < keyValuePairs.length; i += 2) {
+            valuesLength += keyValuePairs[i].length();
+        }
+
+        StringBuilder populatedTemplate = new StringBuilder(literalsLength + valuesLength);
+        populatedTemplate.append(literals.get(0));
+        for (int i = 0; i < variables.size(); i++) {
+            String variable = variables.get(i);
+            String value = getValue(variable, keyValuePairs);
+            populatedTemplate.append(value == null ? variable : value).append(literals.get(i + 1));
+        }
+        return populatedTemplate.toString();
+    }
+
+    private static void assertKeyValuePairs(String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+    }
+
+    private static String getValue(String variable, String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (keyValuePairs[i].equals(variable)) {
+                return keyValuePairs[i + 1];
+            }
+        }
+        return null;
+    }
+
+}
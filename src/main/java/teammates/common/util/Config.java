@@ -60,6 +60,12 @@ public final class Config {
     /** The value of the "app.email.service" in build.properties file. */
     public static final String EMAIL_SERVICE;
 
+    /** The value of the "app.email.batchsize" in build.properties file. */
+    public static final int EMAIL_BATCH_SIZE;
+
+    /** The value of the "app.email.ratelimit" in build.properties file. */
+    public static final int EMAIL_RATE_LIMIT;
+
     /** The value of the "app.sendgrid.apikey" in build.properties file. */
     public static final String SENDGRID_APIKEY;
 
@@ -78,6 +84,9 @@ public final class Config {
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
+    /** The value of the "app.enable.sections.query" in build.properties file. */
+    public static final boolean ENABLE_SECTIONS_QUERY;
+
     static {
         APP_URL = readAppUrl();
         Properties properties = new Properties();
@@ -100,18 +109,37 @@ public final class Config {
         EMAIL_SENDERNAME = properties.getProperty("app.email.sendername");
         EMAIL_REPLYTO = properties.getProperty("app.email.replyto");
         EMAIL_SERVICE = properties.getProperty("app.email.service");
+        EMAIL_BATCH_SIZE = getIntProperty(properties, "app.email.batchsize", 1);
+        EMAIL_RATE_LIMIT = getIntProperty(properties, "app.email.ratelimit", 10);
         SENDGRID_APIKEY = properties.getProperty("app.sendgrid.apikey");
         MAILGUN_APIKEY = properties.getProperty("app.mailgun.apikey");
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(properties.getProperty("app.enable.datastore.backup", "false"));
+        ENABLE_SECTIONS_QUERY = Boolean.parseBoolean(properties.getProperty("app.enable.sections.query", "false"));
     }
 
     private Config() {
         // access static fields directly
     }
 
+    /**
+     * Gets the integer value of an optional property, falling back to {@code defaultValue}
+     * if the property is absent or is not a valid integer.
+     */
+    private static int getIntProperty(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key, "").trim();
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     private static String readAppUrl() {
         ApiProxy.Environment serverEnvironment = ApiProxy.getCurrentEnvironment();
         if (serverEnvironment == null) {
@@ -184,4 +212,27 @@ public final class Config {
                 && MAILJET_SECRETKEY != null && !MAILJET_SECRETKEY.isEmpty();
     }
 
+    public static boolean isUsingStubEmailService() {
+        return "stub".equalsIgnoreCase(EMAIL_SERVICE) && isDevServer();
+    }
+
+    /**
+     * Gets the name of the email service in use, which is GAE JavaMail unless another service is fully configured.
+     */
+    public static String getEmailServiceName() {
+        if (isUsingSendgrid()) {
+            return "sendgrid";
+        }
+        if (isUsingMailgun()) {
+            return "mailgun";
+        }
+        if (isUsingMailjet()) {
+            return "mailjet";
+        }
+        if (isUsingStubEmailService()) {
+            return "stub";
+        }
+        return "javamail";
+    }
+
 }
@@ -127,6 +127,42 @@ public final class Const {
 
         public static final String DEFAULT_PROFILE_PICTURE_PATH = "/images/profile_picture_default.png";
 
+        /** Maximum total number of students and instructors in course rosters cached in memory by each instance. */
+        public static final int MAX_CACHED_COURSE_ROSTER_PARTICIPANTS = 50000;
+
+        /**
+         * Time after a change to a course roster during which a newly loaded copy of the roster is not cached,
+         * as the queries loading it may not reflect the change yet.
+         */
+        public static final long MILLIS_COURSE_ROSTER_NOT_CACHED_AFTER_CHANGE = 5000;
+
+        /** Maximum number of contribution questions whose team results are cached in memory by each instance. */
+        public static final int MAX_CACHED_CONTRIBUTION_QUESTION_RESULTS = 200;
+
+        /**
+         * Minimum number of sections, including the default section, in a course for the results of its sessions
+         * to be assembled section by section in parallel for instructors.
+         */
+        public static final int MIN_SECTIONS_FOR_PARALLEL_RESULTS = 4;
+
+        /**
+         * Maximum number of entities whose search documents are indexed by a single search indexing task.
+         * Matches the maximum number of documents put into the search engine in a single request.
+         */
+        public static final int MAX_ENTITIES_PER_SEARCH_INDEXING_TASK = 200;
+
+        /**
+         * Maximum number of emails sent by a single email batch task.
+         * Matches the maximum number of messages Mailjet accepts in a single request.
+         */
+        public static final int MAX_EMAILS_PER_SEND_EMAIL_BATCH_TASK = 50;
+
+        /**
+         * Maximum size in bytes of the serialized emails sent by a single email batch task.
+         * Leaves headroom below the 100 KB limit on the size of a push task.
+         */
+        public static final int MAX_SEND_EMAIL_BATCH_TASK_PAYLOAD_BYTES = 90 * 1024;
+
     }
 
     public static class FeedbackQuestion {
@@ -189,6 +225,10 @@ public final class Const {
         public static final String MCQ_ERROR_EMPTY_MCQ_OPTION = "The Mcq options cannot be empty";
         public static final String MCQ_ERROR_OTHER_CONTENT_NOT_PROVIDED = "No text provided for other option";
         public static final String MCQ_ERROR_DUPLICATE_MCQ_OPTION = "The Mcq options cannot be duplicate";
+        /**
+         * Option under which the 'other' answers of MCQ and MSQ questions are counted in statistics.
+         */
+        public static final String MCQ_MSQ_ANSWER_OTHER = "Other";
 
         // Msq
         public static final int MSQ_MIN_NUM_OF_CHOICES = 2;
@@ -476,6 +516,10 @@ public final class Const {
         public static final String FEEDBACK_RESULTS_GROUPBYSECTION = "frgroupbysection";
         public static final String FEEDBACK_RESULTS_GROUPBYSECTIONDETAIL = "frgroupbysectiondetail";
         public static final String FEEDBACK_RESULTS_SHOWSTATS = "frshowstats";
+        public static final String FEEDBACK_RESULTS_STATISTICS_ONLY = "frstatisticsonly";
+        public static final String FEEDBACK_RESULTS_CURSOR = "frcursor";
+        public static final String FEEDBACK_RESULTS_PAGE_SIZE = "frpagesize";
+        public static final String FEEDBACK_RESULTS_STREAM = "frstream";
         public static final String FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES = "frindicatemissingresponses";
         public static final String FEEDBACK_RESULTS_NEED_AJAX = "frneedajax";
         public static final String FEEDBACK_RESULTS_MAIN_INDEX = "frmainindex";
@@ -543,6 +587,8 @@ public final class Const {
         public static final String FEEDBACK_RESPONSE_RECEIVER_NAME = "feedbackResponseReceiverName";
         public static final String SEARCHABLE_TEXT = "searchableText";
         public static final String COURSE_ID = "courseId";
+        public static final String STUDENT_ID = "studentId";
+        public static final String INSTRUCTOR_ID = "instructorId";
     }
 
     /**
@@ -677,6 +723,7 @@ public final class Const {
         public static final String SESSION_LINKS_RECOVERY = URI_PREFIX + "/sessionlinksrecovery";
         public static final String NATIONALITIES = URI_PREFIX + "/nationalities";
         public static final String EMAIL = URI_PREFIX + "/email";
+        public static final String EMAIL_SCHEDULING_STATS = URI_PREFIX + "/email/schedulingstats";
 
         public static final String STUDENT_PROFILE_PICTURE = URI_PREFIX + "/student/profilePic";
         public static final String STUDENT_PROFILE = URI_PREFIX + "/student/profile";
@@ -696,6 +743,10 @@ public final class Const {
                 URI_PREFIX + "/feedbackSessionClosingReminders";
         public static final String AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS =
                 URI_PREFIX + "/feedbackSessionPublishedReminders";
+        public static final String AUTOMATED_SESSION_STATS_RECONCILIATION =
+                URI_PREFIX + "/sessionStatsReconciliation";
+        public static final String AUTOMATED_QUESTION_STATS_RECONCILIATION =
+                URI_PREFIX + "/questionStatsReconciliation";
     }
 
     /**
@@ -737,10 +788,20 @@ public final class Const {
 
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = URI_PREFIX + "/sendEmail";
+        public static final String SEND_EMAIL_BATCH_WORKER_URL = URI_PREFIX + "/sendEmailBatch";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/studentCourseJoinEmail";
 
+        public static final String STUDENTS_ENROLLMENT_CASCADE_QUEUE_NAME = "students-enrollment-cascade-queue";
+        public static final String STUDENTS_ENROLLMENT_CASCADE_WORKER_URL = URI_PREFIX + "/studentsEnrollmentCascade";
+
+        public static final String SEARCH_INDEXING_QUEUE_NAME = "search-indexing-queue";
+        public static final String SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/searchIndexing";
+
+        public static final String QUESTION_STATS_UPDATE_QUEUE_NAME = "question-stats-update-queue";
+        public static final String QUESTION_STATS_UPDATE_WORKER_URL = URI_PREFIX + "/questionStatsUpdate";
+
     }
 
     /* These are status messages that may be shown to the user */
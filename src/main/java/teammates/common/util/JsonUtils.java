@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
@@ -11,11 +13,18 @@ import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -25,24 +34,29 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
  */
 public final class JsonUtils {
 
+    /**
+     * Gson is thread-safe, so a single instance is shared by all callers.
+     */
+    private static final Gson GSON = getTeammatesGsonBuilder().create();
+
+    private static final Gson PRETTY_PRINTING_GSON = getTeammatesGsonBuilder().setPrettyPrinting().create();
+
     private JsonUtils() {
         // utility class
     }
 
     /**
-     * This creates a Gson object that can handle the Date format we use in the
-     * Json file and also reformat the Json string in pretty-print format.
+     * This creates a Gson builder that can handle the Date format we use in the Json file.
      */
-    private static Gson getTeammatesGson() {
+    private static GsonBuilder getTeammatesGsonBuilder() {
         return new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
                 .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
                 .registerTypeAdapter(FeedbackQuestionDetails.class, new TeammatesFeedbackQuestionDetailsAdapter())
                 .registerTypeAdapter(FeedbackResponseDetails.class, new TeammatesFeedbackResponseDetailsAdapter())
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create();
+                .registerTypeAdapterFactory(new TeammatesFeedbackResponseAttributesAdapterFactory())
+                .disableHtmlEscaping();
     }
 
     /**
@@ -51,7 +65,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -60,7 +74,69 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return GSON.toJson(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON representation, writing it directly to
+     * {@code writer} instead of building the whole JSON string in memory.
+     *
+     * <p>The writer is flushed but not closed.
+     *
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toJson(Object src, Writer writer) {
+        try {
+            JsonWriter jsonWriter = GSON.newJsonWriter(writer);
+            GSON.toJson(src, src.getClass(), jsonWriter);
+            jsonWriter.flush();
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON representation, writing it to {@code writer}
+     * as the next value of the JSON document being written.
+     *
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toJson(Object src, JsonWriter writer) {
+        GSON.toJson(src, src.getClass(), writer);
+    }
+
+    /**
+     * Creates a {@link JsonWriter} writing to {@code writer} with the same settings as the other methods,
+     * for JSON documents which are written piece by piece.
+     *
+     * @see Gson#newJsonWriter(Writer)
+     */
+    public static JsonWriter newJsonWriter(Writer writer) {
+        try {
+            return GSON.newJsonWriter(writer);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Serializes the specified object into its equivalent representation as a tree of {@link JsonElement}s.
+     *
+     * @see Gson#toJsonTree(Object)
+     */
+    public static JsonElement toJsonTree(Object src) {
+        return GSON.toJsonTree(src);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON string in pretty-print format.
+     *
+     * <p>This is meant for debugging and human-readable output only; use {@link #toJson(Object)} otherwise.
+     *
+     * @see Gson#toJson(Object)
+     */
+    public static String toPrettyJson(Object src) {
+        return PRETTY_PRINTING_GSON.toJson(src);
     }
 
     /**
@@ -69,7 +145,7 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getTeammatesGson().fromJson(json, typeOfT);
+        return GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -85,16 +161,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+            return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
         public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+            return Instant.parse(element.getAsString());
         }
     }
 
@@ -102,16 +174,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+            return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
         public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+            return ZoneId.of(element.getAsString());
         }
     }
 
@@ -119,16 +187,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+            return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
         public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+            return Duration.ofMinutes(element.getAsLong());
         }
     }
 
@@ -164,4 +228,33 @@ public final class JsonUtils {
             return context.deserialize(json, questionType.getQuestionDetailsClass());
         }
     }
+
+    /**
+     * Makes sure that the lazily deserialized response details of {@link FeedbackResponseAttributes}
+     * are available before the attributes are serialized.
+     */
+    private static class TeammatesFeedbackResponseAttributesAdapterFactory implements TypeAdapterFactory {
+
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (!FeedbackResponseAttributes.class.isAssignableFrom(type.getRawType())) {
+                return null;
+            }
+            TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+            return new TypeAdapter<T>() {
+                @Override
+                public void write(JsonWriter out, T value) throws IOException {
+                    if (value != null) {
+                        ((FeedbackResponseAttributes) value).getReadOnlyResponseDetails();
+                    }
+                    delegate.write(out, value);
+                }
+
+                @Override
+                public T read(JsonReader in) throws IOException {
+                    return delegate.read(in);
+                }
+            };
+        }
+    }
 }
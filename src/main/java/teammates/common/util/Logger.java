@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.util.function.Supplier;
+
 /**
  * Allows any component of the application to log messages at appropriate levels.
  */
@@ -25,6 +27,15 @@ public final class Logger {
         log.fine(msg);
     }
 
+    /**
+     * Logs a message at FINE level, constructing the message only if FINE level is enabled.
+     *
+     * @see java.util.logging.Logger#fine(Supplier)
+     */
+    public void fine(Supplier<String> msgSupplier) {
+        log.fine(msgSupplier);
+    }
+
     /**
      * Logs a message at INFO level.
      *
@@ -2,14 +2,18 @@ package teammates.logic.api;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.google.appengine.api.log.AppLogLine;
 
+import teammates.common.datatransfer.SessionCompletionMatrix;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -17,6 +21,7 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.AppUrl;
+import teammates.common.util.CompiledTemplate;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
@@ -35,6 +40,9 @@ import teammates.logic.core.StudentsLogic;
 /**
  * Handles operations related to generating emails to be sent from provided templates.
  *
+ * <p>The lists of feedback session emails to the users of a course are generated lazily,
+ * i.e. each email in such a list is generated anew whenever it is accessed.
+ *
  * @see EmailTemplates
  * @see EmailType
  * @see EmailWrapper
@@ -55,6 +63,13 @@ public class EmailGenerator {
             "<p>No action is required if you have already submitted.</p>" + System.lineSeparator();
 
     private static final Logger log = Logger.getLogger();
+
+    private static final CompiledTemplate USER_FEEDBACK_SESSION_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION);
+    private static final CompiledTemplate USER_FEEDBACK_SESSION_PUBLISHED_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED);
+    private static final CompiledTemplate USER_FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED);
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
@@ -67,7 +82,8 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+        CompiledTemplate template =
+                USER_FEEDBACK_SESSION_TEMPLATE.partiallyPopulate("${status}", FEEDBACK_STATUS_SESSION_OPENING);
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
@@ -78,12 +94,8 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<>();
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
+                                                 EmailType.FEEDBACK_OPENING.getSubject());
     }
 
     /**
@@ -95,19 +107,21 @@ public class EmailGenerator {
             List<InstructorAttributes> instructorsToRemind, InstructorAttributes instructorToNotify) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        CompiledTemplate template =
+                USER_FEEDBACK_SESSION_TEMPLATE.partiallyPopulate("${status}", FEEDBACK_STATUS_SESSION_OPEN);
         String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
         List<InstructorAttributes> instructorToNotifyAsList = new ArrayList<>();
         instructorToNotifyAsList.add(instructorToNotify);
 
-        List<EmailWrapper> emails =
+        List<EmailWrapper> instructorReminderEmails =
                 generateFeedbackSessionEmailBasesForInstructorReminders(course, session, instructorsToRemind, template,
                         EmailType.FEEDBACK_SESSION_REMINDER.getSubject(), additionalContactInformation);
-        emails.addAll(generateFeedbackSessionEmailBases(course, session, students, instructorToNotifyAsList, template,
-                                                        EmailType.FEEDBACK_SESSION_REMINDER.getSubject(),
-                                                        FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation));
+        List<EmailWrapper> emails =
+                generateFeedbackSessionEmailBases(course, session, students, instructorToNotifyAsList, template,
+                        EmailType.FEEDBACK_SESSION_REMINDER.getSubject(), FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW,
+                        additionalContactInformation);
 
-        return emails;
+        return concatenate(instructorReminderEmails, emails);
     }
 
     /**
@@ -117,12 +131,13 @@ public class EmailGenerator {
             FeedbackSessionAttributes session, StudentAttributes student) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        CompiledTemplate template =
+                USER_FEEDBACK_SESSION_TEMPLATE.partiallyPopulate("${status}", FEEDBACK_STATUS_SESSION_OPEN);
         String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
 
-        return generateFeedbackSessionEmailBaseForStudents(course, session, student, template,
-                EmailType.FEEDBACK_SESSION_REMINDER.getSubject(),
-                FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
+        return generateFeedbackSessionEmailBases(course, session, Collections.singletonList(student),
+                Collections.emptyList(), template, EmailType.FEEDBACK_SESSION_REMINDER.getSubject(),
+                FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation).get(0);
     }
 
     /**
@@ -269,14 +284,28 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBasesForInstructorReminders(
             CourseAttributes course, FeedbackSessionAttributes session, List<InstructorAttributes> instructors,
-            String template, String subject, String additionalContactInformation) {
+            CompiledTemplate template, String subject, String additionalContactInformation) {
 
-        List<EmailWrapper> emails = new ArrayList<>();
-        for (InstructorAttributes instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructorReminders(course, session, instructor,
-                    template, subject, additionalContactInformation));
-        }
-        return emails;
+        String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.INSTRUCTOR_SESSION_SUBMISSION_PAGE)
+                .withCourseId(course.getId())
+                .withSessionName(session.getFeedbackSessionName())
+                .toAbsoluteString();
+
+        String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.INSTRUCTOR_SESSION_RESULTS_PAGE)
+                .withCourseId(course.getId())
+                .withSessionName(session.getFeedbackSessionName())
+                .toAbsoluteString();
+
+        CompiledTemplate instructorTemplate = populateSessionFragments(course, session, template,
+                FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation)
+                .partiallyPopulate(
+                        "${instructorFragment}", "",
+                        "${submitUrl}", submitUrl,
+                        "${reportUrl}", reportUrl);
+        String emailSubject = String.format(subject, course.getName(), session.getFeedbackSessionName());
+
+        return generateLazily(instructors,
+                instructor -> generateFeedbackSessionEmailBaseForInstructors(instructor, instructorTemplate, emailSubject));
     }
 
     private EmailWrapper generateSubmissionConfirmationEmail(
@@ -415,40 +444,6 @@ public class EmailGenerator {
         return email;
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForInstructorReminders(
-            CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String additionalContactInformation) {
-
-        String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.INSTRUCTOR_SESSION_SUBMISSION_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getFeedbackSessionName())
-                .toAbsoluteString();
-
-        String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.INSTRUCTOR_SESSION_RESULTS_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getFeedbackSessionName())
-                .toAbsoluteString();
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(session.getEndTime(), session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
-                "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW,
-                "${additionalContactInformation}", additionalContactInformation);
-
-        EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
-        email.setContent(emailBody);
-        return email;
-    }
-
     /**
      * Generates the feedback session closing emails for the given {@code session}.
      */
@@ -459,24 +454,17 @@ public class EmailGenerator {
 
         if (isEmailNeeded) {
             List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
+            SessionCompletionMatrix completionMatrix = fsLogic.computeCompletionMatrix(session);
 
             for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
-                        students.add(student);
-                    }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
+                if (!completionMatrix.isCompletedByStudent(student.email)) {
+                    students.add(student);
                 }
             }
         }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
+        CompiledTemplate template =
+                USER_FEEDBACK_SESSION_TEMPLATE.partiallyPopulate("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         List<InstructorAttributes> instructors = isEmailNeeded
                                                  ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
@@ -507,7 +495,8 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<>();
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
+        CompiledTemplate template =
+                USER_FEEDBACK_SESSION_TEMPLATE.partiallyPopulate("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
                 EmailType.FEEDBACK_CLOSED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
@@ -535,7 +524,7 @@ public class EmailGenerator {
     public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSessionAttributes session,
             List<StudentAttributes> students, List<InstructorAttributes> instructors) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+        CompiledTemplate template = USER_FEEDBACK_SESSION_PUBLISHED_TEMPLATE;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
 
@@ -549,7 +538,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionUnpublishedEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+        CompiledTemplate template = USER_FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
@@ -566,7 +555,7 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject) {
+            List<InstructorAttributes> instructors, CompiledTemplate template, String subject) {
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template, subject,
                 FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
@@ -574,55 +563,74 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject, String feedbackAction,
+            List<InstructorAttributes> instructors, CompiledTemplate template, String subject, String feedbackAction,
             String additionalContactInformation) {
 
-        List<EmailWrapper> emails = new ArrayList<>();
-        for (StudentAttributes student : students) {
-            emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, subject, feedbackAction, additionalContactInformation));
-        }
-        for (InstructorAttributes instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, subject, feedbackAction, additionalContactInformation));
-        }
-        return emails;
-    }
+        // the parts of the emails which are the same for all recipients are only populated once
+        CompiledTemplate sessionTemplate =
+                populateSessionFragments(course, session, template, feedbackAction, additionalContactInformation);
+        String emailSubject = String.format(subject, course.getName(), session.getFeedbackSessionName());
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            String subject, String feedbackAction, String additionalContactInformation) {
-
-        String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
+        String sessionSubmitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
-                .withRegistrationKey(StringHelper.encrypt(student.key))
-                .withStudentEmail(student.email)
                 .toAbsoluteString();
-
-        String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
+        String sessionReportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
-                .withRegistrationKey(StringHelper.encrypt(student.key))
-                .withStudentEmail(student.email)
                 .toAbsoluteString();
+        CompiledTemplate studentTemplate = sessionTemplate.partiallyPopulate("${instructorFragment}", "");
 
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
+        CompiledTemplate instructorTemplate = sessionTemplate.partiallyPopulate(
+                "${instructorFragment}", generateInstructorPreamble(course.getId(), course.getName()),
+                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
+                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}");
+
+        return concatenate(
+                generateLazily(students, student -> generateFeedbackSessionEmailBaseForStudents(
+                        student, studentTemplate, emailSubject, sessionSubmitUrl, sessionReportUrl)),
+                generateLazily(instructors, instructor -> generateFeedbackSessionEmailBaseForInstructors(
+                        instructor, instructorTemplate, emailSubject)));
+    }
+
+    /**
+     * Populates the parts of a feedback session email which are the same for all recipients.
+     */
+    private CompiledTemplate populateSessionFragments(CourseAttributes course, FeedbackSessionAttributes session,
+            CompiledTemplate template, String feedbackAction, String additionalContactInformation) {
+        return template.partiallyPopulate(
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
                 "${deadline}", SanitizationHelper.sanitizeForHtml(
                         TimeHelper.formatInstant(session.getEndTime(), session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
-                "${instructorFragment}", "",
                 "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
                 "${feedbackAction}", feedbackAction,
                 "${additionalContactInformation}", additionalContactInformation);
+    }
+
+    private EmailWrapper generateFeedbackSessionEmailBaseForStudents(StudentAttributes student,
+            CompiledTemplate template, String subject, String sessionSubmitUrl, String sessionReportUrl) {
+
+        String encryptedKey = StringHelper.encrypt(student.key);
+
+        String submitUrl = new AppUrl(sessionSubmitUrl)
+                .withRegistrationKey(encryptedKey)
+                .withStudentEmail(student.email)
+                .toAbsoluteString();
+
+        String reportUrl = new AppUrl(sessionReportUrl)
+                .withRegistrationKey(encryptedKey)
+                .withStudentEmail(student.email)
+                .toAbsoluteString();
+
+        String emailBody = template.populate(
+                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
+                "${submitUrl}", submitUrl,
+                "${reportUrl}", reportUrl);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
+        email.setSubject(subject);
         email.setContent(emailBody);
         return email;
     }
@@ -642,32 +650,49 @@ public class EmailGenerator {
             + "=== Email message as seen by the students ===</p>" + System.lineSeparator();
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
-            CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String feedbackAction, String additionalContactInformation) {
+    private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(InstructorAttributes instructor,
+            CompiledTemplate template, String subject) {
 
-        String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(session.getEndTime(), session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
-                "${instructorFragment}", instructorFragment,
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+        String emailBody = template.populate("${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
-        email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
+        email.setSubject(subject);
         email.setContent(emailBody);
         return email;
     }
 
+    /**
+     * Returns the emails to the given recipients, each of which is only generated when it is accessed,
+     * so that the emails to all recipients (e.g. all students of a large course) are not held in memory at once.
+     */
+    private static <T> List<EmailWrapper> generateLazily(List<T> recipients, Function<T, EmailWrapper> emailGenerator) {
+        return new AbstractList<EmailWrapper>() {
+            @Override
+            public EmailWrapper get(int index) {
+                return emailGenerator.apply(recipients.get(index));
+            }
+
+            @Override
+            public int size() {
+                return recipients.size();
+            }
+        };
+    }
+
+    private static List<EmailWrapper> concatenate(List<EmailWrapper> first, List<EmailWrapper> second) {
+        return new AbstractList<EmailWrapper>() {
+            @Override
+            public EmailWrapper get(int index) {
+                return index < first.size() ? first.get(index) : second.get(index - first.size());
+            }
+
+            @Override
+            public int size() {
+                return first.size() + second.size();
+            }
+        };
+    }
+
     private boolean isYetToJoinCourse(StudentAttributes student) {
         return student.googleId == null || student.googleId.isEmpty();
     }
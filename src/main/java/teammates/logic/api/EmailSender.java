@@ -1,6 +1,7 @@
 package teammates.logic.api;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 
 import javax.mail.MessagingException;
@@ -12,11 +13,13 @@ import teammates.common.util.Config;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
+import teammates.logic.core.EmailSchedulingLogic;
 import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
+import teammates.logic.core.StubEmailService;
 
 /**
  * Handles operations related to sending emails.
@@ -25,6 +28,8 @@ public class EmailSender {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final EmailSchedulingLogic emailSchedulingLogic = EmailSchedulingLogic.inst();
+
     private final EmailSenderService service;
 
     public EmailSender() {
@@ -34,13 +39,16 @@ public class EmailSender {
             service = new MailgunService();
         } else if (Config.isUsingMailjet()) {
             service = new MailjetService();
+        } else if (Config.isUsingStubEmailService()) {
+            service = new StubEmailService();
         } else {
             service = new JavamailService();
         }
     }
 
     /**
-     * Sends the given {@code message} and generates a log report.
+     * Sends the given {@code message} immediately, ahead of the emails scheduled to be sent in bulk,
+     * and generates a log report.
      *
      * @return The HTTP status of the email request.
      */
@@ -51,6 +59,37 @@ public class EmailSender {
         } catch (Exception e) {
             status = new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage());
         }
+        logEmailSendingStatus(message, status);
+        if (status.isSuccess()) {
+            // only emails which have been sent take up the sending time of the emails scheduled in bulk
+            emailSchedulingLogic.recordImmediateEmails(1);
+            emailSchedulingLogic.recordEmailsSent(1);
+        }
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages}, which have been scheduled to be sent in bulk, together,
+     * in as few requests to the email service as possible, and generates a log report for each of them.
+     *
+     * @return The status of sending each of the messages, in the same order as the messages.
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> messages) {
+        List<EmailSendingStatus> statuses;
+        try {
+            statuses = service.sendEmails(messages);
+        } catch (Exception e) {
+            statuses = Collections.nCopies(messages.size(),
+                    new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage()));
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            logEmailSendingStatus(messages.get(i), statuses.get(i));
+        }
+        emailSchedulingLogic.recordEmailsSent((int) statuses.stream().filter(EmailSendingStatus::isSuccess).count());
+        return statuses;
+    }
+
+    private void logEmailSendingStatus(EmailWrapper message, EmailSendingStatus status) {
         if (!status.isSuccess()) {
             log.severe("Email failed to send: " + status.getMessage());
         }
@@ -59,7 +98,6 @@ public class EmailSender {
                 message.getRecipient(), message.getSubject(), message.getContent(),
                 status.getMessage() == null ? "" : status.getMessage());
         log.info(emailLogInfo);
-        return status;
     }
 
     /**
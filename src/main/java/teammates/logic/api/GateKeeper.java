@@ -44,20 +44,12 @@ public class GateKeeper {
             return null;
         }
 
-        UserInfo userInfo = new UserInfo(user);
+        UserInfo userInfo = accountsLogic.getUserInfo(user.getNickname());
 
         if (isAdministrator()) {
             userInfo.isAdmin = true;
         }
 
-        if (isInstructor()) {
-            userInfo.isInstructor = true;
-        }
-
-        if (isStudent()) {
-            userInfo.isStudent = true;
-        }
-
         return userInfo;
     }
 
@@ -67,10 +59,8 @@ public class GateKeeper {
      * <p>Note that this assumes that the privilege to masquerade as another user is present.
      */
     public UserInfo getMasqueradeUser(String googleId) {
-        UserInfo userInfo = new UserInfo(googleId);
+        UserInfo userInfo = accountsLogic.getUserInfo(googleId);
         userInfo.isAdmin = false;
-        userInfo.isInstructor = accountsLogic.isAccountAnInstructor(googleId);
-        userInfo.isStudent = studentsLogic.isStudentInAnyCourse(googleId);
         return userInfo;
     }
 
@@ -345,19 +335,6 @@ public class GateKeeper {
         return userService.isUserAdmin();
     }
 
-    private boolean isInstructor() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-        return accountsLogic.isAccountAnInstructor(user.getNickname());
-    }
-
-    private boolean isStudent() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-
-        return studentsLogic.isStudentInAnyCourse(user.getNickname());
-    }
-
     /**
      * Verifies that the action is accessible when the user is either an instructor of the course, a student of the course
      * or his/her team member, or an admin.
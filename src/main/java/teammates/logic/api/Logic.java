@@ -1,18 +1,25 @@
 package teammates.logic.api;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.EmailSchedulingStats;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
+import teammates.common.datatransfer.SessionCompletionMatrix;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.SessionResultsPage;
+import teammates.common.datatransfer.StudentEnrollmentChange;
 import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.StudentsEnrollmentResult;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -23,6 +30,7 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
 import teammates.common.exception.EnrollException;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -30,14 +38,20 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.RegenerateStudentException;
 import teammates.common.util.Assumption;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.CourseRostersLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.DataBundleLogic;
+import teammates.logic.core.EmailSchedulingLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.QuestionStatsLogic;
+import teammates.logic.core.SearchIndexingLogic;
+import teammates.logic.core.SessionRespondentsLogic;
+import teammates.logic.core.SessionStatsLogic;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -58,6 +72,12 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
     protected static final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
+    protected static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
+    protected static final SessionRespondentsLogic sessionRespondentsLogic = SessionRespondentsLogic.inst();
+    protected static final SessionStatsLogic sessionStatsLogic = SessionStatsLogic.inst();
+    protected static final QuestionStatsLogic questionStatsLogic = QuestionStatsLogic.inst();
+    protected static final SearchIndexingLogic searchIndexingLogic = SearchIndexingLogic.inst();
+    protected static final EmailSchedulingLogic emailSchedulingLogic = EmailSchedulingLogic.inst();
 
     /**
      * Preconditions: <br>
@@ -581,6 +601,19 @@ public class Logic {
         return studentsLogic.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets the roster (i.e. all students and instructors) of a course.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see CourseRostersLogic#getCourseRoster(String)
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        Assumption.assertNotNull(courseId);
+        return courseRostersLogic.getCourseRoster(courseId);
+    }
+
     /**
      * Returns a list of section names for the course with ID courseId.
      *
@@ -697,6 +730,39 @@ public class Logic {
         return studentsLogic.updateStudentCascade(updateOptions);
     }
 
+    /**
+     * Enrolls a list of students into a course in bulk.
+     *
+     * <p>Changes of team or section of existing students are NOT cascaded to their responses;
+     * use {@link #updateFeedbackResponsesForEnrollmentChanges(String, List)} for that.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#enrollStudents(List, String)
+     */
+    public StudentsEnrollmentResult enrollStudents(List<StudentAttributes> studentsToEnroll, String courseId) {
+        Assumption.assertNotNull(studentsToEnroll);
+        Assumption.assertNotNull(courseId);
+
+        return studentsLogic.enrollStudents(studentsToEnroll, courseId);
+    }
+
+    /**
+     * Cascades the changes of team and section made by an enrollment to the responses of the students.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#updateFeedbackResponsesForEnrollmentChanges(String, List)
+     */
+    public void updateFeedbackResponsesForEnrollmentChanges(String courseId, List<StudentEnrollmentChange> changes) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(changes);
+
+        studentsLogic.updateFeedbackResponsesForEnrollmentChanges(courseId, changes);
+    }
+
     /**
      * Make the student join the course, i.e. associate the Google ID to the student.<br>
      * Create an account for the student if there is no account exist for him.
@@ -732,6 +798,19 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Computes, for every giver of a feedback session, the questions the giver has not fully answered.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackSessionsLogic#computeCompletionMatrix(FeedbackSessionAttributes)
+     */
+    public SessionCompletionMatrix computeCompletionMatrix(FeedbackSessionAttributes session) {
+        Assumption.assertNotNull(session);
+        return feedbackSessionsLogic.computeCompletionMatrix(session);
+    }
+
     /**
      * Deletes a student cascade its associated feedback responses and comments.
      *
@@ -871,6 +950,75 @@ public class Logic {
         return feedbackSessionsLogic.getActualTotalSubmission(fsa);
     }
 
+    /**
+     * Recomputes the precomputed submission statistics of a feedback session.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return true if the statistics previously stored were out of date
+     * @see SessionStatsLogic#reconcileSessionStats(FeedbackSessionAttributes)
+     */
+    public boolean reconcileSessionStats(FeedbackSessionAttributes fsa) {
+        Assumption.assertNotNull(fsa);
+        return sessionStatsLogic.reconcileSessionStats(fsa);
+    }
+
+    /**
+     * Gets the feedback sessions whose precomputed submission statistics have been computed or invalidated
+     * since the given time.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see SessionStatsLogic#getSessionsWithStatsUpdatedSince(Instant)
+     */
+    public List<FeedbackSessionAttributes> getSessionsWithStatsUpdatedSince(Instant time) {
+        Assumption.assertNotNull(time);
+        return sessionStatsLogic.getSessionsWithStatsUpdatedSince(time);
+    }
+
+    /**
+     * Gets the running tally of the responses to a feedback question, from which its statistics are computed.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see QuestionStatsLogic#getResponsesTally(FeedbackQuestionAttributes)
+     */
+    public FeedbackResponsesTally getResponsesTally(FeedbackQuestionAttributes question) {
+        Assumption.assertNotNull(question);
+        return questionStatsLogic.getResponsesTally(question);
+    }
+
+    /**
+     * Recomputes the tallies of the responses to the questions of a feedback session to repair any drift.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the number of tallies which have drifted
+     * @see QuestionStatsLogic#reconcileResponsesTallies(FeedbackSessionAttributes)
+     */
+    public int reconcileResponsesTallies(FeedbackSessionAttributes fsa) {
+        Assumption.assertNotNull(fsa);
+        return questionStatsLogic.reconcileResponsesTallies(fsa);
+    }
+
+    /**
+     * Applies the changes made by a number of responses to the tally of the responses to their question.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see QuestionStatsLogic#applyResponsesTallyChanges(String, FeedbackResponsesTally)
+     */
+    public void applyResponsesTallyChanges(String feedbackQuestionId, FeedbackResponsesTally changes) {
+        Assumption.assertNotNull(feedbackQuestionId);
+        Assumption.assertNotNull(changes);
+        questionStatsLogic.applyResponsesTallyChanges(feedbackQuestionId, changes);
+    }
+
     /**
      * Gets a list of feedback sessions for instructors.
      */
@@ -1026,6 +1174,30 @@ public class Logic {
         feedbackSessionsLogic.deleteStudentFromRespondentList(email, feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the emails of the students who have responded to
+     * session {@code feedbackSessionName} of course {@code courseId}.
+     */
+    public Set<String> getStudentRespondents(String feedbackSessionName, String courseId) {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return sessionRespondentsLogic.getStudentRespondents(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Gets the emails of the instructors who have responded to
+     * session {@code feedbackSessionName} of course {@code courseId}.
+     */
+    public Set<String> getInstructorRespondents(String feedbackSessionName, String courseId) {
+
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+
+        return sessionRespondentsLogic.getInstructorRespondents(feedbackSessionName, courseId);
+    }
+
     /**
      * Publishes a feedback session.
      *
@@ -1206,6 +1378,45 @@ public class Logic {
                 feedbackSessionName, courseId, userEmail, role, questionId, section);
     }
 
+    /**
+     * Gets the session result for a feedback session, without working out the missing responses
+     * if {@code isMissingResponsesIncluded} is false.
+     *
+     * @see FeedbackSessionsLogic#getSessionResultsForUser(String, String, String, UserRole, String, String, boolean)
+     */
+    public SessionResultsBundle getSessionResultsForUser(
+            String feedbackSessionName, String courseId, String userEmail, UserRole role,
+            @Nullable String questionId, @Nullable String section, boolean isMissingResponsesIncluded) {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(userEmail);
+        Assumption.assertNotNull(role);
+
+        return feedbackSessionsLogic.getSessionResultsForUser(
+                feedbackSessionName, courseId, userEmail, role, questionId, section, isMissingResponsesIncluded);
+    }
+
+    /**
+     * Gets a page of the session result for an instructor.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters except {@code questionId}, {@code section} and {@code cursor} are non-null.
+     *
+     * @throws InvalidParametersException if the cursor is not valid for the session
+     * @see FeedbackSessionsLogic#getSessionResultsPageForInstructor(String, String, String, String, String, String, int)
+     */
+    public SessionResultsPage getSessionResultsPageForInstructor(
+            String feedbackSessionName, String courseId, String instructorEmail,
+            @Nullable String questionId, @Nullable String section, @Nullable String cursor, int pageSize)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(instructorEmail);
+
+        return feedbackSessionsLogic.getSessionResultsPageForInstructor(
+                feedbackSessionName, courseId, instructorEmail, questionId, section, cursor, pageSize);
+    }
+
     /**
      * Get existing feedback responses from student or his team for the given question.
      */
@@ -1448,10 +1659,77 @@ public class Logic {
         dataBundleLogic.putDocuments(dataBundle);
     }
 
+    /**
+     * Creates or updates the documents in the search index for the entities with the given IDs.
+     *
+     * @see SearchIndexingLogic#putDocumentsForIds(String, Collection)
+     */
+    public void putDocumentsForIds(String indexName, Collection<String> entityIds) {
+        Assumption.assertNotNull(indexName);
+        Assumption.assertNotNull(entityIds);
+
+        searchIndexingLogic.putDocumentsForIds(indexName, entityIds);
+    }
+
     public int getNumOfGeneratedChoicesForParticipantType(String courseId, FeedbackParticipantType generateOptionsFor) {
         Assumption.assertNotNull(courseId);
         Assumption.assertNotNull(generateOptionsFor);
         return feedbackQuestionsLogic.getNumOfGeneratedChoicesForParticipantType(courseId, generateOptionsFor);
     }
 
+    /**
+     * Starts caching course rosters, and deferring search indexing and changes to the tallies of responses,
+     * for the request served by the current thread.
+     *
+     * @see CourseRostersLogic#startRequestScope()
+     * @see SearchIndexingLogic#startDeferring()
+     * @see QuestionStatsLogic#startDeferring()
+     */
+    public void startRequestScope() {
+        courseRostersLogic.startRequestScope();
+        searchIndexingLogic.startDeferring();
+        questionStatsLogic.startDeferring();
+    }
+
+    /**
+     * Stops deferring search indexing for the request served by the current thread.
+     *
+     * @return the IDs of the entities whose search documents are yet to be indexed, by the name of the search index
+     * @see SearchIndexingLogic#stopDeferring()
+     */
+    public Map<String, List<String>> stopDeferringSearchIndexing() {
+        return searchIndexingLogic.stopDeferring();
+    }
+
+    /**
+     * Stops deferring changes to the tallies of responses for the request served by the current thread.
+     *
+     * @return the changes yet to be applied, by the ID of the question whose tally they are to be applied to
+     * @see QuestionStatsLogic#stopDeferring()
+     */
+    public Map<String, FeedbackResponsesTally> stopDeferringResponsesTallyChanges() {
+        return questionStatsLogic.stopDeferring();
+    }
+
+    /**
+     * Discards all data cached, search indexing deferred and changes to the tallies of responses deferred
+     * for the request served by the current thread.
+     *
+     * @see CourseRostersLogic#endRequestScope()
+     */
+    public void endRequestScope() {
+        courseRostersLogic.endRequestScope();
+        searchIndexingLogic.stopDeferring();
+        questionStatsLogic.stopDeferring();
+    }
+
+    /**
+     * Gets the current backlog and send rate of the email service in use.
+     *
+     * @see EmailSchedulingLogic#getEmailSchedulingStats()
+     */
+    public EmailSchedulingStats getEmailSchedulingStats() {
+        return emailSchedulingLogic.getEmailSchedulingStats();
+    }
+
 }
@@ -1,17 +1,29 @@
 package teammates.logic.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.StudentEnrollmentChange;
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
+import teammates.logic.core.EmailSchedulingLogic;
 import teammates.logic.core.TaskQueuesLogic;
 import teammates.ui.request.FeedbackSessionRemindRequest;
+import teammates.ui.request.QuestionStatsUpdateRequest;
+import teammates.ui.request.SearchIndexingRequest;
+import teammates.ui.request.SendEmailBatchRequest;
 import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.StudentsEnrollmentCascadeRequest;
 
 /**
  * Allows for adding specific type of tasks to the task queue.
@@ -20,6 +32,8 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final EmailSchedulingLogic emailSchedulingLogic = EmailSchedulingLogic.inst();
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -180,6 +194,59 @@ public class TaskQueuer {
                 TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, paramMap, null);
     }
 
+    /**
+     * Schedules the changes of team and section made by an enrollment to be cascaded to the responses of the students.
+     *
+     * <p>All changes of a course are cascaded in a single task.
+     *
+     * @param courseId the course ID of the students
+     * @param changes the changes of team and section of the students
+     */
+    public void scheduleStudentsEnrollmentCascade(String courseId, List<StudentEnrollmentChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StudentsEnrollmentCascadeRequest cascadeRequest = new StudentsEnrollmentCascadeRequest(courseId, changes);
+
+        addTask(TaskQueue.STUDENTS_ENROLLMENT_CASCADE_QUEUE_NAME,
+                TaskQueue.STUDENTS_ENROLLMENT_CASCADE_WORKER_URL, new HashMap<>(), cascadeRequest);
+    }
+
+    /**
+     * Schedules the search documents of the specified entities to be created or updated in a search index.
+     *
+     * <p>The entities are split into tasks of up to {@link Const.SystemParams#MAX_ENTITIES_PER_SEARCH_INDEXING_TASK}
+     * entities, each of which puts all of its documents into the search engine at once.
+     *
+     * @param indexName the name of the search index
+     * @param entityIds the IDs of the entities whose documents are to be indexed
+     */
+    public void scheduleSearchIndexing(String indexName, List<String> entityIds) {
+        for (int i = 0; i < entityIds.size(); i += Const.SystemParams.MAX_ENTITIES_PER_SEARCH_INDEXING_TASK) {
+            List<String> batch = new ArrayList<>(entityIds.subList(i,
+                    Math.min(i + Const.SystemParams.MAX_ENTITIES_PER_SEARCH_INDEXING_TASK, entityIds.size())));
+            SearchIndexingRequest indexingRequest = new SearchIndexingRequest(indexName, batch);
+
+            addTask(TaskQueue.SEARCH_INDEXING_QUEUE_NAME,
+                    TaskQueue.SEARCH_INDEXING_WORKER_URL, new HashMap<>(), indexingRequest);
+        }
+    }
+
+    /**
+     * Schedules the changes made by a number of responses to be applied to the tally of the responses
+     * to their question.
+     *
+     * @param feedbackQuestionId the ID of the question
+     * @param tallyChanges the changes made to the tally by the responses
+     */
+    public void scheduleResponsesTallyChanges(String feedbackQuestionId, FeedbackResponsesTally tallyChanges) {
+        QuestionStatsUpdateRequest updateRequest = new QuestionStatsUpdateRequest(feedbackQuestionId, tallyChanges);
+
+        addTask(TaskQueue.QUESTION_STATS_UPDATE_QUEUE_NAME,
+                TaskQueue.QUESTION_STATS_UPDATE_WORKER_URL, new HashMap<>(), updateRequest);
+    }
+
     /**
      * Schedules adjustments to be done for the respondents of a feedback session.
      */
@@ -197,25 +264,88 @@ public class TaskQueuer {
     }
 
     /**
-     * Schedules for the given list of emails to be sent.
+     * Schedules for the given list of emails to be sent in bulk, after the emails already scheduled to be sent.
+     *
+     * <p>The emails are sent in batches of up to {@link Config#EMAIL_BATCH_SIZE} emails, one batch per task.
      *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
+        scheduleEmailsForSending(emails, Config.EMAIL_BATCH_SIZE);
+    }
+
+    /**
+     * Schedules for the given list of emails to be sent in bulk in batches of up to {@code batchSize} emails,
+     * each of which is sent by a single task.
+     *
+     * <p>The emails are scheduled to be sent within the rate limit of the email service, after the emails
+     * already scheduled to be sent; see {@link EmailSchedulingLogic}.
+     *
+     * <p>The batch size is capped at {@link Const.SystemParams#MAX_EMAILS_PER_SEND_EMAIL_BATCH_TASK}, and a batch
+     * is closed early once its serialized emails would exceed
+     * {@link Const.SystemParams#MAX_SEND_EMAIL_BATCH_TASK_PAYLOAD_BYTES}, so that every task fits within the
+     * size limit of the task queue. Each email is sent by its own task if the batch size is 1.
+     *
+     * @param emails the list of emails to be sent
+     */
+    public void scheduleEmailsForSending(List<EmailWrapper> emails, int batchSize) {
         if (emails.isEmpty()) {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
-        // Sets interval to a maximum of 5 seconds if the interval is too large
-        int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        // Each email is sent when it is due within the rate limit of the email service
+        long[] emailDelayTimers = emailSchedulingLogic.scheduleBulkEmails(emails.size());
+        int emailsPerTask = Math.max(1, Math.min(batchSize, Const.SystemParams.MAX_EMAILS_PER_SEND_EMAIL_BATCH_TASK));
 
         int numberOfEmailsSent = 0;
+        List<EmailWrapper> batch = new ArrayList<>();
+        int batchPayloadBytes = 0;
+        long batchDelayTimer = 0;
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = (long) numberOfEmailsSent * (long) emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
+            long emailDelayTimer = emailDelayTimers[numberOfEmailsSent];
             numberOfEmailsSent++;
+            if (emailsPerTask == 1) {
+                scheduleEmailForSending(email, emailDelayTimer);
+                continue;
+            }
+
+            // one extra byte for the separator between the emails in the batch
+            int emailPayloadBytes = JsonUtils.toJson(email).getBytes(StandardCharsets.UTF_8).length + 1;
+            if (!batch.isEmpty()
+                    && batchPayloadBytes + emailPayloadBytes > Const.SystemParams.MAX_SEND_EMAIL_BATCH_TASK_PAYLOAD_BYTES) {
+                scheduleEmailBatchForSending(batch, batchDelayTimer);
+                batch = new ArrayList<>();
+                batchPayloadBytes = 0;
+            }
+            if (batch.isEmpty()) {
+                // the batch is sent when its first email would have been sent on its own
+                batchDelayTimer = emailDelayTimer;
+            }
+            batch.add(email);
+            batchPayloadBytes += emailPayloadBytes;
+            if (batch.size() == emailsPerTask) {
+                scheduleEmailBatchForSending(batch, batchDelayTimer);
+                batch = new ArrayList<>();
+                batchPayloadBytes = 0;
+            }
+        }
+        if (!batch.isEmpty()) {
+            scheduleEmailBatchForSending(batch, batchDelayTimer);
+        }
+    }
+
+    private void scheduleEmailBatchForSending(List<EmailWrapper> emails, long emailDelayTimer) {
+        try {
+            SendEmailBatchRequest request = new SendEmailBatchRequest(emails);
+
+            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                            new HashMap<>(), request, emailDelayTimer);
+        } catch (Exception e) {
+            log.warning("Error when adding batch of " + emails.size() + " emails to task queue: " + e.getMessage()
+                        + "; scheduling the emails individually instead");
+            for (EmailWrapper email : emails) {
+                scheduleEmailForSending(email, emailDelayTimer);
+            }
         }
     }
 
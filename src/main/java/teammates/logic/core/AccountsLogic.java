@@ -2,6 +2,7 @@ package teammates.logic.core;
 
 import java.util.List;
 
+import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -13,6 +14,7 @@ import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.AccountsDb;
+import teammates.storage.api.UserRolesCache;
 
 /**
  * Handles operations related to accounts.
@@ -31,6 +33,8 @@ public final class AccountsLogic {
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
+    private final UserRolesCache userRolesCache = new UserRolesCache();
+
     private AccountsLogic() {
         // prevent initialization
     }
@@ -60,6 +64,28 @@ public final class AccountsLogic {
         return a != null && a.isInstructor;
     }
 
+    /**
+     * Gets the information of the user with the given Google ID, i.e. whether the user is an instructor
+     * and whether the user is a student. The user is never marked as an admin.
+     *
+     * <p>The roles of the user are cached for a short time (see {@link UserRolesCache}),
+     * so that they are not read again for every request of the user.
+     */
+    public UserInfo getUserInfo(String googleId) {
+        boolean[] roles = userRolesCache.getRoles(googleId);
+        if (roles == null) {
+            roles = new boolean[2];
+            roles[UserRolesCache.ROLE_INSTRUCTOR] = isAccountAnInstructor(googleId);
+            roles[UserRolesCache.ROLE_STUDENT] = studentsLogic.isStudentInAnyCourse(googleId);
+            userRolesCache.putRoles(googleId, roles);
+        }
+
+        UserInfo userInfo = new UserInfo(googleId);
+        userInfo.isInstructor = roles[UserRolesCache.ROLE_INSTRUCTOR];
+        userInfo.isStudent = roles[UserRolesCache.ROLE_STUDENT];
+        return userInfo;
+    }
+
     private String getCourseInstitute(String courseId) {
         CourseAttributes cd = coursesLogic.getCourse(courseId);
         Assumption.assertNotNull("Trying to getCourseInstitute for inexistent course with id " + courseId, cd);
@@ -0,0 +1,256 @@
+package teammates.logic.core;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.CourseRosterVersions;
+
+/**
+ * Handles operations related to course rosters.
+ *
+ * <p>Course rosters are cached at two levels:
+ * <ul>
+ * <li>For the duration of a single request. This cache is only active between {@link #startRequestScope()}
+ * and {@link #endRequestScope()}, which are invoked on the thread serving the request.</li>
+ * <li>Across requests, in memory shared by all requests served by the instance. Each cached roster is tagged
+ * with the version of the roster it was loaded at (see {@link CourseRosterVersions}) and is only reused
+ * while the version is unchanged. A roster loaded shortly after a change to it is not cached, as the queries
+ * loading it may not reflect the change yet. The cache is bounded by the total number of participants cached,
+ * evicting the least recently used rosters first.</li>
+ * </ul>
+ *
+ * <p>Any write to students or instructors of a course invalidates the cached roster of that course.
+ * Callers always receive their own copy of a roster cached across requests.
+ */
+public final class CourseRostersLogic {
+
+    private static CourseRostersLogic instance = new CourseRostersLogic();
+
+    private static final ThreadLocal<Map<String, CourseRoster>> REQUEST_SCOPED_ROSTERS = new ThreadLocal<>();
+
+    private final CourseRosterVersions courseRosterVersions = new CourseRosterVersions();
+
+    // access-ordered, so that iteration starts from the least recently used roster
+    private final Map<String, VersionedCourseRoster> sharedRosters = new LinkedHashMap<>(16, 0.75f, true);
+    private int numberOfCachedParticipants;
+    private int maxNumberOfCachedParticipants = Const.SystemParams.MAX_CACHED_COURSE_ROSTER_PARTICIPANTS;
+    private long millisNotCachedAfterChange = Const.SystemParams.MILLIS_COURSE_ROSTER_NOT_CACHED_AFTER_CHANGE;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private CourseRostersLogic() {
+        // prevent initialization
+    }
+
+    public static CourseRostersLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Starts caching course rosters for the request served by the current thread.
+     */
+    public void startRequestScope() {
+        REQUEST_SCOPED_ROSTERS.set(new HashMap<>());
+    }
+
+    /**
+     * Stops caching course rosters for the request served by the current thread and discards all cached rosters.
+     */
+    public void endRequestScope() {
+        REQUEST_SCOPED_ROSTERS.remove();
+    }
+
+    /**
+     * Gets the roster of a course, reusing the roster already loaded in the current request if any.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        Map<String, CourseRoster> rosters = REQUEST_SCOPED_ROSTERS.get();
+        if (rosters == null) {
+            return getSharedCourseRoster(courseId);
+        }
+        return rosters.computeIfAbsent(courseId, this::getSharedCourseRoster);
+    }
+
+    /**
+     * Gets the current version of the roster of a course, which changes after every write to
+     * the students or instructors of the course.
+     *
+     * @return the version, or null if it cannot be determined
+     */
+    public Long getCourseRosterVersion(String courseId) {
+        return courseRosterVersions.getVersion(courseId);
+    }
+
+    /**
+     * Gets the number of times a roster cached across requests is reused.
+     */
+    public long getCacheHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of times a roster has to be loaded from the datastore
+     * because no valid roster is cached across requests.
+     */
+    public long getCacheMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of rosters evicted from the cache across requests to keep it within its size limit.
+     */
+    public long getCacheEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Gets the total number of students and instructors in the rosters currently cached across requests.
+     */
+    public int getNumberOfCachedParticipants() {
+        synchronized (sharedRosters) {
+            return numberOfCachedParticipants;
+        }
+    }
+
+    /**
+     * Sets the maximum total number of students and instructors in the rosters cached across requests.
+     */
+    void setMaxNumberOfCachedParticipants(int maxNumberOfCachedParticipants) {
+        synchronized (sharedRosters) {
+            this.maxNumberOfCachedParticipants = maxNumberOfCachedParticipants;
+            evictLeastRecentlyUsedRosters();
+        }
+    }
+
+    /**
+     * Sets the time after a change to a roster during which a newly loaded copy of the roster is not cached.
+     */
+    void setMillisNotCachedAfterChange(long millisNotCachedAfterChange) {
+        this.millisNotCachedAfterChange = millisNotCachedAfterChange;
+    }
+
+    /**
+     * Invalidates the cached roster of a course.
+     */
+    void invalidate(String courseId) {
+        Map<String, CourseRoster> rosters = REQUEST_SCOPED_ROSTERS.get();
+        if (rosters != null) {
+            rosters.remove(courseId);
+        }
+        synchronized (sharedRosters) {
+            removeSharedRoster(courseId);
+        }
+    }
+
+    /**
+     * Invalidates the cached rosters of all courses.
+     */
+    void invalidateAll() {
+        Map<String, CourseRoster> rosters = REQUEST_SCOPED_ROSTERS.get();
+        if (rosters != null) {
+            rosters.clear();
+        }
+        synchronized (sharedRosters) {
+            sharedRosters.clear();
+            numberOfCachedParticipants = 0;
+        }
+    }
+
+    private CourseRoster getSharedCourseRoster(String courseId) {
+        Long version = courseRosterVersions.getVersion(courseId);
+        if (version == null) {
+            // a cached roster cannot be validated without its version
+            missCount.incrementAndGet();
+            return loadCourseRoster(courseId);
+        }
+
+        VersionedCourseRoster cachedRoster;
+        synchronized (sharedRosters) {
+            cachedRoster = sharedRosters.get(courseId);
+        }
+        if (cachedRoster != null && cachedRoster.version == version) {
+            hitCount.incrementAndGet();
+            // cached rosters are never modified, so they can be copied outside of the lock
+            return copyOf(cachedRoster.roster);
+        }
+
+        missCount.incrementAndGet();
+        long loadStartTime = System.currentTimeMillis();
+        CourseRoster roster = loadCourseRoster(courseId);
+
+        // the roster may predate a change that was made during or shortly before the load
+        boolean isLoadedLongAfterChange =
+                loadStartTime - courseRosterVersions.getLastBumpTime(courseId) >= millisNotCachedAfterChange;
+        if (!isLoadedLongAfterChange || !version.equals(courseRosterVersions.getVersion(courseId))) {
+            return roster;
+        }
+
+        VersionedCourseRoster rosterToCache = new VersionedCourseRoster(version, copyOf(roster));
+
+        synchronized (sharedRosters) {
+            removeSharedRoster(courseId);
+            if (rosterToCache.numberOfParticipants <= maxNumberOfCachedParticipants) {
+                sharedRosters.put(courseId, rosterToCache);
+                numberOfCachedParticipants += rosterToCache.numberOfParticipants;
+                evictLeastRecentlyUsedRosters();
+            }
+        }
+
+        return roster;
+    }
+
+    private void removeSharedRoster(String courseId) {
+        VersionedCourseRoster removedRoster = sharedRosters.remove(courseId);
+        if (removedRoster != null) {
+            numberOfCachedParticipants -= removedRoster.numberOfParticipants;
+        }
+    }
+
+    private void evictLeastRecentlyUsedRosters() {
+        Iterator<VersionedCourseRoster> iterator = sharedRosters.values().iterator();
+        while (numberOfCachedParticipants > maxNumberOfCachedParticipants) {
+            numberOfCachedParticipants -= iterator.next().numberOfParticipants;
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private CourseRoster loadCourseRoster(String courseId) {
+        return new CourseRoster(
+                StudentsLogic.inst().getStudentsForCourse(courseId),
+                InstructorsLogic.inst().getInstructorsForCourse(courseId));
+    }
+
+    private static CourseRoster copyOf(CourseRoster roster) {
+        return new CourseRoster(
+                roster.getStudents().stream().map(StudentAttributes::getCopy).collect(Collectors.toList()),
+                roster.getInstructors().stream().map(InstructorAttributes::getCopy).collect(Collectors.toList()));
+    }
+
+    /**
+     * A course roster tagged with the version it was loaded at.
+     */
+    private static class VersionedCourseRoster {
+
+        private final long version;
+        private final CourseRoster roster;
+        private final int numberOfParticipants;
+
+        VersionedCourseRoster(long version, CourseRoster roster) {
+            this.version = version;
+            this.roster = roster;
+            this.numberOfParticipants = roster.getStudents().size() + roster.getInstructors().size();
+        }
+    }
+
+}
@@ -37,6 +37,9 @@ import teammates.storage.api.FeedbackResponsesDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.ProfilesDb;
+import teammates.storage.api.QuestionStatsDb;
+import teammates.storage.api.SessionRespondentsDb;
+import teammates.storage.api.SessionStatsDb;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -55,7 +58,11 @@ public final class DataBundleLogic {
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
     private static final FeedbackResponseCommentsDb fcDb = new FeedbackResponseCommentsDb();
+    private static final SessionRespondentsDb srDb = new SessionRespondentsDb();
+    private static final SessionStatsDb ssDb = new SessionStatsDb();
+    private static final QuestionStatsDb qsDb = new QuestionStatsDb();
 
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
 
     private static DataBundleLogic instance = new DataBundleLogic();
@@ -76,7 +83,7 @@ public final class DataBundleLogic {
      * if the corresponding accounts are not found in the data bundle.
      * For question ID injection in responses and comments to work properly, all questions
      * referenced by responses and comments must be included in the data bundle.
-     * For session respondent lists to be properly populated, all instructors, questions and responses
+     * For session respondents to be properly populated, all instructors, questions and responses
      * relevant to each session must be included in the data bundle.</p>
      *
      * @throws InvalidParametersException if invalid data is encountered.
@@ -99,7 +106,7 @@ public final class DataBundleLogic {
         // For ensuring only one account per Google ID is created
         Map<String, AccountAttributes> googleIdAccountMap = new HashMap<>();
 
-        // For updating the student and instructor respondent lists in sessions before they are persisted
+        // For persisting the student and instructor respondents of sessions
         SetMultimap<String, InstructorAttributes> courseInstructorsMap = HashMultimap.create();
         SetMultimap<String, FeedbackQuestionAttributes> sessionQuestionsMap = HashMultimap.create();
         SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap = HashMultimap.create();
@@ -109,7 +116,6 @@ public final class DataBundleLogic {
         processStudentsAndPopulateAccounts(students, googleIdAccountMap);
         processQuestionsAndPopulateMap(questions, sessionQuestionsMap);
         processResponsesAndPopulateMap(responses, sessionResponsesMap);
-        processSessionsAndUpdateRespondents(sessions, courseInstructorsMap, sessionQuestionsMap, sessionResponsesMap);
 
         List<AccountAttributes> newAccounts = accountsDb.putEntities(googleIdAccountMap.values());
 
@@ -117,12 +123,18 @@ public final class DataBundleLogic {
         List<CourseAttributes> newCourses = coursesDb.putEntities(courses);
         List<InstructorAttributes> newInstructors = instructorsDb.putEntities(instructors);
         List<StudentAttributes> newStudents = studentsDb.putEntities(students);
+        courseRostersLogic.invalidateAll();
         List<FeedbackSessionAttributes> newFeedbackSessions = fbDb.putEntities(sessions);
+        persistRespondents(sessions, courseInstructorsMap, sessionQuestionsMap, sessionResponsesMap);
 
         List<FeedbackQuestionAttributes> createdQuestions = fqDb.putEntities(questions);
+        // statistics computed from the questions previously in the sessions are no longer valid
+        sessions.forEach(session -> ssDb.deleteSessionStats(session.getFeedbackSessionName(), session.getCourseId()));
         injectRealIds(responses, responseComments, createdQuestions);
 
         List<FeedbackResponseAttributes> newFeedbackResponses = frDb.putEntities(responses);
+        // tallies computed from the responses previously given to the questions are no longer valid
+        createdQuestions.forEach(question -> qsDb.deleteResponsesTally(question.getId()));
         List<FeedbackResponseCommentAttributes> newFeedbackResponseComments = fcDb.putEntities(responseComments);
 
         updateDataBundleValue(newAccounts, dataBundle.accounts);
@@ -163,29 +175,34 @@ public final class DataBundleLogic {
 
     /**
      * Creates document for entities that have document, i.e. searchable.
+     *
+     * <p>The documents are indexed immediately, even if indexing is deferred for the current request.
      */
     public void putDocuments(DataBundle dataBundle) {
         // query the entity in db first to get the actual data and create document for actual entity
 
-        Map<String, StudentAttributes> students = dataBundle.students;
-        for (StudentAttributes student : students.values()) {
+        List<String> studentIds = new ArrayList<>();
+        for (StudentAttributes student : dataBundle.students.values()) {
             StudentAttributes studentInDb = studentsDb.getStudentForEmail(student.course, student.email);
-            studentsDb.putDocument(studentInDb);
+            studentIds.add(studentInDb.getId());
         }
+        studentsDb.putDocumentsForIds(studentIds);
 
-        Map<String, InstructorAttributes> instructors = dataBundle.instructors;
-        for (InstructorAttributes instructor : instructors.values()) {
+        List<String> instructorIds = new ArrayList<>();
+        for (InstructorAttributes instructor : dataBundle.instructors.values()) {
             InstructorAttributes instructorInDb =
                     instructorsDb.getInstructorForEmail(instructor.courseId, instructor.email);
-            instructorsDb.putDocument(instructorInDb);
+            instructorIds.add(instructorInDb.getId());
         }
+        instructorsDb.putDocumentsForIds(instructorIds);
 
-        Map<String, FeedbackResponseCommentAttributes> responseComments = dataBundle.feedbackResponseComments;
-        for (FeedbackResponseCommentAttributes responseComment : responseComments.values()) {
+        List<String> responseCommentIds = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes responseComment : dataBundle.feedbackResponseComments.values()) {
             FeedbackResponseCommentAttributes fcInDb = fcDb.getFeedbackResponseComment(
                     responseComment.courseId, responseComment.createdAt, responseComment.commentGiver);
-            fcDb.putDocument(fcInDb);
+            responseCommentIds.add(String.valueOf(fcInDb.getId()));
         }
+        fcDb.putDocumentsForIds(responseCommentIds);
     }
 
     private void processAccountsAndPopulateAccountsMap(Collection<AccountAttributes> accounts,
@@ -238,7 +255,7 @@ public final class DataBundleLogic {
         }
     }
 
-    private void processSessionsAndUpdateRespondents(Collection<FeedbackSessionAttributes> sessions,
+    private void persistRespondents(Collection<FeedbackSessionAttributes> sessions,
             SetMultimap<String, InstructorAttributes> courseInstructorsMap,
             SetMultimap<String, FeedbackQuestionAttributes> sessionQuestionsMap,
             SetMultimap<String, FeedbackResponseAttributes> sessionResponsesMap) {
@@ -249,11 +266,11 @@ public final class DataBundleLogic {
             Set<FeedbackQuestionAttributes> sessionQuestions = sessionQuestionsMap.get(sessionKey);
             Set<FeedbackResponseAttributes> sessionResponses = sessionResponsesMap.get(sessionKey);
 
-            updateRespondents(session, courseInstructors, sessionQuestions, sessionResponses);
+            persistRespondents(session, courseInstructors, sessionQuestions, sessionResponses);
         }
     }
 
-    private void updateRespondents(FeedbackSessionAttributes session,
+    private void persistRespondents(FeedbackSessionAttributes session,
             Set<InstructorAttributes> courseInstructors,
             Set<FeedbackQuestionAttributes> sessionQuestions,
             Set<FeedbackResponseAttributes> sessionResponses) {
@@ -285,8 +302,13 @@ public final class DataBundleLogic {
             }
         }
 
-        session.setRespondingInstructorList(respondingInstructors);
-        session.setRespondingStudentList(respondingStudents);
+        AttributesDeletionQuery query = AttributesDeletionQuery.builder()
+                .withCourseId(session.getCourseId())
+                .withFeedbackSessionName(session.getFeedbackSessionName())
+                .build();
+        srDb.deleteRespondents(query);
+        srDb.addRespondents(session.getCourseId(), session.getFeedbackSessionName(), respondingInstructors, true);
+        srDb.addRespondents(session.getCourseId(), session.getFeedbackSessionName(), respondingStudents, false);
     }
 
     private void injectRealIds(
@@ -475,9 +497,13 @@ public final class DataBundleLogic {
                 fcDb.deleteFeedbackResponseComments(query);
                 frDb.deleteFeedbackResponses(query);
                 fqDb.deleteFeedbackQuestions(query);
+                srDb.deleteRespondents(query);
+                ssDb.deleteSessionStats(query);
+                qsDb.deleteResponsesTallies(query);
                 fbDb.deleteFeedbackSessions(query);
                 studentsDb.deleteStudents(query);
                 instructorsDb.deleteInstructors(query);
+                courseRostersLogic.invalidate(courseId);
 
                 coursesDb.deleteCourse(courseId);
             });
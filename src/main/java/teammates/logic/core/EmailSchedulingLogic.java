@@ -0,0 +1,100 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+
+import teammates.common.datatransfer.EmailSchedulingStats;
+import teammates.common.util.Config;
+import teammates.storage.api.EmailSchedules;
+
+/**
+ * Schedules the sending of emails within the rate limit of the email service in use ({@link Config#EMAIL_RATE_LIMIT}),
+ * following a token bucket which holds one second's worth of emails.
+ *
+ * <p>Emails are of two kinds:
+ * <ul>
+ * <li>Emails sent immediately (e.g. course join links and session links recovery), which are never delayed,
+ * but take up sending time so that bulk emails scheduled afterwards yield to them.</li>
+ * <li>Emails sent in bulk (e.g. session reminders), which are scheduled to be sent after all emails
+ * already scheduled or sent, at the rate limit.</li>
+ * </ul>
+ *
+ * <p>The schedule of each email service is shared by all instances of the application (see {@link EmailSchedules}).
+ */
+public final class EmailSchedulingLogic {
+
+    private static final int SEND_RATE_WINDOW_MINUTES = 5;
+
+    private static EmailSchedulingLogic instance = new EmailSchedulingLogic();
+
+    private final EmailSchedules emailSchedules = new EmailSchedules();
+
+    private EmailSchedulingLogic() {
+        // prevent initialization
+    }
+
+    public static EmailSchedulingLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Schedules the given number of emails to be sent in bulk.
+     *
+     * @return the delay in milliseconds before each of the emails is due to be sent, in non-decreasing order
+     */
+    public long[] scheduleBulkEmails(int numberOfEmails) {
+        long now = Instant.now().toEpochMilli();
+        double emailIntervalMillis = getEmailIntervalMillis();
+        long sendingStart = emailSchedules.reserveSendingTime(
+                Config.getEmailServiceName(), (long) Math.ceil(numberOfEmails * emailIntervalMillis), now);
+
+        // emails fitting into the token bucket are sent without waiting for their own interval
+        double burstMillis = (getRateLimit() - 1) * emailIntervalMillis;
+        long[] countdowns = new long[numberOfEmails];
+        for (int i = 0; i < numberOfEmails; i++) {
+            countdowns[i] = Math.max(0, Math.round(sendingStart - now + i * emailIntervalMillis - burstMillis));
+        }
+        return countdowns;
+    }
+
+    /**
+     * Records the given number of emails as sent immediately, i.e. without being scheduled,
+     * taking up the sending time of the emails to be scheduled in bulk afterwards.
+     */
+    public void recordImmediateEmails(int numberOfEmails) {
+        emailSchedules.reserveSendingTime(Config.getEmailServiceName(),
+                (long) Math.ceil(numberOfEmails * getEmailIntervalMillis()), Instant.now().toEpochMilli());
+    }
+
+    /**
+     * Records the given number of emails as successfully sent, for computing the send rate.
+     */
+    public void recordEmailsSent(int numberOfEmails) {
+        if (numberOfEmails > 0) {
+            emailSchedules.recordEmailsSent(Config.getEmailServiceName(), numberOfEmails, Instant.now().toEpochMilli());
+        }
+    }
+
+    /**
+     * Gets the current backlog and send rate of the email service in use.
+     */
+    public EmailSchedulingStats getEmailSchedulingStats() {
+        long now = Instant.now().toEpochMilli();
+        String emailService = Config.getEmailServiceName();
+
+        long backlogClearingMillis = Math.max(0, emailSchedules.getScheduleEnd(emailService) - now);
+        long backlog = (long) Math.floor(backlogClearingMillis / getEmailIntervalMillis());
+        double sendRate = (double) emailSchedules.getNumberOfEmailsSent(emailService, SEND_RATE_WINDOW_MINUTES, now)
+                / (SEND_RATE_WINDOW_MINUTES * 60);
+
+        return new EmailSchedulingStats(emailService, getRateLimit(), backlog, backlogClearingMillis, sendRate);
+    }
+
+    private static int getRateLimit() {
+        return Math.max(1, Config.EMAIL_RATE_LIMIT);
+    }
+
+    private static double getEmailIntervalMillis() {
+        return 1000.0 / getRateLimit();
+    }
+
+}
@@ -1,5 +1,10 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
 
@@ -23,4 +28,26 @@ public abstract class EmailSenderService {
     // accounts for the many different Exceptions from different email services
     public abstract EmailSendingStatus sendEmail(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Sends the emails packaged as {@code wrappers}, in as few requests to the service as the service allows.
+     *
+     * <p>By default, the emails are sent one by one.
+     *
+     * @return the status of sending each of the emails, in the same order as the emails
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) throws Exception {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            try {
+                statuses.add(sendEmail(wrapper));
+            } catch (Exception e) {
+                // the emails already sent are not to be reported as failed
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage()));
+            }
+        }
+        return statuses;
+    }
+
 }
@@ -43,10 +43,12 @@ public final class FeedbackQuestionsLogic {
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
-    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final QuestionStatsLogic questionStatsLogic = QuestionStatsLogic.inst();
+    private static final SessionStatsLogic sessionStatsLogic = SessionStatsLogic.inst();
 
     private FeedbackQuestionsLogic() {
         // prevent initialization
@@ -69,6 +71,7 @@ public final class FeedbackQuestionsLogic {
                 getFeedbackQuestionsForSession(fqa.getFeedbackSessionName(), fqa.getCourseId());
 
         FeedbackQuestionAttributes createdQuestion = fqDb.putEntity(fqa);
+        sessionStatsLogic.invalidateSessionStats(fqa.getFeedbackSessionName(), fqa.getCourseId());
 
         adjustQuestionNumbers(questionsBefore.size() + 1, createdQuestion.getQuestionNumber(), questionsBefore);
         return createdQuestion;
@@ -258,8 +261,9 @@ public final class FeedbackQuestionsLogic {
     Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String giver)
             throws EntityDoesNotExistException {
 
-        InstructorAttributes instructorGiver = instructorsLogic.getInstructorForEmail(question.courseId, giver);
-        StudentAttributes studentGiver = studentsLogic.getStudentForEmail(question.courseId, giver);
+        CourseRoster roster = courseRostersLogic.getCourseRoster(question.courseId);
+        InstructorAttributes instructorGiver = roster.getInstructorForEmail(giver);
+        StudentAttributes studentGiver = roster.getStudentForEmail(giver);
 
         Map<String, String> recipients = new HashMap<>();
 
@@ -276,7 +280,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
+            List<StudentAttributes> studentsInCourse = roster.getStudents();
             for (StudentAttributes student : studentsInCourse) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
@@ -285,7 +289,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
+            List<InstructorAttributes> instructorsInCourse = roster.getInstructors();
             for (InstructorAttributes instr : instructorsInCourse) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
@@ -307,7 +311,8 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
+            List<StudentAttributes> students =
+                    roster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
             for (StudentAttributes student : students) {
                 if (!student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
@@ -315,7 +320,8 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
+            List<StudentAttributes> teamMembers =
+                    roster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
             for (StudentAttributes student : teamMembers) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
@@ -336,7 +342,8 @@ public final class FeedbackQuestionsLogic {
      * @param question the feedback question
      * @param instructorGiver can be null for student giver
      * @param studentGiver can be null for instructor giver
-     * @param courseRoster if provided, the function can be completed without touching database
+     * @param courseRoster if provided, the function can be completed without touching database;
+     *                     otherwise the roster cached for the current request is used
      * @return a map which keys are the identifiers of the recipients and values are the names of the recipients
      */
     public Map<String, String> getRecipientsOfQuestion(
@@ -345,6 +352,7 @@ public final class FeedbackQuestionsLogic {
             @Nullable CourseRoster courseRoster) {
         Assumption.assertTrue(instructorGiver != null || studentGiver != null);
 
+        CourseRoster roster = courseRoster == null ? courseRostersLogic.getCourseRoster(question.courseId) : courseRoster;
         Map<String, String> recipients = new HashMap<>();
 
         boolean isStudentGiver = studentGiver != null;
@@ -371,12 +379,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse;
-            if (courseRoster == null) {
-                studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            } else {
-                studentsInCourse = courseRoster.getStudents();
-            }
+            List<StudentAttributes> studentsInCourse = roster.getStudents();
             for (StudentAttributes student : studentsInCourse) {
                 if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
                         student.section, question.getFeedbackSessionName(),
@@ -391,12 +394,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse;
-            if (courseRoster == null) {
-                instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            } else {
-                instructorsInCourse = courseRoster.getInstructors();
-            }
+            List<InstructorAttributes> instructorsInCourse = roster.getInstructors();
             for (InstructorAttributes instr : instructorsInCourse) {
                 // remove hidden instructors for students
                 if (isStudentGiver && !instr.isDisplayedToStudents()) {
@@ -409,13 +407,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            Map<String, List<StudentAttributes>> teamToTeamMembersTable;
-            if (courseRoster == null) {
-                List<StudentAttributes> students = studentsLogic.getStudentsForCourse(question.courseId);
-                teamToTeamMembersTable = CourseRoster.buildTeamToMembersTable(students);
-            } else {
-                teamToTeamMembersTable = courseRoster.getTeamToMembersTable();
-            }
+            Map<String, List<StudentAttributes>> teamToTeamMembersTable = roster.getTeamToMembersTable();
             for (Map.Entry<String, List<StudentAttributes>> team : teamToTeamMembersTable.entrySet()) {
                 if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
                         team.getValue().iterator().next().getSection(),
@@ -435,12 +427,8 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students;
-            if (courseRoster == null) {
-                students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            } else {
-                students = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
-            }
+            List<StudentAttributes> students =
+                    roster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
             for (StudentAttributes student : students) {
                 if (!student.email.equals(giverEmail)) {
                     recipients.put(student.email, student.name);
@@ -448,12 +436,8 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers;
-            if (courseRoster == null) {
-                teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            } else {
-                teamMembers = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
-            }
+            List<StudentAttributes> teamMembers =
+                    roster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
             for (StudentAttributes student : teamMembers) {
                 // accepts self feedback too
                 recipients.put(student.email, student.name);
@@ -483,39 +467,43 @@ public final class FeedbackQuestionsLogic {
 
         List<String> possibleGivers = getPossibleGivers(feedbackSession, relatedQuestion, courseRoster);
         for (String possibleGiver : possibleGivers) {
-            switch (relatedQuestion.getGiverType()) {
-            case STUDENTS:
-                StudentAttributes studentGiver = courseRoster.getStudentForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
-                break;
-            case TEAMS:
-                StudentAttributes oneTeamMember =
-                        courseRoster.getTeamToMembersTable().get(possibleGiver).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
-                break;
-            case INSTRUCTORS:
-            case SELF:
-                InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
-                break;
-            default:
-                log.severe("Invalid giver type specified");
-                break;
-            }
+            completeGiverRecipientMap
+                    .computeIfAbsent(possibleGiver, key -> new HashSet<>())
+                    .addAll(getPossibleRecipients(relatedQuestion, possibleGiver, courseRoster));
         }
 
         return completeGiverRecipientMap;
     }
 
+    /**
+     * Gets the identifiers of the possible recipients of a possible giver of a feedback question.
+     *
+     * @param question the feedback question
+     * @param giver the identifier of the giver, as returned by
+     *              {@link #getPossibleGivers(FeedbackSessionAttributes, FeedbackQuestionAttributes, CourseRoster)}
+     * @param courseRoster roster of all students and instructors
+     * @return a set of recipient identifiers
+     */
+    public Set<String> getPossibleRecipients(
+            FeedbackQuestionAttributes question, String giver, CourseRoster courseRoster) {
+        switch (question.getGiverType()) {
+        case STUDENTS:
+            StudentAttributes studentGiver = courseRoster.getStudentForEmail(giver);
+            return getRecipientsOfQuestion(question, null, studentGiver, courseRoster).keySet();
+        case TEAMS:
+            StudentAttributes oneTeamMember =
+                    courseRoster.getTeamToMembersTable().get(giver).iterator().next();
+            return getRecipientsOfQuestion(question, null, oneTeamMember, courseRoster).keySet();
+        case INSTRUCTORS:
+        case SELF:
+            InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(giver);
+            return getRecipientsOfQuestion(question, instructorGiver, null, courseRoster).keySet();
+        default:
+            log.severe("Invalid giver type specified");
+            return Collections.emptySet();
+        }
+    }
+
     /**
      * Gets possible giver identifiers for a feedback question.
      *
@@ -523,7 +511,7 @@ public final class FeedbackQuestionsLogic {
      * @param courseRoster roster of all students and instructors
      * @return a list of giver identifier
      */
-    private List<String> getPossibleGivers(
+    public List<String> getPossibleGivers(
             FeedbackSessionAttributes feedbackSession,
             FeedbackQuestionAttributes fqa, CourseRoster courseRoster) {
         FeedbackParticipantType giverType = fqa.giverType;
@@ -594,7 +582,7 @@ public final class FeedbackQuestionsLogic {
             //fallthrough
         case STUDENTS_EXCLUDING_SELF:
             List<StudentAttributes> studentList =
-                    studentsLogic.getStudentsForCourse(feedbackQuestionAttributes.getCourseId());
+                    courseRostersLogic.getCourseRoster(feedbackQuestionAttributes.getCourseId()).getStudents();
 
             if (generateOptionsFor == FeedbackParticipantType.STUDENTS_EXCLUDING_SELF) {
                 studentList.removeIf(studentInList -> studentInList.email.equals(emailOfEntityDoingQuestion));
@@ -627,7 +615,7 @@ public final class FeedbackQuestionsLogic {
             break;
         case INSTRUCTORS:
             List<InstructorAttributes> instructorList =
-                    instructorsLogic.getInstructorsForCourse(feedbackQuestionAttributes.getCourseId());
+                    courseRostersLogic.getCourseRoster(feedbackQuestionAttributes.getCourseId()).getInstructors();
 
             for (InstructorAttributes instructor : instructorList) {
                 optionList.add(instructor.getName());
@@ -714,6 +702,13 @@ public final class FeedbackQuestionsLogic {
 
         // update question
         FeedbackQuestionAttributes updatedQuestion = fqDb.updateFeedbackQuestion(updateOptions);
+        if (oldQuestion.giverType != updatedQuestion.giverType) {
+            sessionStatsLogic.invalidateSessionStats(oldQuestion.feedbackSessionName, oldQuestion.courseId);
+        }
+        if (!oldQuestion.getReadOnlyQuestionDetails().equals(updatedQuestion.getReadOnlyQuestionDetails())) {
+            // the responses are tallied according to the question details
+            questionStatsLogic.invalidateResponsesTally(oldQuestion.getId());
+        }
 
         if (oldQuestionNumber != newQuestionNumber) {
             // shift other feedback questions (generate an empty "slot")
@@ -781,6 +776,8 @@ public final class FeedbackQuestionsLogic {
 
         // delete question
         fqDb.deleteFeedbackQuestion(feedbackQuestionId);
+        sessionStatsLogic.invalidateSessionStats(
+                questionToDelete.getFeedbackSessionName(), questionToDelete.getCourseId());
 
         // adjust question numbers
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
@@ -818,7 +815,7 @@ public final class FeedbackQuestionsLogic {
     public int getNumOfGeneratedChoicesForParticipantType(String courseId, FeedbackParticipantType participantType) {
         if (participantType == FeedbackParticipantType.STUDENTS
                 || participantType == FeedbackParticipantType.STUDENTS_EXCLUDING_SELF) {
-            List<StudentAttributes> studentList = studentsLogic.getStudentsForCourse(courseId);
+            List<StudentAttributes> studentList = courseRostersLogic.getCourseRoster(courseId).getStudents();
             return studentList.size() - (participantType == FeedbackParticipantType.STUDENTS ? 0 : 1);
         }
 
@@ -833,7 +830,7 @@ public final class FeedbackQuestionsLogic {
         }
 
         if (participantType == FeedbackParticipantType.INSTRUCTORS) {
-            List<InstructorAttributes> instructorList = instructorsLogic.getInstructorsForCourse(courseId);
+            List<InstructorAttributes> instructorList = courseRostersLogic.getCourseRoster(courseId).getInstructors();
             return instructorList.size();
         }
 
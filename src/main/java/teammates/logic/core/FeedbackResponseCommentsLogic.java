@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -10,6 +11,7 @@ import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.FeedbackResponseRef;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -35,7 +37,6 @@ public final class FeedbackResponseCommentsLogic {
     private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
-    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -77,6 +78,14 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForResponse(feedbackResponseId);
     }
 
+    /**
+     * Gets all comments for the given responses.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        return frcDb.getFeedbackResponseCommentsForResponses(feedbackResponseIds);
+    }
+
     /**
      * Gets comment associated with the response.
      *
@@ -128,19 +137,11 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.updateLastEditorEmailOfFeedbackResponseComments(courseId, oldEmail, updatedEmail);
     }
 
-    // right now this method only updates comment's giverSection and receiverSection for a given response
-    public void updateFeedbackResponseCommentsForResponse(String feedbackResponseId)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseCommentAttributes> comments = getFeedbackResponseCommentForResponse(feedbackResponseId);
-        FeedbackResponseAttributes response = frLogic.getFeedbackResponse(feedbackResponseId);
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcDb.updateFeedbackResponseComment(
-                    FeedbackResponseCommentAttributes.updateOptionsBuilder(comment.getId())
-                            .withGiverSection(response.giverSection)
-                            .withReceiverSection(response.recipientSection)
-                            .build()
-            );
-        }
+    /**
+     * Updates the sections of all comments of the given responses to the sections of their responses.
+     */
+    public void updateSectionsOfCommentsForResponses(Collection<FeedbackResponseRef> responses) {
+        frcDb.updateSectionsOfCommentsForResponses(responses);
     }
 
     /**
@@ -164,6 +165,13 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.putDocuments(comments);
     }
 
+    /**
+     * Creates or updates documents for the comments with the given IDs, as they currently are.
+     */
+    public void putDocumentsForIds(Collection<String> commentIds) {
+        frcDb.putDocumentsForIds(commentIds);
+    }
+
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForGiver(String courseId,
                                                                                        String giverEmail) {
         return frcDb.getFeedbackResponseCommentForGiver(courseId, giverEmail);
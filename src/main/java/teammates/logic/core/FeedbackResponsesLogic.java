@@ -13,6 +13,8 @@ import javax.annotation.Nullable;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponseRef;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -43,6 +45,7 @@ public final class FeedbackResponsesLogic {
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final QuestionStatsLogic questionStatsLogic = QuestionStatsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     private FeedbackResponsesLogic() {
@@ -69,7 +72,9 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        questionStatsLogic.addResponse(createdResponse);
+        return createdResponse;
     }
 
     /**
@@ -119,6 +124,16 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForQuestion(feedbackQuestionId);
     }
 
+    /**
+     * Gets a page of the responses for a question, ordered by giver and then by recipient.
+     *
+     * @see FeedbackResponsesDb#getFeedbackResponsesForQuestion(String, String, int)
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForQuestion(
+            String feedbackQuestionId, @Nullable String cursor, int limit) {
+        return frDb.getFeedbackResponsesForQuestion(feedbackQuestionId, cursor, limit);
+    }
+
     /**
      * Checks whether there are responses for a question.
      */
@@ -181,6 +196,20 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
     }
 
+    /**
+     * Gets references to all responses received by an user for a course.
+     */
+    public List<FeedbackResponseRef> getFeedbackResponseRefsForReceiverForCourse(String courseId, String userEmail) {
+        return frDb.getFeedbackResponseRefsForReceiverForCourse(courseId, userEmail);
+    }
+
+    /**
+     * Gets references to all responses given by an user for a course.
+     */
+    public List<FeedbackResponseRef> getFeedbackResponseRefsFromGiverForCourse(String courseId, String userEmail) {
+        return frDb.getFeedbackResponseRefsFromGiverForCourse(courseId, userEmail);
+    }
+
     /**
      * Get existing feedback responses from student or his team for the given
      * question.
@@ -207,83 +236,8 @@ public final class FeedbackResponsesLogic {
             return false;
         }
 
-        // Early return if user is giver
-        if (question.giverType == FeedbackParticipantType.TEAMS) {
-            // if response is given by team, then anyone in the team can see the response
-            // The second check is used to accommodate legacy data where team giver is a student email
-            if (roster.isStudentInTeam(userEmail, response.giver)
-                    || roster.isStudentsInSameTeam(userEmail, response.giver)) {
-                return true;
-            }
-        } else {
-            if (response.giver.equals(userEmail)) {
-                return true;
-            }
-        }
-
-        return isFeedbackParticipantNameVisibleToUser(question, response,
-                userEmail, role, isGiverName, roster);
-    }
-
-    private boolean isFeedbackParticipantNameVisibleToUser(
-            FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
-            String userEmail, UserRole role, boolean isGiverName, CourseRoster roster) {
-        List<FeedbackParticipantType> showNameTo = isGiverName
-                                                 ? question.showGiverNameTo
-                                                 : question.showRecipientNameTo;
-        for (FeedbackParticipantType type : showNameTo) {
-            switch (type) {
-            case INSTRUCTORS:
-                if (roster.getInstructorForEmail(userEmail) != null && role == UserRole.INSTRUCTOR) {
-                    return true;
-                }
-                break;
-            case OWN_TEAM_MEMBERS:
-            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-                // Refers to Giver's Team Members
-                if (roster.isStudentsInSameTeam(response.giver, userEmail)) {
-                    return true;
-                }
-                break;
-            case RECEIVER:
-                // Response to team
-                if (question.recipientType.isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.recipient)) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                    // Response to individual
-                } else if (response.recipient.equals(userEmail)) {
-                    return true;
-                } else {
-                    break;
-                }
-            case RECEIVER_TEAM_MEMBERS:
-                // Response to team; recipient = teamName
-                if (question.recipientType.isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.recipient)) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                } else if (roster.isStudentsInSameTeam(response.recipient, userEmail)) {
-                    // Response to individual
-                    return true;
-                }
-                break;
-            case STUDENTS:
-                if (roster.isStudentInCourse(userEmail)) {
-                    return true;
-                }
-                break;
-            default:
-                Assumption.fail("Invalid FeedbackParticipantType for showNameTo in "
-                                + "FeedbackResponseLogic.isFeedbackParticipantNameVisibleToUser()");
-                break;
-            }
-        }
-        return false;
+        return VisibilityPolicy.compile(question).isNameVisibleTo(
+                ResultsViewer.withoutTeamOrPrivileges(userEmail, role, roster), response, isGiverName);
     }
 
     /**
@@ -338,6 +292,7 @@ public final class FeedbackResponsesLogic {
 
         FeedbackResponseAttributes oldResponse = frDb.getFeedbackResponse(updateOptions.getFeedbackResponseId());
         FeedbackResponseAttributes newResponse = frDb.updateFeedbackResponse(updateOptions);
+        questionStatsLogic.replaceResponse(oldResponse, newResponse);
 
         boolean isResponseIdChanged = !oldResponse.getId().equals(newResponse.getId());
         boolean isGiverSectionChanged = !oldResponse.giverSection.equals(newResponse.giverSection);
@@ -383,32 +338,32 @@ public final class FeedbackResponsesLogic {
         Map<String, Set<String>> instructorEmailsNeedRespondentsUpdate = new HashMap<>();
 
         // deletes all responses given by the user to team members or given by the user as a representative of a team.
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+        List<FeedbackResponseRef> responsesFromUser =
+                frDb.getFeedbackResponseRefsFromGiverForCourse(courseId, userEmail);
+        for (FeedbackResponseRef response : responsesFromUser) {
+            question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
             if (question.giverType == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
                 deleteFeedbackResponseCascade(response.getId());
 
                 studentEmailsNeedRespondentsUpdate
-                        .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
-                        .add(response.giver);
+                        .computeIfAbsent(response.getFeedbackSessionName(), key -> new HashSet<>())
+                        .add(response.getGiver());
             }
         }
 
         // Deletes all responses given by other team members to the user.
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+        List<FeedbackResponseRef> responsesToUser =
+                frDb.getFeedbackResponseRefsForReceiverForCourse(courseId, userEmail);
+        for (FeedbackResponseRef response : responsesToUser) {
+            question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
             if (isRecipientTypeTeamMembers(question)) {
                 deleteFeedbackResponseCascade(response.getId());
 
                 if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
                     studentEmailsNeedRespondentsUpdate
-                            .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
-                            .add(response.giver);
+                            .computeIfAbsent(response.getFeedbackSessionName(), key -> new HashSet<>())
+                            .add(response.getGiver());
                 }
             }
         }
@@ -440,77 +395,41 @@ public final class FeedbackResponsesLogic {
                                              Map<String, Set<String>> studentEmailsNeedRespondentsUpdate,
                                              Map<String, Set<String>> instructorEmailsNeedRespondentsUpdate) {
         // Deletes all responses given by the team.
-        List<FeedbackResponseAttributes> responsesFromOldTeam =
-                getFeedbackResponsesFromGiverForCourse(courseId, teamName);
-        for (FeedbackResponseAttributes response : responsesFromOldTeam) {
+        List<FeedbackResponseRef> responsesFromOldTeam =
+                frDb.getFeedbackResponseRefsFromGiverForCourse(courseId, teamName);
+        for (FeedbackResponseRef response : responsesFromOldTeam) {
             deleteFeedbackResponseCascade(response.getId());
         }
 
         // Deletes all responses received by the team.
-        List<FeedbackResponseAttributes> responsesToOldTeam =
-                getFeedbackResponsesForReceiverForCourse(courseId, teamName);
-        for (FeedbackResponseAttributes response : responsesToOldTeam) {
+        List<FeedbackResponseRef> responsesToOldTeam =
+                frDb.getFeedbackResponseRefsForReceiverForCourse(courseId, teamName);
+        for (FeedbackResponseRef response : responsesToOldTeam) {
             deleteFeedbackResponseCascade(response.getId());
 
-            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
             if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                     || question.getGiverType() == FeedbackParticipantType.SELF) {
                 instructorEmailsNeedRespondentsUpdate
-                        .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
-                        .add(response.giver);
+                        .computeIfAbsent(response.getFeedbackSessionName(), key -> new HashSet<>())
+                        .add(response.getGiver());
             }
             if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
                 studentEmailsNeedRespondentsUpdate
-                        .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
-                        .add(response.giver);
+                        .computeIfAbsent(response.getFeedbackSessionName(), key -> new HashSet<>())
+                        .add(response.getGiver());
             }
         }
     }
 
     /**
-     * Updates responses for a student when his section changes.
+     * Updates the sections of all responses given by or to a participant in a course
+     * and the sections of the comments of those responses.
      */
-    public void updateFeedbackResponsesForChangingSection(
-            String courseId, String userEmail, String oldSection, String newSection)
-            throws EntityDoesNotExistException, InvalidParametersException {
-        updateSectionOfResponsesFromUser(courseId, userEmail, newSection);
-        updateSectionOfResponsesToUser(courseId, userEmail, newSection);
-    }
-
-    private void updateSectionOfResponsesToUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
-
-        for (FeedbackResponseAttributes response : responsesToUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withRecipientSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption.fail("Not possible to trigger recreating of response");
-            }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
-        }
-    }
-
-    private void updateSectionOfResponsesFromUser(String courseId, String userEmail, String newSection)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
-
-        for (FeedbackResponseAttributes response : responsesFromUser) {
-            try {
-                frDb.updateFeedbackResponse(
-                        FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
-                                .withGiverSection(newSection)
-                                .build());
-            } catch (EntityAlreadyExistsException e) {
-                Assumption.fail("Not possible to trigger recreating of response");
-            }
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
-        }
+    public void updateSectionsForParticipant(String courseId, String participantEmail, String newSection) {
+        List<FeedbackResponseRef> responses =
+                frDb.updateSectionsOfResponsesForParticipant(courseId, participantEmail, newSection);
+        frcLogic.updateSectionsOfCommentsForResponses(responses);
     }
 
     /**
@@ -560,10 +479,10 @@ public final class FeedbackResponsesLogic {
             String courseId, String oldEmail, String newEmail)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        List<FeedbackResponseAttributes> responsesFromUser =
-                getFeedbackResponsesFromGiverForCourse(courseId, oldEmail);
+        List<FeedbackResponseRef> responsesFromUser =
+                frDb.getFeedbackResponseRefsFromGiverForCourse(courseId, oldEmail);
 
-        for (FeedbackResponseAttributes response : responsesFromUser) {
+        for (FeedbackResponseRef response : responsesFromUser) {
             try {
                 updateFeedbackResponseCascade(
                         FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
@@ -577,10 +496,10 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        List<FeedbackResponseAttributes> responsesToUser =
-                getFeedbackResponsesForReceiverForCourse(courseId, oldEmail);
+        List<FeedbackResponseRef> responsesToUser =
+                frDb.getFeedbackResponseRefsForReceiverForCourse(courseId, oldEmail);
 
-        for (FeedbackResponseAttributes response : responsesToUser) {
+        for (FeedbackResponseRef response : responsesToUser) {
             try {
                 updateFeedbackResponseCascade(
                         FeedbackResponseAttributes.updateOptionsBuilder(response.getId())
@@ -599,6 +518,7 @@ public final class FeedbackResponsesLogic {
      */
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         frDb.deleteFeedbackResponses(query);
+        questionStatsLogic.deleteResponsesTallies(query);
     }
 
     /**
@@ -611,7 +531,11 @@ public final class FeedbackResponsesLogic {
                 AttributesDeletionQuery.builder()
                         .withResponseId(responseId)
                         .build());
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
         frDb.deleteFeedbackResponse(responseId);
+        if (response != null) {
+            questionStatsLogic.removeResponse(response);
+        }
     }
 
     /**
@@ -732,30 +656,30 @@ public final class FeedbackResponsesLogic {
             Map<String, Set<String>> studentEmailsNeedRespondentsUpdate,
             Map<String, Set<String>> instructorEmailsNeedRespondentsUpdate) {
         // delete responses from the entity
-        List<FeedbackResponseAttributes> responsesFromStudent =
-                getFeedbackResponsesFromGiverForCourse(courseId, entityEmail);
-        for (FeedbackResponseAttributes response : responsesFromStudent) {
+        List<FeedbackResponseRef> responsesFromStudent =
+                frDb.getFeedbackResponseRefsFromGiverForCourse(courseId, entityEmail);
+        for (FeedbackResponseRef response : responsesFromStudent) {
             deleteFeedbackResponseCascade(response.getId());
         }
 
         // delete responses to the entity
-        List<FeedbackResponseAttributes> responsesToStudent =
-                getFeedbackResponsesForReceiverForCourse(courseId, entityEmail);
+        List<FeedbackResponseRef> responsesToStudent =
+                frDb.getFeedbackResponseRefsForReceiverForCourse(courseId, entityEmail);
         FeedbackQuestionAttributes question;
-        for (FeedbackResponseAttributes response : responsesToStudent) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+        for (FeedbackResponseRef response : responsesToStudent) {
+            question = fqLogic.getFeedbackQuestion(response.getFeedbackQuestionId());
             deleteFeedbackResponseCascade(response.getId());
 
             if (question.getGiverType() == FeedbackParticipantType.STUDENTS) {
                 studentEmailsNeedRespondentsUpdate
-                        .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
-                        .add(response.giver);
+                        .computeIfAbsent(response.getFeedbackSessionName(), key -> new HashSet<>())
+                        .add(response.getGiver());
             }
             if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                     || question.getGiverType() == FeedbackParticipantType.SELF) {
                 instructorEmailsNeedRespondentsUpdate
-                        .computeIfAbsent(response.feedbackSessionName, key -> new HashSet<>())
-                        .add(response.giver);
+                        .computeIfAbsent(response.getFeedbackSessionName(), key -> new HashSet<>())
+                        .add(response.getGiver());
             }
         }
     }
@@ -6,9 +6,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -16,7 +21,11 @@ import javax.annotation.Nullable;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesPage;
+import teammates.common.datatransfer.MissingResponses;
+import teammates.common.datatransfer.SessionCompletionMatrix;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.SessionResultsPage;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -24,7 +33,6 @@ import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttribute
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -45,7 +53,6 @@ public final class FeedbackSessionsLogic {
 
     private static final Logger log = Logger.getLogger();
 
-    private static final String ASSUMPTION_FAIL_DELETE_INSTRUCTOR = "Fail to delete instructor respondent for ";
     private static final String ERROR_NON_EXISTENT_FS_STRING_FORMAT = "Trying to %s a non-existent feedback session: ";
     private static final String ERROR_NON_EXISTENT_FS_UPDATE = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "update");
     private static final String ERROR_NON_EXISTENT_FS_CHECK = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "check");
@@ -53,16 +60,23 @@ public final class FeedbackSessionsLogic {
                                                            + "Session has already been published.";
     private static final String ERROR_FS_ALREADY_UNPUBLISH = "Error unpublishing feedback session: "
                                                              + "Session has already been unpublished.";
+    private static final String RESULTS_CURSOR_SEPARATOR = ":";
+
+    private static final ForkJoinPool SECTION_RESULTS_POOL =
+            new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     private static FeedbackSessionsLogic instance = new FeedbackSessionsLogic();
 
     private static final FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final SessionRespondentsLogic srLogic = SessionRespondentsLogic.inst();
+    private static final SessionStatsLogic sessionStatsLogic = SessionStatsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     private FeedbackSessionsLogic() {
@@ -229,7 +243,7 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        if (srLogic.isStudentRespondent(userEmail, fsa.getFeedbackSessionName(), fsa.getCourseId())) {
             return true;
         }
 
@@ -243,7 +257,7 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        if (srLogic.isInstructorRespondent(userEmail, fsa.getFeedbackSessionName(), fsa.getCourseId())) {
             return true;
         }
 
@@ -333,14 +347,7 @@ public final class FeedbackSessionsLogic {
      */
     public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateFeedbackSession(
-                    FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                            .withUpdatingInstructorRespondent(oldEmail, newEmail)
-                            .build());
-        }
+        srLogic.updateInstructorRespondent(oldEmail, newEmail, courseId);
     }
 
     /**
@@ -349,14 +356,7 @@ public final class FeedbackSessionsLogic {
      */
     public void updateRespondentsForStudent(String oldEmail, String newEmail, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
-
-        List<FeedbackSessionAttributes> feedbackSessions = getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            fsDb.updateFeedbackSession(
-                    FeedbackSessionAttributes.updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                            .withUpdatingStudentRespondent(oldEmail, newEmail)
-                            .build());
-        }
+        srLogic.updateStudentRespondent(oldEmail, newEmail, courseId);
     }
 
     /**
@@ -364,16 +364,7 @@ public final class FeedbackSessionsLogic {
      * in the corresponding course.
      */
     public void deleteInstructorFromRespondentsList(String courseId, String email) {
-        List<FeedbackSessionAttributes> sessionsToUpdate =
-                fsDb.getFeedbackSessionsForCourse(courseId);
-
-        for (FeedbackSessionAttributes session : sessionsToUpdate) {
-            try {
-                deleteInstructorRespondent(email, session.getFeedbackSessionName(), session.getCourseId());
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                Assumption.fail(ASSUMPTION_FAIL_DELETE_INSTRUCTOR + session.getFeedbackSessionName());
-            }
-        }
+        srLogic.deleteInstructorFromRespondents(courseId, email);
     }
 
     /**
@@ -381,16 +372,7 @@ public final class FeedbackSessionsLogic {
      * in the corresponding course.
      */
     public void deleteStudentFromRespondentsList(String courseId, String email) {
-        List<FeedbackSessionAttributes> sessionsToUpdate =
-                fsDb.getFeedbackSessionsForCourse(courseId);
-
-        for (FeedbackSessionAttributes session : sessionsToUpdate) {
-            try {
-                deleteStudentFromRespondentList(email, session.getFeedbackSessionName(), session.getCourseId());
-            } catch (InvalidParametersException | EntityDoesNotExistException e) {
-                Assumption.fail(ASSUMPTION_FAIL_DELETE_INSTRUCTOR + session.getFeedbackSessionName());
-            }
-        }
+        srLogic.deleteStudentFromRespondents(courseId, email);
     }
 
     /**
@@ -403,10 +385,8 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingInstructorRespondent(email)
-                        .build());
+        verifyFeedbackSessionExists(feedbackSessionName, courseId);
+        srLogic.addInstructorRespondent(email, feedbackSessionName, courseId);
     }
 
     /**
@@ -419,10 +399,8 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withAddingStudentRespondent(email)
-                        .build());
+        verifyFeedbackSessionExists(feedbackSessionName, courseId);
+        srLogic.addStudentRespondent(email, feedbackSessionName, courseId);
     }
 
     /**
@@ -435,10 +413,8 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingInstructorRespondent(email)
-                        .build());
+        verifyFeedbackSessionExists(feedbackSessionName, courseId);
+        srLogic.deleteInstructorRespondent(email, feedbackSessionName, courseId);
     }
 
     /**
@@ -451,10 +427,15 @@ public final class FeedbackSessionsLogic {
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, courseId);
         Assumption.assertNotNull(Const.StatusCodes.NULL_PARAMETER, email);
 
-        fsDb.updateFeedbackSession(
-                FeedbackSessionAttributes.updateOptionsBuilder(feedbackSessionName, courseId)
-                        .withRemovingStudentRespondent(email)
-                        .build());
+        verifyFeedbackSessionExists(feedbackSessionName, courseId);
+        srLogic.deleteStudentRespondent(email, feedbackSessionName, courseId);
+    }
+
+    private void verifyFeedbackSessionExists(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        if (!isFeedbackSessionExists(feedbackSessionName, courseId)) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_UPDATE + courseId + "/" + feedbackSessionName);
+        }
     }
 
     /**
@@ -558,6 +539,8 @@ public final class FeedbackSessionsLogic {
         frcLogic.deleteFeedbackResponseComments(query);
         frLogic.deleteFeedbackResponses(query);
         fqLogic.deleteFeedbackQuestions(query);
+        srLogic.deleteRespondents(query);
+        sessionStatsLogic.deleteSessionStats(query);
 
         fsDb.deleteFeedbackSession(feedbackSessionName, courseId);
     }
@@ -566,6 +549,8 @@ public final class FeedbackSessionsLogic {
      * Deletes sessions using {@link AttributesDeletionQuery}.
      */
     public void deleteFeedbackSessions(AttributesDeletionQuery query) {
+        srLogic.deleteRespondents(query);
+        sessionStatsLogic.deleteSessionStats(query);
         fsDb.deleteFeedbackSessions(query);
     }
 
@@ -589,36 +574,18 @@ public final class FeedbackSessionsLogic {
 
     /**
      * Gets the expected number of submissions for a feedback session.
+     *
+     * @see SessionStatsLogic#getExpectedTotalSubmission(FeedbackSessionAttributes)
      */
     public int getExpectedTotalSubmission(FeedbackSessionAttributes fsa) {
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fsa.getCourseId());
-        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fsa.getCourseId());
-        List<FeedbackQuestionAttributes> questions =
-                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
-        List<FeedbackQuestionAttributes> studentQns = fqLogic.getFeedbackQuestionsForStudents(questions);
-
-        int expectedTotal = 0;
-
-        if (!studentQns.isEmpty()) {
-            expectedTotal += students.size();
-        }
-
-        for (InstructorAttributes instructor : instructors) {
-            List<FeedbackQuestionAttributes> instructorQns =
-                    fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
-            if (!instructorQns.isEmpty()) {
-                expectedTotal += 1;
-            }
-        }
-
-        return expectedTotal;
+        return sessionStatsLogic.getExpectedTotalSubmission(fsa);
     }
 
     /**
      * Gets the actual number of submissions for a feedback session.
      */
     public int getActualTotalSubmission(FeedbackSessionAttributes fsa) {
-        return fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
+        return srLogic.getNumberOfRespondents(fsa.getFeedbackSessionName(), fsa.getCourseId());
     }
 
     /**
@@ -635,13 +602,33 @@ public final class FeedbackSessionsLogic {
     public SessionResultsBundle getSessionResultsForUser(
             String feedbackSessionName, String courseId, String userEmail, UserRole role,
             @Nullable String questionId, @Nullable String section) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        return getSessionResultsForUser(feedbackSessionName, courseId, userEmail, role, questionId, section, true);
+    }
+
+    /**
+     * Gets the session result for a feedback session.
+     *
+     * @param feedbackSessionName the feedback session name
+     * @param courseId the ID of the course
+     * @param userEmail the user viewing the feedback session
+     * @param role the role of the use
+     * @param questionId if not null, will only return partial bundle for the question
+     * @param section if not null, will only return partial bundle for the section
+     * @param isMissingResponsesIncluded whether the missing responses are worked out for instructors
+     * @return the session result bundle
+     */
+    public SessionResultsBundle getSessionResultsForUser(
+            String feedbackSessionName, String courseId, String userEmail, UserRole role,
+            @Nullable String questionId, @Nullable String section, boolean isMissingResponsesIncluded) {
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+        if (isInstructor(role) && questionId == null && section == null
+                && getSectionsOfResponses(roster).size() >= Const.SystemParams.MIN_SECTIONS_FOR_PARALLEL_RESULTS) {
+            return getSessionResultsForInstructorBySection(
+                    feedbackSessionName, courseId, userEmail, isMissingResponsesIncluded);
+        }
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions;
-        Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         if (questionId == null) {
             allQuestions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
         } else {
@@ -652,9 +639,6 @@ public final class FeedbackSessionsLogic {
                 allQuestions = Collections.singletonList(fqa);
             }
         }
-        for (FeedbackQuestionAttributes qn : allQuestions) {
-            allQuestionsMap.put(qn.getId(), qn);
-        }
 
         // load response(s)
         StudentAttributes student = getStudent(courseId, userEmail, role);
@@ -688,90 +672,303 @@ public final class FeedbackSessionsLogic {
             allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, section);
         }
 
-        // related questions, responses, and comment
-        Map<String, FeedbackQuestionAttributes> relatedQuestionsMap = new HashMap<>();
-        Map<String, FeedbackResponseAttributes> relatedResponsesMap = new HashMap<>();
-        Map<String, List<FeedbackResponseCommentAttributes>> relatedCommentsMap = new HashMap<>();
-        // student will have no related question at the beginning
-        if (isInstructor(role)) {
-            // all questions are related questions for instructor
-            for (FeedbackQuestionAttributes qn : allQuestions) {
-                relatedQuestionsMap.put(qn.getId(), qn);
+        return buildSessionResultsBundle(feedbackSessionName, courseId, userEmail, role, roster, student,
+                allQuestions, allResponses, allComments, section, isMissingResponsesIncluded);
+    }
+
+    /**
+     * Gets a page of the session result for an instructor.
+     *
+     * <p>The responses are ordered by question, and then by giver and recipient. Unlike
+     * {@link #getSessionResultsForUser(String, String, String, UserRole, String, String)}, only the responses
+     * in the page and their comments are loaded, and the missing responses are not included.
+     *
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param questionId if not null, will only return results for the question
+     * @param section if not null, will only return results for the section; a page may then contain
+     *                fewer responses than the page size
+     * @param cursor the cursor returned with the previous page, or null to get the first page
+     * @param pageSize the maximum number of responses in the page
+     * @throws InvalidParametersException if the cursor is not valid for the session
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    public SessionResultsPage getSessionResultsPageForInstructor(
+            String feedbackSessionName, String courseId, String instructorEmail,
+            @Nullable String questionId, @Nullable String section, @Nullable String cursor, int pageSize)
+            throws InvalidParametersException {
+        List<FeedbackQuestionAttributes> allQuestions;
+        if (questionId == null) {
+            allQuestions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        } else {
+            FeedbackQuestionAttributes fqa = fqLogic.getFeedbackQuestion(questionId);
+            allQuestions = fqa == null ? Collections.emptyList() : Collections.singletonList(fqa);
+        }
+
+        // the cursor of the results is made of the question to continue from and the cursor of its responses
+        int questionIndex = 0;
+        String responsesCursor = null;
+        if (cursor != null) {
+            String[] cursorTokens = cursor.split(RESULTS_CURSOR_SEPARATOR, 2);
+            questionIndex = getIndexOfQuestion(allQuestions, cursorTokens[0]);
+            if (questionIndex < 0) {
+                throw new InvalidParametersException("Invalid cursor for the results of the session: " + cursor);
+            }
+            responsesCursor = cursorTokens.length > 1 ? cursorTokens[1] : null;
+        }
+
+        List<FeedbackQuestionAttributes> pageQuestions = new ArrayList<>();
+        List<FeedbackResponseAttributes> pageResponses = new ArrayList<>();
+        int numberOfLoadedResponses = 0;
+        String nextCursor = null;
+        while (questionIndex < allQuestions.size()) {
+            FeedbackQuestionAttributes question = allQuestions.get(questionIndex);
+            FeedbackResponsesPage responsesPage;
+            try {
+                responsesPage = frLogic.getFeedbackResponsesForQuestion(
+                        question.getId(), responsesCursor, pageSize - numberOfLoadedResponses);
+            } catch (IllegalArgumentException e) {
+                throw new InvalidParametersException("Invalid cursor for the results of the session: " + cursor);
+            }
+            pageQuestions.add(question);
+            numberOfLoadedResponses += responsesPage.getResponses().size();
+            for (FeedbackResponseAttributes response : responsesPage.getResponses()) {
+                if (section == null
+                        || section.equals(response.getGiverSection()) || section.equals(response.getRecipientSection())) {
+                    pageResponses.add(response);
+                }
+            }
+
+            if (responsesPage.getNextCursor() != null) {
+                nextCursor = question.getId() + RESULTS_CURSOR_SEPARATOR + responsesPage.getNextCursor();
+                break;
+            }
+            questionIndex++;
+            responsesCursor = null;
+            if (questionIndex < allQuestions.size() && numberOfLoadedResponses >= pageSize) {
+                nextCursor = allQuestions.get(questionIndex).getId();
+                break;
+            }
+        }
+
+        List<String> pageResponseIds = pageResponses.stream()
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toList());
+        List<FeedbackResponseCommentAttributes> pageComments =
+                frcLogic.getFeedbackResponseCommentsForResponses(pageResponseIds);
+
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+        SessionResultsBundle bundle = buildSessionResultsBundle(feedbackSessionName, courseId, instructorEmail,
+                UserRole.INSTRUCTOR, roster, null, pageQuestions, pageResponses, pageComments, section, false);
+        return new SessionResultsPage(bundle, nextCursor);
+    }
+
+    private int getIndexOfQuestion(List<FeedbackQuestionAttributes> questions, String questionId) {
+        for (int i = 0; i < questions.size(); i++) {
+            if (questions.get(i).getId().equals(questionId)) {
+                return i;
             }
         }
+        return -1;
+    }
+
+    /**
+     * Gets the session result for a feedback session for an instructor, assembled section by section.
+     *
+     * <p>The responses of the session are loaded once and split by the section of their givers, and the visibility
+     * of the responses and comments of each section is checked in parallel. The responses are not queried by the
+     * sections in the roster, as the sections of the responses may lag behind those of the students until the
+     * changes of the students are cascaded to their responses.
+     *
+     * @param feedbackSessionName the feedback session name
+     * @param courseId the ID of the course
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param isMissingResponsesIncluded whether the missing responses are worked out
+     * @return the session result bundle, the same as the one of
+     *         {@link #getSessionResultsForUser(String, String, String, UserRole, String, String, boolean)}
+     */
+    SessionResultsBundle getSessionResultsForInstructorBySection(
+            String feedbackSessionName, String courseId, String instructorEmail, boolean isMissingResponsesIncluded) {
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+
+        List<FeedbackResponseAttributes> allResponses =
+                frLogic.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, null);
+        Map<String, List<FeedbackResponseAttributes>> sectionResponsesMap = allResponses.stream()
+                .collect(Collectors.groupingBy(FeedbackResponseAttributes::getGiverSection));
+        Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap = frcLogic
+                .getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, null)
+                .stream()
+                .collect(Collectors.groupingBy(FeedbackResponseCommentAttributes::getFeedbackResponseId));
+
+        Map<String, FeedbackQuestionAttributes> allQuestionsMap = getQuestionsMap(allQuestions);
+        Map<String, VisibilityPolicy> visibilityPolicies = VisibilityPolicy.compileAll(allQuestions);
+        ResultsViewer viewer =
+                getResultsViewer(feedbackSessionName, courseId, instructorEmail, UserRole.INSTRUCTOR, null, roster);
+
+        List<ForkJoinTask<VisibleResults>> sectionTasks = new ArrayList<>();
+        for (List<FeedbackResponseAttributes> sectionResponses : sectionResponsesMap.values()) {
+            sectionTasks.add(SECTION_RESULTS_POOL.submit(() -> collectVisibleResultsInSection(
+                    sectionResponses, responseCommentsMap, viewer, allQuestions, allQuestionsMap, visibilityPolicies)));
+        }
+
+        VisibleResults visibleResults = new VisibleResults(allQuestions);
+        Map<String, FeedbackResponseAttributes> visibleResponsesMap = new HashMap<>();
+        for (ForkJoinTask<VisibleResults> sectionTask : sectionTasks) {
+            VisibleResults sectionResults = sectionTask.join();
+            visibleResponsesMap.putAll(sectionResults.relatedResponsesMap);
+            visibleResults.relatedCommentsMap.putAll(sectionResults.relatedCommentsMap);
+            visibleResults.responseVisibilityTable.putAll(sectionResults.responseVisibilityTable);
+            visibleResults.commentVisibilityTable.putAll(sectionResults.commentVisibilityTable);
+        }
+        // follow the order of the responses loaded for the whole session
+        for (FeedbackResponseAttributes response : allResponses) {
+            if (visibleResponsesMap.containsKey(response.getId())) {
+                visibleResults.relatedResponsesMap.put(response.getId(), visibleResponsesMap.get(response.getId()));
+            }
+        }
+
+        return assembleSessionResultsBundle(feedbackSessionName, courseId, viewer, visibilityPolicies, visibleResults,
+                null, isMissingResponsesIncluded);
+    }
+
+    /**
+     * Gets the sections which the responses in the sessions of the course can be given to/from.
+     */
+    private Set<String> getSectionsOfResponses(CourseRoster roster) {
+        Set<String> sections = new TreeSet<>();
+        for (StudentAttributes student : roster.getStudents()) {
+            sections.add(student.getSection());
+        }
+        // instructors and the general recipient are in the default section
+        sections.add(Const.DEFAULT_SECTION);
+        return sections;
+    }
+
+    private VisibleResults collectVisibleResultsInSection(
+            List<FeedbackResponseAttributes> sectionResponses,
+            Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap, ResultsViewer viewer,
+            List<FeedbackQuestionAttributes> allQuestions, Map<String, FeedbackQuestionAttributes> allQuestionsMap,
+            Map<String, VisibilityPolicy> visibilityPolicies) {
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        for (FeedbackResponseAttributes response : sectionResponses) {
+            comments.addAll(responseCommentsMap.getOrDefault(response.getId(), Collections.emptyList()));
+        }
+
+        VisibleResults sectionResults = new VisibleResults(allQuestions);
+        collectVisibleResults(sectionResults, viewer, allQuestionsMap, visibilityPolicies, sectionResponses, comments);
+        return sectionResults;
+    }
+
+    private SessionResultsBundle buildSessionResultsBundle(
+            String feedbackSessionName, String courseId, String userEmail, UserRole role,
+            CourseRoster roster, @Nullable StudentAttributes student, List<FeedbackQuestionAttributes> allQuestions,
+            List<FeedbackResponseAttributes> allResponses, List<FeedbackResponseCommentAttributes> allComments,
+            @Nullable String section, boolean isMissingResponsesIncluded) {
+        Map<String, FeedbackQuestionAttributes> allQuestionsMap = getQuestionsMap(allQuestions);
+        Map<String, VisibilityPolicy> visibilityPolicies = VisibilityPolicy.compileAll(allQuestions);
 
         // consider the current viewing user
+        ResultsViewer viewer = getResultsViewer(feedbackSessionName, courseId, userEmail, role, student, roster);
+
+        // all questions are related questions for instructor
+        // student will have no related question at the beginning
+        VisibleResults visibleResults = new VisibleResults(isInstructor(role) ? allQuestions : Collections.emptyList());
+        collectVisibleResults(visibleResults, viewer, allQuestionsMap, visibilityPolicies, allResponses, allComments);
+
+        return assembleSessionResultsBundle(feedbackSessionName, courseId, viewer, visibilityPolicies, visibleResults,
+                section, isMissingResponsesIncluded);
+    }
+
+    private Map<String, FeedbackQuestionAttributes> getQuestionsMap(List<FeedbackQuestionAttributes> questions) {
+        Map<String, FeedbackQuestionAttributes> questionsMap = new HashMap<>();
+        for (FeedbackQuestionAttributes qn : questions) {
+            questionsMap.put(qn.getId(), qn);
+        }
+        return questionsMap;
+    }
+
+    private ResultsViewer getResultsViewer(String feedbackSessionName, String courseId, String userEmail, UserRole role,
+                                           @Nullable StudentAttributes student, CourseRoster roster) {
         Set<String> studentsEmailInTeam = getTeammateEmails(student, roster);
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        return new ResultsViewer(userEmail, role, student, studentsEmailInTeam, instructor, roster, feedbackSessionName);
+    }
 
-        // visibility table for each response and comment
-        Map<String, boolean[]> responseVisibilityTable = new HashMap<>();
-        Map<Long, boolean[]> commentVisibilityTable = new HashMap<>();
-
+    /**
+     * Collects the responses and comments which are visible to the viewer, with the visibility of their names.
+     */
+    private void collectVisibleResults(
+            VisibleResults visibleResults, ResultsViewer viewer, Map<String, FeedbackQuestionAttributes> allQuestionsMap,
+            Map<String, VisibilityPolicy> visibilityPolicies, List<FeedbackResponseAttributes> responses,
+            List<FeedbackResponseCommentAttributes> comments) {
         // build response
-        for (FeedbackResponseAttributes response : allResponses) {
+        for (FeedbackResponseAttributes response : responses) {
             FeedbackQuestionAttributes correspondingQuestion = allQuestionsMap.get(response.feedbackQuestionId);
             if (correspondingQuestion == null) {
                 // orphan response without corresponding question, ignore it
                 continue;
             }
             // check visibility of response
-            boolean isVisibleResponse = isResponseVisibleForUser(
-                    userEmail, role, student, studentsEmailInTeam, response, correspondingQuestion, instructor);
-            if (!isVisibleResponse) {
+            VisibilityPolicy visibilityPolicy = visibilityPolicies.get(correspondingQuestion.getId());
+            if (!visibilityPolicy.isResponseVisibleTo(viewer, response)) {
                 continue;
             }
 
             // only if there are viewable responses, the corresponding question becomes related.
             // this operation is redundant for instructor but necessary for student
-            relatedQuestionsMap.put(response.getFeedbackQuestionId(), correspondingQuestion);
-            relatedResponsesMap.put(response.getId(), response);
+            visibleResults.relatedQuestionsMap.put(response.getFeedbackQuestionId(), correspondingQuestion);
+            visibleResults.relatedResponsesMap.put(response.getId(), response);
             // generate giver/recipient name visibility table
-            addResponseVisibilityToTable(responseVisibilityTable, correspondingQuestion, response, userEmail, role, roster);
+            addResponseVisibilityToTable(visibleResults.responseVisibilityTable, visibilityPolicy, response, viewer);
         }
 
         // build comment
-        for (FeedbackResponseCommentAttributes frc : allComments) {
-            FeedbackResponseAttributes relatedResponse = relatedResponsesMap.get(frc.feedbackResponseId);
-            FeedbackQuestionAttributes relatedQuestion = relatedQuestionsMap.get(frc.feedbackQuestionId);
+        for (FeedbackResponseCommentAttributes frc : comments) {
+            FeedbackResponseAttributes relatedResponse = visibleResults.relatedResponsesMap.get(frc.feedbackResponseId);
+            FeedbackQuestionAttributes relatedQuestion = visibleResults.relatedQuestionsMap.get(frc.feedbackQuestionId);
             // the comment needs to be relevant to the question and response
             if (relatedQuestion == null || relatedResponse == null) {
                 continue;
             }
             // check visibility of comment
             boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
-                    userEmail, role, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+                    viewer.getEmail(), viewer.getRole(), viewer.getStudent(), viewer.getTeammateEmails(),
+                    relatedResponse, relatedQuestion, frc);
             if (!isVisibleResponseComment) {
                 continue;
             }
 
-            relatedCommentsMap.computeIfAbsent(relatedResponse.getId(), key -> new ArrayList<>()).add(frc);
+            visibleResults.relatedCommentsMap.computeIfAbsent(relatedResponse.getId(), key -> new ArrayList<>()).add(frc);
             // generate comment giver name visibility table
-            addCommentVisibilityToTable(commentVisibilityTable, frc, relatedResponse, userEmail, roster);
+            addCommentVisibilityToTable(visibleResults.commentVisibilityTable, frc, relatedResponse,
+                    viewer.getEmail(), viewer.getRoster());
         }
+    }
 
-        List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(relatedResponsesMap.values());
-        List<FeedbackResponseAttributes> missingResponses = Collections.emptyList();
+    private SessionResultsBundle assembleSessionResultsBundle(
+            String feedbackSessionName, String courseId, ResultsViewer viewer,
+            Map<String, VisibilityPolicy> visibilityPolicies, VisibleResults visibleResults,
+            @Nullable String section, boolean isMissingResponsesIncluded) {
+        List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(visibleResults.relatedResponsesMap.values());
+        Map<String, MissingResponses> missingResponses = Collections.emptyMap();
         FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
-        if (role == UserRole.INSTRUCTOR) {
-            missingResponses = buildMissingResponses(
-                    instructor, responseVisibilityTable, session,
-                    relatedQuestionsMap, existingResponses, roster, section);
+        if (viewer.getRole() == UserRole.INSTRUCTOR && isMissingResponsesIncluded) {
+            missingResponses = buildMissingResponses(viewer, visibilityPolicies, session,
+                    visibleResults.relatedQuestionsMap, existingResponses, viewer.getRoster(), section);
         }
 
-        return new SessionResultsBundle(session, relatedQuestionsMap, existingResponses, missingResponses,
-                responseVisibilityTable, relatedCommentsMap, commentVisibilityTable, roster);
+        return new SessionResultsBundle(session, visibleResults.relatedQuestionsMap, existingResponses, missingResponses,
+                visibleResults.responseVisibilityTable, visibleResults.relatedCommentsMap,
+                visibleResults.commentVisibilityTable, viewer.getRoster());
     }
 
     private void addResponseVisibilityToTable(
-            Map<String, boolean[]> responseVisibilityTable, FeedbackQuestionAttributes question,
-            FeedbackResponseAttributes response, String userEmail,
-            UserRole role, CourseRoster roster) {
+            Map<String, boolean[]> responseVisibilityTable, VisibilityPolicy visibilityPolicy,
+            FeedbackResponseAttributes response, ResultsViewer viewer) {
         boolean[] responseVisibility = new boolean[2];
-        responseVisibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        responseVisibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
+        responseVisibility[Const.VISIBILITY_TABLE_GIVER] = visibilityPolicy.isNameVisibleTo(viewer, response, true);
+        responseVisibility[Const.VISIBILITY_TABLE_RECIPIENT] = visibilityPolicy.isNameVisibleTo(viewer, response, false);
         responseVisibilityTable.put(response.getId(), responseVisibility);
     }
 
@@ -786,94 +983,130 @@ public final class FeedbackSessionsLogic {
     /**
      * Builds viewable missing responses for the session for instructor.
      *
-     * @param instructor the instructor
-     * @param responseVisibilityTable the visibility table which will be updated with the visibility of missing responses
+     * <p>The missing responses are only marked against the indexes of their givers and recipients, and are not created
+     * until they are needed. For questions whose recipients are within the team of the giver, the givers and
+     * recipients are indexed team by team, so that the pairs across teams, which can never be missing, are not held.
+     *
+     * @param viewer the instructor viewing the results
+     * @param visibilityPolicies the compiled visibility settings of the questions
      * @param feedbackSession the feedback sessions
      * @param relatedQuestionsMap the relevant questions
      * @param existingResponses existing responses
      * @param courseRoster the course roster
      * @param section if not null, will only build missing responses for the section
-     * @return a list of missing responses for the session.
+     * @return the missing responses for the session, by the ID of the question
      */
-    private List<FeedbackResponseAttributes> buildMissingResponses(
-            InstructorAttributes instructor,
-            Map<String, boolean[]> responseVisibilityTable,
+    private Map<String, MissingResponses> buildMissingResponses(
+            ResultsViewer viewer, Map<String, VisibilityPolicy> visibilityPolicies,
             FeedbackSessionAttributes feedbackSession, Map<String, FeedbackQuestionAttributes> relatedQuestionsMap,
             List<FeedbackResponseAttributes> existingResponses, CourseRoster courseRoster, @Nullable String section) {
 
-        // first get all possible giver recipient pairs
-        Map<String, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
-        for (FeedbackQuestionAttributes feedbackQuestion : relatedQuestionsMap.values()) {
-            if (feedbackQuestion.getQuestionDetails().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(),
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackSession, feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(), new HashMap<>());
-            }
+        // the existing pairs of giver and recipient, by question and then by giver
+        Map<String, Map<String, Set<String>>> questionExistingGiverRecipientMap = new HashMap<>();
+        for (FeedbackResponseAttributes existingResponse : existingResponses) {
+            questionExistingGiverRecipientMap
+                    .computeIfAbsent(existingResponse.getFeedbackQuestionId(), key -> new HashMap<>())
+                    .computeIfAbsent(existingResponse.getGiver(), key -> new HashSet<>())
+                    .add(existingResponse.getRecipient());
         }
 
-        // remove the existing responses in those pairs
-        for (FeedbackResponseAttributes existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestionId());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
+        Map<String, MissingResponses> missingResponsesMap = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes feedbackQuestion : relatedQuestionsMap.values()) {
+            if (!feedbackQuestion.getReadOnlyQuestionDetails().shouldGenerateMissingResponses(feedbackQuestion)) {
                 continue;
             }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
-        }
-
-        List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
-        // build dummy responses
-        for (Map.Entry<String, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestionAttributes correspondingQuestion =
-                    relatedQuestionsMap.get(currGiverRecipientMapEntry.getKey());
-            String questionId = correspondingQuestion.getId();
-
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
-                // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
-                CourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
-
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
-                    // recipient
-                    CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
-
-                    // skip responses not in current section
-                    if (section != null
-                            && !giverInfo.getSectionName().equals(section)
-                                    && !recipientInfo.getSectionName().equals(section)) {
-                        continue;
+            String questionId = feedbackQuestion.getId();
+            VisibilityPolicy visibilityPolicy = visibilityPolicies.get(questionId);
+            Map<String, Set<String>> existingGiverRecipientMap =
+                    questionExistingGiverRecipientMap.getOrDefault(questionId, Collections.emptyMap());
+            MissingResponses missingResponses = new MissingResponses(
+                    questionId, feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId());
+
+            List<String> possibleGivers = fqLogic.getPossibleGivers(feedbackSession, feedbackQuestion, courseRoster);
+            for (List<String> givers : groupPossibleGivers(feedbackQuestion, possibleGivers, courseRoster)) {
+                // index the recipients of all givers in the group
+                List<Set<String>> giverRecipients = new ArrayList<>();
+                Map<String, Integer> recipientIndexes = new LinkedHashMap<>();
+                for (String giver : givers) {
+                    Set<String> recipients = fqLogic.getPossibleRecipients(feedbackQuestion, giver, courseRoster);
+                    giverRecipients.add(recipients);
+                    for (String recipient : recipients) {
+                        recipientIndexes.putIfAbsent(recipient, recipientIndexes.size());
                     }
-
-                    FeedbackResponseAttributes missingResponse =
-                            FeedbackResponseAttributes.builder(questionId, giverIdentifier, recipientIdentifier)
-                                    .withCourseId(feedbackSession.getCourseId())
-                                    .withFeedbackSessionName(feedbackSession.getFeedbackSessionName())
-                                    .withGiverSection(giverInfo.getSectionName())
-                                    .withRecipientSection(recipientInfo.getSectionName())
-                                    .withResponseDetails(new FeedbackTextResponseDetails(
-                                                    Const.INSTRUCTOR_FEEDBACK_RESULTS_MISSING_RESPONSE))
-                                    .build();
-
-                    // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), UserRole.INSTRUCTOR, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
-                    if (!isVisibleResponse) {
-                        continue;
+                }
+                List<String> recipients = new ArrayList<>(recipientIndexes.keySet());
+                List<String> giverSections = getSectionNames(givers, courseRoster);
+                List<String> recipientSections = getSectionNames(recipients, courseRoster);
+                MissingResponses.Group group =
+                        missingResponses.addGroup(givers, giverSections, recipients, recipientSections);
+
+                for (int giverIndex = 0; giverIndex < givers.size(); giverIndex++) {
+                    String giver = givers.get(giverIndex);
+                    String giverSection = giverSections.get(giverIndex);
+                    Set<String> existingRecipients =
+                            existingGiverRecipientMap.getOrDefault(giver, Collections.emptySet());
+
+                    for (String recipient : giverRecipients.get(giverIndex)) {
+                        int recipientIndex = recipientIndexes.get(recipient);
+                        String recipientSection = recipientSections.get(recipientIndex);
+                        if (existingRecipients.contains(recipient)) {
+                            continue;
+                        }
+                        // skip responses not in current section
+                        if (section != null && !giverSection.equals(section) && !recipientSection.equals(section)) {
+                            continue;
+                        }
+                        // check visibility of the missing response
+                        if (!visibilityPolicy.isResponseVisibleTo(
+                                viewer, giver, recipient, giverSection, recipientSection)) {
+                            continue;
+                        }
+
+                        group.markMissing(giverIndex, recipientIndex,
+                                visibilityPolicy.isNameVisibleTo(viewer, giver, recipient, true),
+                                visibilityPolicy.isNameVisibleTo(viewer, giver, recipient, false));
                     }
-
-                    // generate giver/recipient name visibility table
-                    addResponseVisibilityToTable(responseVisibilityTable, correspondingQuestion,
-                            missingResponse, instructor.getEmail(), UserRole.INSTRUCTOR, courseRoster);
-                    missingResponses.add(missingResponse);
                 }
             }
+
+            missingResponsesMap.put(questionId, missingResponses);
         }
 
-        return missingResponses;
+        return missingResponsesMap;
+    }
+
+    /**
+     * Groups the possible givers of a question whose recipients are within the team of the giver by team,
+     * or puts all of them in one group otherwise.
+     */
+    private List<List<String>> groupPossibleGivers(
+            FeedbackQuestionAttributes question, List<String> possibleGivers, CourseRoster courseRoster) {
+        boolean isGiverInTeam = question.getGiverType() == FeedbackParticipantType.STUDENTS
+                || question.getGiverType() == FeedbackParticipantType.TEAMS;
+        boolean isRecipientInTeamOfGiver = question.getRecipientType() == FeedbackParticipantType.SELF
+                || question.getRecipientType() == FeedbackParticipantType.OWN_TEAM
+                || question.getRecipientType() == FeedbackParticipantType.OWN_TEAM_MEMBERS
+                || question.getRecipientType() == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
+        if (!isGiverInTeam || !isRecipientInTeamOfGiver) {
+            return Collections.singletonList(possibleGivers);
+        }
+
+        Map<String, List<String>> teamGiversMap = new LinkedHashMap<>();
+        for (String giver : possibleGivers) {
+            String team = question.getGiverType() == FeedbackParticipantType.TEAMS
+                    ? giver
+                    : courseRoster.getStudentForEmail(giver).getTeam();
+            teamGiversMap.computeIfAbsent(team, key -> new ArrayList<>()).add(giver);
+        }
+        return new ArrayList<>(teamGiversMap.values());
+    }
+
+    private List<String> getSectionNames(List<String> participants, CourseRoster courseRoster) {
+        List<String> sectionNames = new ArrayList<>(participants.size());
+        for (String participant : participants) {
+            sectionNames.add(courseRoster.getInfoForIdentifier(participant).getSectionName());
+        }
+        return sectionNames;
     }
 
     /**
@@ -924,56 +1157,6 @@ public final class FeedbackSessionsLogic {
         return role == UserRole.INSTRUCTOR;
     }
 
-    private boolean isResponseVisibleForUser(String userEmail,
-            UserRole role, StudentAttributes student,
-            Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.recipient.equals(userEmail)
-                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.giver.equals(userEmail)
-                || isStudent(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && isStudent(role)) {
-            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.recipient.equals(student.team)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.recipient)) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
     private List<FeedbackSessionAttributes> getFeedbackSessionsListForCourse(String courseId) {
 
         return fsDb.getFeedbackSessionsForCourse(courseId);
@@ -1007,6 +1190,79 @@ public final class FeedbackSessionsLogic {
         return true;
     }
 
+    /**
+     * Computes, for every giver of the session, the questions the giver has not fully answered.
+     *
+     * <p>All the questions and responses of the session are loaded once, and the number of responses expected
+     * from each giver is derived from a single roster of the course, so that the cost does not grow
+     * with the number of givers in terms of datastore reads.
+     */
+    public SessionCompletionMatrix computeCompletionMatrix(FeedbackSessionAttributes session) {
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+
+        Map<String, Map<String, Integer>> numberOfResponsesByQuestionAndGiver = new HashMap<>();
+        for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId)) {
+            numberOfResponsesByQuestionAndGiver.computeIfAbsent(response.feedbackQuestionId, id -> new HashMap<>())
+                    .merge(response.giver, 1, Integer::sum);
+        }
+
+        Map<String, Set<String>> incompleteQuestionIdsByStudentEmail = new LinkedHashMap<>();
+        Map<String, Set<String>> incompleteQuestionIdsByInstructorEmail = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            Map<String, Integer> numberOfResponsesByGiver =
+                    numberOfResponsesByQuestionAndGiver.getOrDefault(question.getId(), Collections.emptyMap());
+
+            switch (question.giverType) {
+            case STUDENTS:
+            case TEAMS:
+                for (StudentAttributes student : roster.getStudents()) {
+                    int numberOfResponsesGiven = numberOfResponsesByGiver.getOrDefault(student.email, 0);
+                    if (question.giverType == FeedbackParticipantType.TEAMS) {
+                        // responses to team questions are given on behalf of the whole team
+                        numberOfResponsesGiven += numberOfResponsesByGiver.getOrDefault(student.team, 0);
+                    }
+                    Set<String> incompleteQuestionIds =
+                            incompleteQuestionIdsByStudentEmail.computeIfAbsent(student.email, e -> new LinkedHashSet<>());
+                    if (numberOfResponsesGiven < getNumberOfResponsesNeeded(question, null, student, roster)) {
+                        incompleteQuestionIds.add(question.getId());
+                    }
+                }
+                break;
+            case INSTRUCTORS:
+            case SELF:
+                for (InstructorAttributes instructor : roster.getInstructors()) {
+                    if (question.giverType == FeedbackParticipantType.SELF
+                            && !instructor.email.equals(session.getCreatorEmail())) {
+                        continue;
+                    }
+                    int numberOfResponsesGiven = numberOfResponsesByGiver.getOrDefault(instructor.email, 0);
+                    Set<String> incompleteQuestionIds =
+                            incompleteQuestionIdsByInstructorEmail.computeIfAbsent(instructor.email,
+                                    e -> new LinkedHashSet<>());
+                    if (numberOfResponsesGiven < getNumberOfResponsesNeeded(question, instructor, null, roster)) {
+                        incompleteQuestionIds.add(question.getId());
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        return new SessionCompletionMatrix(incompleteQuestionIdsByStudentEmail, incompleteQuestionIdsByInstructorEmail);
+    }
+
+    private int getNumberOfResponsesNeeded(FeedbackQuestionAttributes question,
+            @Nullable InstructorAttributes instructorGiver, @Nullable StudentAttributes studentGiver, CourseRoster roster) {
+        if (question.numberOfEntitiesToGiveFeedbackTo != Const.MAX_POSSIBLE_RECIPIENTS) {
+            return question.numberOfEntitiesToGiveFeedbackTo;
+        }
+        return fqLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, roster).size();
+    }
+
     public boolean isFeedbackSessionViewableToStudents(
             FeedbackSessionAttributes session) {
         // Allow students to view the feedback session if there are questions for them
@@ -1045,4 +1301,25 @@ public final class FeedbackSessionsLogic {
         return session.isVisible() && !questionsToAnswer.isEmpty();
     }
 
+    /**
+     * The questions, responses and comments in the results which are visible to the viewer,
+     * with the visibility of their names.
+     */
+    private static final class VisibleResults {
+
+        // insertion-ordered so that the results follow the order in which the questions and responses are loaded
+        private final Map<String, FeedbackQuestionAttributes> relatedQuestionsMap = new LinkedHashMap<>();
+        private final Map<String, FeedbackResponseAttributes> relatedResponsesMap = new LinkedHashMap<>();
+        private final Map<String, List<FeedbackResponseCommentAttributes>> relatedCommentsMap = new HashMap<>();
+        private final Map<String, boolean[]> responseVisibilityTable = new HashMap<>();
+        private final Map<Long, boolean[]> commentVisibilityTable = new HashMap<>();
+
+        VisibleResults(List<FeedbackQuestionAttributes> relatedQuestions) {
+            for (FeedbackQuestionAttributes qn : relatedQuestions) {
+                relatedQuestionsMap.put(qn.getId(), qn);
+            }
+        }
+
+    }
+
 }
@@ -1,10 +1,12 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponseRef;
 import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -30,6 +32,7 @@ public final class InstructorsLogic {
 
     private static final InstructorsDb instructorsDb = new InstructorsDb();
 
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
@@ -56,6 +59,13 @@ public final class InstructorsLogic {
         instructorsDb.putDocuments(instructors);
     }
 
+    /**
+     * Batch creates or updates documents for the instructors with the given IDs, as they currently are.
+     */
+    public void putDocumentsForIds(Collection<String> instructorIds) {
+        instructorsDb.putDocumentsForIds(instructorIds);
+    }
+
     /**
      * This method should be used by admin only since the searching does not restrict the
      * visibility according to the logged-in user's google ID. This is used by admin to
@@ -79,7 +89,9 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        courseRostersLogic.invalidate(createdInstructor.getCourseId());
+        return createdInstructor;
     }
 
     /**
@@ -93,6 +105,7 @@ public final class InstructorsLogic {
                         .withIsArchived(archiveStatus)
                         .build()
         );
+        courseRostersLogic.invalidate(courseId);
     }
 
     public InstructorAttributes getInstructorForEmail(String courseId, String email) {
@@ -173,14 +186,16 @@ public final class InstructorsLogic {
                 newInstructor.isDisplayedToStudents());
 
         InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByGoogleId(updateOptions);
+        courseRostersLogic.invalidate(updatedInstructor.getCourseId());
 
         if (!originalInstructor.email.equals(updatedInstructor.email)) {
             // cascade responses
-            List<FeedbackResponseAttributes> responsesFromUser =
-                    frLogic.getFeedbackResponsesFromGiverForCourse(
+            List<FeedbackResponseRef> responsesFromUser =
+                    frLogic.getFeedbackResponseRefsFromGiverForCourse(
                             originalInstructor.getCourseId(), originalInstructor.getEmail());
-            for (FeedbackResponseAttributes responseFromUser : responsesFromUser) {
-                FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(responseFromUser.feedbackQuestionId);
+            for (FeedbackResponseRef responseFromUser : responsesFromUser) {
+                FeedbackQuestionAttributes question =
+                        fqLogic.getFeedbackQuestion(responseFromUser.getFeedbackQuestionId());
                 if (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                         || question.getGiverType() == FeedbackParticipantType.SELF) {
                     try {
@@ -193,11 +208,12 @@ public final class InstructorsLogic {
                     }
                 }
             }
-            List<FeedbackResponseAttributes> responsesToUser =
-                    frLogic.getFeedbackResponsesForReceiverForCourse(
+            List<FeedbackResponseRef> responsesToUser =
+                    frLogic.getFeedbackResponseRefsForReceiverForCourse(
                             originalInstructor.getCourseId(), originalInstructor.getEmail());
-            for (FeedbackResponseAttributes responseToUser : responsesToUser) {
-                FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(responseToUser.feedbackQuestionId);
+            for (FeedbackResponseRef responseToUser : responsesToUser) {
+                FeedbackQuestionAttributes question =
+                        fqLogic.getFeedbackQuestion(responseToUser.getFeedbackQuestionId());
                 if (question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
                         || (question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
                         && question.getRecipientType() == FeedbackParticipantType.SELF)) {
@@ -247,7 +263,9 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.courseId, isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        courseRostersLogic.invalidate(updatedInstructor.getCourseId());
+        return updatedInstructor;
     }
 
     /**
@@ -255,6 +273,11 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        if (query.isCourseIdPresent()) {
+            courseRostersLogic.invalidate(query.getCourseId());
+        } else {
+            courseRostersLogic.invalidateAll();
+        }
     }
 
     /**
@@ -270,6 +293,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedInstructorOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        courseRostersLogic.invalidate(courseId);
     }
 
     /**
@@ -308,6 +332,7 @@ public final class InstructorsLogic {
         } catch (InvalidParametersException e) {
             Assumption.fail("Unexpected invalid parameter.");
         }
+        courseRostersLogic.invalidate(courseId);
     }
 
 }
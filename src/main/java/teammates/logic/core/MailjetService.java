@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -48,9 +51,39 @@ public class MailjetService extends EmailSenderService {
         return request;
     }
 
+    /**
+     * Parses the {@code wrappers} into a single request which sends all of them at once,
+     * with one message in the {@code Messages} array for each of them.
+     */
+    public MailjetRequest parseToEmails(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(parseToEmail(wrapper).getBodyJSON());
+        }
+        return new MailjetRequest(Email.resource).property(Email.MESSAGES, messages);
+    }
+
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
-        MailjetRequest email = parseToEmail(wrapper);
+        return send(parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The emails are sent in a single request, which Mailjet accepts or rejects as a whole;
+     * the emails thus share the status of the request.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers)
+            throws MailjetException, MailjetSocketTimeoutException {
+        if (wrappers.size() == 1) {
+            return Collections.singletonList(sendEmail(wrappers.get(0)));
+        }
+        return Collections.nCopies(wrappers.size(), send(parseToEmails(wrappers)));
+    }
+
+    private EmailSendingStatus send(MailjetRequest email) throws MailjetException, MailjetSocketTimeoutException {
         MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
         MailjetResponse response = mailjet.post(email);
         return new EmailSendingStatus(response.getStatus(), response.getData().toString());
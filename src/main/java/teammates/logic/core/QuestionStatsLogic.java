@@ -0,0 +1,201 @@
+package teammates.logic.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
+import teammates.storage.api.QuestionStatsDb;
+
+/**
+ * Handles operations related to the running tallies of the responses to feedback questions.
+ *
+ * <p>The tally of a question is computed from its responses when first needed, and is then kept up to date
+ * as responses are created, updated and deleted, so that the statistics of the question can be computed
+ * without loading its responses. Changes to the details of a question discard its tally.
+ *
+ * <p>Between {@link #startDeferring()} and {@link #stopDeferring()}, which are invoked on the thread serving
+ * a request, the changes made to the tallies by the responses saved in the request are not applied on the write path.
+ * Instead, they are collected per question, to be applied after the request with
+ * {@link #applyResponsesTallyChanges(String, FeedbackResponsesTally)}, so that saving responses does not contend
+ * for the single entity holding the tally of their question.
+ *
+ * <p>As responses are found with eventually consistent queries, a response saved while the tally of its question
+ * is being computed may be missed or counted twice. Changes applied more than once, e.g. by a retried task,
+ * also make the tally drift. {@link #reconcileResponsesTallies(FeedbackSessionAttributes)} recomputes the tallies
+ * of a session from scratch to repair any such drift.
+ *
+ * @see QuestionStatsDb
+ */
+public final class QuestionStatsLogic {
+
+    private static QuestionStatsLogic instance = new QuestionStatsLogic();
+
+    private static final ThreadLocal<Map<String, FeedbackResponsesTally>> DEFERRED_TALLY_CHANGES = new ThreadLocal<>();
+
+    private static final QuestionStatsDb qsDb = new QuestionStatsDb();
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    private QuestionStatsLogic() {
+        // prevent initialization
+    }
+
+    public static QuestionStatsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the tally of the responses to a feedback question.
+     *
+     * <p>The tally is computed from the responses to the question and stored if it has not been computed.
+     */
+    public FeedbackResponsesTally getResponsesTally(FeedbackQuestionAttributes question) {
+        FeedbackResponsesTally tally = qsDb.getResponsesTally(question.getId());
+        if (tally != null) {
+            return tally;
+        }
+
+        // a tally computed concurrently is kept, as changes may have been applied to it since
+        return qsDb.createResponsesTallyIfAbsent(question.getId(), question.getFeedbackSessionName(),
+                question.getCourseId(), computeResponsesTally(question));
+    }
+
+    /**
+     * Recomputes the tallies of the questions of a feedback session which have been computed,
+     * replacing those which have drifted.
+     *
+     * @return the number of tallies which have drifted
+     */
+    public int reconcileResponsesTallies(FeedbackSessionAttributes session) {
+        int numberOfDriftedTallies = 0;
+        for (FeedbackQuestionAttributes question
+                : fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId())) {
+            FeedbackResponsesTally storedTally = qsDb.getResponsesTally(question.getId());
+            if (storedTally == null) {
+                continue;
+            }
+
+            FeedbackResponsesTally tally = computeResponsesTally(question);
+            if (!tally.equals(storedTally)) {
+                qsDb.putResponsesTally(question.getId(), question.getFeedbackSessionName(), question.getCourseId(), tally);
+                numberOfDriftedTallies++;
+            }
+        }
+        return numberOfDriftedTallies;
+    }
+
+    private FeedbackResponsesTally computeResponsesTally(FeedbackQuestionAttributes question) {
+        FeedbackQuestionDetails questionDetails = question.getReadOnlyQuestionDetails();
+        FeedbackResponsesTally tally = new FeedbackResponsesTally();
+        for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForQuestion(question.getId())) {
+            tally.addResponse(questionDetails, response);
+        }
+        return tally;
+    }
+
+    /**
+     * Adds a newly created response to the tally of its question, if the tally has been computed.
+     */
+    public void addResponse(FeedbackResponseAttributes response) {
+        changeResponsesTally(response.getFeedbackQuestionId(),
+                (questionDetails, changes) -> changes.addResponse(questionDetails, response));
+    }
+
+    /**
+     * Replaces an updated response in the tally of its question, if the tally has been computed.
+     */
+    public void replaceResponse(FeedbackResponseAttributes oldResponse, FeedbackResponseAttributes newResponse) {
+        changeResponsesTally(newResponse.getFeedbackQuestionId(), (questionDetails, changes) -> {
+            changes.removeResponse(questionDetails, oldResponse);
+            changes.addResponse(questionDetails, newResponse);
+        });
+    }
+
+    /**
+     * Removes a deleted response from the tally of its question, if the tally has been computed.
+     */
+    public void removeResponse(FeedbackResponseAttributes response) {
+        changeResponsesTally(response.getFeedbackQuestionId(),
+                (questionDetails, changes) -> changes.removeResponse(questionDetails, response));
+    }
+
+    private void changeResponsesTally(String feedbackQuestionId,
+                                      BiConsumer<FeedbackQuestionDetails, FeedbackResponsesTally> change) {
+        if (!qsDb.hasResponsesTally(feedbackQuestionId)) {
+            return;
+        }
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+        if (question == null) {
+            return;
+        }
+
+        Map<String, FeedbackResponsesTally> deferredTallyChanges = DEFERRED_TALLY_CHANGES.get();
+        FeedbackResponsesTally changes = deferredTallyChanges == null
+                ? new FeedbackResponsesTally()
+                : deferredTallyChanges.computeIfAbsent(feedbackQuestionId, key -> new FeedbackResponsesTally());
+        change.accept(question.getReadOnlyQuestionDetails(), changes);
+
+        if (deferredTallyChanges == null) {
+            applyResponsesTallyChanges(feedbackQuestionId, changes);
+        }
+    }
+
+    /**
+     * Applies the changes made by a number of responses to the tally of their question,
+     * if the tally has been computed.
+     */
+    public void applyResponsesTallyChanges(String feedbackQuestionId, FeedbackResponsesTally changes) {
+        if (!changes.isEmpty()) {
+            qsDb.updateResponsesTally(feedbackQuestionId, tally -> tally.merge(changes));
+        }
+    }
+
+    /**
+     * Starts deferring changes to the tallies for the request served by the current thread.
+     */
+    public void startDeferring() {
+        DEFERRED_TALLY_CHANGES.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Stops deferring changes to the tallies for the request served by the current thread.
+     *
+     * @return the changes yet to be applied, by the ID of the question whose tally they are to be applied to
+     */
+    public Map<String, FeedbackResponsesTally> stopDeferring() {
+        Map<String, FeedbackResponsesTally> deferredTallyChanges = DEFERRED_TALLY_CHANGES.get();
+        DEFERRED_TALLY_CHANGES.remove();
+
+        Map<String, FeedbackResponsesTally> tallyChanges = new LinkedHashMap<>();
+        if (deferredTallyChanges != null) {
+            deferredTallyChanges.forEach((feedbackQuestionId, changes) -> {
+                if (!changes.isEmpty()) {
+                    tallyChanges.put(feedbackQuestionId, changes);
+                }
+            });
+        }
+        return tallyChanges;
+    }
+
+    /**
+     * Discards the tally of a feedback question, e.g. after its details are changed.
+     */
+    public void invalidateResponsesTally(String feedbackQuestionId) {
+        qsDb.deleteResponsesTally(feedbackQuestionId);
+    }
+
+    /**
+     * Deletes tallies using {@link AttributesDeletionQuery}.
+     */
+    public void deleteResponsesTallies(AttributesDeletionQuery query) {
+        qsDb.deleteResponsesTallies(query);
+    }
+
+}
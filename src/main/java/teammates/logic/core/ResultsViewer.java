@@ -0,0 +1,118 @@
+package teammates.logic.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * The user viewing the results of a feedback session, with the facts about the user which are needed to check
+ * the visibility of every response in the session worked out once.
+ *
+ * @see VisibilityPolicy
+ */
+final class ResultsViewer {
+
+    private final String email;
+    private final UserRole role;
+    @Nullable
+    private final StudentAttributes student;
+    private final Set<String> teammateEmails;
+    @Nullable
+    private final InstructorAttributes instructor;
+    private final CourseRoster roster;
+    private final String feedbackSessionName;
+
+    private final boolean isInstructorInCourse;
+
+    /**
+     * Whether the instructor can view the responses in a section, by the name of the section.
+     *
+     * <p>Concurrent, as the results of the sections may be checked in parallel for the same viewer.
+     */
+    private final Map<String, Boolean> sectionViewability = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a viewer of the results of a feedback session.
+     *
+     * @param student the student viewing the results, if the user is viewing as a student
+     * @param teammateEmails the emails of the student and the teammates of the student, or an empty set
+     * @param instructor the instructor viewing the results, if the user is viewing as an instructor,
+     *                   whose privileges restrict the sections of the responses which can be viewed
+     */
+    ResultsViewer(String email, UserRole role, @Nullable StudentAttributes student, Set<String> teammateEmails,
+                  @Nullable InstructorAttributes instructor, CourseRoster roster, String feedbackSessionName) {
+        this.email = email;
+        this.role = role;
+        this.student = student;
+        this.teammateEmails = teammateEmails;
+        this.instructor = instructor;
+        this.roster = roster;
+        this.feedbackSessionName = feedbackSessionName;
+        this.isInstructorInCourse = role == UserRole.INSTRUCTOR && roster.getInstructorForEmail(email) != null;
+    }
+
+    /**
+     * Creates a viewer who is neither restricted by instructor privileges nor related to any team.
+     */
+    static ResultsViewer withoutTeamOrPrivileges(String email, UserRole role, CourseRoster roster) {
+        return new ResultsViewer(email, role, null, Collections.emptySet(), null, roster, null);
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    UserRole getRole() {
+        return role;
+    }
+
+    boolean isInstructor() {
+        return role == UserRole.INSTRUCTOR;
+    }
+
+    boolean isStudent() {
+        return role == UserRole.STUDENT;
+    }
+
+    /**
+     * Checks whether the user is viewing as an instructor and is an instructor of the course.
+     */
+    boolean isInstructorInCourse() {
+        return isInstructorInCourse;
+    }
+
+    StudentAttributes getStudent() {
+        return student;
+    }
+
+    Set<String> getTeammateEmails() {
+        return teammateEmails;
+    }
+
+    CourseRoster getRoster() {
+        return roster;
+    }
+
+    /**
+     * Checks whether the privileges of the user allow viewing the responses in a section.
+     *
+     * <p>The privileges are only looked up once for each section.
+     */
+    boolean canViewSection(String sectionName) {
+        if (instructor == null) {
+            return true;
+        }
+        return sectionViewability.computeIfAbsent(sectionName, section -> instructor.isAllowedForPrivilege(
+                section, feedbackSessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+    }
+
+}
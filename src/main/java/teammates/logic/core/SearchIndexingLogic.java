@@ -0,0 +1,78 @@
+package teammates.logic.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.api.DeferredSearchIndexing;
+
+/**
+ * Handles operations related to the indexing of search documents.
+ *
+ * <p>Between {@link #startDeferring()} and {@link #stopDeferring()}, which are invoked on the thread serving
+ * a request, search documents created or updated by the request are not indexed on the write path.
+ * Instead, the IDs of their entities are collected per search index, to be indexed after the request
+ * with {@link #putDocumentsForIds(String, Collection)}.
+ *
+ * @see DeferredSearchIndexing
+ */
+public final class SearchIndexingLogic {
+
+    private static SearchIndexingLogic instance = new SearchIndexingLogic();
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+
+    private final DeferredSearchIndexing deferredSearchIndexing = new DeferredSearchIndexing();
+
+    private SearchIndexingLogic() {
+        // prevent initialization
+    }
+
+    public static SearchIndexingLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Starts deferring search indexing for the request served by the current thread.
+     */
+    public void startDeferring() {
+        deferredSearchIndexing.startDeferring();
+    }
+
+    /**
+     * Stops deferring search indexing for the request served by the current thread.
+     *
+     * @return the IDs of the entities whose documents are yet to be indexed, by the name of the search index
+     */
+    public Map<String, List<String>> stopDeferring() {
+        return deferredSearchIndexing.stopDeferring();
+    }
+
+    /**
+     * Creates or updates the documents in the search index for the entities with the given IDs,
+     * as the entities currently are.
+     *
+     * @param indexName one of the search indexes in {@link Const.SearchIndex}
+     */
+    public void putDocumentsForIds(String indexName, Collection<String> entityIds) {
+        switch (indexName) {
+        case Const.SearchIndex.STUDENT:
+            studentsLogic.putDocumentsForIds(entityIds);
+            break;
+        case Const.SearchIndex.INSTRUCTOR:
+            instructorsLogic.putDocumentsForIds(entityIds);
+            break;
+        case Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT:
+            frcLogic.putDocumentsForIds(entityIds);
+            break;
+        default:
+            Assumption.fail("Unknown search index: " + indexName);
+            break;
+        }
+    }
+
+}
@@ -1,7 +1,13 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
+import org.apache.http.HttpStatus;
 import org.jsoup.Jsoup;
 
 import com.sendgrid.Method;
@@ -25,36 +31,117 @@ import teammates.common.util.EmailWrapper;
  */
 public class SendgridService extends EmailSenderService {
 
+    private static final String TEXT_CONTENT_SUBSTITUTION_TAG = "-teammatesTextContent-";
+    private static final String HTML_CONTENT_SUBSTITUTION_TAG = "-teammatesHtmlContent-";
+
+    /**
+     * Maximum total size of the substitutions of a personalization accepted by SendGrid.
+     */
+    private static final int MAX_SUBSTITUTIONS_BYTES_PER_PERSONALIZATION = 10_000;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
         Mail email = new Mail();
-        Email sender;
+        email.setFrom(getSender(wrapper));
+        email.setReplyTo(new Email(wrapper.getReplyTo()));
+        email.addPersonalization(getPersonalization(wrapper));
+        email.setSubject(wrapper.getSubject());
+        email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
+        email.addContent(new Content("text/html", wrapper.getContent()));
+        return email;
+    }
+
+    /**
+     * Parses the {@code wrappers}, which share the same sender and reply-to address, into a single email
+     * with one personalization for each of them.
+     *
+     * <p>As the content of an email can only vary between its personalizations by substitutions,
+     * the content of each wrapper is substituted into the email for the personalization of the wrapper.
+     *
+     * @return the email, or null if the wrappers cannot be sent as a single email
+     */
+    public Mail parseToEmailWithPersonalizations(List<EmailWrapper> wrappers) {
+        EmailWrapper firstWrapper = wrappers.get(0);
+        Mail email = new Mail();
+        email.setFrom(getSender(firstWrapper));
+        email.setReplyTo(new Email(firstWrapper.getReplyTo()));
+        email.setSubject(firstWrapper.getSubject());
+        email.addContent(new Content("text/plain", TEXT_CONTENT_SUBSTITUTION_TAG));
+        email.addContent(new Content("text/html", HTML_CONTENT_SUBSTITUTION_TAG));
+
+        for (EmailWrapper wrapper : wrappers) {
+            if (!Objects.equals(wrapper.getSenderEmail(), firstWrapper.getSenderEmail())
+                    || !Objects.equals(wrapper.getSenderName(), firstWrapper.getSenderName())
+                    || !Objects.equals(wrapper.getReplyTo(), firstWrapper.getReplyTo())) {
+                return null;
+            }
+
+            String textContent = Jsoup.parse(wrapper.getContent()).text();
+            int substitutionsBytes = (TEXT_CONTENT_SUBSTITUTION_TAG + textContent
+                    + HTML_CONTENT_SUBSTITUTION_TAG + wrapper.getContent()).getBytes(StandardCharsets.UTF_8).length;
+            if (substitutionsBytes > MAX_SUBSTITUTIONS_BYTES_PER_PERSONALIZATION) {
+                return null;
+            }
+
+            Personalization personalization = getPersonalization(wrapper);
+            personalization.setSubject(wrapper.getSubject());
+            personalization.addSubstitution(TEXT_CONTENT_SUBSTITUTION_TAG, textContent);
+            personalization.addSubstitution(HTML_CONTENT_SUBSTITUTION_TAG, wrapper.getContent());
+            email.addPersonalization(personalization);
+        }
+        return email;
+    }
+
+    private Email getSender(EmailWrapper wrapper) {
         if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
-            sender = new Email(wrapper.getSenderEmail());
-        } else {
-            sender = new Email(wrapper.getSenderEmail(), wrapper.getSenderName());
+            return new Email(wrapper.getSenderEmail());
         }
-        email.setFrom(sender);
-        email.setReplyTo(new Email(wrapper.getReplyTo()));
+        return new Email(wrapper.getSenderEmail(), wrapper.getSenderName());
+    }
+
+    private Personalization getPersonalization(EmailWrapper wrapper) {
         Personalization personalization = new Personalization();
         personalization.addTo(new Email(wrapper.getRecipient()));
         if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
             personalization.addBcc(new Email(wrapper.getBcc()));
         }
-        email.addPersonalization(personalization);
-        email.setSubject(wrapper.getSubject());
-        email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
-        email.addContent(new Content("text/html", wrapper.getContent()));
-        return email;
+        return personalization;
     }
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
+        return send(new SendGrid(Config.SENDGRID_APIKEY), parseToEmail(wrapper));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The emails are sent in a single request with one personalization for each email if possible,
+     * in which case they share the status of the request.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) throws IOException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        Mail email = wrappers.size() > 1 ? parseToEmailWithPersonalizations(wrappers) : null;
+        if (email != null) {
+            return Collections.nCopies(wrappers.size(), send(sendgrid, email));
+        }
+
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            try {
+                statuses.add(send(sendgrid, parseToEmail(wrapper)));
+            } catch (IOException e) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.getMessage()));
+            }
+        }
+        return statuses;
+    }
+
+    private EmailSendingStatus send(SendGrid sendgrid, Mail email) throws IOException {
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
@@ -0,0 +1,125 @@
+package teammates.logic.core;
+
+import java.util.Set;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.storage.api.SessionRespondentsDb;
+
+/**
+ * Handles operations related to the respondents of feedback sessions.
+ *
+ * @see SessionRespondentsDb
+ */
+public final class SessionRespondentsLogic {
+
+    private static SessionRespondentsLogic instance = new SessionRespondentsLogic();
+
+    private static final SessionRespondentsDb srDb = new SessionRespondentsDb();
+
+    private SessionRespondentsLogic() {
+        // prevent initialization
+    }
+
+    public static SessionRespondentsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Adds a student as a respondent of a feedback session.
+     */
+    public void addStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        srDb.addRespondent(courseId, feedbackSessionName, email, false);
+    }
+
+    /**
+     * Adds an instructor as a respondent of a feedback session.
+     */
+    public void addInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        srDb.addRespondent(courseId, feedbackSessionName, email, true);
+    }
+
+    /**
+     * Removes a student from the respondents of a feedback session.
+     */
+    public void deleteStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        srDb.removeRespondent(courseId, feedbackSessionName, email, false);
+    }
+
+    /**
+     * Removes an instructor from the respondents of a feedback session.
+     */
+    public void deleteInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        srDb.removeRespondent(courseId, feedbackSessionName, email, true);
+    }
+
+    /**
+     * Removes a student from the respondents of all feedback sessions in a course.
+     */
+    public void deleteStudentFromRespondents(String courseId, String email) {
+        srDb.removeRespondentFromCourse(courseId, email, false);
+    }
+
+    /**
+     * Removes an instructor from the respondents of all feedback sessions in a course.
+     */
+    public void deleteInstructorFromRespondents(String courseId, String email) {
+        srDb.removeRespondentFromCourse(courseId, email, true);
+    }
+
+    /**
+     * Updates the email of a student respondent in all feedback sessions in a course.
+     */
+    public void updateStudentRespondent(String oldEmail, String newEmail, String courseId) {
+        srDb.updateRespondentEmail(courseId, oldEmail, newEmail, false);
+    }
+
+    /**
+     * Updates the email of an instructor respondent in all feedback sessions in a course.
+     */
+    public void updateInstructorRespondent(String oldEmail, String newEmail, String courseId) {
+        srDb.updateRespondentEmail(courseId, oldEmail, newEmail, true);
+    }
+
+    /**
+     * Checks whether a student has responded to a feedback session.
+     */
+    public boolean isStudentRespondent(String email, String feedbackSessionName, String courseId) {
+        return srDb.isRespondent(courseId, feedbackSessionName, email, false);
+    }
+
+    /**
+     * Checks whether an instructor has responded to a feedback session.
+     */
+    public boolean isInstructorRespondent(String email, String feedbackSessionName, String courseId) {
+        return srDb.isRespondent(courseId, feedbackSessionName, email, true);
+    }
+
+    /**
+     * Gets the emails of the students who have responded to a feedback session.
+     */
+    public Set<String> getStudentRespondents(String feedbackSessionName, String courseId) {
+        return srDb.getRespondents(courseId, feedbackSessionName, false);
+    }
+
+    /**
+     * Gets the emails of the instructors who have responded to a feedback session.
+     */
+    public Set<String> getInstructorRespondents(String feedbackSessionName, String courseId) {
+        return srDb.getRespondents(courseId, feedbackSessionName, true);
+    }
+
+    /**
+     * Gets the number of students and instructors who have responded to a feedback session.
+     */
+    public int getNumberOfRespondents(String feedbackSessionName, String courseId) {
+        return srDb.getNumberOfRespondents(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Deletes respondents using {@link AttributesDeletionQuery}.
+     */
+    public void deleteRespondents(AttributesDeletionQuery query) {
+        srDb.deleteRespondents(query);
+    }
+
+}
@@ -0,0 +1,172 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.SessionSubmissionStats;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.storage.api.SessionStatsDb;
+
+/**
+ * Handles operations related to the precomputed submission statistics of feedback sessions.
+ *
+ * <p>The statistics of a session are computed when first needed and kept up to date as follows:
+ * <ul>
+ * <li>Changes to the questions of a session invalidate its statistics, which are then computed afresh.
+ * Statistics are only stored if they have not been invalidated since their computation started.</li>
+ * <li>Changes to the roster of a course are detected through the roster version (see {@link CourseRostersLogic}),
+ * upon which the expected number of submissions is recomputed from the kinds of givers kept in the statistics,
+ * without loading the questions.</li>
+ * </ul>
+ *
+ * <p>{@link #reconcileSessionStats(FeedbackSessionAttributes)} recomputes the statistics from scratch to repair
+ * any drift, e.g. caused by statistics computed from queries that did not reflect a recent question change yet.
+ *
+ * @see SessionStatsDb
+ */
+public final class SessionStatsLogic {
+
+    private static SessionStatsLogic instance = new SessionStatsLogic();
+
+    private static final SessionStatsDb ssDb = new SessionStatsDb();
+
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private SessionStatsLogic() {
+        // prevent initialization
+    }
+
+    public static SessionStatsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the expected number of submissions for a feedback session.
+     *
+     * <p>The precomputed statistics of the session are used if they are still valid; otherwise they are
+     * recomputed and stored. If the version of the roster is unknown, they are recomputed from the roster
+     * without being stored.
+     */
+    public int getExpectedTotalSubmission(FeedbackSessionAttributes session) {
+        // the version is read before the roster, so that a concurrent roster change can only make the stored
+        // statistics look stale, never up to date
+        Long rosterVersion = courseRostersLogic.getCourseRosterVersion(session.getCourseId());
+        SessionSubmissionStats stats = ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId());
+
+        if (stats == null) {
+            // the invalidation count is read before the questions, so that statistics computed from questions
+            // changed concurrently are not stored
+            long invalidationCount =
+                    ssDb.getInvalidationCount(session.getFeedbackSessionName(), session.getCourseId());
+            stats = computeSessionStats(session, rosterVersion, invalidationCount);
+            ssDb.putSessionStats(stats);
+        } else if (rosterVersion == null) {
+            // the stored statistics cannot be known to be up to date, but they are not replaced with statistics
+            // which cannot be either, so that reads do not turn into writes while the version is unavailable
+            stats = computeSessionStats(session, stats.hasQuestionsForStudents(), stats.hasQuestionsForInstructors(),
+                    stats.hasQuestionsForCreator(), null, stats.getInvalidationCount());
+        } else if (!rosterVersion.equals(stats.getRosterVersion())) {
+            stats = computeSessionStats(session, stats.hasQuestionsForStudents(), stats.hasQuestionsForInstructors(),
+                    stats.hasQuestionsForCreator(), rosterVersion, stats.getInvalidationCount());
+            ssDb.putSessionStats(stats);
+        }
+
+        return stats.getExpectedTotalSubmission();
+    }
+
+    /**
+     * Recomputes the statistics of a feedback session from its questions and the roster of its course.
+     *
+     * <p>The recomputed statistics are not stored if the statistics are invalidated during the recomputation.
+     *
+     * @return true if the statistics previously stored differ from the recomputed ones, which replace them
+     */
+    public boolean reconcileSessionStats(FeedbackSessionAttributes session) {
+        Long rosterVersion = courseRostersLogic.getCourseRosterVersion(session.getCourseId());
+        SessionSubmissionStats storedStats =
+                ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId());
+        long invalidationCount = storedStats == null
+                ? ssDb.getInvalidationCount(session.getFeedbackSessionName(), session.getCourseId())
+                : storedStats.getInvalidationCount();
+        SessionSubmissionStats stats = computeSessionStats(session, rosterVersion, invalidationCount);
+
+        boolean hasDrifted = storedStats != null
+                && (storedStats.getExpectedTotalSubmission() != stats.getExpectedTotalSubmission()
+                || storedStats.hasQuestionsForStudents() != stats.hasQuestionsForStudents()
+                || storedStats.hasQuestionsForInstructors() != stats.hasQuestionsForInstructors()
+                || storedStats.hasQuestionsForCreator() != stats.hasQuestionsForCreator());
+        if (storedStats != null && !hasDrifted && Objects.equals(rosterVersion, storedStats.getRosterVersion())) {
+            // up-to-date statistics are not rewritten, so that they do not count as recently updated
+            return false;
+        }
+        return ssDb.putSessionStats(stats) && hasDrifted;
+    }
+
+    /**
+     * Gets the feedback sessions whose statistics have been computed or invalidated since the given time.
+     */
+    public List<FeedbackSessionAttributes> getSessionsWithStatsUpdatedSince(Instant time) {
+        return ssDb.getSessionStatsUpdatedSince(time).stream()
+                .map(stats -> fsLogic.getFeedbackSession(stats.getFeedbackSessionName(), stats.getCourseId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Invalidates the statistics of a feedback session, e.g. after its questions are changed.
+     */
+    public void invalidateSessionStats(String feedbackSessionName, String courseId) {
+        ssDb.invalidateSessionStats(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Deletes statistics using {@link AttributesDeletionQuery}.
+     */
+    public void deleteSessionStats(AttributesDeletionQuery query) {
+        ssDb.deleteSessionStats(query);
+    }
+
+    private SessionSubmissionStats computeSessionStats(FeedbackSessionAttributes session, Long rosterVersion,
+            long invalidationCount) {
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+
+        return computeSessionStats(session,
+                !fqLogic.getFeedbackQuestionsForStudents(questions).isEmpty(),
+                !fqLogic.getFeedbackQuestionsForInstructor(questions, false).isEmpty(),
+                !fqLogic.getFeedbackQuestionsForInstructor(questions, true).isEmpty(),
+                rosterVersion, invalidationCount);
+    }
+
+    private SessionSubmissionStats computeSessionStats(FeedbackSessionAttributes session,
+            boolean hasQuestionsForStudents, boolean hasQuestionsForInstructors, boolean hasQuestionsForCreator,
+            Long rosterVersion, long invalidationCount) {
+        CourseRoster roster = courseRostersLogic.getCourseRoster(session.getCourseId());
+
+        int expectedTotal = 0;
+
+        if (hasQuestionsForStudents) {
+            expectedTotal += roster.getStudents().size();
+        }
+
+        if (hasQuestionsForInstructors) {
+            expectedTotal += roster.getInstructors().size();
+        } else if (hasQuestionsForCreator
+                && roster.getInstructors().stream().anyMatch(instructor -> session.isCreator(instructor.email))) {
+            // only the creator has questions to answer
+            expectedTotal += 1;
+        }
+
+        return new SessionSubmissionStats(session.getFeedbackSessionName(), session.getCourseId(),
+                hasQuestionsForStudents, hasQuestionsForInstructors, hasQuestionsForCreator,
+                rosterVersion, expectedTotal, invalidationCount);
+    }
+
+}
@@ -0,0 +1,48 @@
+package teammates.logic.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.ThreadHelper;
+
+/**
+ * Email sender service which does not send any email, so that the throughput of sending emails
+ * (e.g. in batches of different sizes) can be measured offline, without an actual email service.
+ *
+ * <p>Every request to the service, whether it is for a single email or a batch of emails,
+ * takes a fixed amount of time to simulate the round trip to an actual email service.
+ */
+public class StubEmailService extends EmailSenderService {
+
+    private static final int SIMULATED_REQUEST_MILLIS = 100;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EmailWrapper parseToEmail(EmailWrapper wrapper) {
+        return wrapper;
+    }
+
+    @Override
+    public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
+        ThreadHelper.waitFor(SIMULATED_REQUEST_MILLIS);
+        return new EmailSendingStatus(HttpStatus.SC_OK, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The emails are "sent" in a single simulated request.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        ThreadHelper.waitFor(SIMULATED_REQUEST_MILLIS);
+        return Collections.nCopies(wrappers.size(), new EmailSendingStatus(HttpStatus.SC_OK, null));
+    }
+
+}
@@ -1,11 +1,15 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.StringJoiner;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.StudentEnrollmentChange;
 import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.StudentsEnrollmentResult;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -28,6 +32,7 @@ public final class StudentsLogic {
 
     private static final StudentsDb studentsDb = new StudentsDb();
 
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
 
@@ -48,7 +53,9 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        courseRostersLogic.invalidate(createdStudent.getCourse());
+        return createdStudent;
     }
 
     public StudentAttributes getStudentForEmail(String courseId, String email) {
@@ -101,7 +108,7 @@ public final class StudentsLogic {
     }
 
     public boolean isStudentInAnyCourse(String googleId) {
-        return studentsDb.getStudentsForGoogleId(googleId).size() != 0;
+        return studentsDb.hasStudentsForGoogleId(googleId);
     }
 
     boolean isStudentInTeam(String courseId, String teamName, String studentEmail) {
@@ -147,6 +154,7 @@ public final class StudentsLogic {
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudent = getStudentForEmail(updateOptions.getCourseId(), updateOptions.getEmail());
         StudentAttributes updatedStudent = studentsDb.updateStudent(updateOptions);
+        courseRostersLogic.invalidate(updatedStudent.getCourse());
 
         // cascade email change, if any
         if (!originalStudent.email.equals(updatedStudent.email)) {
@@ -163,8 +171,7 @@ public final class StudentsLogic {
 
         // update the new section name in responses
         if (isSectionChanged(originalStudent.section, updatedStudent.section)) {
-            frLogic.updateFeedbackResponsesForChangingSection(updatedStudent.course, updatedStudent.email,
-                    originalStudent.section, updatedStudent.section);
+            frLogic.updateSectionsForParticipant(updatedStudent.course, updatedStudent.email, updatedStudent.section);
         }
 
         // TODO: check to delete comments for this section/team if the section/team is no longer existent in the course
@@ -172,6 +179,48 @@ public final class StudentsLogic {
         return updatedStudent;
     }
 
+    /**
+     * Enrolls a list of students into a course, creating new students and updating existing ones in bulk.
+     *
+     * <p>Changes of team or section of existing students are NOT cascaded to their responses;
+     * they are returned to be cascaded later with
+     * {@link #updateFeedbackResponsesForEnrollmentChanges(String, List)}.
+     *
+     * @see StudentsDb#enrollStudents(String, List)
+     */
+    public StudentsEnrollmentResult enrollStudents(List<StudentAttributes> studentsToEnroll, String courseId) {
+        StudentsEnrollmentResult result = studentsDb.enrollStudents(courseId, studentsToEnroll);
+        courseRostersLogic.invalidate(courseId);
+        return result;
+    }
+
+    /**
+     * Cascades the changes of team and section made by an enrollment to the responses of the students.
+     *
+     * <p>Responses are moved to the section the student is currently in, so that they stay consistent with
+     * the roster even if the student is updated again before the changes are cascaded.
+     * Students no longer in the course are skipped, as their responses are deleted together with them.
+     */
+    public void updateFeedbackResponsesForEnrollmentChanges(String courseId, List<StudentEnrollmentChange> changes) {
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+
+        for (StudentEnrollmentChange change : changes) {
+            StudentAttributes student = roster.getStudentForEmail(change.getEmail());
+            if (student == null) {
+                continue;
+            }
+
+            if (change.isTeamChanged()) {
+                frLogic.updateFeedbackResponsesForChangingTeam(courseId, student.email,
+                        change.getOriginalTeam(), change.getTeam());
+            }
+
+            if (change.isSectionChanged()) {
+                frLogic.updateSectionsForParticipant(courseId, student.email, student.section);
+            }
+        }
+    }
+
     /**
      * Resets the googleId associated with the student.
      */
@@ -203,7 +252,9 @@ public final class StudentsLogic {
             throw new EntityDoesNotExistException("Student does not exist: [" + courseId + "/" + email + "]");
         }
 
-        return studentsDb.regenerateEntityKey(originalStudent);
+        StudentAttributes updatedStudent = studentsDb.regenerateEntityKey(originalStudent);
+        courseRostersLogic.invalidate(courseId);
+        return updatedStudent;
     }
 
     /**
@@ -345,6 +396,7 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedTeamOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        courseRostersLogic.invalidate(courseId);
     }
 
     /**
@@ -364,6 +416,11 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        if (query.isCourseIdPresent()) {
+            courseRostersLogic.invalidate(query.getCourseId());
+        } else {
+            courseRostersLogic.invalidateAll();
+        }
     }
 
     /**
@@ -373,6 +430,13 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
+    /**
+     * Batch creates or updates documents for the students with the given IDs, as they currently are.
+     */
+    public void putDocumentsForIds(Collection<String> studentIds) {
+        studentsDb.putDocumentsForIds(studentIds);
+    }
+
     private boolean isInEnrollList(StudentAttributes student,
             List<StudentAttributes> studentInfoList) {
         for (StudentAttributes studentInfo : studentInfoList) {
@@ -0,0 +1,156 @@
+package teammates.logic.core;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * The visibility settings of a feedback question, compiled into sets which are cheap to check,
+ * for checking the visibility of many responses to the question.
+ *
+ * @see ResultsViewer
+ */
+final class VisibilityPolicy {
+
+    private final FeedbackParticipantType giverType;
+    private final FeedbackParticipantType recipientType;
+    private final Set<FeedbackParticipantType> showResponsesTo;
+    private final Set<FeedbackParticipantType> showGiverNameTo;
+    private final Set<FeedbackParticipantType> showRecipientNameTo;
+
+    private VisibilityPolicy(FeedbackQuestionAttributes question) {
+        this.giverType = question.getGiverType();
+        this.recipientType = question.getRecipientType();
+        this.showResponsesTo = toEnumSet(question.getShowResponsesTo());
+        this.showGiverNameTo = toEnumSet(question.getShowGiverNameTo());
+        this.showRecipientNameTo = toEnumSet(question.getShowRecipientNameTo());
+    }
+
+    /**
+     * Compiles the visibility settings of a question.
+     */
+    static VisibilityPolicy compile(FeedbackQuestionAttributes question) {
+        return new VisibilityPolicy(question);
+    }
+
+    /**
+     * Compiles the visibility settings of the questions, by the ID of the question.
+     */
+    static Map<String, VisibilityPolicy> compileAll(Collection<FeedbackQuestionAttributes> questions) {
+        Map<String, VisibilityPolicy> policies = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            policies.put(question.getId(), compile(question));
+        }
+        return policies;
+    }
+
+    private static Set<FeedbackParticipantType> toEnumSet(List<FeedbackParticipantType> participantTypes) {
+        Set<FeedbackParticipantType> set = EnumSet.noneOf(FeedbackParticipantType.class);
+        if (participantTypes != null) {
+            set.addAll(participantTypes);
+        }
+        return set;
+    }
+
+    /**
+     * Checks whether a response to the question is visible to the viewer.
+     */
+    boolean isResponseVisibleTo(ResultsViewer viewer, FeedbackResponseAttributes response) {
+        return isResponseVisibleTo(viewer, response.getGiver(), response.getRecipient(),
+                response.getGiverSection(), response.getRecipientSection());
+    }
+
+    /**
+     * Checks whether a response to the question, given by {@code giver} to {@code recipient},
+     * is visible to the viewer, without creating the response.
+     */
+    boolean isResponseVisibleTo(ResultsViewer viewer, String giver, String recipient,
+                                String giverSection, String recipientSection) {
+        String email = viewer.getEmail();
+        boolean isVisible = viewer.isInstructor() && showResponsesTo.contains(FeedbackParticipantType.INSTRUCTORS)
+                || recipient.equals(email) && showResponsesTo.contains(FeedbackParticipantType.RECEIVER)
+                || giver.equals(email)
+                || viewer.isStudent() && showResponsesTo.contains(FeedbackParticipantType.STUDENTS)
+                || viewer.isStudent() && isResponseVisibleToTeamOf(viewer, giver, recipient);
+        if (!isVisible) {
+            return false;
+        }
+
+        // If instructors are not restricted to view the giver's section,
+        // they are allowed to view responses to GENERAL, subject to visibility options
+        return viewer.canViewSection(giverSection)
+                && (recipientType == FeedbackParticipantType.NONE || viewer.canViewSection(recipientSection));
+    }
+
+    private boolean isResponseVisibleToTeamOf(ResultsViewer viewer, String giver, String recipient) {
+        Set<String> teammateEmails = viewer.getTeammateEmails();
+        return recipientType == FeedbackParticipantType.TEAMS
+                        && showResponsesTo.contains(FeedbackParticipantType.RECEIVER)
+                        && recipient.equals(viewer.getStudent().getTeam())
+                || giverType == FeedbackParticipantType.TEAMS && teammateEmails.contains(giver)
+                || showResponsesTo.contains(FeedbackParticipantType.OWN_TEAM_MEMBERS) && teammateEmails.contains(giver)
+                || showResponsesTo.contains(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                        && teammateEmails.contains(recipient);
+    }
+
+    /**
+     * Checks whether the name of the giver or the recipient of a response to the question is visible to the viewer.
+     */
+    boolean isNameVisibleTo(ResultsViewer viewer, FeedbackResponseAttributes response, boolean isGiverName) {
+        return isNameVisibleTo(viewer, response.getGiver(), response.getRecipient(), isGiverName);
+    }
+
+    /**
+     * Checks whether the name of the giver or the recipient of a response to the question,
+     * given by {@code giver} to {@code recipient}, is visible to the viewer, without creating the response.
+     */
+    boolean isNameVisibleTo(ResultsViewer viewer, String giver, String recipient, boolean isGiverName) {
+        String email = viewer.getEmail();
+        CourseRoster roster = viewer.getRoster();
+
+        if (giverType == FeedbackParticipantType.TEAMS) {
+            // if response is given by team, then anyone in the team can see the response
+            // The second check is used to accommodate legacy data where team giver is a student email
+            if (roster.isStudentInTeam(email, giver)
+                    || roster.isStudentsInSameTeam(email, giver)) {
+                return true;
+            }
+        } else if (giver.equals(email)) {
+            return true;
+        }
+
+        Set<FeedbackParticipantType> showNameTo = isGiverName ? showGiverNameTo : showRecipientNameTo;
+        if (showNameTo.contains(FeedbackParticipantType.INSTRUCTORS) && viewer.isInstructorInCourse()) {
+            return true;
+        }
+        // refers to the giver's team members
+        if ((showNameTo.contains(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                || showNameTo.contains(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF))
+                && roster.isStudentsInSameTeam(giver, email)) {
+            return true;
+        }
+        // for responses to teams, the recipient is the team name
+        if (showNameTo.contains(FeedbackParticipantType.RECEIVER)
+                && (recipientType.isTeam()
+                        ? roster.isStudentInTeam(email, recipient)
+                        : recipient.equals(email))) {
+            return true;
+        }
+        if (showNameTo.contains(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                && (recipientType.isTeam()
+                        ? roster.isStudentInTeam(email, recipient)
+                        : roster.isStudentsInSameTeam(recipient, email))) {
+            return true;
+        }
+        return showNameTo.contains(FeedbackParticipantType.STUDENTS) && roster.isStudentInCourse(email);
+    }
+
+}
@@ -2,10 +2,16 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
@@ -20,6 +26,35 @@ import teammates.storage.entity.Account;
  */
 public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
 
+    private final UserRolesCache userRolesCache = new UserRolesCache();
+
+    @Override
+    public AccountAttributes createEntity(AccountAttributes account)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        AccountAttributes createdAccount = super.createEntity(account);
+        userRolesCache.invalidateRoles(Collections.singletonList(createdAccount.getGoogleId()));
+
+        return createdAccount;
+    }
+
+    @Override
+    public AccountAttributes putEntity(AccountAttributes account) throws InvalidParametersException {
+        AccountAttributes putAccount = super.putEntity(account);
+        userRolesCache.invalidateRoles(Collections.singletonList(putAccount.getGoogleId()));
+
+        return putAccount;
+    }
+
+    @Override
+    public List<AccountAttributes> putEntities(Collection<AccountAttributes> accounts)
+            throws InvalidParametersException {
+        List<AccountAttributes> putAccounts = super.putEntities(accounts);
+        userRolesCache.invalidateRoles(
+                putAccounts.stream().map(AccountAttributes::getGoogleId).collect(Collectors.toList()));
+
+        return putAccounts;
+    }
+
     /**
      * Gets an account.
      */
@@ -63,6 +98,7 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         account.setIsInstructor(newAttributes.isInstructor);
 
         saveEntity(account);
+        userRolesCache.invalidateRoles(Collections.singletonList(account.getGoogleId()));
 
         return makeAttributes(account);
     }
@@ -76,6 +112,7 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
 
         deleteEntity(Key.create(Account.class, googleId));
+        userRolesCache.invalidateRoles(Collections.singletonList(googleId));
     }
 
     private Account getAccountEntity(String googleId) {
@@ -0,0 +1,94 @@
+package teammates.storage.api;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Keeps track of the version of the roster (i.e. the students and instructors) of each course.
+ *
+ * <p>The version is kept in Memcache so that it is shared by all instances of the application.
+ * It is bumped after every write to the students or instructors of a course, which allows
+ * copies of a roster cached in memory to be validated cheaply before use.
+ *
+ * <p>A version is initialized to a random value so that a version evicted from Memcache
+ * is unlikely to be reused for a different roster.
+ *
+ * <p>The time of the last bump is kept for a short while too, as queries for the roster may not reflect
+ * the write that bumped the version until some time after it.
+ */
+public class CourseRosterVersions {
+
+    private static final String KEY_PREFIX = "courseRosterVersion:";
+    private static final String BUMP_TIME_KEY_PREFIX = "courseRosterBumpTime:";
+
+    private static final int BUMP_TIME_EXPIRATION_SECONDS = 60;
+
+    private final MemcacheService memcache = MemcacheServiceFactory.getMemcacheService();
+
+    /**
+     * Gets the current version of the roster of a course.
+     *
+     * @return the version, or null if it cannot be determined (e.g. Memcache is unavailable)
+     */
+    public Long getVersion(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        String key = getKey(courseId);
+        Object version = memcache.get(key);
+        if (version == null) {
+            memcache.put(key, getRandomInitialVersion(), null, MemcacheService.SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+            version = memcache.get(key);
+        }
+        return version instanceof Long ? (Long) version : null;
+    }
+
+    /**
+     * Bumps the version of the roster of a course, marking all cached copies of the roster as stale.
+     */
+    public void bumpVersion(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        // the bump time is recorded first so that it is visible to anyone who sees the bumped version
+        memcache.put(getBumpTimeKey(courseId), System.currentTimeMillis(),
+                Expiration.byDeltaSeconds(BUMP_TIME_EXPIRATION_SECONDS));
+
+        String key = getKey(courseId);
+        if (memcache.increment(key, 1L, getRandomInitialVersion()) == null) {
+            // the version cannot be bumped; fall back to discarding it so that a new random version is used
+            memcache.delete(key);
+        }
+    }
+
+    /**
+     * Gets the time the version of the roster of a course was last bumped, if it was bumped in the last minute.
+     *
+     * @return the time in milliseconds, or 0 if the version was not bumped in the last minute
+     *         or the time cannot be determined
+     */
+    public long getLastBumpTime(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Object bumpTime = memcache.get(getBumpTimeKey(courseId));
+        return bumpTime instanceof Long ? (Long) bumpTime : 0;
+    }
+
+    private static String getKey(String courseId) {
+        return KEY_PREFIX + courseId;
+    }
+
+    private static String getBumpTimeKey(String courseId) {
+        return BUMP_TIME_KEY_PREFIX + courseId;
+    }
+
+    private static long getRandomInitialVersion() {
+        // leave enough room for increments without overflowing
+        return ThreadLocalRandom.current().nextLong(Long.MAX_VALUE / 2);
+    }
+
+}
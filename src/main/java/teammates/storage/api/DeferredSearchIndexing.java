@@ -0,0 +1,61 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps track of the search documents to be created or updated by the request served by the current thread,
+ * so that they can be indexed after the request instead of on the write path.
+ *
+ * <p>Indexing is only deferred between {@link #startDeferring()} and {@link #stopDeferring()};
+ * documents are indexed immediately otherwise. A deferred document is identified by the ID of its entity,
+ * so that the document is built from the latest state of the entity when it is eventually indexed
+ * and repeated writes to an entity within the request result in a single document.
+ */
+public class DeferredSearchIndexing {
+
+    private static final ThreadLocal<Map<String, Set<String>>> DEFERRED_ENTITY_IDS = new ThreadLocal<>();
+
+    /**
+     * Starts deferring search indexing for the request served by the current thread.
+     */
+    public void startDeferring() {
+        DEFERRED_ENTITY_IDS.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Stops deferring search indexing for the request served by the current thread.
+     *
+     * @return the IDs of the entities whose documents are deferred, by the name of the search index
+     */
+    public Map<String, List<String>> stopDeferring() {
+        Map<String, Set<String>> deferredEntityIds = DEFERRED_ENTITY_IDS.get();
+        DEFERRED_ENTITY_IDS.remove();
+
+        Map<String, List<String>> entityIds = new LinkedHashMap<>();
+        if (deferredEntityIds != null) {
+            deferredEntityIds.forEach((indexName, ids) -> entityIds.put(indexName, new ArrayList<>(ids)));
+        }
+        return entityIds;
+    }
+
+    /**
+     * Defers the indexing of the documents of the given entities if indexing is being deferred.
+     *
+     * @return true if the indexing is deferred, false if the documents are to be indexed immediately
+     */
+    boolean defer(String indexName, Collection<String> entityIds) {
+        Map<String, Set<String>> deferredEntityIds = DEFERRED_ENTITY_IDS.get();
+        if (deferredEntityIds == null) {
+            return false;
+        }
+        deferredEntityIds.computeIfAbsent(indexName, k -> new LinkedHashSet<>()).addAll(entityIds);
+        return true;
+    }
+
+}
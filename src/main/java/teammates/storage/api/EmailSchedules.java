@@ -0,0 +1,114 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Keeps track of the schedule of sending emails through each email service, i.e. the time until which
+ * the service is kept busy by the emails already scheduled, and of the number of emails sent recently.
+ *
+ * <p>The schedules are kept in Memcache so that they are shared by all instances of the application.
+ * Should a schedule be evicted from Memcache, the service is treated as having no backlog.
+ */
+public class EmailSchedules {
+
+    private static final String SCHEDULE_END_KEY_PREFIX = "emailScheduleEnd:";
+    private static final String EMAILS_SENT_KEY_PREFIX = "emailsSent:";
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000L;
+
+    private static final int EMAILS_SENT_EXPIRATION_SECONDS = 10 * 60;
+
+    private static final int MAX_RESERVATION_ATTEMPTS = 10;
+
+    private final MemcacheService memcache = MemcacheServiceFactory.getMemcacheService();
+
+    /**
+     * Reserves the given duration of sending time of an email service, right after the time already reserved.
+     *
+     * <p>If the schedule cannot be updated (e.g. Memcache is unavailable or heavily contended),
+     * the reservation is made as if no time had been reserved after the time last seen.
+     *
+     * @return the start of the reserved duration, which is never before {@code nowMillis}
+     */
+    public long reserveSendingTime(String emailService, long durationMillis, long nowMillis) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emailService);
+
+        String key = getScheduleEndKey(emailService);
+        long reservationStart = nowMillis;
+        for (int attempt = 0; attempt < MAX_RESERVATION_ATTEMPTS; attempt++) {
+            MemcacheService.IdentifiableValue scheduleEnd = memcache.getIdentifiable(key);
+            if (scheduleEnd == null || !(scheduleEnd.getValue() instanceof Long)) {
+                reservationStart = nowMillis;
+                if (memcache.put(key, reservationStart + durationMillis, null,
+                        MemcacheService.SetPolicy.ADD_ONLY_IF_NOT_PRESENT)) {
+                    return reservationStart;
+                }
+            } else {
+                reservationStart = Math.max(nowMillis, (Long) scheduleEnd.getValue());
+                if (memcache.putIfUntouched(key, scheduleEnd, reservationStart + durationMillis)) {
+                    return reservationStart;
+                }
+            }
+        }
+        return reservationStart;
+    }
+
+    /**
+     * Gets the time until which the sending time of an email service has been reserved.
+     *
+     * @return the time, or 0 if no time has been reserved
+     */
+    public long getScheduleEnd(String emailService) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emailService);
+
+        Object scheduleEnd = memcache.get(getScheduleEndKey(emailService));
+        return scheduleEnd instanceof Long ? (Long) scheduleEnd : 0;
+    }
+
+    /**
+     * Records the given number of emails as sent through an email service at the given time.
+     */
+    public void recordEmailsSent(String emailService, int numberOfEmails, long nowMillis) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emailService);
+
+        String key = getEmailsSentKey(emailService, nowMillis / MILLIS_PER_MINUTE);
+        memcache.put(key, 0L, Expiration.byDeltaSeconds(EMAILS_SENT_EXPIRATION_SECONDS),
+                MemcacheService.SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+        memcache.increment(key, numberOfEmails);
+    }
+
+    /**
+     * Gets the number of emails sent through an email service in the last {@code numberOfMinutes} whole minutes
+     * before the minute of {@code nowMillis}.
+     */
+    public long getNumberOfEmailsSent(String emailService, int numberOfMinutes, long nowMillis) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emailService);
+
+        long currentMinute = nowMillis / MILLIS_PER_MINUTE;
+        List<String> keys = new ArrayList<>();
+        for (long minute = currentMinute - numberOfMinutes; minute < currentMinute; minute++) {
+            keys.add(getEmailsSentKey(emailService, minute));
+        }
+        return memcache.getAll(keys).values().stream()
+                .filter(count -> count instanceof Long)
+                .mapToLong(count -> (Long) count)
+                .sum();
+    }
+
+    private static String getScheduleEndKey(String emailService) {
+        return SCHEDULE_END_KEY_PREFIX + emailService;
+    }
+
+    private static String getEmailsSentKey(String emailService, long minute) {
+        return EMAILS_SENT_KEY_PREFIX + emailService + ":" + minute;
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.google.appengine.api.search.Document;
@@ -14,6 +15,7 @@ import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.Result;
 import com.googlecode.objectify.cmd.LoadType;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
@@ -52,8 +54,25 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     static final String OPTIMIZED_SAVING_POLICY_APPLIED =
             "Saving request is not issued because entity %s does not change by the update (%s)";
 
+    /**
+     * Maximum number of entities saved in a single Datastore request.
+     */
+    static final int MAX_ENTITIES_PER_SAVE = 500;
+
+    /**
+     * Maximum number of values in a single "in" filter of a Datastore query.
+     */
+    static final int MAX_VALUES_PER_IN_FILTER = 30;
+
+    /**
+     * Maximum number of documents put into the search engine in a single request.
+     */
+    static final int MAX_DOCUMENTS_PER_PUT = 200;
+
     static final Logger log = Logger.getLogger();
 
+    private final DeferredSearchIndexing deferredSearchIndexing = new DeferredSearchIndexing();
+
     /**
      * Creates the entity in the Datastore.
      *
@@ -171,6 +190,32 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         ofy().save().entities(entitiesToSave).now();
     }
 
+    /**
+     * Saves a list of entities in batches of at most {@link #MAX_ENTITIES_PER_SAVE} entities.
+     *
+     * <p>All batches are sent before waiting for any of them, so that they are saved concurrently.
+     *
+     * @return the number of batches used
+     */
+    int saveEntitiesInBatches(List<E> entitiesToSave) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToSave);
+
+        for (E entityToSave : entitiesToSave) {
+            log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
+        }
+
+        List<Result<Map<Key<E>, E>>> results = new ArrayList<>();
+        for (int i = 0; i < entitiesToSave.size(); i += MAX_ENTITIES_PER_SAVE) {
+            List<E> batch = entitiesToSave.subList(i, Math.min(i + MAX_ENTITIES_PER_SAVE, entitiesToSave.size()));
+            results.add(ofy().save().entities(batch));
+        }
+        for (Result<Map<Key<E>, E>> result : results) {
+            result.now();
+        }
+
+        return results.size();
+    }
+
     /**
      * Deletes entity by key.
      */
@@ -229,6 +274,17 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         }
     }
 
+    /**
+     * Defers the indexing of the search documents of the given entities if indexing is being deferred
+     * for the current request.
+     *
+     * @return true if the indexing is deferred, false if the documents are to be put immediately
+     * @see DeferredSearchIndexing
+     */
+    boolean deferDocuments(String indexName, Collection<String> entityIds) {
+        return deferredSearchIndexing.defer(indexName, entityIds);
+    }
+
     /**
      * Puts document(s) into the search engine.
      */
@@ -241,10 +297,14 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
                 log.severe("Fail to build search document in " + indexName + " for " + document);
             }
         }
-        try {
-            SearchManager.putDocuments(indexName, searchDocuments);
-        } catch (Exception e) {
-            log.severe("Failed to batch put searchable documents in " + indexName + " for " + searchDocuments);
+        for (int i = 0; i < searchDocuments.size(); i += MAX_DOCUMENTS_PER_PUT) {
+            List<Document> batch =
+                    searchDocuments.subList(i, Math.min(i + MAX_DOCUMENTS_PER_PUT, searchDocuments.size()));
+            try {
+                SearchManager.putDocuments(indexName, batch);
+            } catch (Exception e) {
+                log.severe("Failed to batch put searchable documents in " + indexName + " for " + batch);
+            }
         }
     }
 
@@ -2,7 +2,10 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -46,6 +49,25 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return makeAttributesOrNull(getFeedbackQuestionEntity(feedbackSessionName, courseId, questionNumber));
     }
 
+    /**
+     * Gets the feedback questions with the given IDs in one batch load, mapped by ID.
+     *
+     * <p>Questions that do not exist are left out of the map.
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestionsForIds(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        Map<Key<FeedbackQuestion>, String> keys = new LinkedHashMap<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            makeKeyFromWebSafeString(feedbackQuestionId).ifPresent(key -> keys.put(key, feedbackQuestionId));
+        }
+
+        Map<String, FeedbackQuestionAttributes> questions = new LinkedHashMap<>();
+        ofy().load().keys(keys.keySet())
+                .forEach((key, question) -> questions.put(keys.get(key), makeAttributes(question)));
+        return questions;
+    }
+
     /**
      * Gets all feedback questions of a session.
      */
@@ -5,9 +5,13 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -18,12 +22,14 @@ import com.googlecode.objectify.cmd.Query;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.FeedbackResponseRef;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponseComment;
@@ -41,6 +47,22 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Whether comments are filtered by section with a single query on their {@code sections}.
+     * Otherwise, they are filtered with one query on their giver section and one on their receiver section,
+     * which also finds comments saved before {@code sections} was introduced.
+     * If null, this is set by {@link Config#ENABLE_SECTIONS_QUERY}.
+     */
+    private final Boolean sectionsQueryEnabled;
+
+    public FeedbackResponseCommentsDb() {
+        this(null);
+    }
+
+    FeedbackResponseCommentsDb(Boolean sectionsQueryEnabled) {
+        this.sectionsQueryEnabled = sectionsQueryEnabled;
+    }
+
     /**
      * Creates a feedback response comment.
      *
@@ -68,6 +90,14 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, String.valueOf(commentId));
     }
 
+    /**
+     * Removes search documents for the comments with the given IDs in one batch.
+     */
+    public void deleteDocumentsByCommentIds(Collection<Long> commentIds) {
+        deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                commentIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
     /**
      * Gets a feedback response comment.
      */
@@ -103,6 +133,20 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributesOrNull(getFeedbackResponseCommentEntity(courseId, createdAt, commentGiver));
     }
 
+    /**
+     * Gets the feedback response comments with the given IDs in one batch load, mapped by ID.
+     *
+     * <p>Comments that do not exist are left out of the map.
+     */
+    public Map<Long, FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForIds(
+            Collection<Long> feedbackResponseCommentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseCommentIds);
+
+        Map<Long, FeedbackResponseCommentAttributes> comments = new LinkedHashMap<>();
+        load().ids(feedbackResponseCommentIds).forEach((id, comment) -> comments.put(id, makeAttributes(comment)));
+        return comments;
+    }
+
     /**
      * Gets all comments given by a user in a course.
      */
@@ -122,6 +166,32 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForResponse(feedbackResponseId));
     }
 
+    /**
+     * Gets all response comments for the given responses.
+     *
+     * <p>The comments are loaded in batched queries, which are run concurrently.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        List<String> responseIds = new ArrayList<>(new LinkedHashSet<>(feedbackResponseIds));
+
+        // queries are run asynchronously by Objectify until their results are first accessed
+        List<List<FeedbackResponseComment>> commentsOfResponseBatches = new ArrayList<>();
+        for (int i = 0; i < responseIds.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            List<String> responseIdBatch =
+                    responseIds.subList(i, Math.min(i + MAX_VALUES_PER_IN_FILTER, responseIds.size()));
+            commentsOfResponseBatches.add(load().filter("feedbackResponseId in", responseIdBatch).list());
+        }
+
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        for (List<FeedbackResponseComment> commentsOfResponseBatch : commentsOfResponseBatches) {
+            comments.addAll(makeAttributes(commentsOfResponseBatch));
+        }
+        return comments;
+    }
+
     /**
      * Gets comment associated with the response.
      *
@@ -237,6 +307,63 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return newAttributes;
     }
 
+    /**
+     * Updates the sections of all comments of the given responses to the sections of their responses.
+     *
+     * <p>The comments are loaded in batched queries and only those whose sections change are saved, in batches.
+     * The search documents of the saved comments are updated as well.
+     */
+    public void updateSectionsOfCommentsForResponses(Collection<FeedbackResponseRef> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        long startTime = System.currentTimeMillis();
+
+        Map<String, FeedbackResponseRef> responsesById = new HashMap<>();
+        for (FeedbackResponseRef response : responses) {
+            responsesById.put(response.getId(), response);
+        }
+        List<String> responseIds = new ArrayList<>(responsesById.keySet());
+
+        // all queries are issued before any result is used so that they run concurrently
+        List<List<FeedbackResponseComment>> commentsOfResponseBatches = new ArrayList<>();
+        for (int i = 0; i < responseIds.size(); i += MAX_VALUES_PER_IN_FILTER) {
+            List<String> responseIdBatch =
+                    responseIds.subList(i, Math.min(i + MAX_VALUES_PER_IN_FILTER, responseIds.size()));
+            commentsOfResponseBatches.add(load().filter("feedbackResponseId in", responseIdBatch).list());
+        }
+
+        int numberOfComments = 0;
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (List<FeedbackResponseComment> comments : commentsOfResponseBatches) {
+            for (FeedbackResponseComment comment : comments) {
+                numberOfComments++;
+                FeedbackResponseRef response = responsesById.get(comment.getFeedbackResponseId());
+                boolean hasSameSections =
+                        this.<String>hasSameValue(comment.getGiverSection(), response.getGiverSection())
+                        && this.<String>hasSameValue(comment.getReceiverSection(), response.getRecipientSection());
+                if (!hasSameSections) {
+                    comment.setGiverSection(response.getGiverSection());
+                    comment.setReceiverSection(response.getRecipientSection());
+                    commentsToSave.add(comment);
+                }
+            }
+        }
+
+        long loadTime = System.currentTimeMillis();
+
+        int numberOfBatches = saveEntitiesInBatches(commentsToSave);
+
+        long saveTime = System.currentTimeMillis();
+
+        putDocuments(makeAttributes(commentsToSave));
+
+        long indexTime = System.currentTimeMillis();
+        log.info(String.format("Updated sections of %d out of %d comments of %d responses in %d batch(es); "
+                        + "load: %d ms, save: %d ms, index: %d ms",
+                commentsToSave.size(), numberOfComments, responseIds.size(), numberOfBatches,
+                loadTime - startTime, saveTime - loadTime, indexTime - saveTime));
+    }
+
     /**
      * Updates the giver email to a new one for all comments in a course.
      */
@@ -285,19 +412,50 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     /**
      * Creates or updates search document for the given comment.
+     *
+     * <p>The document is only indexed after the current request if indexing is deferred for the request.
      */
     public void putDocument(FeedbackResponseCommentAttributes comment) {
+        if (deferDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                Collections.singletonList(String.valueOf(comment.getId())))) {
+            return;
+        }
         putDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, new FeedbackResponseCommentSearchDocument(comment));
     }
 
     /**
      * Batch creates or updates search documents for the given comments.
+     *
+     * <p>The documents are only indexed after the current request if indexing is deferred for the request.
+     *
+     * @see #putDocumentsForIds(Collection)
      */
     public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
-        List<SearchDocument> frcSearchDocuments = new ArrayList<>();
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment));
+        List<String> commentIds = comments.stream()
+                .map(comment -> String.valueOf(comment.getId()))
+                .collect(Collectors.toList());
+        if (deferDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, commentIds)) {
+            return;
         }
+        putDocumentsNow(comments);
+    }
+
+    /**
+     * Batch creates or updates search documents for the comments with the given IDs, as they currently are.
+     *
+     * <p>The documents are indexed immediately and the data related to the comments is loaded once
+     * for all the documents. Comments which no longer exist are skipped.
+     *
+     * @see FeedbackResponseCommentSearchDocument#fromComments(List)
+     */
+    public void putDocumentsForIds(Collection<String> commentIds) {
+        List<Long> ids = commentIds.stream().map(Long::valueOf).collect(Collectors.toList());
+        putDocumentsNow(new ArrayList<>(getFeedbackResponseCommentsForIds(ids).values()));
+    }
+
+    private void putDocumentsNow(List<FeedbackResponseCommentAttributes> comments) {
+        List<FeedbackResponseCommentSearchDocument> frcSearchDocuments =
+                FeedbackResponseCommentSearchDocument.fromComments(comments);
         putDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments.toArray(new SearchDocument[0]));
     }
 
@@ -423,57 +581,42 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForQuestionInSection(
             String questionId, String section) {
-        // creating map to remove duplicates
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
-
-        List<FeedbackResponseComment> responseCommentsFromSection = load()
-                .filter("feedbackQuestionId =", questionId)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : responseCommentsFromSection) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
-        List<FeedbackResponseComment> responseCommentsToSection = load()
-                .filter("feedbackQuestionId =", questionId)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : responseCommentsToSection) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
-        return comments.values();
+        return loadInSection(load()
+                .filter("feedbackQuestionId =", questionId), section);
     }
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSessionInSection(
             String courseId, String feedbackSessionName, String section) {
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
-
-        List<FeedbackResponseComment> firstQueryResponseComments = load()
+        return loadInSection(load()
                 .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("giverSection =", section)
-                .list();
+                .filter("feedbackSessionName =", feedbackSessionName), section);
+    }
 
-        for (FeedbackResponseComment comment : firstQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
+    /**
+     * Gets the comments on responses given to/from the section among those matching {@code query}.
+     */
+    private Collection<FeedbackResponseComment> loadInSection(Query<FeedbackResponseComment> query, String section) {
+        if (isSectionsQueryEnabled()) {
+            return query.filter("sections =", section).list();
         }
 
-        List<FeedbackResponseComment> secondQueryResponseComments = load()
-                .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : secondQueryResponseComments) {
+        // creating map to remove duplicates
+        Map<Long, FeedbackResponseComment> comments = new LinkedHashMap<>();
+        List<FeedbackResponseComment> commentsFromSection = query.filter("giverSection =", section).list();
+        List<FeedbackResponseComment> commentsToSection = query.filter("receiverSection =", section).list();
+        for (FeedbackResponseComment comment : commentsFromSection) {
+            comments.put(comment.getFeedbackResponseCommentId(), comment);
+        }
+        for (FeedbackResponseComment comment : commentsToSection) {
             comments.put(comment.getFeedbackResponseCommentId(), comment);
         }
-
         return comments.values();
     }
 
+    private boolean isSectionsQueryEnabled() {
+        return sectionsQueryEnabled == null ? Config.ENABLE_SECTIONS_QUERY : sectionsQueryEnabled;
+    }
+
     @Override
     LoadType<FeedbackResponseComment> load() {
         return ofy().load().type(FeedbackResponseComment.class);
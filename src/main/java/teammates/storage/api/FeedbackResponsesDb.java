@@ -3,23 +3,33 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.FeedbackResponseRef;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.storage.entity.FeedbackResponse;
 
@@ -31,6 +41,22 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackResponseAttributes> {
 
+    /**
+     * Whether responses are filtered by section with a single query on their {@code sections}.
+     * Otherwise, they are filtered with one query on their giver section and one on their recipient section,
+     * which also finds responses saved before {@code sections} was introduced.
+     * If null, this is set by {@link Config#ENABLE_SECTIONS_QUERY}.
+     */
+    private final Boolean sectionsQueryEnabled;
+
+    public FeedbackResponsesDb() {
+        this(null);
+    }
+
+    FeedbackResponsesDb(Boolean sectionsQueryEnabled) {
+        this.sectionsQueryEnabled = sectionsQueryEnabled;
+    }
+
     /**
      * Gets a set of giver identifiers that has at least one response under a feedback session.
      */
@@ -83,6 +109,19 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(fr);
     }
 
+    /**
+     * Gets the feedback responses with the given IDs in one batch load, mapped by ID.
+     *
+     * <p>Responses that do not exist are left out of the map.
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponsesForIds(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        Map<String, FeedbackResponseAttributes> responses = new LinkedHashMap<>();
+        load().ids(feedbackResponseIds).forEach((id, response) -> responses.put(id, makeAttributes(response)));
+        return responses;
+    }
+
     /**
      * Gets all feedback responses of a question in a specific section.
      */
@@ -103,6 +142,39 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestion(feedbackQuestionId));
     }
 
+    /**
+     * Gets a page of the responses for a question, ordered by giver and then by recipient.
+     *
+     * @param cursor the cursor returned with the previous page, or null to get the first page
+     * @param limit the maximum number of responses in the page
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForQuestion(
+            String feedbackQuestionId, @Nullable String cursor, int limit) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertTrue(limit > 0);
+
+        // the ID of a response is made of its question, giver and recipient (see FeedbackResponse#generateId),
+        // so ordering by key orders the responses of a question by giver and then by recipient
+        Query<FeedbackResponse> query = load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .orderKey(false)
+                .limit(limit);
+        if (cursor != null) {
+            query = query.startAt(Cursor.fromWebSafeString(cursor));
+        }
+
+        QueryResultIterator<FeedbackResponse> iterator = query.iterator();
+        List<FeedbackResponse> entities = new ArrayList<>();
+        while (iterator.hasNext()) {
+            entities.add(iterator.next());
+        }
+        // a full page may be followed by an empty page, which is cheaper than checking for more responses
+        String nextCursor = entities.size() < limit ? null : iterator.getCursor().toWebSafeString();
+
+        return new FeedbackResponsesPage(makeAttributes(entities), nextCursor);
+    }
+
     /**
      * Checks whether there are responses for a question.
      */
@@ -112,6 +184,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return !load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
                 .limit(1)
+                .keys()
                 .list()
                 .isEmpty();
     }
@@ -175,6 +248,7 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
                 .limit(1)
+                .keys()
                 .list()
                 .isEmpty();
     }
@@ -201,6 +275,107 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForCourse(courseId, giverEmail));
     }
 
+    /**
+     * Gets references to all responses given to a user in a course.
+     *
+     * <p>The response details are not fetched.
+     */
+    public List<FeedbackResponseRef> getFeedbackResponseRefsForReceiverForCourse(String courseId, String receiver) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, receiver);
+
+        // properties used in equality filters cannot be projected
+        return load()
+                .filter("courseId =", courseId)
+                .filter("receiver =", receiver)
+                .project("feedbackSessionName", "feedbackQuestionId", "giverEmail", "giverSection", "receiverSection")
+                .list()
+                .stream()
+                .map(fr -> new FeedbackResponseRef(fr.getId(), fr.getFeedbackSessionName(), courseId,
+                        fr.getFeedbackQuestionId(), fr.getGiverEmail(), fr.getGiverSection(),
+                        receiver, fr.getRecipientSection()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets references to all responses given by a user in a course.
+     *
+     * <p>The response details are not fetched.
+     */
+    public List<FeedbackResponseRef> getFeedbackResponseRefsFromGiverForCourse(String courseId, String giverEmail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        // properties used in equality filters cannot be projected
+        return load()
+                .filter("courseId =", courseId)
+                .filter("giverEmail =", giverEmail)
+                .project("feedbackSessionName", "feedbackQuestionId", "giverSection", "receiver", "receiverSection")
+                .list()
+                .stream()
+                .map(fr -> new FeedbackResponseRef(fr.getId(), fr.getFeedbackSessionName(), courseId,
+                        fr.getFeedbackQuestionId(), giverEmail, fr.getGiverSection(),
+                        fr.getRecipientEmail(), fr.getRecipientSection()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Updates the sections of all responses given by or to a participant in a course.
+     *
+     * <p>The responses are loaded in two queries and only those whose section changes are saved, in batches.
+     *
+     * @return references to all responses given by or to the participant, with their updated sections
+     */
+    public List<FeedbackResponseRef> updateSectionsOfResponsesForParticipant(
+            String courseId, String participant, String newSection) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, participant);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newSection);
+
+        long startTime = System.currentTimeMillis();
+
+        // both queries are issued before either result is used so that they run concurrently
+        List<FeedbackResponse> responsesFromParticipant =
+                getFeedbackResponseEntitiesFromGiverForCourse(courseId, participant);
+        List<FeedbackResponse> responsesToParticipant =
+                getFeedbackResponseEntitiesForReceiverForCourse(courseId, participant);
+
+        // a response given by the participant to themselves is returned by both queries
+        Map<String, FeedbackResponse> involvedResponses = new LinkedHashMap<>();
+        Map<String, FeedbackResponse> responsesToSave = new LinkedHashMap<>();
+        for (FeedbackResponse response : responsesFromParticipant) {
+            involvedResponses.put(response.getId(), response);
+            if (!newSection.equals(response.getGiverSection())) {
+                response.setGiverSection(newSection);
+                responsesToSave.put(response.getId(), response);
+            }
+        }
+        for (FeedbackResponse responseToParticipant : responsesToParticipant) {
+            FeedbackResponse response = involvedResponses.computeIfAbsent(
+                    responseToParticipant.getId(), id -> responseToParticipant);
+            if (!newSection.equals(response.getRecipientSection())) {
+                response.setRecipientSection(newSection);
+                responsesToSave.put(response.getId(), response);
+            }
+        }
+
+        long loadTime = System.currentTimeMillis();
+
+        int numberOfBatches = saveEntitiesInBatches(new ArrayList<>(responsesToSave.values()));
+
+        long saveTime = System.currentTimeMillis();
+        log.info(String.format("Updated sections of %d out of %d responses of %s in course %s in %d batch(es); "
+                        + "load: %d ms, save: %d ms",
+                responsesToSave.size(), involvedResponses.size(), participant, courseId, numberOfBatches,
+                loadTime - startTime, saveTime - loadTime));
+
+        return involvedResponses.values().stream()
+                .map(response -> new FeedbackResponseRef(response.getId(), response.getFeedbackSessionName(),
+                        response.getCourseId(), response.getFeedbackQuestionId(), response.getGiverEmail(),
+                        response.getGiverSection(), response.getRecipientEmail(), response.getRecipientSection()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Updates a feedback response with {@link FeedbackResponseAttributes.UpdateOptions}.
      *
@@ -304,27 +479,17 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
      */
     public boolean hasFeedbackResponseEntitiesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
-        return !load().filter("courseId =", courseId).limit(1).list().isEmpty();
+        return !load().filter("courseId =", courseId).limit(1).keys().list().isEmpty();
     }
 
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
         return load().id(feedbackResponseId).now();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
                 String feedbackQuestionId, String section) {
-        List<FeedbackResponse> allResponses = new ArrayList<>();
-
-        allResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .list());
-        allResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiverSection =", section)
-                .list());
-
-        return removeDuplicates(allResponses);
+        return mergeQueryResults(queryInSection(load()
+                .filter("feedbackQuestionId =", feedbackQuestionId), section));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
@@ -340,31 +505,38 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        List<FeedbackResponse> allResponse = new ArrayList<>();
-
-        allResponse.addAll(load()
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("giverSection =", section)
-                .list());
-
-        allResponse.addAll(load()
+        return mergeQueryResults(queryInSection(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("receiverSection =", section)
-                .list());
+                .filter("courseId =", courseId), section));
+    }
 
-        return removeDuplicates(allResponse);
+    /**
+     * Starts the queries for the responses given to/from the section among those matching {@code query}.
+     * The results are fetched lazily.
+     */
+    private List<List<FeedbackResponse>> queryInSection(Query<FeedbackResponse> query, String section) {
+        if (isSectionsQueryEnabled()) {
+            return Collections.singletonList(query.filter("sections =", section).list());
+        }
+        return Arrays.asList(
+                query.filter("giverSection =", section).list(),
+                query.filter("receiverSection =", section).list());
     }
 
-    private Collection<FeedbackResponse> removeDuplicates(Collection<FeedbackResponse> responses) {
-        Map<String, FeedbackResponse> uniqueResponses = new HashMap<>();
-        for (FeedbackResponse response : responses) {
-            uniqueResponses.put(response.getId(), response);
+    private List<FeedbackResponse> mergeQueryResults(List<List<FeedbackResponse>> queryResults) {
+        if (queryResults.size() == 1) {
+            return queryResults.get(0);
+        }
+        // a response given within a section is found by both queries
+        Map<String, FeedbackResponse> uniqueResponses = new LinkedHashMap<>();
+        for (List<FeedbackResponse> responses : queryResults) {
+            for (FeedbackResponse response : responses) {
+                uniqueResponses.put(response.getId(), response);
+            }
         }
-        return uniqueResponses.values();
+        return new ArrayList<>(uniqueResponses.values());
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
@@ -399,6 +571,11 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
+    private boolean isSectionsQueryEnabled() {
+        // Config is read lazily so that creating this class does not load the configuration
+        return sectionsQueryEnabled == null ? Config.ENABLE_SECTIONS_QUERY : sectionsQueryEnabled;
+    }
+
     @Override
     LoadType<FeedbackResponse> load() {
         return ofy().load().type(FeedbackResponse.class);
@@ -3,7 +3,12 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -32,10 +37,17 @@ import teammates.storage.search.SearchDocument;
  */
 public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes> {
 
+    private final CourseRosterVersions courseRosterVersions = new CourseRosterVersions();
+
     /**
      * Creates or updates search document for the given instructor.
+     *
+     * <p>The document is only indexed after the current request if indexing is deferred for the request.
      */
     public void putDocument(InstructorAttributes instructorParam) {
+        if (deferDocuments(Const.SearchIndex.INSTRUCTOR, Collections.singletonList(instructorParam.getId()))) {
+            return;
+        }
         InstructorAttributes instructor = instructorParam;
         if (instructor.key == null) {
             instructor = this.getInstructorForEmail(instructor.courseId, instructor.email);
@@ -48,8 +60,43 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
 
     /**
      * Batch creates or updates search documents for the given instructors.
+     *
+     * <p>The documents are only indexed after the current request if indexing is deferred for the request.
      */
     public void putDocuments(List<InstructorAttributes> instructorParams) {
+        List<String> instructorIds =
+                instructorParams.stream().map(InstructorAttributes::getId).collect(Collectors.toList());
+        if (deferDocuments(Const.SearchIndex.INSTRUCTOR, instructorIds)) {
+            return;
+        }
+        putDocumentsNow(instructorParams);
+    }
+
+    /**
+     * Batch creates or updates search documents for the instructors with the given IDs, as they currently are.
+     *
+     * <p>The documents are indexed immediately. Instructors which no longer exist are skipped.
+     *
+     * @param instructorIds the IDs of the instructors, as given by {@link InstructorAttributes#getId()}
+     */
+    public void putDocumentsForIds(Collection<String> instructorIds) {
+        List<InstructorAttributes> instructors = new ArrayList<>();
+        for (String instructorId : instructorIds) {
+            // the ID is the email followed by the course ID, which cannot contain '%'
+            int separatorIndex = instructorId.lastIndexOf('%');
+            if (separatorIndex < 0) {
+                continue;
+            }
+            InstructorAttributes instructor = getInstructorForEmail(
+                    instructorId.substring(separatorIndex + 1), instructorId.substring(0, separatorIndex));
+            if (instructor != null) {
+                instructors.add(instructor);
+            }
+        }
+        putDocumentsNow(instructors);
+    }
+
+    private void putDocumentsNow(List<InstructorAttributes> instructorParams) {
         List<SearchDocument> instructorDocuments = new ArrayList<>();
         for (InstructorAttributes instructor : instructorParams) {
             InstructorAttributes inst = instructor.key == null
@@ -72,6 +119,13 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteDocument(Const.SearchIndex.INSTRUCTOR, encryptedRegistrationKey);
     }
 
+    /**
+     * Removes search documents for the given instructors in one batch by using {@code encryptedRegistrationKeys}.
+     */
+    public void deleteDocumentsByEncryptedInstructorKeys(Collection<String> encryptedRegistrationKeys) {
+        deleteDocument(Const.SearchIndex.INSTRUCTOR, encryptedRegistrationKeys.toArray(new String[0]));
+    }
+
     /**
      * Searches all instructors in the system.
      *
@@ -102,11 +156,32 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     public InstructorAttributes createEntity(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
         InstructorAttributes createdInstructor = super.createEntity(instructorToAdd);
+        courseRosterVersions.bumpVersion(createdInstructor.courseId);
         putDocument(createdInstructor);
 
         return createdInstructor;
     }
 
+    @Override
+    public InstructorAttributes putEntity(InstructorAttributes instructor) throws InvalidParametersException {
+        InstructorAttributes putInstructor = super.putEntity(instructor);
+        courseRosterVersions.bumpVersion(putInstructor.courseId);
+
+        return putInstructor;
+    }
+
+    @Override
+    public List<InstructorAttributes> putEntities(Collection<InstructorAttributes> instructors)
+            throws InvalidParametersException {
+        List<InstructorAttributes> putInstructors = super.putEntities(instructors);
+        putInstructors.stream()
+                .map(InstructorAttributes::getCourseId)
+                .distinct()
+                .forEach(courseRosterVersions::bumpVersion);
+
+        return putInstructors;
+    }
+
     /**
      * Gets an instructor by unique constraint courseId-email.
      */
@@ -117,6 +192,21 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         return makeAttributesOrNull(getInstructorEntityForEmail(courseId, email));
     }
 
+    /**
+     * Gets the instructors with the given IDs in one batch load, mapped by ID.
+     *
+     * <p>Instructors that do not exist are left out of the map.
+     *
+     * @see InstructorAttributes#getId()
+     */
+    public Map<String, InstructorAttributes> getInstructorsForIds(Collection<String> instructorIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, instructorIds);
+
+        Map<String, InstructorAttributes> instructors = new LinkedHashMap<>();
+        load().ids(instructorIds).forEach((id, instructor) -> instructors.put(id, makeAttributes(instructor)));
+        return instructors;
+    }
+
     /**
      * Gets an instructor by unique ID.
      */
@@ -231,6 +321,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         instructor.setInstructorPrivilegeAsText(newAttributes.getTextFromInstructorPrivileges());
 
         saveEntity(instructor);
+        courseRosterVersions.bumpVersion(instructor.getCourseId());
 
         newAttributes = makeAttributes(instructor);
         putDocument(newAttributes);
@@ -286,6 +377,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         instructor.setInstructorPrivilegeAsText(newAttributes.getTextFromInstructorPrivileges());
 
         saveEntity(instructor);
+        courseRosterVersions.bumpVersion(instructor.getCourseId());
 
         newAttributes = makeAttributes(instructor);
         putDocument(newAttributes);
@@ -311,6 +403,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteDocumentByEncryptedInstructorKey(StringHelper.encrypt(instructorToDelete.getRegistrationKey()));
 
         deleteEntity(Key.create(Instructor.class, instructorToDelete.getUniqueId()));
+        courseRosterVersions.bumpVersion(courseId);
     }
 
     /**
@@ -329,6 +422,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
             deleteEntity(instructorsToDelete.stream()
                     .map(s -> Key.create(Instructor.class, s.getUniqueId()))
                     .toArray(Key[]::new));
+            courseRosterVersions.bumpVersion(query.getCourseId());
         }
     }
 
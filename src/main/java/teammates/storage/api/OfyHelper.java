@@ -14,6 +14,9 @@ import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
 import teammates.storage.entity.Instructor;
+import teammates.storage.entity.QuestionStats;
+import teammates.storage.entity.SessionRespondent;
+import teammates.storage.entity.SessionStats;
 import teammates.storage.entity.StudentProfile;
 
 /**
@@ -33,6 +36,9 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
         ObjectifyService.register(Instructor.class);
+        ObjectifyService.register(QuestionStats.class);
+        ObjectifyService.register(SessionRespondent.class);
+        ObjectifyService.register(SessionStats.class);
         ObjectifyService.register(StudentProfile.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
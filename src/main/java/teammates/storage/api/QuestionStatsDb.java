@@ -0,0 +1,158 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.function.Consumer;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.Work;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.QuestionStats;
+
+/**
+ * Handles CRUD operations for the running tallies of the responses to feedback questions.
+ *
+ * @see QuestionStats
+ * @see FeedbackResponsesTally
+ */
+public class QuestionStatsDb {
+
+    /**
+     * Gets the tally of the responses to a feedback question.
+     *
+     * @return null if the tally of the question has not been computed
+     */
+    public FeedbackResponsesTally getResponsesTally(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        QuestionStats stats = ofy().load().key(getKey(feedbackQuestionId)).now();
+        if (stats == null || stats.getTally() == null) {
+            return null;
+        }
+        return FeedbackResponsesTally.fromJsonString(stats.getTally());
+    }
+
+    /**
+     * Creates or overwrites the tally of the responses to a feedback question.
+     */
+    public void putResponsesTally(String feedbackQuestionId, String feedbackSessionName, String courseId,
+                                  FeedbackResponsesTally tally) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, tally);
+
+        ofy().save().entity(
+                new QuestionStats(feedbackQuestionId, feedbackSessionName, courseId, tally.getJsonString())).now();
+    }
+
+    /**
+     * Creates the tally of the responses to a feedback question in a transaction, unless the tally already exists.
+     *
+     * <p>The transaction is the same kind as that of {@link #updateResponsesTally(String, Consumer)},
+     * so that a tally created concurrently, and updated since, is not overwritten.
+     *
+     * @return the tally stored after the transaction, i.e. the existing tally if there is one
+     */
+    public FeedbackResponsesTally createResponsesTallyIfAbsent(String feedbackQuestionId, String feedbackSessionName,
+                                                              String courseId, FeedbackResponsesTally tally) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, tally);
+
+        return ofy().transact(new Work<FeedbackResponsesTally>() {
+            @Override
+            public FeedbackResponsesTally run() {
+                QuestionStats stats = ofy().load().key(getKey(feedbackQuestionId)).now();
+                if (stats != null && stats.getTally() != null) {
+                    return FeedbackResponsesTally.fromJsonString(stats.getTally());
+                }
+
+                ofy().save().entity(
+                        new QuestionStats(feedbackQuestionId, feedbackSessionName, courseId, tally.getJsonString())).now();
+                return tally;
+            }
+        });
+    }
+
+    /**
+     * Returns true if the tally of the responses to a feedback question has been computed.
+     */
+    public boolean hasResponsesTally(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return ofy().load().key(getKey(feedbackQuestionId)).now() != null;
+    }
+
+    /**
+     * Updates the tally of the responses to a feedback question in a transaction.
+     *
+     * <p>Nothing is done if the tally of the question has not been computed.
+     *
+     * @param update the update to apply to the tally, which may be run more than once if the transaction is retried
+     */
+    public void updateResponsesTally(String feedbackQuestionId, Consumer<FeedbackResponsesTally> update) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, update);
+
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                QuestionStats stats = ofy().load().key(getKey(feedbackQuestionId)).now();
+                if (stats == null || stats.getTally() == null) {
+                    return;
+                }
+
+                FeedbackResponsesTally tally = FeedbackResponsesTally.fromJsonString(stats.getTally());
+                update.accept(tally);
+                stats.setTally(tally.getJsonString());
+                ofy().save().entity(stats).now();
+            }
+        });
+    }
+
+    /**
+     * Deletes the tally of the responses to a feedback question.
+     *
+     * <p>Fails silently if the tally of the question has not been computed.
+     */
+    public void deleteResponsesTally(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        ofy().delete().key(getKey(feedbackQuestionId)).now();
+    }
+
+    /**
+     * Deletes tallies using {@link AttributesDeletionQuery}.
+     */
+    public void deleteResponsesTallies(AttributesDeletionQuery query) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        if (query.isQuestionIdPresent()) {
+            deleteResponsesTally(query.getQuestionId());
+            return;
+        }
+
+        Query<QuestionStats> entitiesToDelete = ofy().load().type(QuestionStats.class);
+        if (query.isCourseIdPresent()) {
+            entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
+        }
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        ofy().delete().keys(entitiesToDelete.keys().list()).now();
+    }
+
+    private static Key<QuestionStats> getKey(String feedbackQuestionId) {
+        return Key.create(QuestionStats.class, feedbackQuestionId);
+    }
+
+}
@@ -0,0 +1,181 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.SessionRespondent;
+
+/**
+ * Handles CRUD operations for the respondents of feedback sessions.
+ *
+ * <p>Every respondent is stored as a separate entity, so that recording a respondent
+ * does not need to rewrite the feedback session.
+ *
+ * @see SessionRespondent
+ */
+public class SessionRespondentsDb {
+
+    /**
+     * Adds a respondent to a feedback session.
+     *
+     * <p>Nothing is written if the user is already a respondent of the session.
+     */
+    public void addRespondent(String courseId, String feedbackSessionName, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        if (isRespondent(courseId, feedbackSessionName, email, isInstructor)) {
+            return;
+        }
+        ofy().save().entity(new SessionRespondent(courseId, feedbackSessionName, email, isInstructor)).now();
+    }
+
+    /**
+     * Adds respondents to a feedback session in batch.
+     */
+    public void addRespondents(String courseId, String feedbackSessionName, Collection<String> emails,
+                               boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        List<SessionRespondent> respondents = emails.stream()
+                .map(email -> new SessionRespondent(courseId, feedbackSessionName, email, isInstructor))
+                .collect(Collectors.toList());
+        ofy().save().entities(respondents).now();
+    }
+
+    /**
+     * Removes a respondent from a feedback session.
+     *
+     * <p>Fails silently if the user is not a respondent of the session.
+     */
+    public void removeRespondent(String courseId, String feedbackSessionName, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        ofy().delete().key(getKey(courseId, feedbackSessionName, email, isInstructor)).now();
+    }
+
+    /**
+     * Removes a user from the respondents of all feedback sessions in a course.
+     */
+    public void removeRespondentFromCourse(String courseId, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        List<Key<SessionRespondent>> keys = getRespondentEntitiesOfUser(courseId, email, isInstructor).keys().list();
+        ofy().delete().keys(keys).now();
+    }
+
+    /**
+     * Updates the email of a respondent in all feedback sessions in a course.
+     */
+    public void updateRespondentEmail(String courseId, String oldEmail, String newEmail, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
+
+        if (oldEmail.equals(newEmail)) {
+            return;
+        }
+
+        List<SessionRespondent> oldRespondents = getRespondentEntitiesOfUser(courseId, oldEmail, isInstructor).list();
+        if (oldRespondents.isEmpty()) {
+            return;
+        }
+
+        List<SessionRespondent> newRespondents = oldRespondents.stream()
+                .map(respondent -> new SessionRespondent(
+                        courseId, respondent.getFeedbackSessionName(), newEmail, isInstructor))
+                .collect(Collectors.toList());
+        ofy().save().entities(newRespondents).now();
+        ofy().delete().entities(oldRespondents).now();
+    }
+
+    /**
+     * Checks whether a user is a respondent of a feedback session.
+     */
+    public boolean isRespondent(String courseId, String feedbackSessionName, String email, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        return ofy().load().key(getKey(courseId, feedbackSessionName, email, isInstructor)).now() != null;
+    }
+
+    /**
+     * Gets the emails of the student or instructor respondents of a feedback session.
+     */
+    public Set<String> getRespondents(String courseId, String feedbackSessionName, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        return ofy().load().type(SessionRespondent.class)
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("isInstructor =", isInstructor)
+                .list()
+                .stream()
+                .map(SessionRespondent::getEmail)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Gets the number of respondents, both students and instructors, of a feedback session.
+     *
+     * <p>Only the keys of the respondents are fetched.
+     */
+    public int getNumberOfRespondents(String courseId, String feedbackSessionName) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        return ofy().load().type(SessionRespondent.class)
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .count();
+    }
+
+    /**
+     * Deletes respondents using {@link AttributesDeletionQuery}.
+     */
+    public void deleteRespondents(AttributesDeletionQuery query) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        Query<SessionRespondent> entitiesToDelete = ofy().load().type(SessionRespondent.class);
+        if (query.isCourseIdPresent()) {
+            entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
+        }
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        ofy().delete().keys(entitiesToDelete.keys().list()).now();
+    }
+
+    private Query<SessionRespondent> getRespondentEntitiesOfUser(String courseId, String email, boolean isInstructor) {
+        return ofy().load().type(SessionRespondent.class)
+                .filter("courseId =", courseId)
+                .filter("email =", email)
+                .filter("isInstructor =", isInstructor);
+    }
+
+    private static Key<SessionRespondent> getKey(String courseId, String feedbackSessionName, String email,
+                                                 boolean isInstructor) {
+        return Key.create(SessionRespondent.class,
+                SessionRespondent.generateId(courseId, feedbackSessionName, email, isInstructor));
+    }
+
+}
@@ -0,0 +1,165 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.VoidWork;
+import com.googlecode.objectify.Work;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.SessionSubmissionStats;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.SessionStats;
+
+/**
+ * Handles CRUD operations for the precomputed submission statistics of feedback sessions.
+ *
+ * @see SessionStats
+ * @see SessionSubmissionStats
+ */
+public class SessionStatsDb {
+
+    /**
+     * Gets the statistics of a feedback session.
+     *
+     * @return null if the statistics of the session have not been computed, or have been invalidated since
+     */
+    public SessionSubmissionStats getSessionStats(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        SessionStats stats = ofy().load().key(getKey(feedbackSessionName, courseId)).now();
+        if (stats == null || stats.isInvalidated()) {
+            return null;
+        }
+        return makeAttributes(stats);
+    }
+
+    /**
+     * Gets the number of times the statistics of a feedback session have been invalidated.
+     *
+     * @return 0 if the statistics of the session have never been invalidated
+     */
+    public long getInvalidationCount(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        SessionStats stats = ofy().load().key(getKey(feedbackSessionName, courseId)).now();
+        return stats == null ? 0 : stats.getInvalidationCount();
+    }
+
+    /**
+     * Gets the statistics of all feedback sessions that have been computed or invalidated since the given time.
+     *
+     * <p>Invalidated statistics are included with the values they were last computed with.
+     */
+    public List<SessionSubmissionStats> getSessionStatsUpdatedSince(Instant time) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, time);
+
+        return ofy().load().type(SessionStats.class)
+                .filter("updatedAt >=", time)
+                .list()
+                .stream()
+                .map(this::makeAttributes)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates or overwrites the statistics of a feedback session in a transaction, unless the statistics
+     * have been invalidated since they were computed.
+     *
+     * @param stats the statistics, whose {@link SessionSubmissionStats#getInvalidationCount()} is
+     *              the number of times the statistics had been invalidated before they were computed
+     * @return true if the statistics are stored
+     */
+    public boolean putSessionStats(SessionSubmissionStats stats) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, stats);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, stats.getFeedbackSessionName());
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, stats.getCourseId());
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                SessionStats storedStats =
+                        ofy().load().key(getKey(stats.getFeedbackSessionName(), stats.getCourseId())).now();
+                long invalidationCount = storedStats == null ? 0 : storedStats.getInvalidationCount();
+                if (invalidationCount != stats.getInvalidationCount()) {
+                    return false;
+                }
+
+                ofy().save().entity(new SessionStats(stats.getFeedbackSessionName(), stats.getCourseId(),
+                        stats.hasQuestionsForStudents(), stats.hasQuestionsForInstructors(),
+                        stats.hasQuestionsForCreator(), stats.getRosterVersion(), stats.getExpectedTotalSubmission(),
+                        invalidationCount)).now();
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Invalidates the statistics of a feedback session in a transaction, so that they are recomputed
+     * when next needed and statistics being computed concurrently are not stored.
+     */
+    public void invalidateSessionStats(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                SessionStats stats = ofy().load().key(getKey(feedbackSessionName, courseId)).now();
+                if (stats == null) {
+                    stats = new SessionStats(feedbackSessionName, courseId, false, false, false, null, 0, 0);
+                }
+                stats.invalidate();
+                ofy().save().entity(stats).now();
+            }
+        });
+    }
+
+    /**
+     * Deletes the statistics of a feedback session.
+     *
+     * <p>Fails silently if the statistics of the session have not been computed.
+     */
+    public void deleteSessionStats(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().delete().key(getKey(feedbackSessionName, courseId)).now();
+    }
+
+    /**
+     * Deletes statistics using {@link AttributesDeletionQuery}.
+     */
+    public void deleteSessionStats(AttributesDeletionQuery query) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, query);
+
+        Query<SessionStats> entitiesToDelete = ofy().load().type(SessionStats.class);
+        if (query.isCourseIdPresent()) {
+            entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
+        }
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        ofy().delete().keys(entitiesToDelete.keys().list()).now();
+    }
+
+    private SessionSubmissionStats makeAttributes(SessionStats stats) {
+        return new SessionSubmissionStats(stats.getFeedbackSessionName(), stats.getCourseId(),
+                stats.hasQuestionsForStudents(), stats.hasQuestionsForInstructors(), stats.hasQuestionsForCreator(),
+                stats.getRosterVersion(), stats.getExpectedTotalSubmission(), stats.getInvalidationCount());
+    }
+
+    private static Key<SessionStats> getKey(String feedbackSessionName, String courseId) {
+        return Key.create(SessionStats.class, SessionStats.generateId(feedbackSessionName, courseId));
+    }
+
+}
@@ -3,7 +3,12 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
@@ -13,7 +18,9 @@ import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentEnrollmentChange;
 import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.StudentsEnrollmentResult;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -41,17 +48,44 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     private static final int MAX_KEY_REGENERATION_TRIES = 5;
 
+    private final CourseRosterVersions courseRosterVersions = new CourseRosterVersions();
+    private final UserRolesCache userRolesCache = new UserRolesCache();
+
     /**
      * Creates or updates search document for the given student.
+     *
+     * <p>The document is only indexed after the current request if indexing is deferred for the request.
      */
     public void putDocument(StudentAttributes student) {
+        if (deferDocuments(Const.SearchIndex.STUDENT, Collections.singletonList(student.getId()))) {
+            return;
+        }
         putDocument(Const.SearchIndex.STUDENT, new StudentSearchDocument(student));
     }
 
     /**
      * Batch creates or updates search documents for the given students.
+     *
+     * <p>The documents are only indexed after the current request if indexing is deferred for the request.
      */
     public void putDocuments(List<StudentAttributes> students) {
+        List<String> studentIds = students.stream().map(StudentAttributes::getId).collect(Collectors.toList());
+        if (deferDocuments(Const.SearchIndex.STUDENT, studentIds)) {
+            return;
+        }
+        putDocumentsNow(students);
+    }
+
+    /**
+     * Batch creates or updates search documents for the students with the given IDs, as they currently are.
+     *
+     * <p>The documents are indexed immediately. Students which no longer exist are skipped.
+     */
+    public void putDocumentsForIds(Collection<String> studentIds) {
+        putDocumentsNow(new ArrayList<>(getStudentsForIds(studentIds).values()));
+    }
+
+    private void putDocumentsNow(List<StudentAttributes> students) {
         List<SearchDocument> studentDocuments = new ArrayList<>();
         for (StudentAttributes student : students) {
             studentDocuments.add(new StudentSearchDocument(student));
@@ -102,6 +136,13 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         deleteDocument(Const.SearchIndex.STUDENT, unencryptedRegistrationKey);
     }
 
+    /**
+     * Removes search documents for the given students in one batch by using {@code unencryptedRegistrationKeys}.
+     */
+    public void deleteDocumentsByStudentKeys(Collection<String> unencryptedRegistrationKeys) {
+        deleteDocument(Const.SearchIndex.STUDENT, unencryptedRegistrationKeys.toArray(new String[0]));
+    }
+
     /**
      * Creates a student.
      *
@@ -114,11 +155,36 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             throws InvalidParametersException, EntityAlreadyExistsException {
 
         StudentAttributes createdStudent = super.createEntity(student);
+        courseRosterVersions.bumpVersion(createdStudent.course);
+        userRolesCache.invalidateRoles(Collections.singletonList(createdStudent.googleId));
         putDocument(createdStudent);
 
         return createdStudent;
     }
 
+    @Override
+    public StudentAttributes putEntity(StudentAttributes student) throws InvalidParametersException {
+        StudentAttributes putStudent = super.putEntity(student);
+        courseRosterVersions.bumpVersion(putStudent.course);
+        userRolesCache.invalidateRoles(Collections.singletonList(putStudent.googleId));
+
+        return putStudent;
+    }
+
+    @Override
+    public List<StudentAttributes> putEntities(Collection<StudentAttributes> students)
+            throws InvalidParametersException {
+        List<StudentAttributes> putStudents = super.putEntities(students);
+        putStudents.stream()
+                .map(StudentAttributes::getCourse)
+                .distinct()
+                .forEach(courseRosterVersions::bumpVersion);
+        userRolesCache.invalidateRoles(
+                putStudents.stream().map(StudentAttributes::getGoogleId).collect(Collectors.toList()));
+
+        return putStudents;
+    }
+
     /**
      * Regenerates the registration key of a student in a course.
      *
@@ -133,6 +199,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
             if (!updatedEntity.getRegistrationKey().equals(originalStudent.getKey())) {
                 saveEntity(updatedEntity);
+                courseRosterVersions.bumpVersion(updatedEntity.getCourseId());
 
                 StudentAttributes updatedStudent = makeAttributes(updatedEntity);
                 putDocument(updatedStudent);
@@ -156,6 +223,21 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
     }
 
+    /**
+     * Gets the students with the given IDs in one batch load, mapped by ID.
+     *
+     * <p>Students that do not exist are left out of the map.
+     *
+     * @see StudentAttributes#getId()
+     */
+    public Map<String, StudentAttributes> getStudentsForIds(Collection<String> studentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentIds);
+
+        Map<String, StudentAttributes> students = new LinkedHashMap<>();
+        load().ids(studentIds).forEach((id, student) -> students.put(id, makeAttributes(student)));
+        return students;
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -204,6 +286,19 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributes(getCourseStudentEntitiesForGoogleId(googleId));
     }
 
+    /**
+     * Checks whether there are students associated with a googleId, without loading the students.
+     */
+    public boolean hasStudentsForGoogleId(String googleId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+
+        return !getCourseStudentsForGoogleIdQuery(googleId)
+                .limit(1)
+                .keys()
+                .list()
+                .isEmpty();
+    }
+
     /**
      * Gets all students of a course.
      */
@@ -279,28 +374,19 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             return newAttributes;
         } else {
             // update only if change
-            boolean hasSameAttributes =
-                    this.<String>hasSameValue(student.getName(), newAttributes.getName())
-                    && this.<String>hasSameValue(student.getLastName(), newAttributes.getLastName())
-                    && this.<String>hasSameValue(student.getComments(), newAttributes.getComments())
-                    && this.<String>hasSameValue(student.getGoogleId(), newAttributes.getGoogleId())
-                    && this.<String>hasSameValue(student.getTeamName(), newAttributes.getTeam())
-                    && this.<String>hasSameValue(student.getSectionName(), newAttributes.getSection());
-            if (hasSameAttributes) {
+            if (hasSameAttributes(student, newAttributes)) {
                 log.info(String.format(OPTIMIZED_SAVING_POLICY_APPLIED, CourseStudent.class.getSimpleName(), updateOptions));
                 return newAttributes;
             }
 
-            student.setName(newAttributes.name);
-            student.setLastName(newAttributes.lastName);
-            student.setComments(newAttributes.comments);
-            student.setGoogleId(newAttributes.googleId);
-            student.setTeamName(newAttributes.team);
-            student.setSectionName(newAttributes.section);
+            String originalGoogleId = student.getGoogleId();
+            copyAttributesToEntity(newAttributes, student);
 
             putDocument(newAttributes);
 
             saveEntity(student);
+            courseRosterVersions.bumpVersion(student.getCourseId());
+            userRolesCache.invalidateRoles(Arrays.asList(originalGoogleId, student.getGoogleId()));
 
             newAttributes = makeAttributes(student);
             putDocument(newAttributes);
@@ -309,6 +395,101 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Enrolls a list of students into a course.
+     *
+     * <p>Students not in the course are created, while students already in the course have their name, team,
+     * section and comments updated. The existing students are fetched in a single batch read and only
+     * new or changed students are saved, in batches. Their search documents are also put in a single batch.
+     *
+     * <p>Students which are not valid are skipped. If an email is given more than once,
+     * only its first occurrence is enrolled.
+     *
+     * <p>Changes of team or section are NOT cascaded to the responses of the students;
+     * they are returned to be cascaded by the caller.
+     */
+    public StudentsEnrollmentResult enrollStudents(String courseId, List<StudentAttributes> studentsToEnroll) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentsToEnroll);
+
+        long startTime = System.currentTimeMillis();
+
+        Map<String, StudentAttributes> uniqueStudentsToEnroll = new LinkedHashMap<>();
+        for (StudentAttributes student : studentsToEnroll) {
+            Assumption.assertEquals("Student to enroll is not in the course", courseId, student.getCourse());
+            uniqueStudentsToEnroll.putIfAbsent(CourseStudent.generateId(student.getEmail(), courseId), student);
+        }
+        Map<String, CourseStudent> existingStudents = load().ids(uniqueStudentsToEnroll.keySet());
+
+        long loadTime = System.currentTimeMillis();
+
+        StudentsEnrollmentResult result = new StudentsEnrollmentResult();
+        List<CourseStudent> enrolledStudents = new ArrayList<>();
+        List<CourseStudent> studentsToSave = new ArrayList<>();
+        for (Map.Entry<String, StudentAttributes> entry : uniqueStudentsToEnroll.entrySet()) {
+            StudentAttributes student = entry.getValue();
+            CourseStudent existingStudent = existingStudents.get(entry.getKey());
+
+            StudentAttributes newAttributes;
+            if (existingStudent == null) {
+                newAttributes = student.getCopy();
+            } else {
+                newAttributes = makeAttributes(existingStudent);
+                newAttributes.update(StudentAttributes.updateOptionsBuilder(courseId, student.getEmail())
+                        .withName(student.getName())
+                        .withSectionName(student.getSection())
+                        .withTeamName(student.getTeam())
+                        .withComment(student.getComments())
+                        .build());
+            }
+
+            newAttributes.sanitizeForSaving();
+            if (!newAttributes.isValid()) {
+                log.info("Student not enrolled: " + newAttributes.getInvalidityInfo());
+                continue;
+            }
+
+            if (existingStudent == null) {
+                CourseStudent newStudent = newAttributes.toEntity();
+                studentsToSave.add(newStudent);
+                enrolledStudents.add(newStudent);
+                continue;
+            }
+
+            enrolledStudents.add(existingStudent);
+            if (hasSameAttributes(existingStudent, newAttributes)) {
+                continue;
+            }
+
+            StudentEnrollmentChange change = new StudentEnrollmentChange(existingStudent.getEmail(),
+                    existingStudent.getTeamName(), newAttributes.getTeam(),
+                    existingStudent.getSectionName(), newAttributes.getSection());
+            if (change.isTeamChanged() || change.isSectionChanged()) {
+                result.getChanges().add(change);
+            }
+
+            copyAttributesToEntity(newAttributes, existingStudent);
+            studentsToSave.add(existingStudent);
+        }
+
+        int numberOfBatches = saveEntitiesInBatches(studentsToSave);
+        if (!studentsToSave.isEmpty()) {
+            courseRosterVersions.bumpVersion(courseId);
+            userRolesCache.invalidateRoles(
+                    studentsToSave.stream().map(CourseStudent::getGoogleId).collect(Collectors.toList()));
+            putDocuments(makeAttributes(studentsToSave));
+        }
+
+        long saveTime = System.currentTimeMillis();
+        log.info(String.format("Enrolled %d out of %d students in course %s, saving %d in %d batch(es); "
+                        + "load: %d ms, save: %d ms",
+                enrolledStudents.size(), studentsToEnroll.size(), courseId, studentsToSave.size(), numberOfBatches,
+                loadTime - startTime, saveTime - loadTime));
+
+        result.getEnrolledStudents().addAll(makeAttributes(enrolledStudents));
+        return result;
+    }
+
     /**
      * Deletes a student in a course with email.
      *
@@ -322,6 +503,8 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         if (courseStudentToDelete != null) {
             deleteDocumentByStudentKey(courseStudentToDelete.getRegistrationKey());
             deleteEntity(Key.create(CourseStudent.class, courseStudentToDelete.getUniqueId()));
+            courseRosterVersions.bumpVersion(courseId);
+            userRolesCache.invalidateRoles(Collections.singletonList(courseStudentToDelete.getGoogleId()));
         }
     }
 
@@ -337,9 +520,30 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             deleteEntity(studentsToDelete.stream()
                     .map(s -> Key.create(CourseStudent.class, s.getUniqueId()))
                     .toArray(Key[]::new));
+            courseRosterVersions.bumpVersion(query.getCourseId());
+            userRolesCache.invalidateRoles(
+                    studentsToDelete.stream().map(CourseStudent::getGoogleId).collect(Collectors.toList()));
         }
     }
 
+    private boolean hasSameAttributes(CourseStudent student, StudentAttributes attributes) {
+        return this.<String>hasSameValue(student.getName(), attributes.getName())
+                && this.<String>hasSameValue(student.getLastName(), attributes.getLastName())
+                && this.<String>hasSameValue(student.getComments(), attributes.getComments())
+                && this.<String>hasSameValue(student.getGoogleId(), attributes.getGoogleId())
+                && this.<String>hasSameValue(student.getTeamName(), attributes.getTeam())
+                && this.<String>hasSameValue(student.getSectionName(), attributes.getSection());
+    }
+
+    private void copyAttributesToEntity(StudentAttributes attributes, CourseStudent student) {
+        student.setName(attributes.name);
+        student.setLastName(attributes.lastName);
+        student.setComments(attributes.comments);
+        student.setGoogleId(attributes.googleId);
+        student.setTeamName(attributes.team);
+        student.setSectionName(attributes.section);
+    }
+
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
         return load().id(CourseStudent.generateId(email, courseId)).now();
     }
@@ -0,0 +1,97 @@
+package teammates.storage.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Caches whether each user (identified by Google ID) is an instructor and whether the user is a student,
+ * which is needed to authenticate every request of the user.
+ *
+ * <p>The roles are kept in Memcache so that they are shared by all instances of the application.
+ * They are invalidated upon every write to the account or the students of the user,
+ * and expire after a short time regardless.
+ *
+ * <p>Invalidated roles cannot be cached again for a short while, so that roles read before a write
+ * cannot be cached after the write by a concurrent request.
+ *
+ * <p>Roles of a user who is not a student expire after only a few seconds, as the student role is read
+ * with an eventually consistent query, which may not yet see a student the user has just joined as.
+ */
+public class UserRolesCache {
+
+    /**
+     * Index of the role of instructor in the cached roles.
+     */
+    public static final int ROLE_INSTRUCTOR = 0;
+
+    /**
+     * Index of the role of student in the cached roles.
+     */
+    public static final int ROLE_STUDENT = 1;
+
+    private static final String KEY_PREFIX = "userRoles:";
+
+    private static final int EXPIRATION_SECONDS = 5 * 60;
+
+    private static final int NOT_STUDENT_EXPIRATION_SECONDS = 5;
+
+    private static final long MILLIS_NO_RE_ADD_AFTER_INVALIDATION = 1000;
+
+    private final MemcacheService memcache = MemcacheServiceFactory.getMemcacheService();
+
+    /**
+     * Gets the cached roles of a user, indexed by {@link #ROLE_INSTRUCTOR} and {@link #ROLE_STUDENT}.
+     *
+     * @return the roles, or null if they are not cached (e.g. Memcache is unavailable)
+     */
+    public boolean[] getRoles(String googleId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+
+        Object roles = memcache.get(getKey(googleId));
+        return roles instanceof boolean[] ? (boolean[]) roles : null;
+    }
+
+    /**
+     * Caches the roles of a user, indexed by {@link #ROLE_INSTRUCTOR} and {@link #ROLE_STUDENT}.
+     *
+     * <p>The roles are not cached if they have just been invalidated.
+     * The roles of a user who is not a student are cached for a few seconds only.
+     */
+    public void putRoles(String googleId, boolean[] roles) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, roles);
+
+        int expirationSeconds = roles[ROLE_STUDENT] ? EXPIRATION_SECONDS : NOT_STUDENT_EXPIRATION_SECONDS;
+        memcache.put(getKey(googleId), roles, Expiration.byDeltaSeconds(expirationSeconds),
+                MemcacheService.SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+    }
+
+    /**
+     * Invalidates the cached roles of the given users. Empty Google IDs (i.e. of unregistered students) are ignored.
+     */
+    public void invalidateRoles(Collection<String> googleIds) {
+        List<String> keys = googleIds.stream()
+                .filter(Objects::nonNull)
+                .filter(googleId -> !googleId.isEmpty())
+                .distinct()
+                .map(UserRolesCache::getKey)
+                .collect(Collectors.toList());
+        if (!keys.isEmpty()) {
+            memcache.deleteAll(keys, MILLIS_NO_RE_ADD_AFTER_INVALIDATION);
+        }
+    }
+
+    private static String getKey(String googleId) {
+        return KEY_PREFIX + googleId;
+    }
+
+}
@@ -1,6 +1,8 @@
 package teammates.storage.entity;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.annotation.Entity;
@@ -44,6 +46,14 @@ public class FeedbackResponse extends BaseEntity {
 
     private String receiverSection;
 
+    /**
+     * The distinct sections of the giver and the receiver, kept in step with {@link #giverSection}
+     * and {@link #receiverSection} so that the responses given to/from a section can be found with one query.
+     *
+     * @see #generateSections(String, String)
+     */
+    private List<String> sections;
+
     /**
      * Serialized {@link teammates.common.datatransfer.questions.FeedbackResponseDetails} stored as a string.
      *
@@ -74,6 +84,7 @@ public class FeedbackResponse extends BaseEntity {
         this.giverSection = giverSection;
         this.receiver = recipient;
         this.receiverSection = recipientSection;
+        this.sections = generateSections(giverSection, recipientSection);
         setAnswer(answer);
 
         this.feedbackResponseId = generateId(feedbackQuestionId, giverEmail, receiver);
@@ -91,6 +102,20 @@ public class FeedbackResponse extends BaseEntity {
         return feedbackQuestionId + '%' + giver + '%' + receiver;
     }
 
+    /**
+     * Generates the distinct sections of the giver and the receiver of a response or of a comment on it.
+     */
+    public static List<String> generateSections(String giverSection, String receiverSection) {
+        List<String> sections = new ArrayList<>();
+        if (giverSection != null) {
+            sections.add(giverSection);
+        }
+        if (receiverSection != null && !receiverSection.equals(giverSection)) {
+            sections.add(receiverSection);
+        }
+        return sections;
+    }
+
     public String getId() {
         return feedbackResponseId;
     }
@@ -139,8 +164,12 @@ public class FeedbackResponse extends BaseEntity {
         return giverSection;
     }
 
+    /**
+     * Sets the section of the giver, updating {@link #sections} accordingly.
+     */
     public void setGiverSection(String giverSection) {
         this.giverSection = giverSection;
+        this.sections = generateSections(giverSection, receiverSection);
     }
 
     public String getRecipientEmail() {
@@ -155,8 +184,16 @@ public class FeedbackResponse extends BaseEntity {
         return receiverSection;
     }
 
+    /**
+     * Sets the section of the recipient, updating {@link #sections} accordingly.
+     */
     public void setRecipientSection(String recipientSection) {
         this.receiverSection = recipientSection;
+        this.sections = generateSections(giverSection, recipientSection);
+    }
+
+    public List<String> getSections() {
+        return sections;
     }
 
     public String getResponseMetaData() {
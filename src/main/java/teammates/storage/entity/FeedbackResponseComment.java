@@ -58,6 +58,14 @@ public class FeedbackResponseComment extends BaseEntity {
     /** Response receiver section. */
     private String receiverSection;
 
+    /**
+     * The distinct sections of the response giver and receiver, kept in step with {@link #giverSection}
+     * and {@link #receiverSection} so that the comments on responses given to/from a section can be found with one query.
+     *
+     * @see FeedbackResponse#generateSections(String, String)
+     */
+    private List<String> sections;
+
     private List<FeedbackParticipantType> showCommentTo = new ArrayList<>();
 
     private List<FeedbackParticipantType> showGiverNameTo = new ArrayList<>();
@@ -103,6 +111,7 @@ public class FeedbackResponseComment extends BaseEntity {
         setCommentText(SanitizationHelper.sanitizeForRichText(commentText));
         this.giverSection = giverSection;
         this.receiverSection = receiverSection;
+        this.sections = FeedbackResponse.generateSections(giverSection, receiverSection);
         this.showCommentTo = showCommentTo == null ? new ArrayList<>() : showCommentTo;
         this.showGiverNameTo = showGiverNameTo == null ? new ArrayList<>() : showGiverNameTo;
         this.isVisibilityFollowingFeedbackQuestion = isVisibilityFollowingFeedbackQuestion;
@@ -238,16 +247,28 @@ public class FeedbackResponseComment extends BaseEntity {
         return giverSection;
     }
 
+    /**
+     * Sets the section of the response giver, updating {@link #sections} accordingly.
+     */
     public void setGiverSection(String giverSection) {
         this.giverSection = giverSection;
+        this.sections = FeedbackResponse.generateSections(giverSection, receiverSection);
     }
 
     public String getReceiverSection() {
         return receiverSection;
     }
 
+    /**
+     * Sets the section of the response receiver, updating {@link #sections} accordingly.
+     */
     public void setReceiverSection(String receiverSection) {
         this.receiverSection = receiverSection;
+        this.sections = FeedbackResponse.generateSections(giverSection, receiverSection);
+    }
+
+    public List<String> getSections() {
+        return sections;
     }
 
     public void setLastEditorEmail(String lastEditorEmail) {
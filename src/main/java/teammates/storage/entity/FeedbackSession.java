@@ -35,6 +35,8 @@ public class FeedbackSession extends BaseEntity {
 
     private String creatorEmail;
 
+    // respondents are now kept as SessionRespondent entities; the lists below are no longer written
+    // and are only kept for sessions which are yet to be migrated
     @Unindex
     private Set<String> respondingInstructorList = new HashSet<>();
 
@@ -94,8 +96,7 @@ public class FeedbackSession extends BaseEntity {
             Instant sessionVisibleFromTime, Instant resultsVisibleFromTime, String timeZone, long gracePeriod,
             boolean sentOpenEmail, boolean sentClosingEmail,
             boolean sentClosedEmail, boolean sentPublishedEmail,
-            boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled,
-            Set<String> instructorList, Set<String> studentList) {
+            boolean isOpeningEmailEnabled, boolean isClosingEmailEnabled, boolean isPublishedEmailEnabled) {
         this.feedbackSessionName = feedbackSessionName;
         this.courseId = courseId;
         this.creatorEmail = creatorEmail;
@@ -116,8 +117,6 @@ public class FeedbackSession extends BaseEntity {
         this.isClosingEmailEnabled = isClosingEmailEnabled;
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
         this.feedbackSessionId = generateId(this.feedbackSessionName, this.courseId);
-        this.respondingInstructorList = instructorList == null ? new HashSet<>() : instructorList;
-        this.respondingStudentList = studentList == null ? new HashSet<>() : studentList;
     }
 
     /**
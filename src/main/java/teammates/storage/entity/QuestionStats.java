@@ -0,0 +1,75 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the running tally of the responses to a feedback question, from which its statistics are computed.
+ *
+ * <p>Kept apart from the {@link FeedbackQuestion} so that updating the tally does not rewrite the question.
+ */
+@Entity
+@Index
+public class QuestionStats extends BaseEntity {
+
+    @Id
+    private String feedbackQuestionId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private Text tally;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private QuestionStats() {
+        // required by Objectify
+    }
+
+    public QuestionStats(String feedbackQuestionId, String feedbackSessionName, String courseId, String tally) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        setTally(tally);
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getTally() {
+        return tally == null ? null : tally.getValue();
+    }
+
+    /**
+     * Sets the tally in its JSON form and records the time of the update.
+     */
+    public void setTally(String tally) {
+        this.tally = tally == null ? null : new Text(tally);
+        this.updatedAt = Instant.now();
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
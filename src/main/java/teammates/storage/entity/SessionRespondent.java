@@ -0,0 +1,86 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Records that a student or an instructor has responded to a feedback session.
+ *
+ * <p>Each respondent is kept in its own entity (instead of a list in the {@link FeedbackSession})
+ * so that concurrent submissions to the same session do not contend on a single entity.
+ */
+@Entity
+@Index
+public class SessionRespondent extends BaseEntity {
+
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as id is persisted to the database
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String, String, boolean)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private transient String id;
+
+    private String courseId;
+
+    private String feedbackSessionName;
+
+    private String email;
+
+    private boolean isInstructor;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @SuppressWarnings("unused")
+    private SessionRespondent() {
+        // required by Objectify
+    }
+
+    public SessionRespondent(String courseId, String feedbackSessionName, String email, boolean isInstructor) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.email = email;
+        this.isInstructor = isInstructor;
+        this.createdAt = Instant.now();
+        this.id = generateId(courseId, feedbackSessionName, email, isInstructor);
+    }
+
+    /**
+     * Generates an unique ID for the respondent.
+     */
+    public static String generateId(String courseId, String feedbackSessionName, String email, boolean isInstructor) {
+        // Format is courseId%feedbackSessionName%(instructor|student)%email
+        return courseId + '%' + feedbackSessionName + '%' + (isInstructor ? "instructor" : "student") + '%' + email;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+}
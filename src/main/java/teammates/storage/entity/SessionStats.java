@@ -0,0 +1,154 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the precomputed submission statistics of a feedback session.
+ *
+ * <p>Kept apart from the {@link FeedbackSession} so that refreshing the statistics does not rewrite the session.
+ *
+ * <p>Invalidated statistics are kept as a marker until they are recomputed, together with the number of times
+ * they have been invalidated, so that statistics computed before an invalidation are never stored after it.
+ */
+@Entity
+@Index
+public class SessionStats extends BaseEntity {
+
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as id is persisted to the database
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private transient String id;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private boolean hasQuestionsForStudents;
+
+    @Unindex
+    private boolean hasQuestionsForInstructors;
+
+    @Unindex
+    private boolean hasQuestionsForCreator;
+
+    @Unindex
+    private Long rosterVersion;
+
+    @Unindex
+    private int expectedTotalSubmission;
+
+    @Unindex
+    private long invalidationCount;
+
+    @Unindex
+    private boolean isInvalidated;
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private SessionStats() {
+        // required by Objectify
+    }
+
+    public SessionStats(String feedbackSessionName, String courseId, boolean hasQuestionsForStudents,
+                        boolean hasQuestionsForInstructors, boolean hasQuestionsForCreator,
+                        Long rosterVersion, int expectedTotalSubmission, long invalidationCount) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.hasQuestionsForStudents = hasQuestionsForStudents;
+        this.hasQuestionsForInstructors = hasQuestionsForInstructors;
+        this.hasQuestionsForCreator = hasQuestionsForCreator;
+        this.rosterVersion = rosterVersion;
+        this.expectedTotalSubmission = expectedTotalSubmission;
+        this.invalidationCount = invalidationCount;
+        this.updatedAt = Instant.now();
+        this.id = generateId(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Generates an unique ID for the statistics of a feedback session.
+     */
+    public static String generateId(String feedbackSessionName, String courseId) {
+        // same format as the id of the feedback session
+        return FeedbackSession.generateId(feedbackSessionName, courseId);
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns true if the session has questions to be answered by students.
+     */
+    public boolean hasQuestionsForStudents() {
+        return hasQuestionsForStudents;
+    }
+
+    /**
+     * Returns true if the session has questions to be answered by instructors.
+     */
+    public boolean hasQuestionsForInstructors() {
+        return hasQuestionsForInstructors;
+    }
+
+    /**
+     * Returns true if the session has questions to be answered by the creator of the session.
+     */
+    public boolean hasQuestionsForCreator() {
+        return hasQuestionsForCreator;
+    }
+
+    public Long getRosterVersion() {
+        return rosterVersion;
+    }
+
+    public int getExpectedTotalSubmission() {
+        return expectedTotalSubmission;
+    }
+
+    /**
+     * Gets the number of times the statistics have been invalidated.
+     */
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    /**
+     * Returns true if the statistics have been invalidated since they were last computed.
+     */
+    public boolean isInvalidated() {
+        return isInvalidated;
+    }
+
+    /**
+     * Marks the statistics as invalidated, incrementing the number of times they have been invalidated.
+     */
+    public void invalidate() {
+        this.invalidationCount++;
+        this.isInvalidated = true;
+        this.updatedAt = Instant.now();
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+}
@@ -1,17 +1,21 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.SessionResultsBundle;
@@ -43,9 +47,32 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private String commentGiverDisplayedName;
     private List<InstructorAttributes> relatedInstructors;
     private List<StudentAttributes> relatedStudents;
+    private final CommentsSnapshot snapshot;
 
     public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment) {
+        this(comment, null);
+    }
+
+    private FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment, CommentsSnapshot snapshot) {
         this.comment = comment;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Creates the search documents for many comments at once.
+     *
+     * <p>Each distinct session, question, response and course related to the comments is loaded only once,
+     * and the names of the people related to the comments are resolved from one {@link CourseRoster} per course.
+     */
+    public static List<FeedbackResponseCommentSearchDocument> fromComments(
+            List<FeedbackResponseCommentAttributes> comments) {
+        CommentsSnapshot snapshot = CommentsSnapshot.load(comments);
+
+        List<FeedbackResponseCommentSearchDocument> documents = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            documents.add(new FeedbackResponseCommentSearchDocument(comment, snapshot));
+        }
+        return documents;
     }
 
     @Override
@@ -54,10 +81,17 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
+        if (snapshot == null) {
+            relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
+            relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
+            relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
+            course = coursesDb.getCourse(comment.courseId);
+        } else {
+            relatedSession = snapshot.sessions.get(getSessionKey(comment.courseId, comment.feedbackSessionName));
+            relatedQuestion = snapshot.questions.get(comment.feedbackQuestionId);
+            relatedResponse = snapshot.responses.get(comment.feedbackResponseId);
+            course = snapshot.courses.get(comment.courseId);
+        }
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
         setCommentGiverNameAndDisplayedName();
@@ -66,7 +100,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> addedEmailSet = new HashSet<>();
         if (relatedQuestion.giverType == FeedbackParticipantType.INSTRUCTORS
                 || relatedQuestion.giverType == FeedbackParticipantType.SELF) {
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.giver);
+            InstructorAttributes ins = getInstructorForEmail(relatedResponse.giver);
             if (ins == null || addedEmailSet.contains(ins.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -77,7 +111,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS) {
             responseGiverName = relatedResponse.giver;
         } else {
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.giver);
+            StudentAttributes stu = getStudentForEmail(relatedResponse.giver);
             if (stu == null || addedEmailSet.contains(stu.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -89,7 +123,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         switch (relatedQuestion.recipientType) {
         case INSTRUCTORS:
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.recipient);
+            InstructorAttributes ins = getInstructorForEmail(relatedResponse.recipient);
             if (ins != null && !addedEmailSet.contains(ins.email)) {
                 relatedInstructors.add(ins);
                 addedEmailSet.add(ins.email);
@@ -106,7 +140,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             responseRecipientName = relatedResponse.recipient;
             break;
         default:
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.recipient);
+            StudentAttributes stu = getStudentForEmail(relatedResponse.recipient);
 
             if (stu != null && !addedEmailSet.contains(stu.email)) {
                 relatedStudents.add(stu);
@@ -114,7 +148,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseRecipientName = stu.name + " (" + stu.team + ")";
             }
 
-            List<StudentAttributes> team = studentsDb.getStudentsForTeam(relatedResponse.recipient, comment.courseId);
+            List<StudentAttributes> team = getStudentsForTeam(relatedResponse.recipient);
             if (team != null) {
                 responseRecipientName = relatedResponse.recipient; // it's actually a team name here
                 for (StudentAttributes studentInTeam : team) {
@@ -132,6 +166,29 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         }
     }
 
+    private InstructorAttributes getInstructorForEmail(String email) {
+        return snapshot == null
+                ? instructorsDb.getInstructorForEmail(comment.courseId, email)
+                : snapshot.rosters.get(comment.courseId).getInstructorForEmail(email);
+    }
+
+    private StudentAttributes getStudentForEmail(String email) {
+        return snapshot == null
+                ? studentsDb.getStudentForEmail(comment.courseId, email)
+                : snapshot.rosters.get(comment.courseId).getStudentForEmail(email);
+    }
+
+    private List<StudentAttributes> getStudentsForTeam(String teamName) {
+        return snapshot == null
+                ? studentsDb.getStudentsForTeam(teamName, comment.courseId)
+                : snapshot.rosters.get(comment.courseId).getTeamToMembersTable()
+                        .getOrDefault(teamName, Collections.emptyList());
+    }
+
+    private static String getSessionKey(String courseId, String feedbackSessionName) {
+        return courseId + "%" + feedbackSessionName;
+    }
+
     @Override
     Document toDocument() {
 
@@ -167,8 +224,8 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                                 + (course == null ? "" : course.getName()) + delim
                                 + relatedSession.getFeedbackSessionName() + delim
                                 + "question " + relatedQuestion.questionNumber + delim
-                                + relatedQuestion.getQuestionDetails().getQuestionText() + delim
-                                + relatedResponse.getResponseDetails().getAnswerString() + delim
+                                + relatedQuestion.getReadOnlyQuestionDetails().getQuestionText() + delim
+                                + relatedResponse.getReadOnlyResponseDetails().getAnswerString() + delim
                                 + comment.commentGiver + delim
                                 + commentGiverName + delim
                                 + relatedPeopleBuilder.toString() + delim
@@ -213,28 +270,47 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> isAdded = new HashSet<>();
 
         List<ScoredDocument> filteredResults = filterOutCourseId(results, instructors);
+
+        // load the comments of the results, then their responses and questions, in one batch each
+        Map<Long, FeedbackResponseCommentAttributes> comments = frcDb.getFeedbackResponseCommentsForIds(
+                filteredResults.stream().map(doc -> Long.parseLong(doc.getId())).collect(Collectors.toSet()));
+        Set<String> responseIds = new HashSet<>();
+        Set<String> questionIds = new HashSet<>();
+        for (FeedbackResponseCommentAttributes comment : comments.values()) {
+            responseIds.add(comment.feedbackResponseId);
+            questionIds.add(comment.feedbackQuestionId);
+        }
+        Map<String, FeedbackResponseAttributes> responses = frDb.getFeedbackResponsesForIds(responseIds);
+        Map<String, FeedbackQuestionAttributes> questions = fqDb.getFeedbackQuestionsForIds(questionIds);
+        Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+
+        List<Long> staleCommentIds = new ArrayList<>();
         for (ScoredDocument doc : filteredResults) {
             // get FeedbackResponseComment from results
             long feedbackResponseCommentId = Long.parseLong(doc.getId());
-            FeedbackResponseCommentAttributes comment = frcDb.getFeedbackResponseComment(feedbackResponseCommentId);
+            FeedbackResponseCommentAttributes comment = comments.get(feedbackResponseCommentId);
             if (comment == null) {
                 // search engine out of sync as SearchManager may fail to delete documents due to GAE error
                 // the chance is low and it is generally not a big problem
-                frcDb.deleteDocumentByCommentId(feedbackResponseCommentId);
+                staleCommentIds.add(feedbackResponseCommentId);
                 continue;
             }
             // get related response from results
-            FeedbackResponseAttributes response = frDb.getFeedbackResponse(comment.feedbackResponseId);
+            FeedbackResponseAttributes response = responses.get(comment.feedbackResponseId);
             if (response == null) {
                 continue;
             }
             // get related question from results
-            FeedbackQuestionAttributes question = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
+            FeedbackQuestionAttributes question = questions.get(comment.feedbackQuestionId);
             if (question == null) {
                 continue;
             }
             // get related session from results
-            FeedbackSessionAttributes session = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
+            String sessionKey = comment.courseId + "%" + comment.feedbackSessionName;
+            if (!sessions.containsKey(sessionKey)) {
+                sessions.put(sessionKey, fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName));
+            }
+            FeedbackSessionAttributes session = sessions.get(sessionKey);
             if (session == null) {
                 continue;
             }
@@ -290,12 +366,17 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             }
             bundle.numberOfResults++;
         }
-        for (List<FeedbackQuestionAttributes> questions : bundle.questions.values()) {
-            questions.sort(null);
+
+        if (!staleCommentIds.isEmpty()) {
+            frcDb.deleteDocumentsByCommentIds(staleCommentIds);
+        }
+
+        for (List<FeedbackQuestionAttributes> sessionQuestions : bundle.questions.values()) {
+            sessionQuestions.sort(null);
         }
 
-        for (List<FeedbackResponseAttributes> responses : bundle.responses.values()) {
-            responses.sort(Comparator.comparing(FeedbackResponseAttributes::getId));
+        for (List<FeedbackResponseAttributes> questionResponses : bundle.responses.values()) {
+            questionResponses.sort(Comparator.comparing(FeedbackResponseAttributes::getId));
         }
 
         for (List<FeedbackResponseCommentAttributes> responseComments : bundle.comments.values()) {
@@ -320,8 +401,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private void setCommentGiverNameAndDisplayedName() {
         switch (comment.commentGiverType) {
         case INSTRUCTORS:
-            InstructorAttributes instructor =
-                    instructorsDb.getInstructorForEmail(comment.courseId, comment.commentGiver);
+            InstructorAttributes instructor = getInstructorForEmail(comment.commentGiver);
             if (instructor == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -331,7 +411,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             commentGiverName = instructor.name;
             break;
         case STUDENTS:
-            StudentAttributes student = studentsDb.getStudentForEmail(comment.courseId, comment.commentGiver);
+            StudentAttributes student = getStudentForEmail(comment.commentGiver);
             if (student == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -527,4 +607,50 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         frCommentSearchResults.questions.forEach((fsName, questionList) -> questionList.removeIf(fq ->
                 frCommentSearchResults.responses.get(fq.getId()).isEmpty()));
     }
+
+    /**
+     * The data related to a list of comments, loaded once for the search documents of all the comments.
+     */
+    private static final class CommentsSnapshot {
+
+        private final Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+        private final Map<String, FeedbackQuestionAttributes> questions;
+        private final Map<String, FeedbackResponseAttributes> responses;
+        private final Map<String, CourseAttributes> courses = new HashMap<>();
+        private final Map<String, CourseRoster> rosters = new HashMap<>();
+
+        private CommentsSnapshot(Map<String, FeedbackQuestionAttributes> questions,
+                                 Map<String, FeedbackResponseAttributes> responses) {
+            this.questions = questions;
+            this.responses = responses;
+        }
+
+        static CommentsSnapshot load(List<FeedbackResponseCommentAttributes> comments) {
+            Set<String> questionIds = new HashSet<>();
+            Set<String> responseIds = new HashSet<>();
+            for (FeedbackResponseCommentAttributes comment : comments) {
+                questionIds.add(comment.feedbackQuestionId);
+                responseIds.add(comment.feedbackResponseId);
+            }
+            CommentsSnapshot snapshot = new CommentsSnapshot(
+                    fqDb.getFeedbackQuestionsForIds(questionIds), frDb.getFeedbackResponsesForIds(responseIds));
+
+            for (FeedbackResponseCommentAttributes comment : comments) {
+                String sessionKey = getSessionKey(comment.courseId, comment.feedbackSessionName);
+                if (!snapshot.sessions.containsKey(sessionKey)) {
+                    snapshot.sessions.put(sessionKey,
+                            fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName));
+                }
+                if (!snapshot.rosters.containsKey(comment.courseId)) {
+                    snapshot.courses.put(comment.courseId, coursesDb.getCourse(comment.courseId));
+                    snapshot.rosters.put(comment.courseId, new CourseRoster(
+                            studentsDb.getStudentsForCourse(comment.courseId),
+                            instructorsDb.getInstructorsForCourse(comment.courseId)));
+                }
+            }
+            return snapshot;
+        }
+
+    }
+
 }
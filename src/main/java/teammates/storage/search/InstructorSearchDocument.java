@@ -1,7 +1,11 @@
 package teammates.storage.search;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
@@ -55,6 +59,9 @@ public class InstructorSearchDocument extends SearchDocument {
                 // searchableText is used to match the query string
                 .addField(Field.newBuilder().setName(Const.SearchDocumentField.SEARCHABLE_TEXT)
                                             .setText(searchableText))
+                // this is used to load the instructors of the search results in one batch
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.INSTRUCTOR_ID)
+                                            .setAtom(instructor.getId()))
                 .setId(StringHelper.encrypt(instructor.key))
                 .build();
     }
@@ -71,12 +78,23 @@ public class InstructorSearchDocument extends SearchDocument {
             return bundle;
         }
 
+        List<ScoredDocument> documents = new ArrayList<>();
+        Set<String> instructorIds = new HashSet<>();
         for (ScoredDocument doc : results) {
-            InstructorAttributes instructor = instructorsDb.getInstructorForRegistrationKey(doc.getId());
+            documents.add(doc);
+            if (doc.getFieldCount(Const.SearchDocumentField.INSTRUCTOR_ID) > 0) {
+                instructorIds.add(doc.getOnlyField(Const.SearchDocumentField.INSTRUCTOR_ID).getAtom());
+            }
+        }
+        Map<String, InstructorAttributes> instructors = instructorsDb.getInstructorsForIds(instructorIds);
+
+        List<String> staleDocumentIds = new ArrayList<>();
+        for (ScoredDocument doc : documents) {
+            InstructorAttributes instructor = getInstructorForDocument(doc, instructors);
             if (instructor == null) {
                 // search engine out of sync as SearchManager may fail to delete documents due to GAE error
                 // the chance is low and it is generally not a big problem
-                instructorsDb.deleteDocumentByEncryptedInstructorKey(doc.getId());
+                staleDocumentIds.add(doc.getId());
                 continue;
             }
 
@@ -84,11 +102,29 @@ public class InstructorSearchDocument extends SearchDocument {
             bundle.numberOfResults++;
         }
 
+        if (!staleDocumentIds.isEmpty()) {
+            instructorsDb.deleteDocumentsByEncryptedInstructorKeys(staleDocumentIds);
+        }
+
         sortInstructorResultList(bundle.instructorList);
 
         return bundle;
     }
 
+    private static InstructorAttributes getInstructorForDocument(
+            ScoredDocument doc, Map<String, InstructorAttributes> instructors) {
+        if (doc.getFieldCount(Const.SearchDocumentField.INSTRUCTOR_ID) > 0) {
+            InstructorAttributes instructor =
+                    instructors.get(doc.getOnlyField(Const.SearchDocumentField.INSTRUCTOR_ID).getAtom());
+            if (instructor != null && instructor.key != null && doc.getId().equals(StringHelper.encrypt(instructor.key))) {
+                return instructor;
+            }
+        }
+
+        // the document was indexed before the instructor ID was stored, or the instructor's email has changed
+        return instructorsDb.getInstructorForRegistrationKey(doc.getId());
+    }
+
     private static void sortInstructorResultList(List<InstructorAttributes> instructorList) {
 
         instructorList.sort(Comparator.comparing((InstructorAttributes instructor) -> instructor.courseId)
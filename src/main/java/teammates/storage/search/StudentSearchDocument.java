@@ -1,7 +1,11 @@
 package teammates.storage.search;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
@@ -54,6 +58,9 @@ public class StudentSearchDocument extends SearchDocument {
                 // this is used to filter documents visible to certain instructor
                 .addField(Field.newBuilder().setName(Const.SearchDocumentField.COURSE_ID)
                                             .setText(student.course))
+                // this is used to load the students of the search results in one batch
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.STUDENT_ID)
+                                            .setAtom(student.getId()))
                 // searchableText and createdDate are used to match the query string
                 .addField(Field.newBuilder().setName(Const.SearchDocumentField.SEARCHABLE_TEXT)
                                             .setText(searchableText))
@@ -107,12 +114,23 @@ public class StudentSearchDocument extends SearchDocument {
     private static StudentSearchResultBundle constructBaseBundle(Iterable<ScoredDocument> results) {
         StudentSearchResultBundle bundle = new StudentSearchResultBundle();
 
+        List<ScoredDocument> documents = new ArrayList<>();
+        Set<String> studentIds = new HashSet<>();
         for (ScoredDocument doc : results) {
-            StudentAttributes student = studentsDb.getStudentForRegistrationKey(StringHelper.encrypt(doc.getId()));
+            documents.add(doc);
+            if (doc.getFieldCount(Const.SearchDocumentField.STUDENT_ID) > 0) {
+                studentIds.add(doc.getOnlyField(Const.SearchDocumentField.STUDENT_ID).getAtom());
+            }
+        }
+        Map<String, StudentAttributes> students = studentsDb.getStudentsForIds(studentIds);
+
+        List<String> staleDocumentIds = new ArrayList<>();
+        for (ScoredDocument doc : documents) {
+            StudentAttributes student = getStudentForDocument(doc, students);
             if (student == null) {
                 // search engine out of sync as SearchManager may fail to delete documents due to GAE error
                 // the chance is low and it is generally not a big problem
-                studentsDb.deleteDocumentByStudentKey(doc.getId());
+                staleDocumentIds.add(doc.getId());
                 continue;
             }
 
@@ -120,9 +138,25 @@ public class StudentSearchDocument extends SearchDocument {
             bundle.numberOfResults++;
         }
 
+        if (!staleDocumentIds.isEmpty()) {
+            studentsDb.deleteDocumentsByStudentKeys(staleDocumentIds);
+        }
+
         return bundle;
     }
 
+    private static StudentAttributes getStudentForDocument(ScoredDocument doc, Map<String, StudentAttributes> students) {
+        if (doc.getFieldCount(Const.SearchDocumentField.STUDENT_ID) > 0) {
+            StudentAttributes student = students.get(doc.getOnlyField(Const.SearchDocumentField.STUDENT_ID).getAtom());
+            if (student != null && doc.getId().equals(student.key)) {
+                return student;
+            }
+        }
+
+        // the document was indexed before the student ID was stored, or the student is no longer found by that ID
+        return studentsDb.getStudentForRegistrationKey(StringHelper.encrypt(doc.getId()));
+    }
+
     private static void sortStudentResultList(List<StudentAttributes> studentList) {
 
         studentList.sort(Comparator.comparing((StudentAttributes student) -> student.course)
@@ -46,7 +46,7 @@ public class CommentSearchResultData extends SessionResultsData {
                     .withRecipient(bundle.responseRecipientTable.get(response.getId()))
                     .withRecipientEmail(response.recipient)
                     .withRecipientSection(response.recipientSection)
-                    .withResponseDetails(response.responseDetails)
+                    .withResponseDetails(response.getReadOnlyResponseDetails())
                     .withParticipantComment(getParticipantComment(bundle.comments.get(response.getId()), bundle))
                     .withInstructorComments(getInstructorComments(bundle.comments.get(response.getId()), bundle))
                     .build());
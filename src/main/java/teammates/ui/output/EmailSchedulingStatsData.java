@@ -0,0 +1,43 @@
+package teammates.ui.output;
+
+import teammates.common.datatransfer.EmailSchedulingStats;
+
+/**
+ * API output of the backlog and send rate of the email service in use.
+ */
+public class EmailSchedulingStatsData extends ApiOutput {
+
+    private final String emailService;
+    private final int rateLimit;
+    private final long backlog;
+    private final long backlogClearingMillis;
+    private final double sendRate;
+
+    public EmailSchedulingStatsData(EmailSchedulingStats stats) {
+        this.emailService = stats.getEmailService();
+        this.rateLimit = stats.getRateLimit();
+        this.backlog = stats.getBacklog();
+        this.backlogClearingMillis = stats.getBacklogClearingMillis();
+        this.sendRate = stats.getSendRate();
+    }
+
+    public String getEmailService() {
+        return emailService;
+    }
+
+    public int getRateLimit() {
+        return rateLimit;
+    }
+
+    public long getBacklog() {
+        return backlog;
+    }
+
+    public long getBacklogClearingMillis() {
+        return backlogClearingMillis;
+    }
+
+    public double getSendRate() {
+        return sendRate;
+    }
+}
@@ -13,9 +13,11 @@ import javax.annotation.Nullable;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.SessionResultsPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
@@ -32,6 +34,8 @@ public class SessionResultsData extends ApiOutput {
 
     final List<QuestionOutput> questions = new ArrayList<>();
     FeedbackSessionData feedbackSession;
+    @Nullable
+    String nextCursor;
 
     SessionResultsData() {
         // use factory method instead
@@ -41,6 +45,21 @@ public class SessionResultsData extends ApiOutput {
      * Factory method to construct API output for instructor.
      */
     public static SessionResultsData initForInstructor(SessionResultsBundle bundle) {
+        return initForInstructor(bundle, true);
+    }
+
+    /**
+     * Factory method to construct API output for a page of results for instructor.
+     *
+     * <p>The statistics of the questions are not included, as they cannot be computed from a page of responses.
+     */
+    public static SessionResultsData initForInstructor(SessionResultsPage page) {
+        SessionResultsData sessionResultsData = initForInstructor(page.getBundle(), false);
+        sessionResultsData.nextCursor = page.getNextCursor();
+        return sessionResultsData;
+    }
+
+    private static SessionResultsData initForInstructor(SessionResultsBundle bundle, boolean isStatisticsIncluded) {
         SessionResultsData sessionResultsData = new SessionResultsData();
         sessionResultsData.feedbackSession = new FeedbackSessionData(bundle.getFeedbackSession());
 
@@ -49,9 +68,10 @@ public class SessionResultsData extends ApiOutput {
 
         questionsWithResponses.forEach((questionId, responses) -> {
             FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle));
+            FeedbackQuestionDetails questionDetails = question.getReadOnlyQuestionDetails();
+            QuestionOutput qnOutput = new QuestionOutput(question, isStatisticsIncluded
+                    ? questionDetails.getQuestionResultStatisticsJson(question, null, bundle)
+                    : "");
             // put normal responses
             List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
             qnOutput.allResponses.addAll(allResponses);
@@ -66,6 +86,22 @@ public class SessionResultsData extends ApiOutput {
         return sessionResultsData;
     }
 
+    /**
+     * Factory method to construct API output for instructor which contains only the statistics of the questions.
+     *
+     * @param questionStatistics the statistics of each question in JSON, in the order to be shown
+     */
+    public static SessionResultsData initForInstructorStatistics(FeedbackSessionAttributes session,
+            Map<FeedbackQuestionAttributes, String> questionStatistics) {
+        SessionResultsData sessionResultsData = new SessionResultsData();
+        sessionResultsData.feedbackSession = new FeedbackSessionData(session);
+
+        questionStatistics.forEach((question, statistics) ->
+                sessionResultsData.questions.add(new QuestionOutput(question, statistics)));
+
+        return sessionResultsData;
+    }
+
     /**
      * Factory method to construct API output for student.
      */
@@ -79,7 +115,7 @@ public class SessionResultsData extends ApiOutput {
 
         questionsWithResponses.forEach((questionId, responses) -> {
             FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
+            FeedbackQuestionDetails questionDetails = question.getReadOnlyQuestionDetails();
             QuestionOutput qnOutput = new QuestionOutput(question,
                     questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle));
             Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
@@ -166,7 +202,7 @@ public class SessionResultsData extends ApiOutput {
                 .withRecipientTeam(recipientTeam)
                 .withRecipientEmail(null)
                 .withRecipientSection(response.getRecipientSection())
-                .withResponseDetails(response.getResponseDetails())
+                .withResponseDetails(response.getReadOnlyResponseDetails())
                 .withParticipantComment(comments.poll())
                 .withInstructorComments(new ArrayList<>(comments))
                 .build();
@@ -264,7 +300,7 @@ public class SessionResultsData extends ApiOutput {
                 .withRecipientTeam(recipientTeam)
                 .withRecipientEmail(recipientEmail)
                 .withRecipientSection(recipientSection)
-                .withResponseDetails(response.getResponseDetails())
+                .withResponseDetails(response.getReadOnlyResponseDetails())
                 .withParticipantComment(comments.poll())
                 .withInstructorComments(new ArrayList<>(comments))
                 .build();
@@ -367,6 +403,11 @@ public class SessionResultsData extends ApiOutput {
         return questions;
     }
 
+    @Nullable
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     /**
      * Data transfer object containing the processed name and last name of a participant.
      */
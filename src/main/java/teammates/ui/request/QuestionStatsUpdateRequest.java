@@ -0,0 +1,32 @@
+package teammates.ui.request;
+
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
+
+/**
+ * The request of applying the changes made by a number of responses to the tally of the responses to their question.
+ */
+public class QuestionStatsUpdateRequest extends BasicRequest {
+
+    private final String feedbackQuestionId;
+    private final FeedbackResponsesTally tallyChanges;
+
+    public QuestionStatsUpdateRequest(String feedbackQuestionId, FeedbackResponsesTally tallyChanges) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.tallyChanges = tallyChanges;
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public FeedbackResponsesTally getTallyChanges() {
+        return tallyChanges;
+    }
+
+    @Override
+    public void validate() {
+        assertTrue(feedbackQuestionId != null, "Feedback question ID cannot be null");
+        assertTrue(tallyChanges != null, "Tally changes cannot be null");
+    }
+
+}
@@ -0,0 +1,41 @@
+package teammates.ui.request;
+
+import java.util.List;
+
+import teammates.common.util.Const;
+
+/**
+ * The request of indexing the search documents of entities in a search index.
+ */
+public class SearchIndexingRequest extends BasicRequest {
+
+    private final String indexName;
+    private final List<String> entityIds;
+
+    public SearchIndexingRequest(String indexName, List<String> entityIds) {
+        this.indexName = indexName;
+        this.entityIds = entityIds;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public List<String> getEntityIds() {
+        return entityIds;
+    }
+
+    @Override
+    public void validate() {
+        assertTrue(Const.SearchIndex.STUDENT.equals(indexName)
+                || Const.SearchIndex.INSTRUCTOR.equals(indexName)
+                || Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT.equals(indexName), "Unknown search index: " + indexName);
+        assertTrue(entityIds != null, "List of entity IDs cannot be null");
+        assertTrue(entityIds.size() <= Const.SystemParams.MAX_ENTITIES_PER_SEARCH_INDEXING_TASK,
+                "Too many entities to index in a single request");
+        for (String entityId : entityIds) {
+            assertTrue(entityId != null, "Entity ID cannot be null");
+        }
+    }
+
+}
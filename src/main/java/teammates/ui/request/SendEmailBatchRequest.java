@@ -0,0 +1,34 @@
+package teammates.ui.request;
+
+import java.util.List;
+
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+
+/**
+ * The request of sending a batch of emails together.
+ */
+public class SendEmailBatchRequest extends BasicRequest {
+
+    private final List<EmailWrapper> emails;
+
+    public SendEmailBatchRequest(List<EmailWrapper> emails) {
+        this.emails = emails;
+    }
+
+    public List<EmailWrapper> getEmails() {
+        return emails;
+    }
+
+    @Override
+    public void validate() {
+        assertTrue(emails != null && !emails.isEmpty(), "List of emails cannot be empty");
+        assertTrue(emails.size() <= Const.SystemParams.MAX_EMAILS_PER_SEND_EMAIL_BATCH_TASK,
+                "Too many emails to send in a single request");
+        for (EmailWrapper email : emails) {
+            // each email is subject to the same constraints as an email sent on its own
+            new SendEmailRequest(email).validate();
+        }
+    }
+
+}
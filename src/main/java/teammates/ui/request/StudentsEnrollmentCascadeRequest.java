@@ -0,0 +1,39 @@
+package teammates.ui.request;
+
+import java.util.List;
+
+import teammates.common.datatransfer.StudentEnrollmentChange;
+
+/**
+ * The request of cascading the changes made by an enrollment to the responses of the students.
+ */
+public class StudentsEnrollmentCascadeRequest extends BasicRequest {
+
+    private final String courseId;
+    private final List<StudentEnrollmentChange> changes;
+
+    public StudentsEnrollmentCascadeRequest(String courseId, List<StudentEnrollmentChange> changes) {
+        this.courseId = courseId;
+        this.changes = changes;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public List<StudentEnrollmentChange> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public void validate() {
+        assertTrue(courseId != null, "Course ID cannot be null");
+        assertTrue(changes != null, "List of changes cannot be null");
+        for (StudentEnrollmentChange change : changes) {
+            assertTrue(change.getEmail() != null, "Student email cannot be null");
+            assertTrue(change.getOriginalTeam() != null && change.getTeam() != null, "Team cannot be null");
+            assertTrue(change.getOriginalSection() != null && change.getSection() != null, "Section cannot be null");
+        }
+    }
+
+}
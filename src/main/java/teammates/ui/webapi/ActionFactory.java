@@ -81,6 +81,7 @@ public class ActionFactory {
         map(ResourceURIs.SEARCH_INSTRUCTORS, GET, SearchInstructorsAction.class);
         map(ResourceURIs.SEARCH_STUDENTS, GET, SearchStudentsAction.class);
         map(ResourceURIs.EMAIL, GET, GenerateEmailAction.class);
+        map(ResourceURIs.EMAIL_SCHEDULING_STATS, GET, GetEmailSchedulingStatsAction.class);
 
         map(ResourceURIs.SESSIONS_ONGOING, GET, GetOngoingSessionsAction.class);
         map(ResourceURIs.SESSION_STATS, GET, GetSessionResponseStatsAction.class);
@@ -128,6 +129,8 @@ public class ActionFactory {
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, GET, FeedbackSessionClosedRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, GET, FeedbackSessionClosingRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, GET, FeedbackSessionPublishedRemindersAction.class);
+        map(CronJobURIs.AUTOMATED_SESSION_STATS_RECONCILIATION, GET, SessionStatsReconciliationAction.class);
+        map(CronJobURIs.AUTOMATED_QUESTION_STATS_RECONCILIATION, GET, QuestionStatsReconciliationAction.class);
 
         // Task queue workers; use POST request
         // Reference: https://cloud.google.com/appengine/docs/standard/java/taskqueue/
@@ -144,7 +147,11 @@ public class ActionFactory {
                 FeedbackSessionUpdateRespondentWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, POST, InstructorCourseJoinEmailWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, POST, SendEmailWorkerAction.class);
+        map(TaskQueue.SEND_EMAIL_BATCH_WORKER_URL, POST, SendEmailBatchWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, POST, StudentCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.STUDENTS_ENROLLMENT_CASCADE_WORKER_URL, POST, StudentsEnrollmentCascadeWorkerAction.class);
+        map(TaskQueue.SEARCH_INDEXING_WORKER_URL, POST, SearchIndexingWorkerAction.class);
+        map(TaskQueue.QUESTION_STATS_UPDATE_WORKER_URL, POST, QuestionStatsUpdateWorkerAction.class);
 
     }
 
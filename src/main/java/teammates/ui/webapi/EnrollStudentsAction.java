@@ -2,16 +2,12 @@ package teammates.ui.webapi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.StudentsEnrollmentResult;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidHttpRequestBodyException;
-import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.output.StudentsData;
@@ -22,7 +18,8 @@ import teammates.ui.request.StudentsEnrollRequest;
  *
  * <p>Create the students who are not in the course.
  *
- * <p>Update the students who are already existed.
+ * <p>Update the students who are already existed. Changes of team or section are cascaded
+ * to the responses of the students by a task queue worker.
  *
  * <p>Return all students who are successfully enrolled.
  */
@@ -66,40 +63,13 @@ class EnrollStudentsAction extends Action {
             throw new InvalidHttpRequestBodyException(e.getMessage(), e);
         }
 
-        List<StudentAttributes> existingStudents = logic.getStudentsForCourse(courseId);
+        StudentsEnrollmentResult enrollmentResult = logic.enrollStudents(studentsToEnroll, courseId);
 
-        Set<String> existingStudentsEmail =
-                existingStudents.stream().map(StudentAttributes::getEmail).collect(Collectors.toSet());
-        List<StudentAttributes> enrolledStudents = new ArrayList<>();
-        studentsToEnroll.forEach(student -> {
-            if (existingStudentsEmail.contains(student.email)) {
-                // The student has been enrolled in the course.
-                StudentAttributes.UpdateOptions updateOptions =
-                        StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
-                                .withName(student.getName())
-                                .withSectionName(student.getSection())
-                                .withTeamName(student.getTeam())
-                                .withComment(student.getComments())
-                                .build();
-                try {
-                    StudentAttributes updatedStudent = logic.updateStudentCascade(updateOptions);
-                    enrolledStudents.add(updatedStudent);
-                } catch (InvalidParametersException | EntityDoesNotExistException
-                        | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    return;
-                }
-            } else {
-                // The student is new.
-                try {
-                    StudentAttributes newStudent = logic.createStudent(student);
-                    enrolledStudents.add(newStudent);
-                } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    return;
-                }
-            }
-        });
+        // changes of team and section are cascaded to the responses of the students in a single task
+        taskQueuer.scheduleStudentsEnrollmentCascade(courseId, enrollmentResult.getChanges());
+
+        // Unsuccessfully enrolled students will not be returned.
+        List<StudentAttributes> enrolledStudents = enrollmentResult.getEnrolledStudents();
         return new JsonResult(new StudentsData(enrolledStudents));
     }
 }
@@ -2,7 +2,10 @@ package teammates.ui.webapi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.SessionCompletionMatrix;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -26,22 +29,26 @@ class FeedbackSessionRemindEmailWorkerAction extends AdminOnlyAction {
 
         try {
             FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
-            List<StudentAttributes> studentList = logic.getStudentsForCourse(courseId);
-            List<InstructorAttributes> instructorList = logic.getInstructorsForCourse(courseId);
+            CourseRoster roster = logic.getCourseRoster(courseId);
+            SessionCompletionMatrix completionMatrix = logic.computeCompletionMatrix(session);
+            Set<String> studentRespondents = logic.getStudentRespondents(feedbackSessionName, courseId);
+            Set<String> instructorRespondents = logic.getInstructorRespondents(feedbackSessionName, courseId);
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
+            // Filter out students and instructors who have submitted or have completed the feedback session
             List<StudentAttributes> studentsToRemindList = new ArrayList<>();
-            for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
+            for (StudentAttributes student : roster.getStudents()) {
+                if (!studentRespondents.contains(student.email)
+                        && !completionMatrix.isCompletedByStudent(student.email)) {
                     studentsToRemindList.add(student);
                 }
             }
 
-            // Filter out instructors who have submitted the feedback session
             List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
-            for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
+            for (InstructorAttributes instructor : roster.getInstructors()) {
+                if (!instructorRespondents.contains(instructor.email)
+                        && !completionMatrix.isCompletedByInstructor(instructor.email)) {
                     instructorsToRemindList.add(instructor);
                 }
             }
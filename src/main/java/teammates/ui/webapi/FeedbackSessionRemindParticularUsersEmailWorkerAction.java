@@ -3,6 +3,7 @@ package teammates.ui.webapi;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -34,14 +35,16 @@ class FeedbackSessionRemindParticularUsersEmailWorkerAction extends AdminOnlyAct
             List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
             InstructorAttributes instructorToNotify =
                     logic.getInstructorForGoogleId(courseId, googleIdOfInstructorToNotify);
+            CourseRoster roster = logic.getCourseRoster(courseId);
 
+            // Every user explicitly selected by the instructor is reminded, whether or not they have completed
             for (String userEmail : usersToRemind) {
-                StudentAttributes student = logic.getStudentForEmail(courseId, userEmail);
+                StudentAttributes student = roster.getStudentForEmail(userEmail);
                 if (student != null) {
                     studentsToRemindList.add(student);
                 }
 
-                InstructorAttributes instructor = logic.getInstructorForEmail(courseId, userEmail);
+                InstructorAttributes instructor = roster.getInstructorForEmail(userEmail);
                 if (instructor != null) {
                     instructorsToRemindList.add(instructor);
                 }
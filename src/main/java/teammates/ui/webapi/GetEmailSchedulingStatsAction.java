@@ -0,0 +1,15 @@
+package teammates.ui.webapi;
+
+import teammates.ui.output.EmailSchedulingStatsData;
+
+/**
+ * Action: gets the current backlog and send rate of the email service in use.
+ */
+class GetEmailSchedulingStatsAction extends AdminOnlyAction {
+
+    @Override
+    JsonResult execute() {
+        return new JsonResult(new EmailSchedulingStatsData(logic.getEmailSchedulingStats()));
+    }
+
+}
@@ -1,13 +1,22 @@
 package teammates.ui.webapi;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.SessionResultsPage;
 import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidHttpParameterException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.output.SessionResultsData;
@@ -15,9 +24,25 @@ import teammates.ui.request.Intent;
 
 /**
  * Gets feedback session results including statistics where necessary.
+ *
+ * <p>Instructors may request only the statistics of the questions, which are computed from the running tallies
+ * of the responses instead of the responses themselves.
+ *
+ * <p>Instructors may also request the results a page at a time, ordered by question and then by giver and recipient,
+ * or have all the pages streamed in a single response. Missing responses are not included in either case.
  */
 class GetSessionResultsAction extends Action {
 
+    /**
+     * The maximum number of responses in a page of results, which bounds the memory used to build the page.
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * The number of responses in each page of results loaded when streaming the results.
+     */
+    private static final int STREAM_PAGE_SIZE = 500;
+
     @Override
     AuthType getMinAuthLevel() {
         return AuthType.PUBLIC;
@@ -40,6 +65,9 @@ class GetSessionResultsAction extends Action {
             gateKeeper.verifyLoggedInUserPrivileges();
             InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.getId());
             gateKeeper.verifyAccessible(instructor, fs);
+            if (isStatisticsOnly()) {
+                verifyCanViewSessionInAllSections(instructor, fs);
+            }
             break;
         case STUDENT_RESULT:
             StudentAttributes student = getStudent(courseId);
@@ -56,6 +84,32 @@ class GetSessionResultsAction extends Action {
         }
     }
 
+    private boolean isStatisticsOnly() {
+        return Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY));
+    }
+
+    /**
+     * Verifies that the instructor can view the responses of all sections,
+     * as the statistics are computed from the responses of all sections.
+     */
+    private void verifyCanViewSessionInAllSections(InstructorAttributes instructor, FeedbackSessionAttributes fs) {
+        List<String> sectionNames;
+        try {
+            sectionNames = logic.getSectionNamesForCourse(fs.getCourseId());
+        } catch (EntityDoesNotExistException e) {
+            throw new EntityNotFoundException(e);
+        }
+        sectionNames.add(Const.DEFAULT_SECTION);
+
+        for (String sectionName : sectionNames) {
+            if (!instructor.isAllowedForPrivilege(sectionName, fs.getFeedbackSessionName(),
+                    Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS)) {
+                throw new UnauthorizedAccessException(
+                        "You are not allowed to view the statistics of responses in all sections.");
+            }
+        }
+    }
+
     private StudentAttributes getStudent(String courseId) {
         if (userInfo == null) {
             String regkey = getNonNullRequestParamValue(Const.ParamsNames.REGKEY);
@@ -65,7 +119,7 @@ class GetSessionResultsAction extends Action {
     }
 
     @Override
-    JsonResult execute() {
+    ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
@@ -79,8 +133,29 @@ class GetSessionResultsAction extends Action {
         case INSTRUCTOR_RESULT:
             InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
 
+            if (isStatisticsOnly()) {
+                FeedbackSessionAttributes fs = getNonNullFeedbackSession(feedbackSessionName, courseId);
+                return new JsonResult(SessionResultsData.initForInstructorStatistics(fs,
+                        getQuestionStatistics(fs, instructor, questionId)));
+            }
+
+            if (isStreamed()) {
+                return new SessionResultsStreamResult(cursor -> getSessionResultsPage(feedbackSessionName, courseId,
+                        instructor.getEmail(), questionId, selectedSection, cursor, STREAM_PAGE_SIZE));
+            }
+
+            if (getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE) != null) {
+                SessionResultsPage page = getSessionResultsPage(feedbackSessionName, courseId, instructor.getEmail(),
+                        questionId, selectedSection, getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_CURSOR),
+                        getPageSize());
+                return new JsonResult(SessionResultsData.initForInstructor(page));
+            }
+
+            String isMissingResponsesIncluded =
+                    getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES);
             bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId, instructor.getEmail(),
-                    UserRole.INSTRUCTOR, questionId, selectedSection);
+                    UserRole.INSTRUCTOR, questionId, selectedSection,
+                    isMissingResponsesIncluded == null || Boolean.parseBoolean(isMissingResponsesIncluded));
 
             return new JsonResult(SessionResultsData.initForInstructor(bundle));
         case STUDENT_RESULT:
@@ -99,4 +174,52 @@ class GetSessionResultsAction extends Action {
         }
     }
 
+    private boolean isStreamed() {
+        return Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_STREAM));
+    }
+
+    private int getPageSize() {
+        long pageSize = getLongRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE);
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidHttpParameterException(
+                    "Page size must be between 1 and " + MAX_PAGE_SIZE + ", but found: [" + pageSize + "]");
+        }
+        return (int) pageSize;
+    }
+
+    private SessionResultsPage getSessionResultsPage(String feedbackSessionName, String courseId, String instructorEmail,
+                                                     String questionId, String section, String cursor, int pageSize) {
+        try {
+            return logic.getSessionResultsPageForInstructor(feedbackSessionName, courseId, instructorEmail,
+                    questionId, section, cursor, pageSize);
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpParameterException(e.getMessage(), e);
+        }
+    }
+
+    private Map<FeedbackQuestionAttributes, String> getQuestionStatistics(
+            FeedbackSessionAttributes fs, InstructorAttributes instructor, String questionId) {
+        List<FeedbackQuestionAttributes> questions =
+                logic.getFeedbackQuestionsForSession(fs.getFeedbackSessionName(), fs.getCourseId());
+
+        Map<FeedbackQuestionAttributes, String> questionStatistics = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            if (questionId != null && !questionId.equals(question.getId())
+                    || !question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)) {
+                continue;
+            }
+
+            FeedbackQuestionDetails questionDetails = question.getReadOnlyQuestionDetails();
+            if (questionDetails.canComputeStatisticsFromTally()) {
+                questionStatistics.put(question,
+                        questionDetails.getQuestionResultStatisticsJson(question, logic.getResponsesTally(question)));
+            } else {
+                SessionResultsBundle bundle = logic.getSessionResultsForUser(fs.getFeedbackSessionName(),
+                        fs.getCourseId(), instructor.getEmail(), UserRole.INSTRUCTOR, question.getId(), null, false);
+                questionStatistics.put(question, questionDetails.getQuestionResultStatisticsJson(question, null, bundle));
+            }
+        }
+        return questionStatistics;
+    }
+
 }
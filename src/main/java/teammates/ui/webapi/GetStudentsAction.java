@@ -1,7 +1,9 @@
 package teammates.ui.webapi;
 
+import java.util.Collections;
 import java.util.List;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.UnauthorizedAccessException;
@@ -41,13 +43,15 @@ class GetStudentsAction extends Action {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String teamName = getRequestParamValue(Const.ParamsNames.TEAM_NAME);
 
+        CourseRoster courseRoster = logic.getCourseRoster(courseId);
         if (teamName == null) {
             // request to get all students of a course by instructor
-            List<StudentAttributes> studentsForCourse = logic.getStudentsForCourse(courseId);
+            List<StudentAttributes> studentsForCourse = courseRoster.getStudents();
             return new JsonResult(new StudentsData(studentsForCourse));
         } else {
             // request to get team members by current student
-            List<StudentAttributes> studentsForTeam = logic.getStudentsForTeam(teamName, courseId);
+            List<StudentAttributes> studentsForTeam =
+                    courseRoster.getTeamToMembersTable().getOrDefault(teamName, Collections.emptyList());
             StudentsData studentsData = new StudentsData(studentsForTeam);
             studentsData.getStudents().forEach(StudentData::hideInformationForStudent);
             return new JsonResult(studentsData);
@@ -59,8 +59,9 @@ class JsonResult extends ActionResult {
         }
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
+        // stream the output directly instead of building the whole response body in memory first
         PrintWriter pw = resp.getWriter();
-        pw.print(JsonUtils.toJson(output));
+        JsonUtils.toJson(output, pw);
     }
 
     List<Cookie> getCookies() {
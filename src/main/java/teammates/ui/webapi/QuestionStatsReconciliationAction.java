@@ -0,0 +1,36 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: recomputes the response tallies of the questions of feedback sessions open in the past day
+ * to repair any drift.
+ */
+class QuestionStatsReconciliationAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final Duration RECONCILIATION_WINDOW = Duration.ofDays(1);
+
+    @Override
+    JsonResult execute() {
+        Instant now = Instant.now();
+        List<FeedbackSessionAttributes> sessions = logic.getAllOngoingSessions(now.minus(RECONCILIATION_WINDOW), now);
+
+        int numberOfDriftedTallies = 0;
+        for (FeedbackSessionAttributes session : sessions) {
+            numberOfDriftedTallies += logic.reconcileResponsesTallies(session);
+        }
+        if (numberOfDriftedTallies > 0) {
+            log.warning(String.format("Repaired %d response tallies of the questions in %d sessions",
+                    numberOfDriftedTallies, sessions.size()));
+        }
+        return new JsonResult("Successful");
+    }
+
+}
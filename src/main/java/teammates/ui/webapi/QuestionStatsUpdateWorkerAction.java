@@ -0,0 +1,20 @@
+package teammates.ui.webapi;
+
+import teammates.ui.request.QuestionStatsUpdateRequest;
+
+/**
+ * Task queue worker action: applies the changes made by a number of responses to the tally of the responses
+ * to their question.
+ */
+class QuestionStatsUpdateWorkerAction extends AdminOnlyAction {
+
+    @Override
+    JsonResult execute() {
+        QuestionStatsUpdateRequest updateRequest = getAndValidateRequestBody(QuestionStatsUpdateRequest.class);
+
+        logic.applyResponsesTallyChanges(updateRequest.getFeedbackQuestionId(), updateRequest.getTallyChanges());
+
+        return new JsonResult("Successful");
+    }
+
+}
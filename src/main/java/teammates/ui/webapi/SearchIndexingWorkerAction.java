@@ -0,0 +1,20 @@
+package teammates.ui.webapi;
+
+import teammates.ui.request.SearchIndexingRequest;
+
+/**
+ * Task queue worker action: creates or updates the search documents of entities in a search index,
+ * from the current state of the entities.
+ */
+class SearchIndexingWorkerAction extends AdminOnlyAction {
+
+    @Override
+    JsonResult execute() {
+        SearchIndexingRequest indexingRequest = getAndValidateRequestBody(SearchIndexingRequest.class);
+
+        logic.putDocumentsForIds(indexingRequest.getIndexName(), indexingRequest.getEntityIds());
+
+        return new JsonResult("Successful");
+    }
+
+}
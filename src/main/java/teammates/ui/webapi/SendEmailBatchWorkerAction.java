@@ -0,0 +1,42 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.request.SendEmailBatchRequest;
+
+/**
+ * Task queue worker action: sends a batch of queued emails together.
+ */
+class SendEmailBatchWorkerAction extends AdminOnlyAction {
+
+    @Override
+    JsonResult execute() {
+        SendEmailBatchRequest emailBatchRequest = getAndValidateRequestBody(SendEmailBatchRequest.class);
+        List<EmailWrapper> emails = emailBatchRequest.getEmails();
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(emails);
+
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (!statuses.get(i).isSuccess()) {
+                failedEmails.add(emails.get(i));
+            }
+        }
+
+        if (emails.size() == 1 && !failedEmails.isEmpty()) {
+            // Set an arbitrary retry code outside of the range 200-299 so GAE will automatically retry upon failure
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+        if (!failedEmails.isEmpty()) {
+            // Retry the failed emails on their own, so that the emails which have been sent are not sent again,
+            // and an email rejected by the email service does not fail the other emails in the batch again
+            taskQueuer.scheduleEmailsForSending(failedEmails, 1);
+        }
+        return new JsonResult("Successful");
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.ui.webapi;
 
+import java.util.Collections;
+
 import org.apache.http.HttpStatus;
 
 import teammates.common.util.EmailSendingStatus;
@@ -15,7 +17,8 @@ class SendEmailWorkerAction extends AdminOnlyAction {
     JsonResult execute() {
         SendEmailRequest emailRequest = getAndValidateRequestBody(SendEmailRequest.class);
         EmailWrapper email = emailRequest.getEmail();
-        EmailSendingStatus status = emailSender.sendEmail(email);
+        // the email has been scheduled, so it is sent as such rather than as an email sent immediately
+        EmailSendingStatus status = emailSender.sendEmails(Collections.singletonList(email)).get(0);
         if (!status.isSuccess()) {
             // Set an arbitrary retry code outside of the range 200-299 so GAE will automatically retry upon failure
             return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
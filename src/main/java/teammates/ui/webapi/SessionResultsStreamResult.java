@@ -0,0 +1,121 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.http.HttpStatus;
+
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.datatransfer.SessionResultsPage;
+import teammates.common.util.Config;
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Action result in form of session results for instructors, written as a single JSON object
+ * in the same format as {@link JsonResult} of {@link SessionResultsData}.
+ *
+ * <p>The results are loaded page by page and each page is written as soon as it is built,
+ * so that only one page of results is held in memory at any time.
+ * The responses of a question which span several pages are merged into the same question.
+ *
+ * <p>As the status of the response is sent before the results are loaded, an error while loading the results
+ * can only be seen by the client as a truncated JSON object.
+ */
+class SessionResultsStreamResult extends ActionResult {
+
+    private static final String QUESTIONS = "questions";
+    private static final String NEXT_CURSOR = "nextCursor";
+    private static final String ALL_RESPONSES = "allResponses";
+
+    private final Function<String, SessionResultsPage> pageLoader;
+
+    /**
+     * Creates a result which loads the pages of results with {@code pageLoader},
+     * given the cursor of the page or null for the first page.
+     */
+    SessionResultsStreamResult(Function<String, SessionResultsPage> pageLoader) {
+        super(HttpStatus.SC_OK);
+        this.pageLoader = pageLoader;
+    }
+
+    @Override
+    void send(HttpServletResponse resp) throws IOException {
+        resp.setStatus(getStatusCode());
+        resp.setContentType("application/json");
+
+        JsonWriter writer = JsonUtils.newJsonWriter(resp.getWriter());
+        writer.beginObject();
+
+        SessionResultsData page = SessionResultsData.initForInstructor(pageLoader.apply(null));
+        // everything other than the questions and the cursor is the same for every page
+        for (Map.Entry<String, JsonElement> member : JsonUtils.toJsonTree(page).getAsJsonObject().entrySet()) {
+            if (!QUESTIONS.equals(member.getKey()) && !NEXT_CURSOR.equals(member.getKey())) {
+                writer.name(member.getKey());
+                JsonUtils.toJson(member.getValue(), writer);
+            }
+        }
+
+        writer.name(QUESTIONS).beginArray();
+        String openQuestionId = writeQuestions(writer, page, null);
+        String cursor = page.getNextCursor();
+        while (cursor != null) {
+            page = SessionResultsData.initForInstructor(pageLoader.apply(cursor));
+            openQuestionId = writeQuestions(writer, page, openQuestionId);
+            cursor = page.getNextCursor();
+        }
+        if (openQuestionId != null) {
+            writer.endArray().endObject();
+        }
+        writer.endArray();
+
+        writer.name("requestId").value(Config.getRequestId());
+        writer.endObject();
+        writer.flush();
+    }
+
+    /**
+     * Writes the questions in a page of results, continuing the question left open by the previous page if any.
+     *
+     * @return the ID of the question left open by the page
+     */
+    private String writeQuestions(JsonWriter writer, SessionResultsData page, String previousOpenQuestionId)
+            throws IOException {
+        String openQuestionId = previousOpenQuestionId;
+        for (SessionResultsData.QuestionOutput question : page.getQuestions()) {
+            String questionId = question.getFeedbackQuestion().getFeedbackQuestionId();
+            if (!questionId.equals(openQuestionId)) {
+                if (openQuestionId != null) {
+                    writer.endArray().endObject();
+                }
+                beginQuestion(writer, question);
+                openQuestionId = questionId;
+            }
+            for (SessionResultsData.ResponseOutput response : question.getAllResponses()) {
+                JsonUtils.toJson(response, writer);
+            }
+        }
+        writer.flush();
+        return openQuestionId;
+    }
+
+    /**
+     * Writes the details of the question and leaves its array of responses open.
+     */
+    private void beginQuestion(JsonWriter writer, SessionResultsData.QuestionOutput question) throws IOException {
+        writer.beginObject();
+        for (Map.Entry<String, JsonElement> member : JsonUtils.toJsonTree(question).getAsJsonObject().entrySet()) {
+            if (!ALL_RESPONSES.equals(member.getKey())) {
+                writer.name(member.getKey());
+                JsonUtils.toJson(member.getValue(), writer);
+            }
+        }
+        writer.name(ALL_RESPONSES).beginArray();
+    }
+
+}
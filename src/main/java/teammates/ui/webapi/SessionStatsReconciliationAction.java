@@ -0,0 +1,41 @@
+package teammates.ui.webapi;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: recomputes the submission statistics of feedback sessions open in the past day,
+ * and of those whose statistics were computed or invalidated in the past day, to repair any drift.
+ */
+class SessionStatsReconciliationAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final Duration RECONCILIATION_WINDOW = Duration.ofDays(1);
+
+    @Override
+    JsonResult execute() {
+        Instant now = Instant.now();
+        Instant windowStart = now.minus(RECONCILIATION_WINDOW);
+        Set<FeedbackSessionAttributes> sessions = new LinkedHashSet<>(logic.getAllOngoingSessions(windowStart, now));
+        sessions.addAll(logic.getSessionsWithStatsUpdatedSince(windowStart));
+
+        int numberOfDriftedSessions = 0;
+        for (FeedbackSessionAttributes session : sessions) {
+            if (logic.reconcileSessionStats(session)) {
+                numberOfDriftedSessions++;
+            }
+        }
+        if (numberOfDriftedSessions > 0) {
+            log.warning(String.format("Repaired the submission statistics of %d out of %d sessions",
+                    numberOfDriftedSessions, sessions.size()));
+        }
+        return new JsonResult("Successful");
+    }
+
+}
@@ -0,0 +1,21 @@
+package teammates.ui.webapi;
+
+import teammates.ui.request.StudentsEnrollmentCascadeRequest;
+
+/**
+ * Task queue worker action: cascades the changes of team and section made by an enrollment
+ * to the responses of the students.
+ */
+class StudentsEnrollmentCascadeWorkerAction extends AdminOnlyAction {
+
+    @Override
+    JsonResult execute() {
+        StudentsEnrollmentCascadeRequest cascadeRequest =
+                getAndValidateRequestBody(StudentsEnrollmentCascadeRequest.class);
+
+        logic.updateFeedbackResponsesForEnrollmentChanges(cascadeRequest.getCourseId(), cascadeRequest.getChanges());
+
+        return new JsonResult("Successful");
+    }
+
+}
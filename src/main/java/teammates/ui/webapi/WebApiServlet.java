@@ -1,6 +1,8 @@
 package teammates.ui.webapi;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import javax.servlet.annotation.MultipartConfig;
 import javax.servlet.http.HttpServlet;
@@ -12,6 +14,7 @@ import org.apache.http.HttpStatus;
 import com.google.appengine.api.datastore.DatastoreTimeoutException;
 import com.google.apphosting.api.DeadlineExceededException;
 
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
 import teammates.common.exception.ActionMappingException;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidHttpParameterException;
@@ -22,6 +25,8 @@ import teammates.common.util.Config;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
 import teammates.common.util.TimeHelper;
+import teammates.logic.api.Logic;
+import teammates.logic.api.TaskQueuer;
 
 /**
  * Servlet that handles all requests from the web application.
@@ -68,6 +73,8 @@ public class WebApiServlet extends HttpServlet {
                 + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(req)
                 + ", Request ID: " + Config.getRequestId());
 
+        Logic logic = new Logic();
+        logic.startRequestScope();
         try {
             Action action = new ActionFactory().getAction(req, req.getMethod());
             action.checkAccessControl();
@@ -101,9 +108,47 @@ public class WebApiServlet extends HttpServlet {
                     + TeammatesException.toStringWithStackTrace(t));
             throwError(resp, HttpStatus.SC_INTERNAL_SERVER_ERROR,
                     "The server encountered an error when processing your request.");
+        } finally {
+            scheduleDeferredSearchIndexing(logic);
+            scheduleDeferredResponsesTallyChanges(logic);
+            logic.endRequestScope();
         }
     }
 
+    /**
+     * Schedules the search documents deferred by the request to be indexed in the background,
+     * falling back to indexing them immediately if they cannot be scheduled.
+     */
+    private void scheduleDeferredSearchIndexing(Logic logic) {
+        Map<String, List<String>> deferredEntityIds = logic.stopDeferringSearchIndexing();
+        deferredEntityIds.forEach((indexName, entityIds) -> {
+            try {
+                new TaskQueuer().scheduleSearchIndexing(indexName, entityIds);
+            } catch (Exception e) {
+                log.severe("Failed to schedule search indexing in " + indexName + " for " + entityIds + ": "
+                        + TeammatesException.toStringWithStackTrace(e));
+                logic.putDocumentsForIds(indexName, entityIds);
+            }
+        });
+    }
+
+    /**
+     * Schedules the changes to the tallies of responses deferred by the request to be applied in the background,
+     * falling back to applying them immediately if they cannot be scheduled.
+     */
+    private void scheduleDeferredResponsesTallyChanges(Logic logic) {
+        Map<String, FeedbackResponsesTally> deferredTallyChanges = logic.stopDeferringResponsesTallyChanges();
+        deferredTallyChanges.forEach((feedbackQuestionId, tallyChanges) -> {
+            try {
+                new TaskQueuer().scheduleResponsesTallyChanges(feedbackQuestionId, tallyChanges);
+            } catch (Exception e) {
+                log.severe("Failed to schedule changes to the response tally of question " + feedbackQuestionId + ": "
+                        + TeammatesException.toStringWithStackTrace(e));
+                logic.applyResponsesTallyChanges(feedbackQuestionId, tallyChanges);
+            }
+        });
+    }
+
     private void throwErrorBasedOnRequester(HttpServletRequest req, HttpServletResponse resp, Exception e, int statusCode)
             throws IOException {
         // The header X-AppEngine-QueueName cannot be spoofed as GAE will strip any user-sent X-AppEngine-QueueName headers.
@@ -1,6 +1,8 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -83,6 +85,62 @@ public class SessionResultsBundleTest extends BaseTestCase {
         assertEquals(0, missingResponses.size());
     }
 
+    @Test
+    public void testGetQuestionMissingResponseMap_compactMissingResponses_shouldCreateMarkedPairsOnly() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestionAttributes fqa = responseBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+
+        MissingResponses compactMissingResponses = new MissingResponses(
+                fqa.getId(), session.getFeedbackSessionName(), session.getCourseId());
+        MissingResponses.Group group = compactMissingResponses.addGroup(
+                Arrays.asList("giver1@email.tmt", "giver2@email.tmt"), Arrays.asList("Section 1", "Section 2"),
+                Arrays.asList("recipient1@email.tmt", "recipient2@email.tmt"), Arrays.asList("Section 1", "Section 2"));
+        group.markMissing(0, 1, true, false);
+        group.markMissing(1, 0, false, true);
+        assertEquals(2, compactMissingResponses.size());
+
+        Map<String, boolean[]> responseVisibilityTable = new HashMap<>();
+        SessionResultsBundle bundle =
+                new SessionResultsBundle(session,
+                        responseBundle.feedbackQuestions, new ArrayList<>(),
+                        Collections.singletonMap(fqa.getId(), compactMissingResponses),
+                        responseVisibilityTable, new HashMap<>(), new HashMap<>(),
+                        new CourseRoster(new ArrayList<>(responseBundle.students.values()),
+                                new ArrayList<>(responseBundle.instructors.values())));
+
+        ______TS("missing responses are not created until requested");
+        assertTrue(responseVisibilityTable.isEmpty());
+
+        ______TS("marked pairs are created in order of giver and then recipient");
+        List<FeedbackResponseAttributes> missingResponses = bundle.getQuestionMissingResponseMap().get(fqa.getId());
+        assertEquals(2, missingResponses.size());
+
+        FeedbackResponseAttributes missingResponse = missingResponses.get(0);
+        assertEquals("giver1@email.tmt", missingResponse.getGiver());
+        assertEquals("Section 1", missingResponse.getGiverSection());
+        assertEquals("recipient2@email.tmt", missingResponse.getRecipient());
+        assertEquals("Section 2", missingResponse.getRecipientSection());
+        assertEquals(Const.INSTRUCTOR_FEEDBACK_RESULTS_MISSING_RESPONSE,
+                missingResponse.getResponseDetails().getAnswerString());
+        assertTrue(bundle.isResponseGiverVisible(missingResponse));
+        assertFalse(bundle.isResponseRecipientVisible(missingResponse));
+
+        missingResponse = missingResponses.get(1);
+        assertEquals("giver2@email.tmt", missingResponse.getGiver());
+        assertEquals("recipient1@email.tmt", missingResponse.getRecipient());
+        assertFalse(bundle.isResponseGiverVisible(missingResponse));
+        assertTrue(bundle.isResponseRecipientVisible(missingResponse));
+
+        ______TS("missing responses are only created once");
+        assertSame(missingResponses, bundle.getQuestionMissingResponseMap().get(fqa.getId()));
+
+        ______TS("question without compact missing responses has no missing responses");
+        fqa = responseBundle.feedbackQuestions.get("qn3InSession1InCourse1");
+        assertTrue(bundle.getQuestionMissingResponseMap().get(fqa.getId()).isEmpty());
+    }
+
     @Test
     public void testIsResponseGiverRecipientVisible_typicalCase_shouldReturnCorrectValues() {
 
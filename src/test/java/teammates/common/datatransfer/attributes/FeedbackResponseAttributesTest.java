@@ -1,11 +1,18 @@
 package teammates.common.datatransfer.attributes;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.test.BaseTestCase;
 
@@ -166,9 +173,9 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
                 .build();
         FeedbackResponseAttributes fra2 = new FeedbackResponseAttributes(fra1);
 
-        ((FeedbackTextResponseDetails) fra2.responseDetails).setAnswer("My second answer");
-        assertEquals(fra1.responseDetails.getAnswerString(), "My original answer");
-        assertEquals(fra2.responseDetails.getAnswerString(), "My second answer");
+        ((FeedbackTextResponseDetails) fra2.getReadOnlyResponseDetails()).setAnswer("My second answer");
+        assertEquals(fra1.getReadOnlyResponseDetails().getAnswerString(), "My original answer");
+        assertEquals(fra2.getReadOnlyResponseDetails().getAnswerString(), "My second answer");
 
     }
 
@@ -181,7 +188,7 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
                 .build();
         FeedbackResponseDetails frdDeep = fra.getResponseDetails();
 
-        ((FeedbackTextResponseDetails) fra.responseDetails).setAnswer("My second answer");
+        ((FeedbackTextResponseDetails) fra.getReadOnlyResponseDetails()).setAnswer("My second answer");
         assertEquals(frdDeep.getAnswerString(), "My original answer");
     }
 
@@ -197,8 +204,74 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         updatedDetails.setAnswer("Modified deep copy answer");
 
         assertEquals(updatedDetails.getAnswerString(), "Modified deep copy answer");
-        assertEquals(fra.responseDetails.getAnswerString(), "Updated answer");
+        assertEquals(fra.getReadOnlyResponseDetails().getAnswerString(), "Updated answer");
+
+    }
+
+    @Test
+    public void testValueOf_shouldDeserializeResponseDetailsLazily() {
+        FeedbackResponse response = new FeedbackResponse("session", "course", "id",
+                FeedbackQuestionType.NUMSCALE, "giver@email.com", "section1",
+                "recipient@email.com", "section2", "{\"questionType\":\"NUMSCALE\",\"answer\":5.0}");
+        long numberOfResponsesDeserialized = FeedbackResponseAttributes.getNumberOfResponsesDeserialized();
+        long numberOfResponsesNeverDeserialized = FeedbackResponseAttributes.getNumberOfResponsesNeverDeserialized();
+
+        ______TS("details are not deserialized when loaded or copied");
+
+        FeedbackResponseAttributes fra = FeedbackResponseAttributes.valueOf(response);
+        FeedbackResponseAttributes copy = new FeedbackResponseAttributes(fra);
+
+        assertEquals(FeedbackQuestionType.NUMSCALE, fra.getFeedbackQuestionType());
+        assertEquals(response.getResponseMetaData(), fra.getSerializedFeedbackResponseDetail());
+        assertEquals(response.getResponseMetaData(), fra.toEntity().getResponseMetaData());
+        assertEquals(numberOfResponsesDeserialized, FeedbackResponseAttributes.getNumberOfResponsesDeserialized());
+        assertEquals(numberOfResponsesNeverDeserialized + 2,
+                FeedbackResponseAttributes.getNumberOfResponsesNeverDeserialized());
+
+        ______TS("details are deserialized once when first accessed");
 
+        assertEquals("5", fra.getReadOnlyResponseDetails().getAnswerString());
+        assertSame(fra.getReadOnlyResponseDetails(), fra.getReadOnlyResponseDetails());
+        assertEquals(numberOfResponsesDeserialized + 1, FeedbackResponseAttributes.getNumberOfResponsesDeserialized());
+        assertEquals(numberOfResponsesNeverDeserialized + 1,
+                FeedbackResponseAttributes.getNumberOfResponsesNeverDeserialized());
+
+        ______TS("deserialized details are copied without being counted again");
+
+        FeedbackResponseAttributes copyOfDeserialized = new FeedbackResponseAttributes(fra);
+
+        assertEquals("5", copyOfDeserialized.getReadOnlyResponseDetails().getAnswerString());
+        assertNotSame(fra.getReadOnlyResponseDetails(), copyOfDeserialized.getReadOnlyResponseDetails());
+        assertEquals(numberOfResponsesDeserialized + 1, FeedbackResponseAttributes.getNumberOfResponsesDeserialized());
+
+        ______TS("details are deserialized before being converted to JSON");
+
+        assertTrue(JsonUtils.toJson(copy).contains("\"answer\":5.0"));
+        assertEquals(fra, copy);
+        assertEquals(numberOfResponsesNeverDeserialized, FeedbackResponseAttributes.getNumberOfResponsesNeverDeserialized());
+    }
+
+    @Test
+    public void testGetReadOnlyResponseDetails_accessedConcurrently_shouldDeserializeOnce() throws Exception {
+        FeedbackResponse response = new FeedbackResponse("session", "course", "id",
+                FeedbackQuestionType.NUMSCALE, "giver@email.com", "section1",
+                "recipient@email.com", "section2", "{\"questionType\":\"NUMSCALE\",\"answer\":5.0}");
+        FeedbackResponseAttributes fra = FeedbackResponseAttributes.valueOf(response);
+        long numberOfResponsesDeserialized = FeedbackResponseAttributes.getNumberOfResponsesDeserialized();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<FeedbackResponseDetails>> details = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                details.add(executor.submit(fra::getReadOnlyResponseDetails));
+            }
+            for (Future<FeedbackResponseDetails> detailsOfThread : details) {
+                assertSame(fra.getReadOnlyResponseDetails(), detailsOfThread.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(numberOfResponsesDeserialized + 1, FeedbackResponseAttributes.getNumberOfResponsesDeserialized());
     }
 
     @Test
@@ -0,0 +1,85 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.util.Const;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link ContributionStatisticsEngine}.
+ */
+public class ContributionStatisticsEngineTest extends BaseTestCase {
+
+    @Test
+    public void testGetTeamResults_manyTeams_shouldMatchSequentialComputationInTeamOrder() {
+        ContributionStatisticsEngine engine = new ContributionStatisticsEngine(10);
+        Map<String, int[][]> teamSubmissionArrays = new LinkedHashMap<>();
+        for (int i = 20; i > 0; i--) {
+            teamSubmissionArrays.put("Team " + i, new int[][] {
+                    {100, 100 + i, Const.POINTS_NOT_SUBMITTED},
+                    {90, 110, Const.POINTS_NOT_SURE},
+                    {100, 100, 100 - i},
+            });
+        }
+
+        Map<String, TeamEvalResult> teamResults = engine.getTeamResults("question1", teamSubmissionArrays);
+
+        assertEquals(new ArrayList<>(teamSubmissionArrays.keySet()), new ArrayList<>(teamResults.keySet()));
+        teamSubmissionArrays.forEach((team, submissions) ->
+                assertEquals(new TeamEvalResult(submissions).toString(), teamResults.get(team).toString()));
+    }
+
+    @Test
+    public void testGetTeamResults_sameQuestionAndSubmissions_shouldReuseResults() {
+        ContributionStatisticsEngine engine = new ContributionStatisticsEngine(10);
+
+        Map<String, TeamEvalResult> teamResults = engine.getTeamResults("question1", getTypicalSubmissionArrays(100));
+
+        assertSame(teamResults, engine.getTeamResults("question1", getTypicalSubmissionArrays(100)));
+        assertEquals(1, engine.getCacheHitCount());
+        assertEquals(1, engine.getCacheMissCount());
+
+        ______TS("different submissions are computed afresh");
+
+        assertNotSame(teamResults, engine.getTeamResults("question1", getTypicalSubmissionArrays(90)));
+        assertEquals(2, engine.getCacheMissCount());
+
+        ______TS("same submissions of a different question are computed afresh");
+
+        assertNotSame(teamResults, engine.getTeamResults("question2", getTypicalSubmissionArrays(100)));
+        assertEquals(3, engine.getCacheMissCount());
+    }
+
+    @Test
+    public void testGetTeamResults_exceedCacheLimit_shouldEvictLeastRecentlyUsedResults() {
+        ContributionStatisticsEngine engine = new ContributionStatisticsEngine(2);
+
+        Map<String, TeamEvalResult> question1Results = engine.getTeamResults("question1", getTypicalSubmissionArrays(100));
+        Map<String, TeamEvalResult> question2Results = engine.getTeamResults("question2", getTypicalSubmissionArrays(100));
+        // question1 becomes the most recently used
+        assertSame(question1Results, engine.getTeamResults("question1", getTypicalSubmissionArrays(100)));
+
+        engine.getTeamResults("question3", getTypicalSubmissionArrays(100));
+
+        assertSame(question1Results, engine.getTeamResults("question1", getTypicalSubmissionArrays(100)));
+        assertNotSame(question2Results, engine.getTeamResults("question2", getTypicalSubmissionArrays(100)));
+    }
+
+    private Map<String, int[][]> getTypicalSubmissionArrays(int points) {
+        Map<String, int[][]> teamSubmissionArrays = new LinkedHashMap<>();
+        teamSubmissionArrays.put("Team 1", new int[][] {
+                {points, 100},
+                {100, Const.POINTS_NOT_SUBMITTED},
+        });
+        teamSubmissionArrays.put("Team 2", new int[][] {
+                {100},
+        });
+        return teamSubmissionArrays;
+    }
+
+}
@@ -1,7 +1,26 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackContributionQuestionDetails.ContributionStatistics;
+import teammates.common.datatransfer.questions.FeedbackContributionQuestionDetails.ContributionStatisticsEntry;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -21,4 +40,108 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
         assertFalse(feedbackQuestionDetails.isFeedbackParticipantCommentsOnResponsesAllowed());
     }
 
+    @Test
+    public void testGetQuestionResultStatisticsJson_typicalCase_shouldBuildStatisticsFromTeamResults() {
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName("session")
+                .withCourseId("course")
+                .withQuestionDetails(new FeedbackContributionQuestionDetails())
+                .withQuestionNumber(1)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)
+                .withShowResponsesTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .build();
+        question.setId("question");
+
+        List<StudentAttributes> students = Arrays.asList(
+                getStudent("a@email.tmt", "Team A"), getStudent("b@email.tmt", "Team A"),
+                getStudent("c@email.tmt", "Team A"), getStudent("d@email.tmt", "Team B"),
+                getStudent("e@email.tmt", "Team B"));
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getResponse("a@email.tmt", "a@email.tmt", 100), getResponse("a@email.tmt", "b@email.tmt", 80),
+                getResponse("a@email.tmt", "c@email.tmt", 120), getResponse("b@email.tmt", "a@email.tmt", 90),
+                getResponse("b@email.tmt", "b@email.tmt", 100), getResponse("b@email.tmt", "c@email.tmt", 110),
+                getResponse("d@email.tmt", "d@email.tmt", 100), getResponse("d@email.tmt", "e@email.tmt", 100),
+                getResponse("e@email.tmt", "d@email.tmt", 120), getResponse("e@email.tmt", "e@email.tmt", 80));
+        CourseRoster roster = new CourseRoster(students, new ArrayList<>());
+        SessionResultsBundle bundle = new SessionResultsBundle(
+                FeedbackSessionAttributes.builder("session", "course").build(),
+                Collections.singletonMap(question.getId(), question), responses, new ArrayList<>(),
+                new HashMap<>(), new HashMap<>(), new HashMap<>(), roster);
+
+        Map<String, TeamEvalResult> expectedTeamResults = new HashMap<>();
+        Map<String, List<String>> teamMembers = new HashMap<>();
+        roster.getTeamToMembersTable().forEach((team, members) -> {
+            List<String> emails = new ArrayList<>();
+            members.forEach(member -> emails.add(member.getEmail()));
+            int[][] submissions = new int[emails.size()][emails.size()];
+            for (int[] row : submissions) {
+                Arrays.fill(row, Const.POINTS_NOT_SUBMITTED);
+            }
+            for (FeedbackResponseAttributes response : responses) {
+                if (emails.contains(response.getGiver())) {
+                    submissions[emails.indexOf(response.getGiver())][emails.indexOf(response.getRecipient())] =
+                            ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
+                }
+            }
+            expectedTeamResults.put(team, new TeamEvalResult(submissions));
+            teamMembers.put(team, emails);
+        });
+
+        ______TS("statistics for instructors");
+
+        FeedbackContributionQuestionDetails details =
+                (FeedbackContributionQuestionDetails) question.getQuestionDetails();
+        ContributionStatistics instructorStatistics = JsonUtils.fromJson(
+                details.getQuestionResultStatisticsJson(question, null, bundle), ContributionStatistics.class);
+
+        assertEquals(5, instructorStatistics.getResults().size());
+        teamMembers.forEach((team, emails) -> {
+            TeamEvalResult teamResult = expectedTeamResults.get(team);
+            for (int i = 0; i < emails.size(); i++) {
+                ContributionStatisticsEntry entry = instructorStatistics.getResults().get(emails.get(i));
+                assertEquals(teamResult.normalizedClaimed[i][i], entry.claimed);
+                assertEquals(teamResult.normalizedAveragePerceived[i], entry.perceived);
+                for (int j = 0; j < emails.size(); j++) {
+                    if (i != j) {
+                        assertEquals(Integer.valueOf(teamResult.normalizedPeerContributionRatio[i][j]),
+                                entry.claimedOthers.get(emails.get(j)));
+                    }
+                }
+            }
+        });
+
+        ______TS("statistics for a student");
+
+        ContributionStatistics studentStatistics = JsonUtils.fromJson(
+                details.getQuestionResultStatisticsJson(question, "b@email.tmt", bundle), ContributionStatistics.class);
+
+        assertEquals(1, studentStatistics.getResults().size());
+        TeamEvalResult teamResult = expectedTeamResults.get("Team A");
+        int studentIndex = teamMembers.get("Team A").indexOf("b@email.tmt");
+        ContributionStatisticsEntry entry = studentStatistics.getResults().get("b@email.tmt");
+        assertEquals(teamResult.claimed[studentIndex][studentIndex], entry.claimed);
+        assertEquals(teamResult.denormalizedAveragePerceived[studentIndex][studentIndex], entry.perceived);
+    }
+
+    private StudentAttributes getStudent(String email, String team) {
+        return StudentAttributes.builder("course", email)
+                .withName(email)
+                .withTeamName(team)
+                .withSectionName(Const.DEFAULT_SECTION)
+                .build();
+    }
+
+    private FeedbackResponseAttributes getResponse(String giver, String recipient, int points) {
+        FeedbackContributionResponseDetails details = new FeedbackContributionResponseDetails();
+        details.setAnswer(points);
+        return FeedbackResponseAttributes.builder("question", giver, recipient)
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withResponseDetails(details)
+                .build();
+    }
+
 }
@@ -1,12 +1,15 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -117,4 +120,49 @@ public class FeedbackMcqQuestionDetailsTest extends BaseTestCase {
         assertTrue(feedbackQuestionDetails.isFeedbackParticipantCommentsOnResponsesAllowed());
     }
 
+    @Test
+    public void testGetQuestionResultStatisticsJson_fromTally_shouldComputeFrequencyAndWeightedPercentage() {
+        FeedbackMcqQuestionDetails mcqDetails = new FeedbackMcqQuestionDetails();
+        mcqDetails.setNumOfMcqChoices(2);
+        mcqDetails.setMcqChoices(Arrays.asList("A", "B"));
+        mcqDetails.setOtherEnabled(true);
+        mcqDetails.setHasAssignedWeights(true);
+        mcqDetails.setMcqWeights(Arrays.asList(1.0, 2.0));
+        mcqDetails.setMcqOtherWeight(3.0);
+
+        FeedbackResponsesTally tally = new FeedbackResponsesTally();
+        tally.addResponse(mcqDetails, getMcqResponse("giver1", "A", false));
+        tally.addResponse(mcqDetails, getMcqResponse("giver2", "B", false));
+        tally.addResponse(mcqDetails, getMcqResponse("giver3", "B", false));
+        tally.addResponse(mcqDetails, getMcqResponse("giver4", "Some other answer", true));
+
+        ChoiceStatistics statistics = JsonUtils.fromJson(
+                mcqDetails.getQuestionResultStatisticsJson(null, tally), ChoiceStatistics.class);
+
+        assertEquals(4, statistics.numberOfResponses);
+        assertEquals(Arrays.asList("A", "B", "Other"), new ArrayList<>(statistics.answerFrequency.keySet()));
+        assertEquals(Arrays.asList(1, 2, 1), new ArrayList<>(statistics.answerFrequency.values()));
+        assertEquals(Arrays.asList(25.0, 50.0, 25.0), new ArrayList<>(statistics.percentagePerOption.values()));
+        // total weighted frequency is 1 * 1 + 2 * 2 + 3 * 1 = 8
+        assertEquals(Arrays.asList(12.5, 50.0, 37.5), new ArrayList<>(statistics.weightedPercentagePerOption.values()));
+
+        ______TS("response removed from tally");
+
+        tally.removeResponse(mcqDetails, getMcqResponse("giver2", "B", false));
+        statistics = JsonUtils.fromJson(
+                mcqDetails.getQuestionResultStatisticsJson(null, tally), ChoiceStatistics.class);
+
+        assertEquals(3, statistics.numberOfResponses);
+        assertEquals(Arrays.asList(1, 1, 1), new ArrayList<>(statistics.answerFrequency.values()));
+    }
+
+    private FeedbackResponseAttributes getMcqResponse(String giver, String answer, boolean isOther) {
+        FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+        responseDetails.setAnswer(answer);
+        responseDetails.setOther(isOther);
+        responseDetails.setOtherFieldContent(isOther ? answer : "");
+        return FeedbackResponseAttributes.builder("questionId", giver, "recipient")
+                .withResponseDetails(responseDetails)
+                .build();
+    }
 }
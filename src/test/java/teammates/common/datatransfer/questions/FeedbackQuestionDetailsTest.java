@@ -1,7 +1,16 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.util.JsonUtils;
+import teammates.test.AssertHelper;
 import teammates.test.BaseTestCase;
 
 /**
@@ -41,4 +50,42 @@ public class FeedbackQuestionDetailsTest extends BaseTestCase {
         assertEquals(ftqd1, ftqd2);
 
     }
+
+    @Test
+    public void testGetDeepCopy_allQuestionTypes_shouldCopyAllFields() throws Exception {
+        Set<Class<?>> coveredClasses = new HashSet<>();
+        for (String dataBundle : new String[] { "/typicalDataBundle.json", "/FeedbackSessionQuestionTypeTest.json" }) {
+            for (FeedbackQuestionAttributes question : loadDataBundle(dataBundle).feedbackQuestions.values()) {
+                FeedbackQuestionDetails details = question.getReadOnlyQuestionDetails();
+                FeedbackQuestionDetails copy = details.getDeepCopy();
+
+                assertNotSame(details, copy);
+                assertEquals(details.getClass(), copy.getClass());
+                assertEquals(getJsonRoundTripCopy(details).getJsonString(), copy.getJsonString());
+                AssertHelper.assertNoSharedLists(details, copy);
+
+                coveredClasses.add(details.getClass());
+            }
+        }
+        assertEquals(Arrays.stream(FeedbackQuestionType.values())
+                .map(FeedbackQuestionType::getQuestionDetailsClass)
+                .collect(Collectors.toSet()), coveredClasses);
+    }
+
+    @Test
+    public void testGetDeepCopy_modifyCopy_shouldNotAffectOriginal() {
+        FeedbackRubricQuestionDetails details = new FeedbackRubricQuestionDetails();
+        details.setRubricDescriptions(new ArrayList<>(Arrays.asList(new ArrayList<>(Arrays.asList("description")))));
+        FeedbackRubricQuestionDetails copy = details.getDeepCopy();
+
+        copy.getRubricDescriptions().get(0).set(0, "updated description");
+        copy.setQuestionText("updated question");
+
+        assertEquals("description", details.getRubricDescriptions().get(0).get(0));
+        assertNull(details.getQuestionText());
+    }
+
+    private static FeedbackQuestionDetails getJsonRoundTripCopy(FeedbackQuestionDetails details) {
+        return JsonUtils.fromJson(details.getJsonString(), details.getQuestionType().getQuestionDetailsClass());
+    }
 }
@@ -1,7 +1,12 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -20,4 +25,45 @@ public class FeedbackRankOptionsQuestionDetailsTest extends BaseTestCase {
         FeedbackQuestionDetails feedbackQuestionDetails = new FeedbackRankOptionsQuestionDetails();
         assertFalse(feedbackQuestionDetails.isFeedbackParticipantCommentsOnResponsesAllowed());
     }
+
+    @Test
+    public void testGetQuestionResultStatisticsJson_fromTally_tiedOptionsShouldShareRank() {
+        FeedbackRankOptionsQuestionDetails rankDetails = new FeedbackRankOptionsQuestionDetails();
+        rankDetails.setOptions(Arrays.asList("X", "Y", "Z"));
+
+        FeedbackResponsesTally tally = new FeedbackResponsesTally();
+        tally.addResponse(rankDetails, getRankOptionsResponse("giver1", 1, 2, 3));
+        tally.addResponse(rankDetails, getRankOptionsResponse("giver2", 2, 1, 3));
+        // ranks which are not consecutive are normalized, i.e. Z is ranked 2 here
+        tally.addResponse(rankDetails, getRankOptionsResponse("giver3", Const.POINTS_NOT_SUBMITTED, 1, 3));
+
+        FeedbackRankQuestionDetails.RankStatistics statistics = JsonUtils.fromJson(
+                rankDetails.getQuestionResultStatisticsJson(null, tally), FeedbackRankQuestionDetails.RankStatistics.class);
+
+        assertEquals(3, statistics.numberOfResponses);
+        assertEquals(1.5, statistics.averageRankPerOption.get("X"));
+        assertEquals(1.33, statistics.averageRankPerOption.get("Y"));
+        assertEquals(2.67, statistics.averageRankPerOption.get("Z"));
+        assertEquals(Integer.valueOf(2), statistics.rankPerOption.get("X"));
+        assertEquals(Integer.valueOf(1), statistics.rankPerOption.get("Y"));
+        assertEquals(Integer.valueOf(3), statistics.rankPerOption.get("Z"));
+
+        ______TS("tied options");
+
+        tally.removeResponse(rankDetails, getRankOptionsResponse("giver3", Const.POINTS_NOT_SUBMITTED, 1, 3));
+        statistics = JsonUtils.fromJson(
+                rankDetails.getQuestionResultStatisticsJson(null, tally), FeedbackRankQuestionDetails.RankStatistics.class);
+
+        assertEquals(Integer.valueOf(1), statistics.rankPerOption.get("X"));
+        assertEquals(Integer.valueOf(1), statistics.rankPerOption.get("Y"));
+        assertEquals(Integer.valueOf(3), statistics.rankPerOption.get("Z"));
+    }
+
+    private FeedbackResponseAttributes getRankOptionsResponse(String giver, Integer... ranks) {
+        FeedbackRankOptionsResponseDetails responseDetails = new FeedbackRankOptionsResponseDetails();
+        responseDetails.setAnswers(Arrays.asList(ranks));
+        return FeedbackResponseAttributes.builder("questionId", giver, "recipient")
+                .withResponseDetails(responseDetails)
+                .build();
+    }
 }
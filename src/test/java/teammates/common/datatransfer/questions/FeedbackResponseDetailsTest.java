@@ -1,7 +1,15 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
+import teammates.test.AssertHelper;
 import teammates.test.BaseTestCase;
 
 /**
@@ -18,4 +26,25 @@ public class FeedbackResponseDetailsTest extends BaseTestCase {
         assertEquals("updated", frd.getAnswerString());
         assertEquals("original", frdDeep.getAnswerString());
     }
+
+    @Test
+    public void testGetDeepCopy_allQuestionTypes_shouldCopyAllFields() throws Exception {
+        Set<Class<?>> coveredClasses = new HashSet<>();
+        for (String dataBundle : new String[] { "/typicalDataBundle.json", "/FeedbackSessionQuestionTypeTest.json" }) {
+            for (FeedbackResponseAttributes response : loadDataBundle(dataBundle).feedbackResponses.values()) {
+                FeedbackResponseDetails details = response.getReadOnlyResponseDetails();
+                FeedbackResponseDetails copy = details.getDeepCopy();
+
+                assertNotSame(details, copy);
+                assertEquals(details.getClass(), copy.getClass());
+                assertEquals(JsonUtils.toJson(details), JsonUtils.toJson(copy));
+                AssertHelper.assertNoSharedLists(details, copy);
+
+                coveredClasses.add(details.getClass());
+            }
+        }
+        assertEquals(Arrays.stream(FeedbackQuestionType.values())
+                .map(FeedbackQuestionType::getResponseDetailsClass)
+                .collect(Collectors.toSet()), coveredClasses);
+    }
 }
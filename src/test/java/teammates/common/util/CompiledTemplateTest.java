@@ -0,0 +1,66 @@
+package teammates.common.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledTemplate}.
+ */
+public class CompiledTemplateTest extends BaseTestCase {
+
+    @Test
+    public void testPopulate() {
+
+        ______TS("same result as populating the template sequentially");
+
+        String[] keyValuePairs = {
+                "${userName}", "Student 1",
+                "${courseName}", "Course 1",
+                "${courseId}", "course1",
+                "${feedbackSessionName}", "Session 1",
+                "${status}", "is closing soon",
+                "${submitUrl}", "http://localhost/submit",
+        };
+        assertEquals(Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION, keyValuePairs),
+                CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION).populate(keyValuePairs));
+
+        ______TS("variables without values are left as they are");
+
+        CompiledTemplate template = CompiledTemplate.compile("${a} and ${b}, ${a} again${c}");
+        assertEquals("1 and ${b}, 1 again", template.populate("${a}", "1", "${c}", "", "${unused}", "2"));
+        assertEquals("${a} and ${b}, ${a} again${c}", template.populate());
+
+        ______TS("templates without variables");
+
+        assertEquals("", CompiledTemplate.compile("").populate("${a}", "1"));
+        assertEquals("plain $ {text}", CompiledTemplate.compile("plain $ {text}").populate("${a}", "1"));
+
+        ______TS("values are not searched for variables");
+
+        assertEquals("${b} ${b}", CompiledTemplate.compile("${a} ${b}").populate("${a}", "${b}", "${b}", "${b}"));
+
+        ______TS("failure: odd number of keys and values");
+
+        assertThrows(AssertionError.class, () -> template.populate("${a}"));
+    }
+
+    @Test
+    public void testPartiallyPopulate() {
+        CompiledTemplate template = CompiledTemplate.compile("<p>${a}</p>${b}<p>${c}</p>${a}");
+
+        ______TS("partially populated template can be populated with the remaining values");
+
+        CompiledTemplate partiallyPopulatedTemplate = template.partiallyPopulate("${a}", "1", "${c}", "${b}");
+        assertEquals("<p>1</p>2<p>${b}</p>1", partiallyPopulatedTemplate.populate("${b}", "2"));
+        assertEquals("<p>1</p>${b}<p>${b}</p>1", partiallyPopulatedTemplate.populate());
+        assertEquals(template.populate("${a}", "1", "${b}", "2", "${c}", "3"),
+                template.partiallyPopulate("${b}", "2").partiallyPopulate("${a}", "1").populate("${c}", "3"));
+
+        ______TS("the original template is unchanged");
+
+        assertEquals("<p>x</p>y<p>z</p>x", template.populate("${a}", "x", "${b}", "y", "${c}", "z"));
+    }
+
+}
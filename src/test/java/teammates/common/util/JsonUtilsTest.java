@@ -1,5 +1,6 @@
 package teammates.common.util;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 
 import org.testng.annotations.Test;
@@ -40,7 +41,7 @@ public class JsonUtilsTest extends BaseTestCase {
                 .build();
 
         try {
-            String serializeString = JsonUtils.toJson(fqa);
+            String serializeString = JsonUtils.toPrettyJson(fqa);
             assertEquals("{\n"
                     + "  \"feedbackSessionName\": \"testFeedbackSession\",\n"
                     + "  \"courseId\": \"testingCourse\",\n"
@@ -81,20 +82,24 @@ public class JsonUtilsTest extends BaseTestCase {
 
         try {
             String serializeString = JsonUtils.toJson(fra);
-            assertEquals("{\n"
-                    + "  \"feedbackQuestionId\": \"questionId\",\n"
-                    + "  \"giver\": \"giver@email.com\",\n"
-                    + "  \"recipient\": \"recipient@email.com\",\n"
-                    + "  \"feedbackSessionName\": \"Session1\",\n"
-                    + "  \"courseId\": \"CS3281\",\n"
-                    + "  \"responseDetails\": {\n"
-                    + "    \"answer\": \"My answer\",\n"
-                    + "    \"questionType\": \"TEXT\"\n"
-                    + "  },\n"
-                    + "  \"giverSection\": \"giverSection\",\n"
-                    + "  \"recipientSection\": \"recipientSection\",\n"
-                    + "  \"feedbackResponseId\": \"questionId%giver@email.com%recipient@email.com\"\n"
+            assertEquals("{"
+                    + "\"feedbackQuestionId\":\"questionId\","
+                    + "\"giver\":\"giver@email.com\","
+                    + "\"recipient\":\"recipient@email.com\","
+                    + "\"feedbackSessionName\":\"Session1\","
+                    + "\"courseId\":\"CS3281\","
+                    + "\"giverSection\":\"giverSection\","
+                    + "\"recipientSection\":\"recipientSection\","
+                    + "\"responseDetails\":{"
+                    + "\"answer\":\"My answer\","
+                    + "\"questionType\":\"TEXT\""
+                    + "},"
+                    + "\"feedbackResponseId\":\"questionId%giver@email.com%recipient@email.com\""
                     + "}", serializeString);
+
+            StringWriter writer = new StringWriter();
+            JsonUtils.toJson(fra, writer);
+            assertEquals(serializeString, writer.toString());
         } catch (JsonParseException e) {
             fail("error detected during serializing");
         }
@@ -1,5 +1,8 @@
 package teammates.logic.api;
 
+import java.util.Arrays;
+import java.util.List;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -12,9 +15,11 @@ import org.testng.annotations.Test;
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
 import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Personalization;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.StringHelperExtension;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
@@ -83,6 +88,44 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
     }
 
+    @Test
+    public void testConvertToSendgridWithPersonalizations() {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        EmailWrapper otherWrapper = getTypicalEmailWrapper();
+        otherWrapper.setRecipient("other.recipient@email.com");
+        otherWrapper.setSubject("Other test subject");
+        otherWrapper.setContent("<p>This is another test content</p>");
+        List<EmailWrapper> wrappers = Arrays.asList(wrapper, otherWrapper);
+
+        ______TS("typical case: one personalization per email");
+
+        Mail email = new SendgridService().parseToEmailWithPersonalizations(wrappers);
+
+        assertEquals(wrapper.getSenderEmail(), email.getFrom().getEmail());
+        assertEquals(wrapper.getSenderName(), email.getFrom().getName());
+        assertEquals(wrapper.getReplyTo(), email.getReplyto().getEmail());
+        assertEquals(2, email.getPersonalization().size());
+        for (int i = 0; i < wrappers.size(); i++) {
+            Personalization personalization = email.getPersonalization().get(i);
+            assertEquals(wrappers.get(i).getRecipient(), personalization.getTos().get(0).getEmail());
+            assertEquals(wrappers.get(i).getBcc(), personalization.getBccs().get(0).getEmail());
+            assertEquals(wrappers.get(i).getSubject(), personalization.getSubject());
+            assertTrue(personalization.getSubstitutions().containsValue(wrappers.get(i).getContent()));
+            assertTrue(personalization.getSubstitutions().containsValue(Jsoup.parse(wrappers.get(i).getContent()).text()));
+        }
+
+        ______TS("emails from different senders cannot be sent together");
+
+        otherWrapper.setSenderEmail("other.sender@email.com");
+        assertNull(new SendgridService().parseToEmailWithPersonalizations(wrappers));
+
+        ______TS("emails which are too large cannot be sent together");
+
+        otherWrapper.setSenderEmail(wrapper.getSenderEmail());
+        otherWrapper.setContent(StringHelperExtension.generateStringOfLength(10_000));
+        assertNull(new SendgridService().parseToEmailWithPersonalizations(wrappers));
+    }
+
     @Test
     public void testConvertToMailgun() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -116,4 +159,26 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testConvertToMailjetWithMessages() {
+        EmailWrapper wrapper = getTypicalEmailWrapper();
+        EmailWrapper otherWrapper = getTypicalEmailWrapper();
+        otherWrapper.setRecipient("other.recipient@email.com");
+        otherWrapper.setSubject("Other test subject");
+        List<EmailWrapper> wrappers = Arrays.asList(wrapper, otherWrapper);
+
+        MailjetRequest request = new MailjetService().parseToEmails(wrappers);
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray(Email.MESSAGES);
+
+        assertEquals(2, messages.length());
+        for (int i = 0; i < wrappers.size(); i++) {
+            JSONObject message = messages.getJSONObject(i);
+            assertEquals(wrappers.get(i).getSenderEmail(), message.get(Email.FROMEMAIL));
+            assertEquals(wrappers.get(i).getRecipient(),
+                         ((JSONArray) message.get(Email.RECIPIENTS)).getJSONObject(0).get("Email"));
+            assertEquals(wrappers.get(i).getSubject(), message.get(Email.SUBJECT));
+            assertEquals(wrappers.get(i).getContent(), message.get(Email.HTMLPART));
+        }
+    }
+
 }
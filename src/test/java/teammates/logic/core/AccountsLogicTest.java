@@ -3,6 +3,7 @@ package teammates.logic.core;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -13,6 +14,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.AccountsDb;
+import teammates.storage.api.UserRolesCache;
 import teammates.test.AssertHelper;
 
 /**
@@ -107,6 +109,61 @@ public class AccountsLogicTest extends BaseLogicTest {
         });
     }
 
+    @Test
+    public void testGetUserInfo_rolesChanged_shouldReturnLatestRoles() throws Exception {
+        String googleId = "idOfNewUser";
+
+        ______TS("roles of a user are cached");
+
+        UserInfo userInfo = accountsLogic.getUserInfo(googleId);
+        assertEquals(googleId, userInfo.id);
+        assertFalse(userInfo.isAdmin);
+        assertFalse(userInfo.isInstructor);
+        assertFalse(userInfo.isStudent);
+        assertNotNull(new UserRolesCache().getRoles(googleId));
+
+        ______TS("becoming a student invalidates the cached roles");
+
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        studentsLogic.updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                        .withGoogleId(googleId)
+                        .build());
+
+        userInfo = accountsLogic.getUserInfo(googleId);
+        assertFalse(userInfo.isInstructor);
+        assertTrue(userInfo.isStudent);
+
+        ______TS("becoming an instructor invalidates the cached roles");
+
+        accountsLogic.createAccount(AccountAttributes.builder(googleId)
+                .withName("New User")
+                .withEmail("new.user@email.tmt")
+                .withInstitute("dev")
+                .withIsInstructor(true)
+                .build());
+
+        userInfo = accountsLogic.getUserInfo(googleId);
+        assertTrue(userInfo.isInstructor);
+        assertTrue(userInfo.isStudent);
+
+        ______TS("downgrading the instructor invalidates the cached roles");
+
+        accountsLogic.downgradeInstructorToStudentCascade(googleId);
+
+        userInfo = accountsLogic.getUserInfo(googleId);
+        assertFalse(userInfo.isInstructor);
+        assertTrue(userInfo.isStudent);
+
+        ______TS("deleting the account invalidates the cached roles");
+
+        accountsLogic.deleteAccountCascade(googleId);
+
+        userInfo = accountsLogic.getUserInfo(googleId);
+        assertFalse(userInfo.isInstructor);
+        assertFalse(userInfo.isStudent);
+    }
+
     @Test
     public void testJoinCourseForStudent() throws Exception {
 
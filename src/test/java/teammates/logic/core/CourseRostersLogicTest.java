@@ -0,0 +1,198 @@
+package teammates.logic.core;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.CourseRosterVersions;
+
+/**
+ * SUT: {@link CourseRostersLogic}.
+ */
+public class CourseRostersLogicTest extends BaseLogicTest {
+
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+
+    @BeforeMethod
+    public void cacheRostersRightAfterChange() {
+        // rosters are written throughout the tests, so they would rarely be cached otherwise
+        courseRostersLogic.setMillisNotCachedAfterChange(0);
+    }
+
+    @AfterMethod
+    public void endRequestScope() {
+        courseRostersLogic.endRequestScope();
+        courseRostersLogic.setMaxNumberOfCachedParticipants(Const.SystemParams.MAX_CACHED_COURSE_ROSTER_PARTICIPANTS);
+        courseRostersLogic.setMillisNotCachedAfterChange(Const.SystemParams.MILLIS_COURSE_ROSTER_NOT_CACHED_AFTER_CHANGE);
+    }
+
+    @Test
+    public void testGetCourseRoster_outsideRequestScope_shouldReturnNewCopies() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+
+        assertEquals(studentsLogic.getStudentsForCourse(courseId).size(), roster.getStudents().size());
+        assertEquals(instructorsLogic.getInstructorsForCourse(courseId).size(), roster.getInstructors().size());
+        assertNotSame(roster, courseRostersLogic.getCourseRoster(courseId));
+    }
+
+    @Test
+    public void testGetCourseRoster_withinRequestScope_shouldReuseRoster() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        String otherCourseId = dataBundle.courses.get("typicalCourse2").getId();
+
+        courseRostersLogic.startRequestScope();
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+
+        assertSame(roster, courseRostersLogic.getCourseRoster(courseId));
+        assertNotSame(roster, courseRostersLogic.getCourseRoster(otherCourseId));
+
+        courseRostersLogic.endRequestScope();
+
+        assertNotSame(roster, courseRostersLogic.getCourseRoster(courseId));
+    }
+
+    @Test
+    public void testGetCourseRoster_studentWrittenWithinRequestScope_shouldReloadRoster() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        courseRostersLogic.startRequestScope();
+        CourseRoster roster = courseRostersLogic.getCourseRoster(student.getCourse());
+        assertTrue(roster.isStudentInCourse(student.getEmail()));
+
+        studentsLogic.deleteStudentCascade(student.getCourse(), student.getEmail());
+
+        CourseRoster reloadedRoster = courseRostersLogic.getCourseRoster(student.getCourse());
+        assertNotSame(roster, reloadedRoster);
+        assertFalse(reloadedRoster.isStudentInCourse(student.getEmail()));
+
+        studentsLogic.createStudent(student);
+
+        assertTrue(courseRostersLogic.getCourseRoster(student.getCourse()).isStudentInCourse(student.getEmail()));
+    }
+
+    @Test
+    public void testGetCourseRoster_instructorWrittenWithinRequestScope_shouldReloadRoster() throws Exception {
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        courseRostersLogic.startRequestScope();
+        CourseRoster roster = courseRostersLogic.getCourseRoster(instructor.getCourseId());
+
+        instructorsLogic.updateInstructorByEmail(
+                InstructorAttributes.updateOptionsWithEmailBuilder(instructor.getCourseId(), instructor.getEmail())
+                        .withName("New Instructor Name")
+                        .build());
+
+        CourseRoster reloadedRoster = courseRostersLogic.getCourseRoster(instructor.getCourseId());
+        assertNotSame(roster, reloadedRoster);
+        assertEquals("New Instructor Name", reloadedRoster.getInstructorForEmail(instructor.getEmail()).getName());
+    }
+
+    @Test
+    public void testGetCourseRoster_acrossRequests_shouldReuseCachedRoster() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        courseRostersLogic.getCourseRoster(courseId);
+
+        long hitCount = courseRostersLogic.getCacheHitCount();
+        long missCount = courseRostersLogic.getCacheMissCount();
+
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+        CourseRoster otherRoster = courseRostersLogic.getCourseRoster(courseId);
+
+        assertEquals(hitCount + 2, courseRostersLogic.getCacheHitCount());
+        assertEquals(missCount, courseRostersLogic.getCacheMissCount());
+
+        ______TS("each caller receives its own copy");
+
+        assertNotSame(roster, otherRoster);
+        StudentAttributes student = roster.getStudents().get(0);
+        student.name = "Modified Name";
+        assertNotEquals(student.name, otherRoster.getStudentForEmail(student.getEmail()).getName());
+        assertNotEquals(student.name, courseRostersLogic.getCourseRoster(courseId)
+                .getStudentForEmail(student.getEmail()).getName());
+    }
+
+    @Test
+    public void testGetCourseRoster_rosterVersionBumpedElsewhere_shouldReloadRoster() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        courseRostersLogic.getCourseRoster(courseId);
+
+        // bumping the version directly bypasses the local invalidation, as a write by another instance would
+        new CourseRosterVersions().bumpVersion(courseId);
+
+        long missCount = courseRostersLogic.getCacheMissCount();
+        courseRostersLogic.getCourseRoster(courseId);
+        assertEquals(missCount + 1, courseRostersLogic.getCacheMissCount());
+
+        long hitCount = courseRostersLogic.getCacheHitCount();
+        courseRostersLogic.getCourseRoster(courseId);
+        assertEquals(hitCount + 1, courseRostersLogic.getCacheHitCount());
+    }
+
+    @Test
+    public void testGetCourseRoster_loadedShortlyAfterChange_shouldNotBeCached() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        courseRostersLogic.setMillisNotCachedAfterChange(Const.SystemParams.MILLIS_COURSE_ROSTER_NOT_CACHED_AFTER_CHANGE);
+        courseRostersLogic.getCourseRoster(courseId);
+
+        new CourseRosterVersions().bumpVersion(courseId);
+
+        long missCount = courseRostersLogic.getCacheMissCount();
+        courseRostersLogic.getCourseRoster(courseId);
+        courseRostersLogic.getCourseRoster(courseId);
+        assertEquals(missCount + 2, courseRostersLogic.getCacheMissCount());
+
+        ______TS("roster is cached again once the change has settled");
+
+        courseRostersLogic.setMillisNotCachedAfterChange(0);
+        courseRostersLogic.getCourseRoster(courseId);
+
+        long hitCount = courseRostersLogic.getCacheHitCount();
+        courseRostersLogic.getCourseRoster(courseId);
+        assertEquals(hitCount + 1, courseRostersLogic.getCacheHitCount());
+    }
+
+    @Test
+    public void testGetCourseRoster_cacheFull_shouldEvictLeastRecentlyUsedRoster() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        String otherCourseId = dataBundle.courses.get("typicalCourse2").getId();
+        courseRostersLogic.invalidateAll();
+        CourseRoster roster = courseRostersLogic.getCourseRoster(courseId);
+        CourseRoster otherRoster = courseRostersLogic.getCourseRoster(otherCourseId);
+        int numberOfParticipants = roster.getStudents().size() + roster.getInstructors().size();
+        int otherNumberOfParticipants = otherRoster.getStudents().size() + otherRoster.getInstructors().size();
+
+        ______TS("both rosters fit");
+
+        assertEquals(numberOfParticipants + otherNumberOfParticipants,
+                courseRostersLogic.getNumberOfCachedParticipants());
+
+        ______TS("least recently used roster is evicted when the cache shrinks");
+
+        courseRostersLogic.getCourseRoster(courseId);
+        long evictionCount = courseRostersLogic.getCacheEvictionCount();
+        courseRostersLogic.setMaxNumberOfCachedParticipants(numberOfParticipants);
+
+        assertEquals(evictionCount + 1, courseRostersLogic.getCacheEvictionCount());
+        assertEquals(numberOfParticipants, courseRostersLogic.getNumberOfCachedParticipants());
+
+        long hitCount = courseRostersLogic.getCacheHitCount();
+        courseRostersLogic.getCourseRoster(courseId);
+        assertEquals(hitCount + 1, courseRostersLogic.getCacheHitCount());
+
+        ______TS("roster larger than the cache is not cached");
+
+        courseRostersLogic.setMaxNumberOfCachedParticipants(0);
+        courseRostersLogic.getCourseRoster(courseId);
+
+        assertEquals(0, courseRostersLogic.getNumberOfCachedParticipants());
+    }
+
+}
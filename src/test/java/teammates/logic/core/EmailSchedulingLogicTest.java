@@ -0,0 +1,71 @@
+package teammates.logic.core;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.EmailSchedulingStats;
+import teammates.common.util.Config;
+
+/**
+ * SUT: {@link EmailSchedulingLogic}.
+ */
+public class EmailSchedulingLogicTest extends BaseLogicTest {
+
+    private static final EmailSchedulingLogic emailSchedulingLogic = EmailSchedulingLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void testScheduleBulkEmails() {
+        long emailIntervalMillis = 1000 / Config.EMAIL_RATE_LIMIT;
+        int numberOfEmails = 3 * Config.EMAIL_RATE_LIMIT;
+
+        ______TS("emails are scheduled at the rate limit");
+
+        long scheduledTime = System.currentTimeMillis();
+        long[] countdowns = emailSchedulingLogic.scheduleBulkEmails(numberOfEmails);
+
+        assertEquals(numberOfEmails, countdowns.length);
+        assertTrue(countdowns[numberOfEmails - 1] > 0);
+        for (int i = 1; i < numberOfEmails; i++) {
+            assertTrue(countdowns[i] >= countdowns[i - 1]);
+            if (countdowns[i - 1] > 0) {
+                assertTrue(Math.abs(countdowns[i] - countdowns[i - 1] - emailIntervalMillis) <= 1);
+            }
+        }
+
+        ______TS("emails scheduled later are sent after the emails already scheduled");
+
+        long laterScheduledTime = System.currentTimeMillis();
+        long[] laterCountdowns = emailSchedulingLogic.scheduleBulkEmails(1);
+        long millisPassed = System.currentTimeMillis() - scheduledTime;
+
+        assertTrue(laterCountdowns[0] >= countdowns[numberOfEmails - 1] + emailIntervalMillis - millisPassed - 1);
+
+        ______TS("emails sent immediately delay the emails scheduled afterwards");
+
+        emailSchedulingLogic.recordImmediateEmails(numberOfEmails);
+        long[] countdownsAfterImmediateEmails = emailSchedulingLogic.scheduleBulkEmails(1);
+        millisPassed = System.currentTimeMillis() - laterScheduledTime;
+
+        assertTrue(countdownsAfterImmediateEmails[0]
+                >= laterCountdowns[0] + (numberOfEmails + 1) * emailIntervalMillis - millisPassed - 1);
+    }
+
+    @Test
+    public void testGetEmailSchedulingStats() {
+        emailSchedulingLogic.scheduleBulkEmails(5 * Config.EMAIL_RATE_LIMIT);
+
+        EmailSchedulingStats stats = emailSchedulingLogic.getEmailSchedulingStats();
+
+        assertEquals(Config.getEmailServiceName(), stats.getEmailService());
+        assertEquals(Config.EMAIL_RATE_LIMIT, stats.getRateLimit());
+        // the emails scheduled take at least 5 seconds to send, less the time passed since they were scheduled
+        assertTrue(stats.getBacklogClearingMillis() > 4000);
+        assertTrue(stats.getBacklog() >= stats.getBacklogClearingMillis() * Config.EMAIL_RATE_LIMIT / 1000 - 1);
+        assertTrue(stats.getSendRate() >= 0);
+    }
+
+}
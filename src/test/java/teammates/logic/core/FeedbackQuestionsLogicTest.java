@@ -37,6 +37,7 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static SessionRespondentsLogic srLogic = SessionRespondentsLogic.inst();
     private static StudentsLogic studentsLogic = StudentsLogic.inst();
     private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
 
@@ -615,19 +616,20 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
                 .count());
         // suppose he is in the respondents list
         fsLogic.addStudentRespondent(responseInDb.giver, responseInDb.feedbackSessionName, responseInDb.courseId);
-        FeedbackSessionAttributes correspondingSession =
-                fsLogic.getFeedbackSession(responseInDb.feedbackSessionName, responseInDb.courseId);
-        assertTrue(correspondingSession.getRespondingStudentList().contains(responseInDb.giver));
+        assertTrue(srLogic.getStudentRespondents(responseInDb.feedbackSessionName, responseInDb.courseId)
+                .contains(responseInDb.giver));
+        Set<String> instructorRespondentsBefore =
+                srLogic.getInstructorRespondents(responseInDb.feedbackSessionName, responseInDb.courseId);
 
         // after deletion the question
         fqLogic.deleteFeedbackQuestionCascade(responseInDb.feedbackQuestionId);
 
-        FeedbackSessionAttributes sessionAfter =
-                fsLogic.getFeedbackSession(responseInDb.feedbackSessionName, responseInDb.courseId);
         // instructor respondents will not change
-        assertEquals(correspondingSession.getRespondingInstructorList(), sessionAfter.getRespondingInstructorList());
+        assertEquals(instructorRespondentsBefore,
+                srLogic.getInstructorRespondents(responseInDb.feedbackSessionName, responseInDb.courseId));
         // the student should not in the respondents
-        assertFalse(sessionAfter.getRespondingStudentList().contains(responseInDb.giver));
+        assertFalse(srLogic.getStudentRespondents(responseInDb.feedbackSessionName, responseInDb.courseId)
+                .contains(responseInDb.giver));
     }
 
     @Test
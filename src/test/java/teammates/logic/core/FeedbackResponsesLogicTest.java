@@ -1,8 +1,10 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -32,6 +34,7 @@ import teammates.test.AssertHelper;
 public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static SessionRespondentsLogic srLogic = SessionRespondentsLogic.inst();
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -102,7 +105,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 .withCourseId(responseToUpdate.courseId)
                 .withGiverSection(responseToUpdate.giverSection)
                 .withRecipientSection(responseToUpdate.recipientSection)
-                .withResponseDetails(responseToUpdate.responseDetails)
+                .withResponseDetails(responseToUpdate.getResponseDetails())
                 .build();
 
         frLogic.createFeedbackResponse(existingResponse);
@@ -318,9 +321,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     }
 
     private int getResponseRate(String sessionName, String courseId) {
-        FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
-        return sessionFromDataStore.getRespondingInstructorList().size()
-                + sessionFromDataStore.getRespondingStudentList().size();
+        return srLogic.getNumberOfRespondents(sessionName, courseId);
     }
 
     @Test
@@ -389,6 +390,40 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(2, responseCommentsForStudent.size());
     }
 
+    @Test
+    public void testUpdateSectionsForParticipant_shouldUpdateResponsesAndComments() {
+        StudentAttributes studentToUpdate = questionTypeBundle.students.get("student2InCourse1");
+
+        ______TS("sections of responses and their comments are updated");
+
+        frLogic.updateSectionsForParticipant(studentToUpdate.course, studentToUpdate.email, "New Section");
+
+        List<FeedbackResponseAttributes> responsesForReceiver =
+                frLogic.getFeedbackResponsesForReceiverForCourse(studentToUpdate.course, studentToUpdate.email);
+        List<FeedbackResponseAttributes> responsesFromGiver =
+                frLogic.getFeedbackResponsesFromGiverForCourse(studentToUpdate.course, studentToUpdate.email);
+        assertEquals(11, responsesForReceiver.size());
+        assertEquals(8, responsesFromGiver.size());
+        assertTrue(responsesForReceiver.stream().allMatch(r -> "New Section".equals(r.getRecipientSection())));
+        assertTrue(responsesFromGiver.stream().allMatch(r -> "New Section".equals(r.getGiverSection())));
+
+        Map<String, FeedbackResponseAttributes> responsesById = new HashMap<>();
+        responsesForReceiver.forEach(r -> responsesById.put(r.getId(), r));
+        responsesFromGiver.forEach(r -> responsesById.put(r.getId(), r));
+        List<FeedbackResponseCommentAttributes> responseComments =
+                getFeedbackResponseCommentsForResponsesFromDatastore(responsesById.keySet());
+        assertEquals(2, responseComments.size());
+        for (FeedbackResponseCommentAttributes comment : responseComments) {
+            FeedbackResponseAttributes response = responsesById.get(comment.getFeedbackResponseId());
+            assertEquals(response.getGiverSection(), comment.getGiverSection());
+            assertEquals(response.getRecipientSection(), comment.getReceiverSection());
+        }
+
+        ______TS("participant without responses");
+
+        frLogic.updateSectionsForParticipant(studentToUpdate.course, "nonExistent@email.tmt", "New Section");
+    }
+
     @Test
     public void testIsNameVisibleTo() {
 
@@ -487,8 +522,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         fsLogic.addStudentRespondent(studentToDelete.getEmail(),
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
         assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains(studentToDelete.getEmail()));
         // the responses also have some associated comments
         List<FeedbackResponseAttributes> remainingResponses = new ArrayList<>();
@@ -526,8 +560,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         // the student is no longer in the respondents list
         assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains(studentToDelete.getEmail()));
     }
 
@@ -587,18 +620,17 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         // suppose the student is in the respondent list
         fsLogic.addStudentRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
         assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingStudentList().contains(fra.giver));
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId).contains(fra.giver));
 
         Set<String> instructorRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
 
         frLogic.deleteFeedbackResponsesForQuestionCascade(fra.feedbackQuestionId);
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // instructor respondents not change
         assertEquals(instructorRespondentsBefore, instructorRespondentsAfter);
         // there is no student X in student respondents
@@ -617,18 +649,17 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
         assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId).contains(fra.giver));
 
         Set<String> studentRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
 
         frLogic.deleteFeedbackResponsesForQuestionCascade(fra.feedbackQuestionId);
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // student respondents not change
         assertEquals(studentRespondentsBefore, studentRespondentsAfter);
         // there is not instructor X in instructor respondents
@@ -652,20 +683,19 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         // suppose the student is in the respondent list
         fsLogic.addStudentRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
         assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingStudentList().contains(fra.giver));
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId).contains(fra.giver));
 
         Set<String> instructorRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
 
         // after the recipient is moved from the course
         frLogic.deleteFeedbackResponsesInvolvedStudentOfCourseCascade(
                 student2InCourse1.getCourse(), student2InCourse1.getEmail());
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // instructor respondents not change
         assertEquals(instructorRespondentsBefore, instructorRespondentsAfter);
         // there is no student X in student respondents
@@ -690,20 +720,19 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
         assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId).contains(fra.giver));
 
         Set<String> studentRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
 
         // after the recipient is moved from the course
         frLogic.deleteFeedbackResponsesInvolvedStudentOfCourseCascade(
                 student1InCourse2.getCourse(), student1InCourse2.getEmail());
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.feedbackSessionName, fra.courseId);
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId).getRespondingInstructorList();
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId);
         // student respondents not change
         assertEquals(studentRespondentsBefore, studentRespondentsAfter);
         // there is not instructor X in instructor respondents
@@ -856,19 +885,18 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.getGiver(), fra.getFeedbackSessionName(), fra.getCourseId());
         assertTrue(
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId())
-                        .getRespondingInstructorList().contains(fra.getGiver()));
+                srLogic.getInstructorRespondents(fra.getFeedbackSessionName(), fra.getCourseId()).contains(fra.getGiver()));
 
         Set<String> studentRespondentsBefore =
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId()).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.getFeedbackSessionName(), fra.getCourseId());
 
         // after the team's responses are deleted
         frLogic.deleteFeedbackResponsesInvolvedTeamOfCourseCascade(instructor1OfCourse2.getCourseId(), teamName);
 
         Set<String> studentRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId()).getRespondingStudentList();
+                srLogic.getStudentRespondents(fra.getFeedbackSessionName(), fra.getCourseId());
         Set<String> instructorRespondentsAfter =
-                fsLogic.getFeedbackSession(fra.getFeedbackSessionName(), fra.getCourseId()).getRespondingInstructorList();
+                srLogic.getInstructorRespondents(fra.getFeedbackSessionName(), fra.getCourseId());
         // student respondents not change
         assertEquals(studentRespondentsBefore, studentRespondentsAfter);
         // there is no instructor1OfCourse2 in instructor respondents
@@ -885,8 +913,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         fsLogic.addInstructorRespondent(instructor1OfCourse1.getEmail(),
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
         assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
 
                         .contains(instructor1OfCourse1.getEmail()));
 
@@ -928,8 +955,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         // it should no longer be in the session respondents list
         assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains(instructor1OfCourse1.getEmail()));
     }
 
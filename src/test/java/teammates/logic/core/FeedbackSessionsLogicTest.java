@@ -4,10 +4,14 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeMethod;
@@ -16,7 +20,9 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionCompletionMatrix;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.SessionResultsPage;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -42,10 +48,12 @@ import teammates.test.AssertHelper;
 public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static CoursesLogic coursesLogic = CoursesLogic.inst();
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static SessionRespondentsLogic srLogic = SessionRespondentsLogic.inst();
     private static FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -156,12 +164,10 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         // they are in the same course
         assertEquals(session1InCourse1.getCourseId(), session2InCourse1.getCourseId());
         assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
         assertTrue(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
                         .contains("test@email.com"));
 
         // remove email from all respondents list
@@ -169,12 +175,10 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         // the email should not appear
         assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
         assertFalse(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
                         .contains("test@email.com"));
     }
 
@@ -189,12 +193,10 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         // they are in the same course
         assertEquals(session1InCourse1.getCourseId(), session2InCourse1.getCourseId());
         assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
         assertTrue(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
                         .contains("test@email.com"));
 
         // remove email from all respondents list
@@ -202,12 +204,10 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         // the email should not appear
         assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
         assertFalse(
-                fsLogic.getFeedbackSession(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session2InCourse1.getFeedbackSessionName(), session2InCourse1.getCourseId())
                         .contains("test@email.com"));
     }
 
@@ -217,8 +217,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         fsLogic.addInstructorRespondent("test@email.com",
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
         assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
 
         // delete the instructor from the list
@@ -226,8 +225,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
 
         assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingInstructorList()
+                srLogic.getInstructorRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
     }
 
@@ -237,8 +235,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         fsLogic.addStudentRespondent("test@email.com",
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
         assertTrue(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
 
         // delete the student from the list
@@ -246,8 +243,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                 session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
 
         assertFalse(
-                fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
-                        .getRespondingStudentList()
+                srLogic.getStudentRespondents(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId())
                         .contains("test@email.com"));
     }
 
@@ -640,6 +636,56 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertEquals(fsa.toString(), updatedFeedbackSession.toString());
     }
 
+    @Test
+    public void testComputeCompletionMatrix_typicalData_shouldAgreeWithPerUserChecks() throws Exception {
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        StudentAttributes student3OfCourse1 = dataBundle.students.get("student3InCourse1");
+        InstructorAttributes instructor1OfCourse1 = dataBundle.instructors.get("instructor1OfCourse1");
+        InstructorAttributes instructor2OfCourse1 = dataBundle.instructors.get("instructor2OfCourse1");
+
+        SessionCompletionMatrix completionMatrix = fsLogic.computeCompletionMatrix(fs);
+
+        ______TS("students: same completion as checking each student separately");
+
+        for (StudentAttributes student : dataBundle.students.values()) {
+            if (!student.course.equals(fs.getCourseId())) {
+                continue;
+            }
+            assertTrue(completionMatrix.hasQuestionsForStudent(student.email));
+            assertEquals(fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                    fs.getFeedbackSessionName(), fs.getCourseId(), student.email),
+                    completionMatrix.isCompletedByStudent(student.email));
+        }
+        assertFalse(completionMatrix.getIncompleteQuestionIdsForStudent(student3OfCourse1.email).isEmpty());
+
+        ______TS("instructors: only the creator has to answer questions meant for the creator");
+
+        String questionForCreatorId = fqLogic.getFeedbackQuestion(fs.getFeedbackSessionName(), fs.getCourseId(), 3).getId();
+        String questionForInstructorsId =
+                fqLogic.getFeedbackQuestion(fs.getFeedbackSessionName(), fs.getCourseId(), 4).getId();
+        frLogic.deleteFeedbackResponsesForQuestionCascade(questionForCreatorId);
+        frLogic.deleteFeedbackResponsesForQuestionCascade(questionForInstructorsId);
+
+        completionMatrix = fsLogic.computeCompletionMatrix(fs);
+
+        assertEquals(new HashSet<>(Arrays.asList(questionForCreatorId, questionForInstructorsId)),
+                completionMatrix.getIncompleteQuestionIdsForInstructor(instructor1OfCourse1.email));
+        assertEquals(Collections.singleton(questionForInstructorsId),
+                completionMatrix.getIncompleteQuestionIdsForInstructor(instructor2OfCourse1.email));
+        assertFalse(completionMatrix.isCompletedByInstructor(instructor2OfCourse1.email));
+
+        ______TS("users of other courses and sessions without questions are considered to have completed");
+
+        assertFalse(completionMatrix.hasQuestionsForStudent("non-existent@email.tmt"));
+        assertTrue(completionMatrix.isCompletedByStudent("non-existent@email.tmt"));
+
+        completionMatrix = fsLogic.computeCompletionMatrix(dataBundle.feedbackSessions.get("empty.session"));
+
+        assertFalse(completionMatrix.hasQuestionsForStudent(student3OfCourse1.email));
+        assertTrue(completionMatrix.isCompletedByStudent(student3OfCourse1.email));
+        assertTrue(completionMatrix.isCompletedByInstructor(instructor1OfCourse1.email));
+    }
+
     @Test
     public void testUpdateFeedbackSession_shouldAdjustEmailSendingStatusAccordingly() throws Exception {
         FeedbackSessionAttributes typicalSession = dataBundle.feedbackSessions.get("session1InCourse1");
@@ -1245,6 +1291,140 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         AssertHelper.assertContains(expectedStrings, mapString);
     }
 
+    @Test
+    public void testGetSessionResultsPageForInstructor_allPages_shouldContainAllResponses() throws Exception {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
+        removeAndRestoreDataBundle(responseBundle);
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("standard.session");
+        InstructorAttributes instructor = responseBundle.instructors.get("instructor1OfCourse1");
+
+        SessionResultsBundle fullBundle = fsLogic.getSessionResultsForUser(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(),
+                UserRole.INSTRUCTOR, null, null);
+        List<String> expectedResponseIds = new ArrayList<>();
+        fullBundle.getQuestionResponseMap().values().forEach(responses ->
+                responses.forEach(response -> expectedResponseIds.add(response.getId())));
+
+        ______TS("pages are ordered by question and contain no missing responses");
+
+        List<String> pagedResponseIds = new ArrayList<>();
+        List<String> pagedQuestionIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            SessionResultsPage page = fsLogic.getSessionResultsPageForInstructor(session.getFeedbackSessionName(),
+                    session.getCourseId(), instructor.getEmail(), null, null, cursor, 3);
+            for (Map.Entry<String, List<FeedbackResponseAttributes>> entry
+                    : page.getBundle().getQuestionResponseMap().entrySet()) {
+                assertTrue(entry.getValue().size() <= 3);
+                assertTrue(page.getBundle().getQuestionMissingResponseMap().get(entry.getKey()).isEmpty());
+                boolean isQuestionContinued = !pagedQuestionIds.isEmpty()
+                        && entry.getKey().equals(pagedQuestionIds.get(pagedQuestionIds.size() - 1));
+                if (!isQuestionContinued) {
+                    pagedQuestionIds.add(entry.getKey());
+                }
+                entry.getValue().forEach(response -> pagedResponseIds.add(response.getId()));
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(expectedResponseIds.size(), pagedResponseIds.size());
+        assertTrue(pagedResponseIds.containsAll(expectedResponseIds));
+        assertEquals(new ArrayList<>(fullBundle.getQuestionResponseMap().keySet()), pagedQuestionIds);
+
+        ______TS("invalid cursor");
+
+        assertThrows(InvalidParametersException.class,
+                () -> fsLogic.getSessionResultsPageForInstructor(session.getFeedbackSessionName(),
+                        session.getCourseId(), instructor.getEmail(), null, null, "non-existent question", 3));
+        String questionId = fullBundle.getQuestionResponseMap().keySet().iterator().next();
+        assertThrows(InvalidParametersException.class,
+                () -> fsLogic.getSessionResultsPageForInstructor(session.getFeedbackSessionName(),
+                        session.getCourseId(), instructor.getEmail(), null, null, questionId + ":invalid cursor", 3));
+    }
+
+    @Test
+    public void testGetSessionResultsForInstructorBySection_shouldBeSameAsSerialResults() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
+        removeAndRestoreDataBundle(responseBundle);
+
+        ______TS("responses across sections and missing responses");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("standard.session");
+        InstructorAttributes instructor = responseBundle.instructors.get("instructor1OfCourse1");
+        // the course has too few sections to be assembled by section by default
+        SessionResultsBundle serialBundle = fsLogic.getSessionResultsForUser(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(),
+                UserRole.INSTRUCTOR, null, null);
+        SessionResultsBundle bundleBySection = fsLogic.getSessionResultsForInstructorBySection(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(), true);
+        verifySameSessionResults(serialBundle, bundleBySection);
+
+        ______TS("responses with comments");
+
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreDataBundle(dataBundle);
+
+        session = dataBundle.feedbackSessions.get("session1InCourse1");
+        instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        serialBundle = fsLogic.getSessionResultsForUser(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(),
+                UserRole.INSTRUCTOR, null, null);
+        bundleBySection = fsLogic.getSessionResultsForInstructorBySection(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(), true);
+        assertFalse(serialBundle.getResponseCommentsMap().isEmpty());
+        verifySameSessionResults(serialBundle, bundleBySection);
+
+        ______TS("all students moved out of a section before the change is cascaded to their responses");
+
+        List<StudentAttributes> movedStudents = new ArrayList<>();
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(session.getCourseId())) {
+            if ("Section 1".equals(student.getSection())) {
+                StudentAttributes movedStudent = student.getCopy();
+                movedStudent.section = "Section 3";
+                movedStudents.add(movedStudent);
+            }
+        }
+        assertFalse(movedStudents.isEmpty());
+        studentsLogic.enrollStudents(movedStudents, session.getCourseId());
+        assertFalse(frLogic.getFeedbackResponsesForSessionInSection(
+                session.getFeedbackSessionName(), session.getCourseId(), "Section 1").isEmpty());
+
+        serialBundle = fsLogic.getSessionResultsForUser(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(),
+                UserRole.INSTRUCTOR, null, null);
+        bundleBySection = fsLogic.getSessionResultsForInstructorBySection(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.getEmail(), true);
+        verifySameSessionResults(serialBundle, bundleBySection);
+    }
+
+    private void verifySameSessionResults(SessionResultsBundle expected, SessionResultsBundle actual) {
+        assertEquals(new ArrayList<>(expected.getQuestionsMap().keySet()),
+                new ArrayList<>(actual.getQuestionsMap().keySet()));
+        assertEquals(getResponseIds(expected.getQuestionResponseMap()), getResponseIds(actual.getQuestionResponseMap()));
+        assertEquals(getResponseIds(expected.getQuestionMissingResponseMap()),
+                getResponseIds(actual.getQuestionMissingResponseMap()));
+        assertEquals(toSortedMap(expected.getResponseVisibilityTable()), toSortedMap(actual.getResponseVisibilityTable()));
+
+        assertEquals(expected.getResponseCommentsMap().keySet(), actual.getResponseCommentsMap().keySet());
+        expected.getResponseCommentsMap().forEach((responseId, comments) ->
+                assertEquals(comments.toString(), actual.getResponseCommentsMap().get(responseId).toString()));
+        assertEquals(toSortedMap(expected.getCommentVisibilityTable()), toSortedMap(actual.getCommentVisibilityTable()));
+    }
+
+    private <T> Map<String, String> toSortedMap(Map<T, boolean[]> table) {
+        Map<String, String> sortedMap = new TreeMap<>();
+        table.forEach((key, value) -> sortedMap.put(key.toString(), Arrays.toString(value)));
+        return sortedMap;
+    }
+
+    private Map<String, List<String>> getResponseIds(Map<String, List<FeedbackResponseAttributes>> questionResponseMap) {
+        Map<String, List<String>> responseIds = new LinkedHashMap<>();
+        questionResponseMap.forEach((questionId, responses) -> responseIds.put(questionId,
+                responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toList())));
+        return responseIds;
+    }
+
     // TODO: testGetSessionResultsForUser_studentAllQuestionsSpecificSection_shouldGenerateCorrectBundle
 
     // TODO: check for cases where a person is both a student and an instructor
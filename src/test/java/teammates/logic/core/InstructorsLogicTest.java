@@ -32,6 +32,7 @@ public class InstructorsLogicTest extends BaseLogicTest {
     private static InstructorsDb instructorsDb = new InstructorsDb();
     private static CoursesLogic coursesLogic = CoursesLogic.inst();
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static SessionRespondentsLogic srLogic = SessionRespondentsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
 
@@ -330,9 +331,11 @@ public class InstructorsLogicTest extends BaseLogicTest {
         List<FeedbackSessionAttributes> sessionsInCourse =
                 fsLogic.getFeedbackSessionsForCourse(instructorToBeUpdated.getCourseId());
         assertTrue(sessionsInCourse.stream()
-                .anyMatch(s -> s.getRespondingInstructorList().contains("new@email.tmt")));
+                .anyMatch(s -> srLogic.getInstructorRespondents(s.getFeedbackSessionName(), s.getCourseId())
+                        .contains("new@email.tmt")));
         assertFalse(sessionsInCourse.stream()
-                .anyMatch(s -> s.getRespondingInstructorList().contains(instructorToBeUpdated.getEmail())));
+                .anyMatch(s -> srLogic.getInstructorRespondents(s.getFeedbackSessionName(), s.getCourseId())
+                        .contains(instructorToBeUpdated.getEmail())));
     }
 
     private void testUpdateInstructorByGoogleIdCascade() throws Exception {
@@ -0,0 +1,208 @@
+package teammates.logic.core;
+
+import java.util.Map;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
+import teammates.storage.api.QuestionStatsDb;
+
+/**
+ * SUT: {@link QuestionStatsLogic}.
+ */
+public class QuestionStatsLogicTest extends BaseLogicTest {
+
+    private static final QuestionStatsLogic questionStatsLogic = QuestionStatsLogic.inst();
+    private static final QuestionStatsDb qsDb = new QuestionStatsDb();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    private FeedbackQuestionAttributes question;
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        DataBundle questionTypeBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(questionTypeBundle);
+
+        // MCQ question with one response of "It's good" and two responses of "It's perfect"
+        FeedbackQuestionAttributes questionInBundle = questionTypeBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        question = fqLogic.getFeedbackQuestion(questionInBundle.getFeedbackSessionName(),
+                questionInBundle.getCourseId(), questionInBundle.getQuestionNumber());
+        questionStatsLogic.invalidateResponsesTally(question.getId());
+    }
+
+    @Test
+    public void testGetResponsesTally_noStoredTally_shouldComputeAndStoreTally() {
+        assertNull(qsDb.getResponsesTally(question.getId()));
+
+        FeedbackResponsesTally tally = questionStatsLogic.getResponsesTally(question);
+
+        verifyTally(tally, 3, 1, 2);
+        verifyTally(qsDb.getResponsesTally(question.getId()), 3, 1, 2);
+    }
+
+    @Test
+    public void testGetResponsesTally_responsesChanged_shouldKeepStoredTallyUpToDate() throws Exception {
+        questionStatsLogic.getResponsesTally(question);
+
+        ______TS("response created");
+
+        FeedbackResponseAttributes newResponse = FeedbackResponseAttributes
+                .builder(question.getId(), "student4InCourse1@gmail.tmt", "student4InCourse1@gmail.tmt")
+                .withCourseId(question.getCourseId())
+                .withFeedbackSessionName(question.getFeedbackSessionName())
+                .withGiverSection("None")
+                .withRecipientSection("None")
+                .withResponseDetails(getMcqResponseDetails("It's good"))
+                .build();
+        newResponse = frLogic.createFeedbackResponse(newResponse);
+
+        verifyTally(qsDb.getResponsesTally(question.getId()), 4, 2, 2);
+
+        ______TS("response updated");
+
+        frLogic.updateFeedbackResponseCascade(
+                FeedbackResponseAttributes.updateOptionsBuilder(newResponse.getId())
+                        .withResponseDetails(getMcqResponseDetails("It's perfect"))
+                        .build());
+
+        verifyTally(qsDb.getResponsesTally(question.getId()), 4, 1, 3);
+
+        ______TS("response deleted");
+
+        frLogic.deleteFeedbackResponseCascade(newResponse.getId());
+
+        verifyTally(qsDb.getResponsesTally(question.getId()), 3, 1, 2);
+    }
+
+    @Test
+    public void testGetResponsesTally_responsesChangedWhileDeferring_shouldApplyChangesLater() throws Exception {
+        questionStatsLogic.getResponsesTally(question);
+
+        ______TS("changes made by the responses of a request are deferred and accumulated");
+
+        Map<String, FeedbackResponsesTally> deferredTallyChanges;
+        questionStatsLogic.startDeferring();
+        try {
+            FeedbackResponseAttributes newResponse = FeedbackResponseAttributes
+                    .builder(question.getId(), "student4InCourse1@gmail.tmt", "student4InCourse1@gmail.tmt")
+                    .withCourseId(question.getCourseId())
+                    .withFeedbackSessionName(question.getFeedbackSessionName())
+                    .withGiverSection("None")
+                    .withRecipientSection("None")
+                    .withResponseDetails(getMcqResponseDetails("It's good"))
+                    .build();
+            newResponse = frLogic.createFeedbackResponse(newResponse);
+            frLogic.updateFeedbackResponseCascade(
+                    FeedbackResponseAttributes.updateOptionsBuilder(newResponse.getId())
+                            .withResponseDetails(getMcqResponseDetails("It's perfect"))
+                            .build());
+            deferredTallyChanges = questionStatsLogic.stopDeferring();
+        } finally {
+            questionStatsLogic.stopDeferring();
+        }
+
+        verifyTally(qsDb.getResponsesTally(question.getId()), 3, 1, 2);
+        assertEquals(1, deferredTallyChanges.size());
+
+        ______TS("deferred changes are applied to the stored tally");
+
+        questionStatsLogic.applyResponsesTallyChanges(question.getId(), deferredTallyChanges.get(question.getId()));
+
+        verifyTally(qsDb.getResponsesTally(question.getId()), 4, 1, 3);
+    }
+
+    @Test
+    public void testReconcileResponsesTallies_driftedTally_shouldRecomputeTally() {
+        FeedbackSessionAttributes session =
+                fsLogic.getFeedbackSession(question.getFeedbackSessionName(), question.getCourseId());
+
+        ______TS("tallies which have not been computed are not computed");
+
+        assertEquals(0, questionStatsLogic.reconcileResponsesTallies(session));
+        assertNull(qsDb.getResponsesTally(question.getId()));
+
+        ______TS("drifted tally is recomputed");
+
+        qsDb.putResponsesTally(question.getId(), question.getFeedbackSessionName(), question.getCourseId(),
+                new FeedbackResponsesTally());
+
+        assertEquals(1, questionStatsLogic.reconcileResponsesTallies(session));
+        verifyTally(qsDb.getResponsesTally(question.getId()), 3, 1, 2);
+
+        ______TS("tally up to date: nothing to repair");
+
+        assertEquals(0, questionStatsLogic.reconcileResponsesTallies(session));
+    }
+
+    @Test
+    public void testGetResponsesTally_noStoredTally_responsesChangedShouldNotStoreTally() throws Exception {
+        FeedbackResponseAttributes response = frLogic.getFeedbackResponse(
+                question.getId(), "student1InCourse1@gmail.tmt", "student1InCourse1@gmail.tmt");
+        frLogic.deleteFeedbackResponseCascade(response.getId());
+
+        assertNull(qsDb.getResponsesTally(question.getId()));
+        verifyTally(questionStatsLogic.getResponsesTally(question), 2, 0, 2);
+    }
+
+    @Test
+    public void testGetResponsesTally_questionDetailsChanged_shouldDiscardStoredTally() throws Exception {
+        questionStatsLogic.getResponsesTally(question);
+
+        ______TS("question number changed");
+
+        fqLogic.updateFeedbackQuestionCascade(
+                FeedbackQuestionAttributes.updateOptionsBuilder(question.getId())
+                        .withQuestionNumber(2)
+                        .build());
+
+        assertNotNull(qsDb.getResponsesTally(question.getId()));
+
+        ______TS("question details changed");
+
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
+        questionDetails.setQuestionText("New question text");
+        fqLogic.updateFeedbackQuestionCascade(
+                FeedbackQuestionAttributes.updateOptionsBuilder(question.getId())
+                        .withQuestionDetails(questionDetails)
+                        .build());
+
+        assertNull(qsDb.getResponsesTally(question.getId()));
+    }
+
+    @Test
+    public void testGetResponsesTally_sessionDeleted_shouldDeleteStoredTally() {
+        questionStatsLogic.getResponsesTally(question);
+
+        fsLogic.deleteFeedbackSessionCascade(question.getFeedbackSessionName(), question.getCourseId());
+
+        assertNull(qsDb.getResponsesTally(question.getId()));
+    }
+
+    private void verifyTally(FeedbackResponsesTally tally, int numberOfResponses, int numberOfGood, int numberOfPerfect) {
+        assertEquals(numberOfResponses, tally.getNumberOfResponses());
+        Map<String, Integer> answerCounts = tally.getAnswerCounts(FeedbackResponsesTally.NO_DIMENSION);
+        assertEquals(numberOfGood, (int) answerCounts.getOrDefault("It's good", 0));
+        assertEquals(numberOfPerfect, (int) answerCounts.getOrDefault("It's perfect", 0));
+    }
+
+    private FeedbackMcqResponseDetails getMcqResponseDetails(String answer) {
+        FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+        responseDetails.setAnswer(answer);
+        return responseDetails;
+    }
+
+}
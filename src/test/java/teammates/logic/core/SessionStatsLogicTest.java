@@ -0,0 +1,229 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.datatransfer.SessionSubmissionStats;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.ThreadHelper;
+import teammates.storage.api.SessionStatsDb;
+
+/**
+ * SUT: {@link SessionStatsLogic}.
+ */
+public class SessionStatsLogicTest extends BaseLogicTest {
+
+    private static final SessionStatsLogic sessionStatsLogic = SessionStatsLogic.inst();
+    private static final SessionStatsDb ssDb = new SessionStatsDb();
+    private static final CourseRostersLogic courseRostersLogic = CourseRostersLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testGetExpectedTotalSubmission_noStoredStats_shouldComputeAndStoreStats() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        assertNull(ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId()));
+
+        // 5 students and 5 instructors
+        assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+        SessionSubmissionStats stats = ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId());
+        assertTrue(stats.hasQuestionsForStudents());
+        assertTrue(stats.hasQuestionsForInstructors());
+        assertTrue(stats.hasQuestionsForCreator());
+        assertEquals(10, stats.getExpectedTotalSubmission());
+        assertEquals(courseRostersLogic.getCourseRosterVersion(session.getCourseId()), stats.getRosterVersion());
+    }
+
+    @Test
+    public void testGetExpectedTotalSubmission_validStoredStats_shouldUseStoredStats() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        Long rosterVersion = courseRostersLogic.getCourseRosterVersion(session.getCourseId());
+        ssDb.putSessionStats(new SessionSubmissionStats(session.getFeedbackSessionName(), session.getCourseId(),
+                true, true, true, rosterVersion, 42));
+
+        assertEquals(42, sessionStatsLogic.getExpectedTotalSubmission(session));
+    }
+
+    @Test
+    public void testGetExpectedTotalSubmission_rosterChanged_shouldRecomputeFromStoredGiverTypes() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(session.getCourseId(), "new.student@email.tmt")
+                .withName("New Student")
+                .withTeamName("New Team")
+                .withSectionName("Section 1")
+                .withComment("")
+                .build();
+        studentsLogic.createStudent(newStudent);
+
+        assertEquals(11, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+        ______TS("stats computed from stored giver types, which do not reflect questions changed behind the logic");
+
+        ssDb.putSessionStats(new SessionSubmissionStats(session.getFeedbackSessionName(), session.getCourseId(),
+                true, false, false, null, 0));
+
+        // only the students are expected to submit
+        assertEquals(6, sessionStatsLogic.getExpectedTotalSubmission(session));
+    }
+
+    @Test
+    public void testGetExpectedTotalSubmission_rosterVersionUnknown_shouldRecomputeWithoutStoringStats() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        Long rosterVersion = courseRostersLogic.getCourseRosterVersion(session.getCourseId());
+        ssDb.putSessionStats(new SessionSubmissionStats(session.getFeedbackSessionName(), session.getCourseId(),
+                true, true, true, rosterVersion, 42));
+
+        // a version which cannot be read, as when Memcache is unavailable
+        MemcacheService memcache = MemcacheServiceFactory.getMemcacheService();
+        memcache.put("courseRosterVersion:" + session.getCourseId(), "unreadable version");
+        try {
+            assertNull(courseRostersLogic.getCourseRosterVersion(session.getCourseId()));
+
+            assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+            SessionSubmissionStats stats =
+                    ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId());
+            assertEquals(42, stats.getExpectedTotalSubmission());
+            assertEquals(rosterVersion, stats.getRosterVersion());
+        } finally {
+            memcache.put("courseRosterVersion:" + session.getCourseId(), rosterVersion);
+        }
+    }
+
+    @Test
+    public void testGetExpectedTotalSubmission_onlyCreatorHasQuestions_shouldOnlyExpectCreator() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session2InCourse2");
+        assertEquals(1, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+        ______TS("creator removed from the course");
+
+        InstructorAttributes creator = dataBundle.instructors.get("instructor1OfCourse2");
+        instructorsLogic.deleteInstructorCascade(creator.getCourseId(), creator.getEmail());
+
+        assertEquals(0, sessionStatsLogic.getExpectedTotalSubmission(session));
+    }
+
+    @Test
+    public void testGetExpectedTotalSubmission_questionsChanged_shouldDiscardStoredStats() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+        ______TS("question deleted");
+
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(
+                session.getFeedbackSessionName(), session.getCourseId(), 4);
+        fqLogic.deleteFeedbackQuestionCascade(question.getId());
+
+        assertNull(ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId()));
+        assertEquals(1, ssDb.getInvalidationCount(session.getFeedbackSessionName(), session.getCourseId()));
+        // only the creator is expected to submit among the instructors
+        assertEquals(6, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+        ______TS("question created");
+
+        question.setId(null);
+        question.setQuestionNumber(4);
+        fqLogic.createFeedbackQuestion(question);
+
+        assertNull(ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId()));
+        assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+    }
+
+    @Test
+    public void testReconcileSessionStats_driftedStats_shouldRepairStats() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("no stored stats");
+
+        assertFalse(sessionStatsLogic.reconcileSessionStats(session));
+        assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+
+        ______TS("up-to-date stats");
+
+        assertFalse(sessionStatsLogic.reconcileSessionStats(session));
+
+        ______TS("drifted stats");
+
+        Long rosterVersion = courseRostersLogic.getCourseRosterVersion(session.getCourseId());
+        ssDb.putSessionStats(new SessionSubmissionStats(session.getFeedbackSessionName(), session.getCourseId(),
+                true, false, true, rosterVersion, 6));
+
+        assertTrue(sessionStatsLogic.reconcileSessionStats(session));
+        assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+    }
+
+    @Test
+    public void testReconcileSessionStats_invalidatedDuringReconciliation_shouldNotStoreStats() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        Long rosterVersion = courseRostersLogic.getCourseRosterVersion(session.getCourseId());
+        ssDb.putSessionStats(new SessionSubmissionStats(session.getFeedbackSessionName(), session.getCourseId(),
+                true, true, true, rosterVersion, 10));
+
+        // stats computed before an invalidation, as a reconciliation racing with a question change would
+        SessionSubmissionStats staleStats =
+                ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId());
+        sessionStatsLogic.invalidateSessionStats(session.getFeedbackSessionName(), session.getCourseId());
+
+        assertFalse(ssDb.putSessionStats(staleStats));
+        assertNull(ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId()));
+        assertEquals(10, sessionStatsLogic.getExpectedTotalSubmission(session));
+        assertNotNull(ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId()));
+    }
+
+    @Test
+    public void testGetSessionsWithStatsUpdatedSince_shouldReturnSessionsWithComputedOrInvalidatedStats() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionAttributes otherSession = dataBundle.feedbackSessions.get("session2InCourse1");
+        Instant start = Instant.now().minusSeconds(60);
+
+        sessionStatsLogic.getExpectedTotalSubmission(session);
+        sessionStatsLogic.invalidateSessionStats(otherSession.getFeedbackSessionName(), otherSession.getCourseId());
+
+        List<FeedbackSessionAttributes> sessions = sessionStatsLogic.getSessionsWithStatsUpdatedSince(start);
+        assertTrue(sessions.contains(fsLogic.getFeedbackSession(
+                session.getFeedbackSessionName(), session.getCourseId())));
+        assertTrue(sessions.contains(fsLogic.getFeedbackSession(
+                otherSession.getFeedbackSessionName(), otherSession.getCourseId())));
+
+        ______TS("up-to-date stats are not rewritten by reconciliation");
+
+        // ensure that the reconciliation falls after the updates above even at millisecond precision
+        ThreadHelper.waitFor(5);
+        Instant afterUpdates = Instant.now();
+        assertFalse(sessionStatsLogic.reconcileSessionStats(session));
+        assertFalse(sessionStatsLogic.getSessionsWithStatsUpdatedSince(afterUpdates).contains(
+                fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId())));
+    }
+
+    @Test
+    public void testDeleteFeedbackSessionCascade_shouldDeleteStats() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        sessionStatsLogic.getExpectedTotalSubmission(session);
+
+        fsLogic.deleteFeedbackSessionCascade(session.getFeedbackSessionName(), session.getCourseId());
+
+        assertNull(ssDb.getSessionStats(session.getFeedbackSessionName(), session.getCourseId()));
+    }
+
+}
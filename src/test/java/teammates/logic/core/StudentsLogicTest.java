@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
@@ -9,6 +10,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentsEnrollmentResult;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -31,6 +33,7 @@ public class StudentsLogicTest extends BaseLogicTest {
     private static CoursesLogic coursesLogic = CoursesLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static SessionRespondentsLogic srLogic = SessionRespondentsLogic.inst();
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
 
     @Override
@@ -251,6 +254,38 @@ public class StudentsLogicTest extends BaseLogicTest {
         assertNull(responseToBeDeleted);
     }
 
+    @Test
+    public void testEnrollStudents_teamChanged_shouldDeleteOldResponsesWithinTheTeamOnlyWhenCascaded() {
+        StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
+
+        FeedbackResponseAttributes responseToBeDeleted = dataBundle.feedbackResponses.get("response2ForQ2S2C1");
+        FeedbackQuestionAttributes feedbackQuestionInDb =
+                fqLogic.getFeedbackQuestion(responseToBeDeleted.feedbackSessionName,
+                        responseToBeDeleted.courseId,
+                        Integer.parseInt(responseToBeDeleted.feedbackQuestionId));
+        String giver = responseToBeDeleted.giver;
+        String recipient = responseToBeDeleted.recipient;
+
+        StudentAttributes studentToEnroll = student1InCourse1.getCopy();
+        studentToEnroll.team = student1InCourse1.getTeam() + "tmp";
+        StudentsEnrollmentResult result =
+                studentsLogic.enrollStudents(Arrays.asList(studentToEnroll), student1InCourse1.getCourse());
+
+        assertEquals(1, result.getEnrolledStudents().size());
+        assertEquals(studentToEnroll.getTeam(), studentsLogic.getStudentForEmail(
+                student1InCourse1.getCourse(), student1InCourse1.getEmail()).getTeam());
+        assertEquals(1, result.getChanges().size());
+        assertTrue(result.getChanges().get(0).isTeamChanged());
+        assertFalse(result.getChanges().get(0).isSectionChanged());
+
+        // response still exists until the change is cascaded
+        assertNotNull(frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(), giver, recipient));
+
+        studentsLogic.updateFeedbackResponsesForEnrollmentChanges(student1InCourse1.getCourse(), result.getChanges());
+
+        assertNull(frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(), giver, recipient));
+    }
+
     @Test
     public void testRegenerateStudentRegistrationKey() throws Exception {
         ______TS("typical regeneration of course student's registration key");
@@ -525,8 +560,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         // suppose the instructor is in the respondent list
         fsLogic.addInstructorRespondent(fra.giver, fra.feedbackSessionName, fra.courseId);
         assertTrue(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId).contains(fra.giver));
 
         // after the student is moved from the course
         // team response will also be removed
@@ -536,8 +570,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         assertNull(frLogic.getFeedbackResponse(fra.getId()));
         // the instructor will be removed from the respondents list
         assertFalse(
-                fsLogic.getFeedbackSession(fra.feedbackSessionName, fra.courseId)
-                        .getRespondingInstructorList().contains(fra.giver));
+                srLogic.getInstructorRespondents(fra.feedbackSessionName, fra.courseId).contains(fra.giver));
     }
 
     @Test
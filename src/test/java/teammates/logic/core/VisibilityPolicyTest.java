@@ -0,0 +1,185 @@
+package teammates.logic.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link VisibilityPolicy}.
+ */
+public class VisibilityPolicyTest extends BaseTestCase {
+
+    private static final String COURSE_ID = "VisibilityPolicyTest.course";
+    private static final String SESSION_NAME = "session";
+
+    private final StudentAttributes student1 = getStudent("student1@email.tmt", "Team 1", "Section 1");
+    private final StudentAttributes student2 = getStudent("student2@email.tmt", "Team 1", "Section 1");
+    private final StudentAttributes student3 = getStudent("student3@email.tmt", "Team 2", "Section 2");
+    private final InstructorAttributes instructor = InstructorAttributes.builder(COURSE_ID, "instructor@email.tmt")
+            .withRole(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER)
+            .build();
+    private final CourseRoster roster = new CourseRoster(
+            Arrays.asList(student1, student2, student3), Collections.singletonList(instructor));
+
+    @Test
+    public void testIsResponseVisibleTo_instructor() {
+        VisibilityPolicy policy = VisibilityPolicy.compile(getQuestion(FeedbackParticipantType.STUDENTS,
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS), Collections.emptyList()));
+        FeedbackResponseAttributes responseInSection1 = getResponse(student1, student2);
+        FeedbackResponseAttributes responseAcrossSections = getResponse(student1, student3);
+
+        ______TS("instructor with privileges for all sections");
+
+        ResultsViewer viewer = new ResultsViewer(instructor.getEmail(), UserRole.INSTRUCTOR, null,
+                Collections.emptySet(), instructor, roster, SESSION_NAME);
+        assertTrue(policy.isResponseVisibleTo(viewer, responseInSection1));
+        assertTrue(policy.isResponseVisibleTo(viewer, responseAcrossSections));
+
+        ______TS("instructor restricted from a section cannot view responses to or from the section");
+
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        privileges.updatePrivilege("Section 2", SESSION_NAME,
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        InstructorAttributes restrictedInstructor = InstructorAttributes.builder(COURSE_ID, instructor.getEmail())
+                .withPrivileges(privileges)
+                .build();
+        viewer = new ResultsViewer(instructor.getEmail(), UserRole.INSTRUCTOR, null,
+                Collections.emptySet(), restrictedInstructor, roster, SESSION_NAME);
+        assertTrue(policy.isResponseVisibleTo(viewer, responseInSection1));
+        assertFalse(policy.isResponseVisibleTo(viewer, responseAcrossSections));
+        assertTrue(viewer.canViewSection("Section 1"));
+        assertFalse(viewer.canViewSection("Section 2"));
+
+        ______TS("responses not shown to instructors");
+
+        policy = VisibilityPolicy.compile(getQuestion(FeedbackParticipantType.STUDENTS,
+                Arrays.asList(FeedbackParticipantType.RECEIVER), Collections.emptyList()));
+        assertFalse(policy.isResponseVisibleTo(viewer, responseInSection1));
+    }
+
+    @Test
+    public void testIsResponseVisibleTo_student() {
+        FeedbackResponseAttributes response = getResponse(student1, student3);
+        ResultsViewer giver = getStudentViewer(student1);
+        ResultsViewer giverTeammate = getStudentViewer(student2);
+        ResultsViewer recipient = getStudentViewer(student3);
+
+        ______TS("responses shown to the recipient only");
+
+        VisibilityPolicy policy = VisibilityPolicy.compile(getQuestion(FeedbackParticipantType.STUDENTS,
+                Arrays.asList(FeedbackParticipantType.RECEIVER), Collections.emptyList()));
+        assertTrue(policy.isResponseVisibleTo(giver, response));
+        assertFalse(policy.isResponseVisibleTo(giverTeammate, response));
+        assertTrue(policy.isResponseVisibleTo(recipient, response));
+
+        ______TS("responses shown to the team members of the giver");
+
+        policy = VisibilityPolicy.compile(getQuestion(FeedbackParticipantType.STUDENTS,
+                Arrays.asList(FeedbackParticipantType.OWN_TEAM_MEMBERS), Collections.emptyList()));
+        assertTrue(policy.isResponseVisibleTo(giverTeammate, response));
+        assertFalse(policy.isResponseVisibleTo(recipient, response));
+
+        ______TS("responses shown to all students");
+
+        policy = VisibilityPolicy.compile(getQuestion(FeedbackParticipantType.STUDENTS,
+                Arrays.asList(FeedbackParticipantType.STUDENTS), Collections.emptyList()));
+        assertTrue(policy.isResponseVisibleTo(giverTeammate, response));
+        assertTrue(policy.isResponseVisibleTo(recipient, response));
+    }
+
+    @Test
+    public void testIsNameVisibleTo() {
+        FeedbackResponseAttributes response = getResponse(student1, student3);
+        VisibilityPolicy policy = VisibilityPolicy.compile(getQuestion(FeedbackParticipantType.STUDENTS,
+                Arrays.asList(FeedbackParticipantType.RECEIVER, FeedbackParticipantType.INSTRUCTORS),
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS)));
+
+        ______TS("giver can always see the names");
+
+        ResultsViewer giver = getStudentViewer(student1);
+        assertTrue(policy.isNameVisibleTo(giver, response, true));
+        assertTrue(policy.isNameVisibleTo(giver, response, false));
+
+        ______TS("recipient can only see the names shown to the recipient");
+
+        ResultsViewer recipient = getStudentViewer(student3);
+        assertTrue(policy.isNameVisibleTo(recipient, response, true));
+        assertFalse(policy.isNameVisibleTo(recipient, response, false));
+
+        ______TS("instructor of the course can see the names shown to instructors");
+
+        ResultsViewer instructorViewer =
+                ResultsViewer.withoutTeamOrPrivileges(instructor.getEmail(), UserRole.INSTRUCTOR, roster);
+        assertTrue(policy.isNameVisibleTo(instructorViewer, response, true));
+        assertTrue(policy.isNameVisibleTo(instructorViewer, response, false));
+
+        ______TS("instructor not in the course cannot see the names shown to instructors");
+
+        ResultsViewer otherInstructorViewer =
+                ResultsViewer.withoutTeamOrPrivileges("other@email.tmt", UserRole.INSTRUCTOR, roster);
+        assertFalse(policy.isNameVisibleTo(otherInstructorViewer, response, true));
+    }
+
+    private StudentAttributes getStudent(String email, String team, String section) {
+        return StudentAttributes.builder(COURSE_ID, email)
+                .withName(email)
+                .withTeamName(team)
+                .withSectionName(section)
+                .build();
+    }
+
+    private ResultsViewer getStudentViewer(StudentAttributes student) {
+        Set<String> teammateEmails = new HashSet<>();
+        for (StudentAttributes other : roster.getTeamToMembersTable().get(student.getTeam())) {
+            teammateEmails.add(other.getEmail());
+        }
+        return new ResultsViewer(student.getEmail(), UserRole.STUDENT, student, teammateEmails, null,
+                roster, SESSION_NAME);
+    }
+
+    private FeedbackQuestionAttributes getQuestion(FeedbackParticipantType recipientType,
+                                                   List<FeedbackParticipantType> showResponsesAndGiverNameTo,
+                                                   List<FeedbackParticipantType> showRecipientNameTo) {
+        return FeedbackQuestionAttributes.builder()
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(SESSION_NAME)
+                .withQuestionDetails(new FeedbackTextQuestionDetails("question"))
+                .withQuestionNumber(1)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(recipientType)
+                .withNumberOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withShowResponsesTo(showResponsesAndGiverNameTo)
+                .withShowGiverNameTo(showResponsesAndGiverNameTo)
+                .withShowRecipientNameTo(showRecipientNameTo)
+                .build();
+    }
+
+    private FeedbackResponseAttributes getResponse(StudentAttributes giver, StudentAttributes recipient) {
+        return FeedbackResponseAttributes.builder("questionId", giver.getEmail(), recipient.getEmail())
+                .withCourseId(COURSE_ID)
+                .withFeedbackSessionName(SESSION_NAME)
+                .withGiverSection(giver.getSection())
+                .withRecipientSection(recipient.getSection())
+                .withResponseDetails(new FeedbackTextResponseDetails("answer"))
+                .build();
+    }
+
+}
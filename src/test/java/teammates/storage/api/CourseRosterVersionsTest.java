@@ -0,0 +1,85 @@
+package teammates.storage.api;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.test.BaseComponentTestCase;
+
+/**
+ * SUT: {@link CourseRosterVersions}.
+ */
+public class CourseRosterVersionsTest extends BaseComponentTestCase {
+
+    private CourseRosterVersions courseRosterVersions = new CourseRosterVersions();
+    private StudentsDb studentsDb = new StudentsDb();
+
+    @Test
+    public void testGetVersion() {
+        ______TS("version is stable until bumped");
+
+        Long version = courseRosterVersions.getVersion("CRVT.course");
+        assertNotNull(version);
+        assertEquals(version, courseRosterVersions.getVersion("CRVT.course"));
+
+        ______TS("versions of different courses are independent");
+
+        Long otherVersion = courseRosterVersions.getVersion("CRVT.otherCourse");
+        courseRosterVersions.bumpVersion("CRVT.otherCourse");
+
+        assertNotEquals(otherVersion, courseRosterVersions.getVersion("CRVT.otherCourse"));
+        assertEquals(version, courseRosterVersions.getVersion("CRVT.course"));
+
+        ______TS("failure: null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> courseRosterVersions.getVersion(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
+    @Test
+    public void testBumpVersion() throws Exception {
+        StudentAttributes student = StudentAttributes.builder("CRVT.course2", "student@crvt.tmt")
+                .withName("CRVT Student")
+                .withSectionName("None")
+                .withTeamName("Team 1")
+                .withComment("")
+                .build();
+        studentsDb.deleteStudent(student.getCourse(), student.getEmail());
+
+        ______TS("version is bumped by creation of student");
+
+        Long version = courseRosterVersions.getVersion(student.getCourse());
+        studentsDb.createEntity(student);
+
+        Long versionAfterCreation = courseRosterVersions.getVersion(student.getCourse());
+        assertNotEquals(version, versionAfterCreation);
+
+        ______TS("version is bumped by update of student");
+
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
+                        .withName("New CRVT Student")
+                        .build());
+
+        Long versionAfterUpdate = courseRosterVersions.getVersion(student.getCourse());
+        assertNotEquals(versionAfterCreation, versionAfterUpdate);
+
+        ______TS("version is bumped by deletion of student");
+
+        studentsDb.deleteStudent(student.getCourse(), student.getEmail());
+
+        assertNotEquals(versionAfterUpdate, courseRosterVersions.getVersion(student.getCourse()));
+
+        ______TS("version is reinitialized after being bumped while absent");
+
+        courseRosterVersions.bumpVersion("CRVT.newCourse");
+
+        assertNotNull(courseRosterVersions.getVersion("CRVT.newCourse"));
+
+        ______TS("failure: null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> courseRosterVersions.bumpVersion(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
+}
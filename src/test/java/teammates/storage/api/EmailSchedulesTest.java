@@ -0,0 +1,70 @@
+package teammates.storage.api;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.test.BaseComponentTestCase;
+
+/**
+ * SUT: {@link EmailSchedules}.
+ */
+public class EmailSchedulesTest extends BaseComponentTestCase {
+
+    private static final long MILLIS_PER_MINUTE = 60 * 1000L;
+
+    private EmailSchedules emailSchedules = new EmailSchedules();
+
+    @Test
+    public void testReserveSendingTime() {
+        long now = 1_000_000L;
+
+        ______TS("nothing reserved: reservation starts now");
+
+        assertEquals(0, emailSchedules.getScheduleEnd("EST.service"));
+        assertEquals(now, emailSchedules.reserveSendingTime("EST.service", 500, now));
+        assertEquals(now + 500, emailSchedules.getScheduleEnd("EST.service"));
+
+        ______TS("reservation starts after the time already reserved");
+
+        assertEquals(now + 500, emailSchedules.reserveSendingTime("EST.service", 300, now + 100));
+        assertEquals(now + 800, emailSchedules.getScheduleEnd("EST.service"));
+
+        ______TS("reservation starts now if the time reserved has passed");
+
+        assertEquals(now + 1000, emailSchedules.reserveSendingTime("EST.service", 200, now + 1000));
+        assertEquals(now + 1200, emailSchedules.getScheduleEnd("EST.service"));
+
+        ______TS("schedules of different services are independent");
+
+        assertEquals(now, emailSchedules.reserveSendingTime("EST.otherService", 100, now));
+        assertEquals(now + 1200, emailSchedules.getScheduleEnd("EST.service"));
+
+        ______TS("failure: null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> emailSchedules.reserveSendingTime(null, 100, now));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
+    @Test
+    public void testRecordEmailsSent() {
+        long now = 100 * MILLIS_PER_MINUTE;
+
+        emailSchedules.recordEmailsSent("EST.service2", 3, now - 3 * MILLIS_PER_MINUTE);
+        emailSchedules.recordEmailsSent("EST.service2", 2, now - MILLIS_PER_MINUTE);
+        emailSchedules.recordEmailsSent("EST.service2", 4, now - 1);
+        emailSchedules.recordEmailsSent("EST.service2", 5, now);
+        emailSchedules.recordEmailsSent("EST.otherService2", 7, now - 1);
+
+        ______TS("only emails sent in the whole minutes before the current minute are counted");
+
+        assertEquals(6, emailSchedules.getNumberOfEmailsSent("EST.service2", 1, now));
+        assertEquals(9, emailSchedules.getNumberOfEmailsSent("EST.service2", 3, now));
+        assertEquals(0, emailSchedules.getNumberOfEmailsSent("EST.service2", 0, now));
+
+        ______TS("failure: null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> emailSchedules.recordEmailsSent(null, 1, now));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
+}
@@ -12,6 +12,7 @@ import org.testng.collections.Lists;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponseRef;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -641,4 +642,69 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         assertEquals(0, comments.size());
     }
 
+    @Test
+    public void testGetFeedbackResponseCommentsForResponses_typicalCase_shouldQueryCorrectly() {
+        List<String> responseIds = new ArrayList<>();
+        // more responses than allowed in a single query, most of which have no comments
+        for (int i = 0; i < 2 * EntitiesDb.MAX_VALUES_PER_IN_FILTER; i++) {
+            responseIds.add("responseWithoutComments" + i);
+        }
+        responseIds.add(frcaData.feedbackResponseId);
+        responseIds.add(anotherFrcaData.feedbackResponseId);
+        // a response listed twice has its comments returned once
+        responseIds.add(frcaData.feedbackResponseId);
+
+        List<FeedbackResponseCommentAttributes> expectedComments = new ArrayList<>();
+        expectedComments.addAll(frcDb.getFeedbackResponseCommentsForResponse(frcaData.feedbackResponseId));
+        expectedComments.addAll(frcDb.getFeedbackResponseCommentsForResponse(anotherFrcaData.feedbackResponseId));
+
+        verifyListsContainSameResponseCommentAttributes(expectedComments,
+                frcDb.getFeedbackResponseCommentsForResponses(responseIds));
+
+        ______TS("no responses");
+
+        assertTrue(frcDb.getFeedbackResponseCommentsForResponses(new ArrayList<>()).isEmpty());
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frcDb.getFeedbackResponseCommentsForResponses(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
+    @Test
+    public void testUpdateSectionsOfCommentsForResponses_shouldMatchSectionsOfResponses() {
+        List<FeedbackResponseRef> responses = new ArrayList<>();
+        // more responses than allowed in a single query, most of which have no comments
+        for (int i = 0; i < 2 * EntitiesDb.MAX_VALUES_PER_IN_FILTER; i++) {
+            responses.add(new FeedbackResponseRef("responseWithoutComments" + i, frcaData.feedbackSessionName,
+                    frcaData.courseId, frcaData.feedbackQuestionId, "giver", "Section A", "recipient", "Section B"));
+        }
+        responses.add(new FeedbackResponseRef(frcaData.feedbackResponseId, frcaData.feedbackSessionName,
+                frcaData.courseId, frcaData.feedbackQuestionId, "giver", "New Giver Section",
+                "recipient", "New Receiver Section"));
+        responses.add(new FeedbackResponseRef(anotherFrcaData.feedbackResponseId, anotherFrcaData.feedbackSessionName,
+                anotherFrcaData.courseId, anotherFrcaData.feedbackQuestionId, "giver", anotherFrcaData.giverSection,
+                "recipient", anotherFrcaData.receiverSection));
+
+        frcDb.updateSectionsOfCommentsForResponses(responses);
+
+        FeedbackResponseCommentAttributes updatedComment = frcDb.getFeedbackResponseComment(frcaData.getId());
+        assertEquals("New Giver Section", updatedComment.getGiverSection());
+        assertEquals("New Receiver Section", updatedComment.getReceiverSection());
+
+        FeedbackResponseCommentAttributes unchangedComment = frcDb.getFeedbackResponseComment(anotherFrcaData.getId());
+        assertEquals(anotherFrcaData.giverSection, unchangedComment.getGiverSection());
+        assertEquals(anotherFrcaData.receiverSection, unchangedComment.getReceiverSection());
+
+        ______TS("no responses");
+
+        frcDb.updateSectionsOfCommentsForResponses(new ArrayList<>());
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> frcDb.updateSectionsOfCommentsForResponses(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
 }
@@ -1,8 +1,12 @@
 package teammates.storage.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -13,6 +17,8 @@ import com.google.common.collect.Sets;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackResponseRef;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -389,6 +395,48 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         assertTrue(frDb.getFeedbackResponsesForQuestion("non-existent fq id").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForQuestion_withCursor() {
+        String questionId = fras.get("response1ForQ1S1C1").feedbackQuestionId;
+        List<FeedbackResponseAttributes> allResponses = frDb.getFeedbackResponsesForQuestion(questionId);
+
+        ______TS("pages cover all responses in order of giver and recipient");
+
+        FeedbackResponsesPage firstPage = frDb.getFeedbackResponsesForQuestion(questionId, null, 1);
+        assertEquals(1, firstPage.getResponses().size());
+        assertNotNull(firstPage.getNextCursor());
+
+        FeedbackResponsesPage secondPage = frDb.getFeedbackResponsesForQuestion(questionId, firstPage.getNextCursor(), 1);
+        assertEquals(1, secondPage.getResponses().size());
+
+        List<String> pagedResponseIds = new ArrayList<>();
+        pagedResponseIds.add(firstPage.getResponses().get(0).getId());
+        pagedResponseIds.add(secondPage.getResponses().get(0).getId());
+        List<String> expectedResponseIds = allResponses.stream()
+                .map(FeedbackResponseAttributes::getId)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(expectedResponseIds, pagedResponseIds);
+
+        ______TS("a full last page is followed by an empty page");
+
+        assertNotNull(secondPage.getNextCursor());
+        FeedbackResponsesPage lastPage = frDb.getFeedbackResponsesForQuestion(questionId, secondPage.getNextCursor(), 1);
+        assertTrue(lastPage.getResponses().isEmpty());
+        assertNull(lastPage.getNextCursor());
+
+        ______TS("page larger than the number of responses");
+
+        FeedbackResponsesPage onlyPage = frDb.getFeedbackResponsesForQuestion(questionId, null, 10);
+        assertEquals(allResponses.size(), onlyPage.getResponses().size());
+        assertNull(onlyPage.getNextCursor());
+
+        ______TS("invalid cursor");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> frDb.getFeedbackResponsesForQuestion(questionId, "invalid cursor", 1));
+    }
+
     @Test
     public void testGetFeedbackResponsesForQuestionInSection() {
 
@@ -581,6 +629,132 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponseRefsFromGiverForCourse() {
+
+        ______TS("standard success case");
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+
+        List<FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponsesFromGiverForCourse(courseId, "student1InCourse1@gmail.tmt");
+        List<FeedbackResponseRef> refs =
+                frDb.getFeedbackResponseRefsFromGiverForCourse(courseId, "student1InCourse1@gmail.tmt");
+
+        verifyRefsMatchResponses(responses, refs);
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponseRefsFromGiverForCourse(null, "student1InCourse1@gmail.tmt"));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class, () -> frDb.getFeedbackResponseRefsFromGiverForCourse(courseId, null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ______TS("non-existent giver");
+
+        assertTrue(frDb.getFeedbackResponseRefsFromGiverForCourse(
+                courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
+    }
+
+    @Test
+    public void testGetFeedbackResponseRefsForReceiverForCourse() {
+
+        ______TS("standard success case");
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+
+        List<FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponsesForReceiverForCourse(courseId, "student1InCourse1@gmail.tmt");
+        List<FeedbackResponseRef> refs =
+                frDb.getFeedbackResponseRefsForReceiverForCourse(courseId, "student1InCourse1@gmail.tmt");
+
+        verifyRefsMatchResponses(responses, refs);
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponseRefsForReceiverForCourse(null, "student1InCourse1@gmail.tmt"));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class, () -> frDb.getFeedbackResponseRefsForReceiverForCourse(courseId, null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ______TS("non-existent receiver");
+
+        assertTrue(frDb.getFeedbackResponseRefsForReceiverForCourse(
+                courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
+    }
+
+    @Test
+    public void testUpdateSectionsOfResponsesForParticipant() {
+
+        ______TS("standard success case");
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String participant = "student1InCourse1@gmail.tmt";
+        List<FeedbackResponseAttributes> responsesFromParticipant =
+                frDb.getFeedbackResponsesFromGiverForCourse(courseId, participant);
+        List<FeedbackResponseAttributes> responsesToParticipant =
+                frDb.getFeedbackResponsesForReceiverForCourse(courseId, participant);
+
+        List<FeedbackResponseRef> refs = frDb.updateSectionsOfResponsesForParticipant(courseId, participant, "Section 9");
+
+        List<FeedbackResponseAttributes> updatedResponsesFromParticipant =
+                frDb.getFeedbackResponsesFromGiverForCourse(courseId, participant);
+        List<FeedbackResponseAttributes> updatedResponsesToParticipant =
+                frDb.getFeedbackResponsesForReceiverForCourse(courseId, participant);
+        assertEquals(responsesFromParticipant.size(), updatedResponsesFromParticipant.size());
+        assertEquals(responsesToParticipant.size(), updatedResponsesToParticipant.size());
+        assertTrue(updatedResponsesFromParticipant.stream().allMatch(r -> "Section 9".equals(r.getGiverSection())));
+        assertTrue(updatedResponsesToParticipant.stream().allMatch(r -> "Section 9".equals(r.getRecipientSection())));
+
+        // responses given by the participant to themselves are returned once only
+        Map<String, FeedbackResponseAttributes> updatedResponses = new HashMap<>();
+        updatedResponsesFromParticipant.forEach(r -> updatedResponses.put(r.getId(), r));
+        updatedResponsesToParticipant.forEach(r -> updatedResponses.put(r.getId(), r));
+        verifyRefsMatchResponses(new ArrayList<>(updatedResponses.values()), refs);
+
+        ______TS("participant without responses");
+
+        assertTrue(frDb.updateSectionsOfResponsesForParticipant(
+                courseId, "non-existentStudentInCourse1@gmail.tmt", "Section 9").isEmpty());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.updateSectionsOfResponsesForParticipant(null, participant, "Section 9"));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.updateSectionsOfResponsesForParticipant(courseId, null, "Section 9"));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.updateSectionsOfResponsesForParticipant(courseId, participant, null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
+    private void verifyRefsMatchResponses(List<FeedbackResponseAttributes> responses, List<FeedbackResponseRef> refs) {
+        assertFalse(responses.isEmpty());
+        assertEquals(responses.size(), refs.size());
+
+        Map<String, FeedbackResponseRef> refsById = refs.stream()
+                .collect(Collectors.toMap(FeedbackResponseRef::getId, ref -> ref));
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackResponseRef ref = refsById.get(response.getId());
+            assertNotNull(ref);
+            assertEquals(response.getFeedbackSessionName(), ref.getFeedbackSessionName());
+            assertEquals(response.getCourseId(), ref.getCourseId());
+            assertEquals(response.getFeedbackQuestionId(), ref.getFeedbackQuestionId());
+            assertEquals(response.getGiver(), ref.getGiver());
+            assertEquals(response.getGiverSection(), ref.getGiverSection());
+            assertEquals(response.getRecipient(), ref.getRecipient());
+            assertEquals(response.getRecipientSection(), ref.getRecipientSection());
+        }
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionInSection() {
 
@@ -615,6 +789,64 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 feedbackSessionName, "non-existent courseId", "Section 1").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesInSection_responseAcrossSections_shouldBeReturnedOnceForEachSection()
+            throws Exception {
+        ______TS("queries on the giver and the recipient section");
+
+        verifyResponseAcrossSectionsReturnedOnceForEachSection(new FeedbackResponsesDb(false));
+
+        ______TS("query on the combined sections");
+
+        verifyResponseAcrossSectionsReturnedOnceForEachSection(new FeedbackResponsesDb(true));
+    }
+
+    private void verifyResponseAcrossSectionsReturnedOnceForEachSection(FeedbackResponsesDb db) throws Exception {
+        FeedbackResponseAttributes response = getResponseAttributes("response3ForQ2S1C1");
+        response = db.getFeedbackResponse(response.getFeedbackQuestionId(), response.getGiver(), response.getRecipient());
+        String responseId = response.getId();
+
+        // response with the same giver and recipient section is returned once
+        db.updateFeedbackResponse(
+                FeedbackResponseAttributes.updateOptionsBuilder(responseId)
+                        .withGiverSection("Section A")
+                        .withRecipientSection("Section A")
+                        .build());
+
+        List<FeedbackResponseAttributes> responses = db.getFeedbackResponsesForSessionInSection(
+                response.getFeedbackSessionName(), response.getCourseId(), "Section A");
+        assertEquals(1, responses.size());
+        assertEquals(responseId, responses.get(0).getId());
+
+        // response across sections is returned once for each section
+        db.updateFeedbackResponse(
+                FeedbackResponseAttributes.updateOptionsBuilder(responseId)
+                        .withRecipientSection("Section B")
+                        .build());
+
+        for (String section : Arrays.asList("Section A", "Section B")) {
+            responses = db.getFeedbackResponsesForSessionInSection(
+                    response.getFeedbackSessionName(), response.getCourseId(), section);
+            assertEquals(1, responses.size());
+            assertEquals(responseId, responses.get(0).getId());
+
+            responses = db.getFeedbackResponsesForQuestionInSection(response.getFeedbackQuestionId(), section);
+            assertEquals(1, responses.size());
+            assertEquals(responseId, responses.get(0).getId());
+        }
+
+        // response moved out of a section is no longer returned for the section
+        db.updateFeedbackResponse(
+                FeedbackResponseAttributes.updateOptionsBuilder(responseId)
+                        .withGiverSection("Section B")
+                        .build());
+
+        assertTrue(db.getFeedbackResponsesForSessionInSection(
+                response.getFeedbackSessionName(), response.getCourseId(), "Section A").isEmpty());
+        assertEquals(1, db.getFeedbackResponsesForQuestionInSection(
+                response.getFeedbackQuestionId(), "Section B").size());
+    }
+
     @Test
     public void testUpdateFeedbackResponse_noChangeToResponse_shouldNotIssueSaveRequest() throws Exception {
         FeedbackResponseAttributes typicalResponse = getResponseAttributes("response3ForQ2S1C1");
@@ -756,7 +988,7 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 .withFeedbackSessionName(result.feedbackSessionName)
                 .withGiverSection(result.giverSection)
                 .withRecipientSection(result.recipientSection)
-                .withResponseDetails(result.responseDetails)
+                .withResponseDetails(result.getResponseDetails())
                 .build();
     }
 
@@ -0,0 +1,139 @@
+package teammates.storage.api;
+
+import java.util.Map;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
+import teammates.test.BaseComponentTestCase;
+
+/**
+ * SUT: {@link QuestionStatsDb}.
+ */
+public class QuestionStatsDbTest extends BaseComponentTestCase {
+
+    private static final QuestionStatsDb qsDb = new QuestionStatsDb();
+
+    @AfterMethod
+    public void deleteTalliesFromDb() {
+        qsDb.deleteResponsesTallies(AttributesDeletionQuery.builder().withCourseId("course1").build());
+        qsDb.deleteResponsesTallies(AttributesDeletionQuery.builder().withCourseId("course2").build());
+    }
+
+    @Test
+    public void testPutResponsesTally_typicalCase_shouldBeRetrievable() {
+        assertNull(qsDb.getResponsesTally("question1"));
+
+        qsDb.putResponsesTally("question1", "session1", "course1", getTally("A", "B", "B"));
+
+        FeedbackResponsesTally tally = qsDb.getResponsesTally("question1");
+        assertEquals(3, tally.getNumberOfResponses());
+        Map<String, Integer> answerCounts = tally.getAnswerCounts(FeedbackResponsesTally.NO_DIMENSION);
+        assertEquals(Integer.valueOf(1), answerCounts.get("A"));
+        assertEquals(Integer.valueOf(2), answerCounts.get("B"));
+
+        ______TS("existing tally is overwritten");
+
+        qsDb.putResponsesTally("question1", "session1", "course1", new FeedbackResponsesTally());
+
+        tally = qsDb.getResponsesTally("question1");
+        assertEquals(0, tally.getNumberOfResponses());
+        assertTrue(tally.getDimensions().isEmpty());
+    }
+
+    @Test
+    public void testUpdateResponsesTally_existingTally_shouldApplyUpdate() {
+        qsDb.putResponsesTally("question1", "session1", "course1", getTally("A"));
+
+        qsDb.updateResponsesTally("question1",
+                tally -> tally.addResponse(new FeedbackMcqQuestionDetails(), getResponse("B")));
+
+        FeedbackResponsesTally tally = qsDb.getResponsesTally("question1");
+        assertEquals(2, tally.getNumberOfResponses());
+        assertEquals(Integer.valueOf(1), tally.getAnswerCounts(FeedbackResponsesTally.NO_DIMENSION).get("B"));
+
+        ______TS("tally not computed: nothing is done");
+
+        qsDb.updateResponsesTally("question2",
+                tally2 -> tally2.addResponse(new FeedbackMcqQuestionDetails(), getResponse("B")));
+
+        assertNull(qsDb.getResponsesTally("question2"));
+    }
+
+    @Test
+    public void testCreateResponsesTallyIfAbsent_shouldOnlyCreateMissingTally() {
+        ______TS("tally not computed: tally is created");
+
+        assertEquals(getTally("A"), qsDb.createResponsesTallyIfAbsent("question1", "session1", "course1", getTally("A")));
+        assertTrue(qsDb.hasResponsesTally("question1"));
+        assertEquals(getTally("A"), qsDb.getResponsesTally("question1"));
+
+        ______TS("tally already computed: existing tally is kept");
+
+        assertEquals(getTally("A"), qsDb.createResponsesTallyIfAbsent("question1", "session1", "course1", getTally("B")));
+        assertEquals(getTally("A"), qsDb.getResponsesTally("question1"));
+        assertFalse(qsDb.hasResponsesTally("question2"));
+    }
+
+    @Test
+    public void testDeleteResponsesTallies_byQuery_shouldDeleteMatchingTallies() {
+        qsDb.putResponsesTally("question1", "session1", "course1", getTally("A"));
+        qsDb.putResponsesTally("question2", "session2", "course1", getTally("A"));
+        qsDb.putResponsesTally("question3", "session1", "course2", getTally("A"));
+
+        qsDb.deleteResponsesTallies(AttributesDeletionQuery.builder().withQuestionId("question1").build());
+
+        assertNull(qsDb.getResponsesTally("question1"));
+        assertNotNull(qsDb.getResponsesTally("question2"));
+
+        qsDb.deleteResponsesTallies(AttributesDeletionQuery.builder()
+                .withCourseId("course1")
+                .withFeedbackSessionName("session2")
+                .build());
+
+        assertNull(qsDb.getResponsesTally("question2"));
+        assertNotNull(qsDb.getResponsesTally("question3"));
+
+        ______TS("deleting non-existent tally fails silently");
+
+        qsDb.deleteResponsesTally("question1");
+
+        assertNull(qsDb.getResponsesTally("question1"));
+    }
+
+    @Test
+    public void testAllMethods_withNullInput_shouldFailWithAssertionError() {
+        assertThrows(AssertionError.class, () -> qsDb.getResponsesTally(null));
+        assertThrows(AssertionError.class,
+                () -> qsDb.putResponsesTally(null, "session1", "course1", new FeedbackResponsesTally()));
+        assertThrows(AssertionError.class, () -> qsDb.putResponsesTally("question1", "session1", "course1", null));
+        assertThrows(AssertionError.class,
+                () -> qsDb.createResponsesTallyIfAbsent("question1", "session1", null, new FeedbackResponsesTally()));
+        assertThrows(AssertionError.class, () -> qsDb.hasResponsesTally(null));
+        assertThrows(AssertionError.class, () -> qsDb.updateResponsesTally("question1", null));
+        assertThrows(AssertionError.class, () -> qsDb.deleteResponsesTally(null));
+        assertThrows(AssertionError.class, () -> qsDb.deleteResponsesTallies(null));
+    }
+
+    private FeedbackResponsesTally getTally(String... answers) {
+        FeedbackResponsesTally tally = new FeedbackResponsesTally();
+        for (String answer : answers) {
+            tally.addResponse(new FeedbackMcqQuestionDetails(), getResponse(answer));
+        }
+        return tally;
+    }
+
+    private FeedbackResponseAttributes getResponse(String answer) {
+        FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+        responseDetails.setAnswer(answer);
+        return FeedbackResponseAttributes.builder("question1", "giver@email.tmt", "recipient@email.tmt")
+                .withResponseDetails(responseDetails)
+                .build();
+    }
+
+}
@@ -0,0 +1,142 @@
+package teammates.storage.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Sets;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.test.BaseComponentTestCase;
+
+/**
+ * SUT: {@link SessionRespondentsDb}.
+ */
+public class SessionRespondentsDbTest extends BaseComponentTestCase {
+
+    private static final SessionRespondentsDb srDb = new SessionRespondentsDb();
+
+    @AfterMethod
+    public void deleteRespondentsFromDb() {
+        srDb.deleteRespondents(AttributesDeletionQuery.builder().withCourseId("course1").build());
+        srDb.deleteRespondents(AttributesDeletionQuery.builder().withCourseId("course2").build());
+    }
+
+    @Test
+    public void testAddRespondent_typicalCase_shouldBeRecordedPerRole() {
+        srDb.addRespondent("course1", "session1", "student@email.com", false);
+        srDb.addRespondent("course1", "session1", "instructor@email.com", true);
+
+        assertTrue(srDb.isRespondent("course1", "session1", "student@email.com", false));
+        assertFalse(srDb.isRespondent("course1", "session1", "student@email.com", true));
+        assertTrue(srDb.isRespondent("course1", "session1", "instructor@email.com", true));
+        assertFalse(srDb.isRespondent("course1", "session2", "student@email.com", false));
+
+        assertEquals(Sets.newHashSet("student@email.com"), srDb.getRespondents("course1", "session1", false));
+        assertEquals(Sets.newHashSet("instructor@email.com"), srDb.getRespondents("course1", "session1", true));
+        assertEquals(2, srDb.getNumberOfRespondents("course1", "session1"));
+
+        ______TS("adding an existing respondent again does not duplicate it");
+
+        srDb.addRespondent("course1", "session1", "student@email.com", false);
+
+        assertEquals(2, srDb.getNumberOfRespondents("course1", "session1"));
+    }
+
+    @Test
+    public void testAddRespondents_typicalCase_shouldAddAllInBatch() {
+        srDb.addRespondents("course1", "session1", Arrays.asList("a@email.com", "b@email.com"), false);
+        srDb.addRespondents("course1", "session1", Collections.emptyList(), true);
+
+        assertEquals(Sets.newHashSet("a@email.com", "b@email.com"), srDb.getRespondents("course1", "session1", false));
+        assertTrue(srDb.getRespondents("course1", "session1", true).isEmpty());
+        assertEquals(2, srDb.getNumberOfRespondents("course1", "session1"));
+    }
+
+    @Test
+    public void testRemoveRespondent_typicalCase_shouldOnlyRemoveFromGivenSession() {
+        srDb.addRespondent("course1", "session1", "student@email.com", false);
+        srDb.addRespondent("course1", "session2", "student@email.com", false);
+
+        srDb.removeRespondent("course1", "session1", "student@email.com", false);
+
+        assertFalse(srDb.isRespondent("course1", "session1", "student@email.com", false));
+        assertTrue(srDb.isRespondent("course1", "session2", "student@email.com", false));
+
+        ______TS("removing a non-existent respondent fails silently");
+
+        srDb.removeRespondent("course1", "session1", "student@email.com", false);
+
+        assertFalse(srDb.isRespondent("course1", "session1", "student@email.com", false));
+    }
+
+    @Test
+    public void testRemoveRespondentFromCourse_typicalCase_shouldRemoveFromAllSessionsInCourse() {
+        srDb.addRespondent("course1", "session1", "user@email.com", false);
+        srDb.addRespondent("course1", "session2", "user@email.com", false);
+        srDb.addRespondent("course1", "session1", "user@email.com", true);
+        srDb.addRespondent("course2", "session1", "user@email.com", false);
+
+        srDb.removeRespondentFromCourse("course1", "user@email.com", false);
+
+        assertFalse(srDb.isRespondent("course1", "session1", "user@email.com", false));
+        assertFalse(srDb.isRespondent("course1", "session2", "user@email.com", false));
+        // respondents of other roles and other courses are not affected
+        assertTrue(srDb.isRespondent("course1", "session1", "user@email.com", true));
+        assertTrue(srDb.isRespondent("course2", "session1", "user@email.com", false));
+    }
+
+    @Test
+    public void testUpdateRespondentEmail_typicalCase_shouldUpdateAllSessionsInCourse() {
+        srDb.addRespondent("course1", "session1", "old@email.com", true);
+        srDb.addRespondent("course1", "session2", "old@email.com", true);
+        srDb.addRespondent("course2", "session1", "old@email.com", true);
+
+        srDb.updateRespondentEmail("course1", "old@email.com", "new@email.com", true);
+
+        assertEquals(Sets.newHashSet("new@email.com"), srDb.getRespondents("course1", "session1", true));
+        assertEquals(Sets.newHashSet("new@email.com"), srDb.getRespondents("course1", "session2", true));
+        assertEquals(Sets.newHashSet("old@email.com"), srDb.getRespondents("course2", "session1", true));
+
+        ______TS("updating email of a non-respondent has no effect");
+
+        srDb.updateRespondentEmail("course1", "non-existent@email.com", "another@email.com", true);
+
+        assertEquals(Sets.newHashSet("new@email.com"), srDb.getRespondents("course1", "session1", true));
+    }
+
+    @Test
+    public void testDeleteRespondents_byCourseIdAndSession_shouldDeleteOnlyRespondentsOfSession() {
+        srDb.addRespondent("course1", "session1", "student@email.com", false);
+        srDb.addRespondent("course1", "session2", "student@email.com", false);
+        srDb.addRespondent("course2", "session1", "student@email.com", false);
+
+        srDb.deleteRespondents(AttributesDeletionQuery.builder()
+                .withCourseId("course1")
+                .withFeedbackSessionName("session1")
+                .build());
+
+        assertEquals(0, srDb.getNumberOfRespondents("course1", "session1"));
+        assertEquals(1, srDb.getNumberOfRespondents("course1", "session2"));
+        assertEquals(1, srDb.getNumberOfRespondents("course2", "session1"));
+
+        srDb.deleteRespondents(AttributesDeletionQuery.builder().withCourseId("course1").build());
+
+        assertEquals(0, srDb.getNumberOfRespondents("course1", "session2"));
+        assertEquals(1, srDb.getNumberOfRespondents("course2", "session1"));
+    }
+
+    @Test
+    public void testAllMethods_withNullInput_shouldFailWithAssertionError() {
+        assertThrows(AssertionError.class, () -> srDb.addRespondent(null, "session1", "a@email.com", false));
+        assertThrows(AssertionError.class, () -> srDb.addRespondent("course1", null, "a@email.com", false));
+        assertThrows(AssertionError.class, () -> srDb.addRespondent("course1", "session1", null, false));
+        assertThrows(AssertionError.class, () -> srDb.isRespondent("course1", "session1", null, false));
+        assertThrows(AssertionError.class, () -> srDb.getNumberOfRespondents(null, "session1"));
+        assertThrows(AssertionError.class, () -> srDb.updateRespondentEmail("course1", null, "b@email.com", true));
+        assertThrows(AssertionError.class, () -> srDb.deleteRespondents(null));
+    }
+
+}
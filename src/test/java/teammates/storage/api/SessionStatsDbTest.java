@@ -0,0 +1,148 @@
+package teammates.storage.api;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.SessionSubmissionStats;
+import teammates.test.BaseComponentTestCase;
+
+/**
+ * SUT: {@link SessionStatsDb}.
+ */
+public class SessionStatsDbTest extends BaseComponentTestCase {
+
+    private static final SessionStatsDb ssDb = new SessionStatsDb();
+
+    @AfterMethod
+    public void deleteSessionStatsFromDb() {
+        ssDb.deleteSessionStats(AttributesDeletionQuery.builder().withCourseId("course1").build());
+        ssDb.deleteSessionStats(AttributesDeletionQuery.builder().withCourseId("course2").build());
+    }
+
+    @Test
+    public void testPutSessionStats_typicalCase_shouldBeRetrievable() {
+        assertNull(ssDb.getSessionStats("session1", "course1"));
+
+        ssDb.putSessionStats(new SessionSubmissionStats("session1", "course1", true, false, true, 7L, 12));
+
+        SessionSubmissionStats stats = ssDb.getSessionStats("session1", "course1");
+        assertEquals("session1", stats.getFeedbackSessionName());
+        assertEquals("course1", stats.getCourseId());
+        assertTrue(stats.hasQuestionsForStudents());
+        assertFalse(stats.hasQuestionsForInstructors());
+        assertTrue(stats.hasQuestionsForCreator());
+        assertEquals(Long.valueOf(7L), stats.getRosterVersion());
+        assertEquals(12, stats.getExpectedTotalSubmission());
+
+        ______TS("existing stats are overwritten");
+
+        ssDb.putSessionStats(new SessionSubmissionStats("session1", "course1", false, true, true, null, 3));
+
+        stats = ssDb.getSessionStats("session1", "course1");
+        assertFalse(stats.hasQuestionsForStudents());
+        assertTrue(stats.hasQuestionsForInstructors());
+        assertNull(stats.getRosterVersion());
+        assertEquals(3, stats.getExpectedTotalSubmission());
+    }
+
+    @Test
+    public void testInvalidateSessionStats_shouldRejectStatsComputedBeforeInvalidation() {
+        ssDb.putSessionStats(new SessionSubmissionStats("session1", "course1", true, true, true, 1L, 10));
+        assertEquals(0, ssDb.getInvalidationCount("session1", "course1"));
+
+        ssDb.invalidateSessionStats("session1", "course1");
+
+        assertNull(ssDb.getSessionStats("session1", "course1"));
+        assertEquals(1, ssDb.getInvalidationCount("session1", "course1"));
+
+        ______TS("stats computed before the invalidation are not stored");
+
+        assertFalse(ssDb.putSessionStats(new SessionSubmissionStats("session1", "course1", true, true, true, 1L, 10)));
+        assertNull(ssDb.getSessionStats("session1", "course1"));
+
+        ______TS("stats computed after the invalidation are stored");
+
+        assertTrue(ssDb.putSessionStats(
+                new SessionSubmissionStats("session1", "course1", true, false, true, 1L, 6, 1)));
+        SessionSubmissionStats stats = ssDb.getSessionStats("session1", "course1");
+        assertEquals(6, stats.getExpectedTotalSubmission());
+        assertEquals(1, stats.getInvalidationCount());
+
+        ______TS("stats never computed are invalidated too");
+
+        ssDb.invalidateSessionStats("session2", "course1");
+
+        assertNull(ssDb.getSessionStats("session2", "course1"));
+        assertEquals(1, ssDb.getInvalidationCount("session2", "course1"));
+        assertFalse(ssDb.putSessionStats(new SessionSubmissionStats("session2", "course1", true, true, true, 1L, 10)));
+    }
+
+    @Test
+    public void testGetSessionStatsUpdatedSince_shouldIncludeInvalidatedStats() {
+        ssDb.putSessionStats(new SessionSubmissionStats("session1", "course1", true, true, true, 1L, 10));
+        ssDb.invalidateSessionStats("session2", "course1");
+
+        List<SessionSubmissionStats> updatedStats = ssDb.getSessionStatsUpdatedSince(Instant.now().minusSeconds(60));
+        assertTrue(updatedStats.stream().anyMatch(stats -> "session1".equals(stats.getFeedbackSessionName())));
+        assertTrue(updatedStats.stream().anyMatch(stats -> "session2".equals(stats.getFeedbackSessionName())));
+
+        assertTrue(ssDb.getSessionStatsUpdatedSince(Instant.now().plusSeconds(60)).isEmpty());
+    }
+
+    @Test
+    public void testDeleteSessionStats_bySession_shouldOnlyDeleteStatsOfSession() {
+        ssDb.putSessionStats(new SessionSubmissionStats("session1", "course1", true, true, true, 1L, 10));
+        ssDb.putSessionStats(new SessionSubmissionStats("session2", "course1", true, true, true, 1L, 10));
+
+        ssDb.deleteSessionStats("session1", "course1");
+
+        assertNull(ssDb.getSessionStats("session1", "course1"));
+        assertNotNull(ssDb.getSessionStats("session2", "course1"));
+
+        ______TS("deleting non-existent stats fails silently");
+
+        ssDb.deleteSessionStats("session1", "course1");
+
+        assertNull(ssDb.getSessionStats("session1", "course1"));
+    }
+
+    @Test
+    public void testDeleteSessionStats_byQuery_shouldDeleteMatchingStats() {
+        ssDb.putSessionStats(new SessionSubmissionStats("session1", "course1", true, true, true, 1L, 10));
+        ssDb.putSessionStats(new SessionSubmissionStats("session2", "course1", true, true, true, 1L, 10));
+        ssDb.putSessionStats(new SessionSubmissionStats("session1", "course2", true, true, true, 1L, 10));
+
+        ssDb.deleteSessionStats(AttributesDeletionQuery.builder()
+                .withCourseId("course1")
+                .withFeedbackSessionName("session1")
+                .build());
+
+        assertNull(ssDb.getSessionStats("session1", "course1"));
+        assertNotNull(ssDb.getSessionStats("session2", "course1"));
+        assertNotNull(ssDb.getSessionStats("session1", "course2"));
+
+        ssDb.deleteSessionStats(AttributesDeletionQuery.builder().withCourseId("course1").build());
+
+        assertNull(ssDb.getSessionStats("session2", "course1"));
+        assertNotNull(ssDb.getSessionStats("session1", "course2"));
+    }
+
+    @Test
+    public void testAllMethods_withNullInput_shouldFailWithAssertionError() {
+        assertThrows(AssertionError.class, () -> ssDb.getSessionStats(null, "course1"));
+        assertThrows(AssertionError.class, () -> ssDb.getSessionStats("session1", null));
+        assertThrows(AssertionError.class, () -> ssDb.putSessionStats(null));
+        assertThrows(AssertionError.class,
+                () -> ssDb.putSessionStats(new SessionSubmissionStats(null, "course1", true, true, true, 1L, 10)));
+        assertThrows(AssertionError.class, () -> ssDb.getInvalidationCount(null, "course1"));
+        assertThrows(AssertionError.class, () -> ssDb.getSessionStatsUpdatedSince(null));
+        assertThrows(AssertionError.class, () -> ssDb.invalidateSessionStats("session1", null));
+        assertThrows(AssertionError.class, () -> ssDb.deleteSessionStats(null, "course1"));
+        assertThrows(AssertionError.class, () -> ssDb.deleteSessionStats((AttributesDeletionQuery) null));
+    }
+
+}
@@ -3,9 +3,16 @@ package teammates.storage.api;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentEnrollmentChange;
+import teammates.common.datatransfer.StudentsEnrollmentResult;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -160,6 +167,58 @@ public class StudentsDbTest extends BaseComponentTestCase {
         studentsDb.deleteStudent(s2.course, s2.email);
     }
 
+    @Test
+    public void testGetStudentsForIds() throws Exception {
+        StudentAttributes s = createNewStudent();
+        StudentAttributes s2 = createNewStudent("one.new@gmail.com");
+
+        ______TS("typical case: existing students are returned by ID");
+
+        Map<String, StudentAttributes> students = studentsDb.getStudentsForIds(
+                Arrays.asList(s.getId(), s2.getId(), "non-existent@email.com%any-course-id"));
+
+        assertEquals(2, students.size());
+        assertTrue(isEnrollInfoSameAs(s, students.get(s.getId())));
+        assertTrue(isEnrollInfoSameAs(s2, students.get(s2.getId())));
+        assertEquals(studentsDb.getStudentForEmail(s.course, s.email).key, students.get(s.getId()).key);
+
+        ______TS("no IDs");
+
+        assertTrue(studentsDb.getStudentsForIds(Collections.emptyList()).isEmpty());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> studentsDb.getStudentsForIds(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
+    @Test
+    public void testHasStudentsForGoogleId() throws Exception {
+        StudentAttributes s = createNewStudent();
+
+        ______TS("typical case: googleId of a student");
+
+        assertFalse(studentsDb.hasStudentsForGoogleId("valid.googleId"));
+
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(s.course, s.email)
+                        .withGoogleId("valid.googleId")
+                        .build());
+
+        assertTrue(studentsDb.hasStudentsForGoogleId("valid.googleId"));
+
+        ______TS("googleId of a deleted student");
+
+        studentsDb.deleteStudent(s.course, s.email);
+
+        assertFalse(studentsDb.hasStudentsForGoogleId("valid.googleId"));
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> studentsDb.hasStudentsForGoogleId(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     @Test
     public void testUpdateStudent_noChangeToStudent_shouldNotIssueSaveRequest() throws Exception {
         StudentAttributes s = createNewStudent();
@@ -329,6 +388,79 @@ public class StudentsDbTest extends BaseComponentTestCase {
         assertEquals("sectionName", actualStudent.getSection());
     }
 
+    @Test
+    public void testEnrollStudents() throws Exception {
+        StudentAttributes unchangedStudent = createNewStudent("unchanged@email.com");
+        StudentAttributes renamedStudent = createNewStudent("renamed@email.com");
+        StudentAttributes movedStudent = createNewStudent("moved@email.com");
+        StudentAttributes newStudent = StudentAttributes
+                .builder("valid-course", "new@email.com")
+                .withName("new student")
+                .withComment("")
+                .withTeamName("valid team name")
+                .withSectionName("valid section name")
+                .build();
+        studentsDb.deleteStudent(newStudent.getCourse(), newStudent.getEmail());
+
+        ______TS("typical case: new students are created and only changed students are updated");
+
+        StudentAttributes renamedStudentToEnroll = renamedStudent.getCopy();
+        renamedStudentToEnroll.name = "renamed student";
+        StudentAttributes movedStudentToEnroll = movedStudent.getCopy();
+        movedStudentToEnroll.team = "new team name";
+        movedStudentToEnroll.section = "new section name";
+        StudentAttributes invalidStudent = newStudent.getCopy();
+        invalidStudent.email = "invalid-email";
+
+        StudentsEnrollmentResult result = studentsDb.enrollStudents("valid-course", Arrays.asList(
+                unchangedStudent, renamedStudentToEnroll, invalidStudent, movedStudentToEnroll, newStudent,
+                unchangedStudent));
+
+        assertEquals(Arrays.asList(unchangedStudent.getEmail(), renamedStudent.getEmail(),
+                movedStudent.getEmail(), newStudent.getEmail()),
+                result.getEnrolledStudents().stream().map(StudentAttributes::getEmail).collect(Collectors.toList()));
+
+        assertEquals(unchangedStudent.getUpdatedAt(),
+                studentsDb.getStudentForEmail(unchangedStudent.getCourse(), unchangedStudent.getEmail()).getUpdatedAt());
+        assertTrue(isEnrollInfoSameAs(renamedStudentToEnroll,
+                studentsDb.getStudentForEmail(renamedStudent.getCourse(), renamedStudent.getEmail())));
+        assertTrue(isEnrollInfoSameAs(movedStudentToEnroll,
+                studentsDb.getStudentForEmail(movedStudent.getCourse(), movedStudent.getEmail())));
+        assertTrue(isEnrollInfoSameAs(newStudent,
+                studentsDb.getStudentForEmail(newStudent.getCourse(), newStudent.getEmail())));
+        assertNull(studentsDb.getStudentForEmail(invalidStudent.getCourse(), invalidStudent.getEmail()));
+
+        // the registration key of existing students is kept
+        assertEquals(renamedStudent.getKey(),
+                studentsDb.getStudentForEmail(renamedStudent.getCourse(), renamedStudent.getEmail()).getKey());
+
+        ______TS("only changes of team or section are returned");
+
+        assertEquals(1, result.getChanges().size());
+        StudentEnrollmentChange change = result.getChanges().get(0);
+        assertEquals(movedStudent.getEmail(), change.getEmail());
+        assertEquals(movedStudent.getTeam(), change.getOriginalTeam());
+        assertEquals("new team name", change.getTeam());
+        assertEquals(movedStudent.getSection(), change.getOriginalSection());
+        assertEquals("new section name", change.getSection());
+        assertTrue(change.isTeamChanged());
+        assertTrue(change.isSectionChanged());
+
+        // clean up
+        for (StudentAttributes student : Arrays.asList(unchangedStudent, renamedStudent, movedStudent, newStudent)) {
+            studentsDb.deleteStudent(student.getCourse(), student.getEmail());
+        }
+
+        ______TS("failure: null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> studentsDb.enrollStudents(null, Arrays.asList(newStudent)));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        ae = assertThrows(AssertionError.class, () -> studentsDb.enrollStudents("valid-course", null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
     @Test
     public void testDeleteStudent() throws Exception {
         StudentAttributes s = createNewStudent();
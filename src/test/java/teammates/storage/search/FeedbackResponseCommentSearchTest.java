@@ -6,12 +6,15 @@ import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.search.Document;
+
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -208,4 +211,29 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
         assertEquals(0, bundle.questions.size());
         assertEquals(0, bundle.sessions.size());
     }
+
+    @Test
+    public void testFromComments_typicalComments_shouldBuildSameDocumentsAsSingleComments() {
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            comments.addAll(commentsDb.getFeedbackResponseCommentsForSession(
+                    session.getCourseId(), session.getFeedbackSessionName()));
+        }
+        assertFalse(comments.isEmpty());
+
+        List<FeedbackResponseCommentSearchDocument> documents = FeedbackResponseCommentSearchDocument.fromComments(comments);
+
+        assertEquals(comments.size(), documents.size());
+        for (int i = 0; i < comments.size(); i++) {
+            Document expected = new FeedbackResponseCommentSearchDocument(comments.get(i)).build();
+            Document actual = documents.get(i).build();
+
+            assertEquals(expected.getId(), actual.getId());
+            assertEquals(expected.getFieldNames(), actual.getFieldNames());
+            for (String fieldName : expected.getFieldNames()) {
+                assertEquals(expected.getOnlyField(fieldName).getText(), actual.getOnlyField(fieldName).getText());
+            }
+        }
+    }
+
 }
@@ -1,6 +1,8 @@
 package teammates.storage.search;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -9,6 +11,7 @@ import teammates.common.datatransfer.InstructorSearchResultBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
+import teammates.storage.api.DeferredSearchIndexing;
 import teammates.storage.api.InstructorsDb;
 import teammates.test.AssertHelper;
 
@@ -157,6 +160,34 @@ public class InstructorSearchTest extends BaseSearchTest {
         assertEquals("instructorABCDE", bundle.instructorList.get(0).getName());
     }
 
+    @Test
+    public void testSearchInstructor_indexingDeferred_shouldOnlyBeSearchableAfterIndexing() throws Exception {
+        CourseAttributes courseAttributes = dataBundle.courses.get("typicalCourse1");
+        DeferredSearchIndexing deferredSearchIndexing = new DeferredSearchIndexing();
+
+        Map<String, List<String>> deferredInstructorIds;
+        deferredSearchIndexing.startDeferring();
+        try {
+            instructorsDb.createEntity(
+                    InstructorAttributes.builder(courseAttributes.getId(), "instructorABCDE@email.com")
+                            .withName("instructorABCDE")
+                            .withDisplayedName("Instructor")
+                            .withRole(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER)
+                            .build());
+        } finally {
+            deferredInstructorIds = deferredSearchIndexing.stopDeferring();
+        }
+
+        // the document is not indexed while indexing is deferred
+        assertEquals(0, instructorsDb.searchInstructorsInWholeSystem("instructorABCDE").numberOfResults);
+
+        instructorsDb.putDocumentsForIds(deferredInstructorIds.get(Const.SearchIndex.INSTRUCTOR));
+
+        InstructorSearchResultBundle bundle = instructorsDb.searchInstructorsInWholeSystem("instructorABCDE");
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals("instructorABCDE", bundle.instructorList.get(0).getName());
+    }
+
     @Test
     public void testSearchInstructor_deleteAfterSearch_shouldNotBeSearchable() {
         InstructorAttributes ins1InCourse2 = dataBundle.instructors.get("instructor1OfCourse2");
@@ -1,15 +1,22 @@
 package teammates.storage.search;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Field;
+
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.storage.api.DeferredSearchIndexing;
 import teammates.storage.api.StudentsDb;
 import teammates.test.AssertHelper;
 
@@ -112,6 +119,37 @@ public class StudentSearchTest extends BaseSearchTest {
 
     }
 
+    @Test
+    public void testSearchStudent_indexingDeferred_shouldOnlyBeSearchableAfterIndexing() throws Exception {
+        CourseAttributes courseAttributes = dataBundle.courses.get("typicalCourse1");
+        DeferredSearchIndexing deferredSearchIndexing = new DeferredSearchIndexing();
+
+        Map<String, List<String>> deferredStudentIds;
+        StudentAttributes createdStudent;
+        deferredSearchIndexing.startDeferring();
+        try {
+            createdStudent = studentsDb.createEntity(
+                    StudentAttributes.builder(courseAttributes.getId(), "studentABCDE@email.com")
+                            .withName("studentABCDE")
+                            .withTeamName("TEAM-ABCDE")
+                            .withComment("")
+                            .build());
+        } finally {
+            deferredStudentIds = deferredSearchIndexing.stopDeferring();
+        }
+
+        // the document is not indexed while indexing is deferred
+        assertEquals(0, studentsDb.searchStudentsInWholeSystem("studentABCDE").numberOfResults);
+        assertEquals(Collections.singletonMap(Const.SearchIndex.STUDENT, Arrays.asList(createdStudent.getId())),
+                deferredStudentIds);
+
+        studentsDb.putDocumentsForIds(deferredStudentIds.get(Const.SearchIndex.STUDENT));
+
+        StudentSearchResultBundle bundle = studentsDb.searchStudentsInWholeSystem("studentABCDE");
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals("studentABCDE", bundle.studentList.get(0).getName());
+    }
+
     @Test
     public void testSearchStudent_deleteAfterSearch_shouldNotBeSearchable() {
         StudentAttributes stu1InCourse1 = dataBundle.students.get("student1InCourse1");
@@ -153,4 +191,41 @@ public class StudentSearchTest extends BaseSearchTest {
                 bundle.studentList);
     }
 
+    @Test
+    public void testSearchStudent_registrationKeyRegenerated_shouldOnlyBeFoundOnce() throws Exception {
+        StudentAttributes stu1InCourse1 = dataBundle.students.get("student1InCourse1");
+        List<InstructorAttributes> ins1OfCourse1 = Arrays.asList(dataBundle.instructors.get("instructor1OfCourse1"));
+
+        StudentAttributes student = studentsDb.getStudentForEmail(stu1InCourse1.getCourse(), stu1InCourse1.getEmail());
+        StudentAttributes regeneratedStudent = studentsDb.regenerateEntityKey(student);
+        assertNotEquals(student.getKey(), regeneratedStudent.getKey());
+
+        // the document of the old registration key is out of date and is left out of the results
+        StudentSearchResultBundle bundle = studentsDb.search("student1", ins1OfCourse1);
+
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals(regeneratedStudent.getKey(), bundle.studentList.get(0).getKey());
+    }
+
+    @Test
+    public void testSearchStudent_documentWithoutStudentId_shouldBeFoundByRegistrationKey() {
+        StudentAttributes stu1InCourse1 = dataBundle.students.get("student1InCourse1");
+        List<InstructorAttributes> ins1OfCourse1 = Arrays.asList(dataBundle.instructors.get("instructor1OfCourse1"));
+
+        StudentAttributes student = studentsDb.getStudentForEmail(stu1InCourse1.getCourse(), stu1InCourse1.getEmail());
+
+        // replace the document with one indexed before the student ID was stored
+        SearchManager.putDocuments(Const.SearchIndex.STUDENT, Arrays.asList(Document.newBuilder()
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.COURSE_ID).setText(student.getCourse()))
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.SEARCHABLE_TEXT)
+                        .setText(student.getName() + "," + student.getEmail()))
+                .setId(student.getKey())
+                .build()));
+
+        StudentSearchResultBundle bundle = studentsDb.search("student1", ins1OfCourse1);
+
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals(student.getKey(), bundle.studentList.get(0).getKey());
+    }
+
 }
@@ -1,8 +1,12 @@
 package teammates.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -129,4 +133,32 @@ public final class AssertHelper {
 
     }
 
+    /**
+     * Asserts that no list (or nested list) is shared between {@code original} and its copy.
+     */
+    public static void assertNoSharedLists(Object original, Object copy) throws IllegalAccessException {
+        for (Class<?> c = original.getClass(); c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !List.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                assertNoSharedList((List<?>) field.get(original), (List<?>) field.get(copy));
+            }
+        }
+    }
+
+    private static void assertNoSharedList(List<?> list, List<?> copy) {
+        if (list == null) {
+            assertNull(copy);
+            return;
+        }
+        assertNotSame(list, copy);
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) instanceof List) {
+                assertNoSharedList((List<?>) list.get(i), (List<?>) copy.get(i));
+            }
+        }
+    }
+
 }
@@ -13,6 +13,7 @@ import javax.servlet.http.Part;
 import com.google.appengine.tools.development.testing.LocalDatastoreServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalLogServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalMailServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalMemcacheServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalModulesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalSearchServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalServiceTestHelper;
@@ -64,11 +65,12 @@ public class GaeSimulation {
             LocalUserServiceTestConfig localUserServices = new LocalUserServiceTestConfig();
             LocalDatastoreServiceTestConfig localDatastore = new LocalDatastoreServiceTestConfig();
             LocalMailServiceTestConfig localMail = new LocalMailServiceTestConfig();
+            LocalMemcacheServiceTestConfig localMemcache = new LocalMemcacheServiceTestConfig();
             LocalSearchServiceTestConfig localSearch = new LocalSearchServiceTestConfig();
             localSearch.setPersistent(false);
             LocalModulesServiceTestConfig localModules = new LocalModulesServiceTestConfig();
             LocalLogServiceTestConfig localLog = new LocalLogServiceTestConfig();
-            helper = new LocalServiceTestHelper(localDatastore, localMail, localUserServices,
+            helper = new LocalServiceTestHelper(localDatastore, localMail, localMemcache, localUserServices,
                                                 localTasks, localSearch, localModules, localLog);
 
             helper.setEnvAttributes(getEnvironmentAttributesWithApplicationHostname());
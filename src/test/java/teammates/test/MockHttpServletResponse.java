@@ -1,6 +1,7 @@
 package teammates.test;
 
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -22,6 +23,8 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
+    private StringWriter body = new StringWriter();
+    private PrintWriter writer = new PrintWriter(body);
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -149,7 +152,15 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public PrintWriter getWriter() {
-        return new PrintWriter(System.out);
+        return writer;
+    }
+
+    /**
+     * Returns everything written to the response body so far.
+     */
+    public String getBody() {
+        writer.flush();
+        return body.toString();
     }
 
     @Override
@@ -7,6 +7,7 @@ import java.util.List;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.StudentEnrollmentChange;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.InvalidHttpRequestBodyException;
@@ -14,6 +15,7 @@ import teammates.common.util.Const;
 import teammates.ui.output.StudentData;
 import teammates.ui.output.StudentsData;
 import teammates.ui.request.StudentsEnrollRequest;
+import teammates.ui.request.StudentsEnrollmentCascadeRequest;
 
 /**
  * SUT: {@link EnrollStudentsAction}.
@@ -109,15 +111,50 @@ public class EnrollStudentsActionTest extends BaseActionTest<EnrollStudentsActio
         assertEquals(1, students.stream().filter(student ->
                 student.section.equals(studentToUpdate.section)).count());
 
+        String originalSection = studentToUpdate.section;
         studentToUpdate.section = "New Section";
         StudentsEnrollRequest req = prepareRequest(Arrays.asList(studentToUpdate));
 
         loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").getGoogleId());
-        List<StudentData> enrolledStudents = executeActionAndReturnResults(courseId, req);
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+        EnrollStudentsAction action = getAction(req, params);
+        JsonResult result = action.execute();
+        List<StudentData> enrolledStudents = ((StudentsData) result.getOutput()).getStudents();
 
         assertEquals(1, enrolledStudents.size());
         verifyStudentInDatabase(studentToUpdate, enrolledStudents.get(0).getCourseId(), enrolledStudents.get(0).getEmail());
         verifyCorrectResponseData(req.getStudentEnrollRequests().get(0), enrolledStudents.get(0));
+
+        // the section change is cascaded to the responses of the student in a single task
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.STUDENTS_ENROLLMENT_CASCADE_QUEUE_NAME, 1);
+        StudentsEnrollmentCascadeRequest cascadeRequest =
+                (StudentsEnrollmentCascadeRequest) action.getTaskQueuer().getTasksAdded().get(0).getRequestBody();
+        assertEquals(courseId, cascadeRequest.getCourseId());
+        assertEquals(1, cascadeRequest.getChanges().size());
+        StudentEnrollmentChange change = cascadeRequest.getChanges().get(0);
+        assertEquals(studentToUpdate.email, change.getEmail());
+        assertEquals(originalSection, change.getOriginalSection());
+        assertEquals("New Section", change.getSection());
+        assertFalse(change.isTeamChanged());
+    }
+
+    @Test
+    public void testExecute_withUnchangedTeamAndSection_shouldNotScheduleCascade() {
+        StudentAttributes studentToUpdate = typicalBundle.students.get("student1InCourse1");
+        String courseId = studentToUpdate.getCourse();
+        studentToUpdate.name = "new name";
+        StudentsEnrollRequest req = prepareRequest(Arrays.asList(studentToUpdate));
+
+        loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").getGoogleId());
+        String[] params = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+        };
+        EnrollStudentsAction action = getAction(req, params);
+        action.execute();
+
+        verifyNoTasksAdded(action);
     }
 
     @Test
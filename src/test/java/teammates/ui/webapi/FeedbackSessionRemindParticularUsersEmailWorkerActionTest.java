@@ -46,6 +46,9 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerActionTest
         StudentAttributes student1 = typicalBundle.students.get("student1InCourse1");
         InstructorAttributes instructor1 = typicalBundle.instructors.get("instructor1OfCourse1");
 
+        // users who have completed the session are still reminded if explicitly selected
+        assertTrue(logic.isFeedbackSessionCompletedByStudent(session1, student1.email));
+
         String[] usersToRemind = new String[] {
                 student1.email, instructor1.email, "non-existent",
         };
@@ -113,11 +113,10 @@ public class FeedbackSessionUpdateRespondentWorkerActionTest
 
     private void verifyRespondentInSessionRespondentsList(FeedbackSessionAttributes session, String respondentEmail,
             boolean isInstructor) {
-        FeedbackSessionAttributes sessionInDb =
-                logic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
-
-        Set<String> respondingStudentList = sessionInDb.getRespondingStudentList();
-        Set<String> respondingInstructorList = sessionInDb.getRespondingInstructorList();
+        Set<String> respondingStudentList =
+                logic.getStudentRespondents(session.getFeedbackSessionName(), session.getCourseId());
+        Set<String> respondingInstructorList =
+                logic.getInstructorRespondents(session.getFeedbackSessionName(), session.getCourseId());
         if (isInstructor) {
             assertFalse(respondingStudentList.contains(respondentEmail));
             assertTrue(respondingInstructorList.contains(respondentEmail));
@@ -129,11 +128,10 @@ public class FeedbackSessionUpdateRespondentWorkerActionTest
 
     private void verifyRespondentNotInSessionRespondentsList(FeedbackSessionAttributes session, String respondentEmail,
             boolean isInstructor) {
-        FeedbackSessionAttributes sessionInDb =
-                logic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
-
-        Set<String> respondingStudentList = sessionInDb.getRespondingStudentList();
-        Set<String> respondingInstructorList = sessionInDb.getRespondingInstructorList();
+        Set<String> respondingStudentList =
+                logic.getStudentRespondents(session.getFeedbackSessionName(), session.getCourseId());
+        Set<String> respondingInstructorList =
+                logic.getInstructorRespondents(session.getFeedbackSessionName(), session.getCourseId());
         if (isInstructor) {
             assertFalse(respondingInstructorList.contains(respondentEmail));
         } else {
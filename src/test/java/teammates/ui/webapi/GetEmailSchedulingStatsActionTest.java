@@ -0,0 +1,57 @@
+package teammates.ui.webapi;
+
+import java.util.Arrays;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.EmailWrapper;
+import teammates.test.MockTaskQueuer;
+import teammates.ui.output.EmailSchedulingStatsData;
+
+/**
+ * SUT: {@link GetEmailSchedulingStatsAction}.
+ */
+public class GetEmailSchedulingStatsActionTest extends BaseActionTest<GetEmailSchedulingStatsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.EMAIL_SCHEDULING_STATS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        ______TS("backlog includes the emails scheduled to be sent");
+
+        EmailWrapper[] emails = new EmailWrapper[2 * Config.EMAIL_RATE_LIMIT];
+        Arrays.setAll(emails, i -> new EmailWrapper());
+        new MockTaskQueuer().scheduleEmailsForSending(Arrays.asList(emails));
+
+        GetEmailSchedulingStatsAction a = getAction();
+        JsonResult r = getJsonResult(a);
+
+        EmailSchedulingStatsData output = (EmailSchedulingStatsData) r.getOutput();
+
+        assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+        assertEquals(Config.getEmailServiceName(), output.getEmailService());
+        assertEquals(Config.EMAIL_RATE_LIMIT, output.getRateLimit());
+        assertTrue(output.getBacklog() > 0);
+        assertTrue(output.getBacklogClearingMillis() > 0);
+        assertTrue(output.getSendRate() >= 0);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
@@ -1,18 +1,27 @@
 package teammates.ui.webapi;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import teammates.common.datatransfer.SessionResultsPage;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
+import teammates.test.MockHttpServletResponse;
 import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
 
@@ -89,6 +98,201 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
     }
 
+    @Test
+    public void testExecute_statisticsOnly_shouldReturnStatisticsWithoutResponses() {
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY, "true",
+        };
+
+        GetSessionResultsAction a = getAction(submissionParams);
+        JsonResult r = getJsonResult(a);
+
+        assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+
+        SessionResultsData output = (SessionResultsData) r.getOutput();
+        // all questions of the session have responses visible to instructors
+        assertEquals(5, output.getQuestions().size());
+
+        for (SessionResultsData.QuestionOutput questionOutput : output.getQuestions()) {
+            assertTrue(questionOutput.getAllResponses().isEmpty());
+
+            String questionNumber = String.valueOf(questionOutput.getFeedbackQuestion().getQuestionNumber());
+            long expectedNumberOfResponses = typicalBundle.feedbackResponses.values().stream()
+                    .filter(response -> response.getFeedbackSessionName().equals(session.getFeedbackSessionName())
+                            && response.getCourseId().equals(session.getCourseId())
+                            && response.getFeedbackQuestionId().equals(questionNumber))
+                    .count();
+            FeedbackQuestionDetails.TallyStatistics statistics = JsonUtils.fromJson(
+                    questionOutput.getQuestionStatistics(), FeedbackQuestionDetails.TallyStatistics.class);
+            assertEquals(expectedNumberOfResponses, statistics.numberOfResponses);
+        }
+    }
+
+    @Test
+    public void testExecute_missingResponsesNotIndicated_shouldReturnResponsesWithoutMissingResponses() {
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        SessionResultsData fullResults = SessionResultsData.initForInstructor(
+                logic.getSessionResultsForUser(session.getFeedbackSessionName(), session.getCourseId(),
+                        instructorAttributes.getEmail(), UserRole.INSTRUCTOR, null, null));
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES, "false",
+        };
+
+        GetSessionResultsAction a = getAction(submissionParams);
+        JsonResult r = getJsonResult(a);
+
+        assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+
+        SessionResultsData output = (SessionResultsData) r.getOutput();
+        assertEquals(fullResults.getQuestions().size(), output.getQuestions().size());
+        assertTrue(output.getQuestions().stream()
+                .flatMap(questionOutput -> questionOutput.getAllResponses().stream())
+                .noneMatch(SessionResultsData.ResponseOutput::isMissingResponse));
+        assertEquals(getNumberOfNonMissingResponses(fullResults), getNumberOfNonMissingResponses(output));
+        // the session has missing responses which are otherwise indicated
+        assertTrue(getNumberOfNonMissingResponses(fullResults) < fullResults.getQuestions().stream()
+                .mapToInt(questionOutput -> questionOutput.getAllResponses().size())
+                .sum());
+    }
+
+    @Test
+    public void testExecute_paginated_shouldReturnPagesOfResponses() {
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        SessionResultsData fullResults = SessionResultsData.initForInstructor(
+                logic.getSessionResultsForUser(session.getFeedbackSessionName(), session.getCourseId(),
+                        instructorAttributes.getEmail(), UserRole.INSTRUCTOR, null, null));
+
+        ______TS("typical: pages together contain all responses except missing responses");
+
+        int numberOfPagedResponses = 0;
+        String cursor = null;
+        do {
+            List<String> params = new ArrayList<>(Arrays.asList(
+                    Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                    Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                    Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                    Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "2"));
+            if (cursor != null) {
+                params.add(Const.ParamsNames.FEEDBACK_RESULTS_CURSOR);
+                params.add(cursor);
+            }
+
+            GetSessionResultsAction a = getAction(params.toArray(new String[0]));
+            JsonResult r = getJsonResult(a);
+            assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+
+            SessionResultsData output = (SessionResultsData) r.getOutput();
+            int numberOfResponsesInPage = 0;
+            for (SessionResultsData.QuestionOutput questionOutput : output.getQuestions()) {
+                assertTrue(questionOutput.getAllResponses().stream()
+                        .noneMatch(SessionResultsData.ResponseOutput::isMissingResponse));
+                numberOfResponsesInPage += questionOutput.getAllResponses().size();
+            }
+            assertTrue(numberOfResponsesInPage <= 2);
+            numberOfPagedResponses += numberOfResponsesInPage;
+            cursor = output.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(getNumberOfNonMissingResponses(fullResults), numberOfPagedResponses);
+
+        ______TS("failure: invalid page size");
+
+        verifyHttpParameterFailure(Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "0");
+
+        ______TS("failure: invalid cursor");
+
+        verifyHttpParameterFailure(Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_PAGE_SIZE, "2",
+                Const.ParamsNames.FEEDBACK_RESULTS_CURSOR, "invalid cursor");
+    }
+
+    @Test
+    public void testExecute_streamed_shouldWriteAllResponsesOfEachQuestionTogether() throws Exception {
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_STREAM, "true",
+        };
+
+        GetSessionResultsAction a = getAction(submissionParams);
+        ActionResult r = a.execute();
+        assertTrue(r instanceof SessionResultsStreamResult);
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        r.send(resp);
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+
+        SessionResultsData fullResults = SessionResultsData.initForInstructor(
+                logic.getSessionResultsForUser(session.getFeedbackSessionName(), session.getCourseId(),
+                        instructorAttributes.getEmail(), UserRole.INSTRUCTOR, null, null));
+        JsonObject output = JsonUtils.parse(resp.getBody()).getAsJsonObject();
+        assertEquals(JsonUtils.toJsonTree(fullResults).getAsJsonObject().get("feedbackSession"),
+                output.get("feedbackSession"));
+
+        JsonArray questions = output.getAsJsonArray("questions");
+        assertEquals(fullResults.getQuestions().size(), questions.size());
+        int numberOfStreamedResponses = 0;
+        for (int i = 0; i < questions.size(); i++) {
+            JsonObject question = questions.get(i).getAsJsonObject();
+            assertEquals(JsonUtils.toJsonTree(fullResults.getQuestions().get(i).getFeedbackQuestion()),
+                    question.get("feedbackQuestion"));
+            numberOfStreamedResponses += question.getAsJsonArray("allResponses").size();
+        }
+        assertEquals(getNumberOfNonMissingResponses(fullResults), numberOfStreamedResponses);
+
+        ______TS("responses of a question spanning several pages are merged");
+
+        SessionResultsStreamResult smallPagesResult = new SessionResultsStreamResult(
+                cursor -> getSessionResultsPage(session, instructorAttributes, cursor));
+        MockHttpServletResponse smallPagesResp = new MockHttpServletResponse();
+        smallPagesResult.send(smallPagesResp);
+
+        assertEquals(output, JsonUtils.parse(smallPagesResp.getBody()));
+    }
+
+    private SessionResultsPage getSessionResultsPage(FeedbackSessionAttributes session,
+                                                     InstructorAttributes instructor, String cursor) {
+        try {
+            return logic.getSessionResultsPageForInstructor(session.getFeedbackSessionName(), session.getCourseId(),
+                    instructor.getEmail(), null, null, cursor, 1);
+        } catch (InvalidParametersException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private int getNumberOfNonMissingResponses(SessionResultsData results) {
+        return (int) results.getQuestions().stream()
+                .flatMap(questionOutput -> questionOutput.getAllResponses().stream())
+                .filter(responseOutput -> !responseOutput.isMissingResponse())
+                .count();
+    }
+
     @Override
     @Test
     protected void testAccessControl() {
@@ -104,6 +308,18 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
         verifyAccessibleForInstructorsOfTheSameCourse(submissionParams);
         verifyInaccessibleForInstructorsOfOtherCourses(submissionParams);
 
+        ______TS("statistics only: inaccessible for instructor who cannot view all sections");
+        String[] statisticsParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.INSTRUCTOR_RESULT.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY, "true",
+        };
+        loginAsInstructor(typicalBundle.instructors.get("instructor1OfCourse1").getGoogleId());
+        verifyCanAccess(statisticsParams);
+        loginAsInstructor(typicalBundle.instructors.get("helperOfCourse1").getGoogleId());
+        verifyCannotAccess(statisticsParams);
+
         ______TS("inaccessible for authenticated student when unpublished");
         submissionParams = new String[] {
                 Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
@@ -0,0 +1,49 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link QuestionStatsReconciliationAction}.
+ */
+public class QuestionStatsReconciliationActionTest extends BaseActionTest<QuestionStatsReconciliationAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_QUESTION_STATS_RECONCILIATION;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackQuestionAttributes questionInBundle = typicalBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestionAttributes question = logic.getFeedbackQuestion(questionInBundle.getFeedbackSessionName(),
+                questionInBundle.getCourseId(), questionInBundle.getQuestionNumber());
+        int numberOfResponses = logic.getResponsesTally(question).getNumberOfResponses();
+
+        QuestionStatsReconciliationAction action = getAction();
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        // the tallies of an open session are recomputed, and are already up to date
+        assertEquals(0, logic.reconcileResponsesTallies(session));
+        assertEquals(numberOfResponses, logic.getResponsesTally(question).getNumberOfResponses());
+    }
+
+}
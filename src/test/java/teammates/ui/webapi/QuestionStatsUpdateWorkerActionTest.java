@@ -0,0 +1,78 @@
+package teammates.ui.webapi;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponsesTally;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.util.Const;
+import teammates.ui.request.QuestionStatsUpdateRequest;
+
+/**
+ * SUT: {@link QuestionStatsUpdateWorkerAction}.
+ */
+public class QuestionStatsUpdateWorkerActionTest extends BaseActionTest<QuestionStatsUpdateWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.QUESTION_STATS_UPDATE_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackQuestionAttributes questionInBundle = typicalBundle.feedbackQuestions.get("qn1InSession1InCourse1");
+        FeedbackQuestionAttributes question = logic.getFeedbackQuestion(questionInBundle.getFeedbackSessionName(),
+                questionInBundle.getCourseId(), questionInBundle.getQuestionNumber());
+        int numberOfResponses = logic.getResponsesTally(question).getNumberOfResponses();
+
+        ______TS("typical case: changes deferred by a request are applied by the worker");
+
+        Map<String, FeedbackResponsesTally> deferredTallyChanges;
+        logic.startRequestScope();
+        try {
+            logic.createFeedbackResponse(FeedbackResponseAttributes
+                    .builder(question.getId(), "new.giver@gmail.tmt", "new.giver@gmail.tmt")
+                    .withCourseId(question.getCourseId())
+                    .withFeedbackSessionName(question.getFeedbackSessionName())
+                    .withGiverSection("None")
+                    .withRecipientSection("None")
+                    .withResponseDetails(new FeedbackTextResponseDetails("Deferred response"))
+                    .build());
+            deferredTallyChanges = logic.stopDeferringResponsesTallyChanges();
+        } finally {
+            logic.endRequestScope();
+        }
+
+        assertEquals(numberOfResponses, logic.getResponsesTally(question).getNumberOfResponses());
+
+        QuestionStatsUpdateRequest updateRequest =
+                new QuestionStatsUpdateRequest(question.getId(), deferredTallyChanges.get(question.getId()));
+        QuestionStatsUpdateWorkerAction action = getAction(updateRequest);
+        action.execute();
+
+        assertEquals(numberOfResponses + 1, logic.getResponsesTally(question).getNumberOfResponses());
+
+        ______TS("failure: missing question ID");
+
+        QuestionStatsUpdateWorkerAction invalidAction =
+                getAction(new QuestionStatsUpdateRequest(null, new FeedbackResponsesTally()));
+        assertThrows(InvalidHttpRequestBodyException.class, invalidAction::execute);
+    }
+
+}
@@ -69,7 +69,7 @@ public class SearchCommentsActionTest extends BaseActionTest<SearchCommentsActio
         loginAsInstructor("idOfInstructor1OfCourse1");
         String[] searchParams = new String[] {
                 Const.ParamsNames.SEARCH_KEY,
-                typicalBundle.feedbackResponses.get("response1ForQ1S1C1").responseDetails.getAnswerString(),
+                typicalBundle.feedbackResponses.get("response1ForQ1S1C1").getReadOnlyResponseDetails().getAnswerString(),
         };
         SearchCommentsAction action = getAction(searchParams);
         JsonResult result = getJsonResult(action);
@@ -0,0 +1,85 @@
+package teammates.ui.webapi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.util.Const;
+import teammates.ui.request.SearchIndexingRequest;
+
+/**
+ * SUT: {@link SearchIndexingWorkerAction}.
+ */
+public class SearchIndexingWorkerActionTest extends BaseActionTest<SearchIndexingWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEARCH_INDEXING_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        StudentAttributes student = typicalBundle.students.get("student1InCourse1");
+
+        ______TS("typical case: documents deferred by a request are indexed by the worker");
+
+        Map<String, List<String>> deferredEntityIds;
+        logic.startRequestScope();
+        try {
+            logic.updateStudentCascade(
+                    StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
+                            .withName("Deferred Indexing Student")
+                            .build());
+            logic.updateStudentCascade(
+                    StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
+                            .withComment("Updated twice in the same request")
+                            .build());
+            deferredEntityIds = logic.stopDeferringSearchIndexing();
+        } finally {
+            logic.endRequestScope();
+        }
+
+        assertEquals(Collections.singletonMap(Const.SearchIndex.STUDENT, Arrays.asList(student.getId())),
+                deferredEntityIds);
+        assertEquals(0, logic.searchStudentsInWholeSystem("Deferred").numberOfResults);
+
+        SearchIndexingRequest indexingRequest =
+                new SearchIndexingRequest(Const.SearchIndex.STUDENT, deferredEntityIds.get(Const.SearchIndex.STUDENT));
+        SearchIndexingWorkerAction action = getAction(indexingRequest);
+        action.execute();
+
+        assertEquals(1, logic.searchStudentsInWholeSystem("Deferred").numberOfResults);
+
+        ______TS("entities which no longer exist are skipped");
+
+        indexingRequest = new SearchIndexingRequest(Const.SearchIndex.STUDENT,
+                Arrays.asList("nonexistent@gmail.tmt%" + student.getCourse()));
+        action = getAction(indexingRequest);
+        action.execute();
+
+        ______TS("failure: invalid request body");
+
+        SearchIndexingRequest invalidRequest =
+                new SearchIndexingRequest("unknown-index", Arrays.asList(student.getId()));
+        SearchIndexingWorkerAction invalidAction = getAction(invalidRequest);
+        assertThrows(InvalidHttpRequestBodyException.class, () -> invalidAction.execute());
+    }
+
+}
@@ -0,0 +1,235 @@
+package teammates.ui.webapi;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.util.Const;
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
+import teammates.test.MockEmailSender;
+import teammates.test.MockTaskQueuer;
+import teammates.ui.request.SendEmailBatchRequest;
+import teammates.ui.request.SendEmailRequest;
+
+/**
+ * SUT: {@link SendEmailBatchWorkerAction}.
+ */
+public class SendEmailBatchWorkerActionTest extends BaseActionTest<SendEmailBatchWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+
+        ______TS("typical case: all emails in the batch are sent");
+
+        List<EmailWrapper> emails = Arrays.asList(
+                getEmail("recipient1@example.tmt"), getEmail("recipient2@example.tmt"), getEmail("recipient3@example.tmt"));
+
+        SendEmailBatchWorkerAction action = getAction(new SendEmailBatchRequest(emails));
+        JsonResult result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        verifyNumberOfEmailsSent(action, 3);
+        verifyNoTasksAdded(action);
+
+        ______TS("some emails failed: only the failed emails are scheduled to be sent again");
+
+        action = getAction(new SendEmailBatchRequest(emails));
+        action.setEmailSender(new FailingEmailSender("recipient2@example.tmt"));
+        result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        verifyNumberOfEmailsSent(action, 2);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 1);
+
+        TaskWrapper task = action.getTaskQueuer().getTasksAdded().get(0);
+        assertEquals(Const.TaskQueue.SEND_EMAIL_WORKER_URL, task.getWorkerUrl());
+        assertEquals("recipient2@example.tmt", ((SendEmailRequest) task.getRequestBody()).getEmail().getRecipient());
+
+        ______TS("all emails failed: each email is scheduled to be sent again on its own");
+
+        action = getAction(new SendEmailBatchRequest(emails));
+        action.setEmailSender(new FailingEmailSender(
+                "recipient1@example.tmt", "recipient2@example.tmt", "recipient3@example.tmt"));
+        result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        verifyNumberOfEmailsSent(action, 0);
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        for (int i = 0; i < tasksAdded.size(); i++) {
+            assertEquals(Const.TaskQueue.SEND_EMAIL_WORKER_URL, tasksAdded.get(i).getWorkerUrl());
+            assertEquals(emails.get(i).getRecipient(),
+                    ((SendEmailRequest) tasksAdded.get(i).getRequestBody()).getEmail().getRecipient());
+        }
+
+        ______TS("the only email in the batch failed: the batch is retried");
+
+        action = getAction(new SendEmailBatchRequest(emails.subList(0, 1)));
+        action.setEmailSender(new FailingEmailSender("recipient1@example.tmt"));
+        result = getJsonResult(action);
+
+        assertEquals(HttpStatus.SC_BAD_GATEWAY, result.getStatusCode());
+        verifyNumberOfEmailsSent(action, 0);
+        verifyNoTasksAdded(action);
+
+        ______TS("failure: empty batch");
+
+        SendEmailBatchWorkerAction emptyBatchAction = getAction(new SendEmailBatchRequest(new ArrayList<>()));
+        assertThrows(InvalidHttpRequestBodyException.class, () -> getJsonResult(emptyBatchAction));
+    }
+
+    @Test
+    public void testScheduleEmailsForSending_batchSizeLargerThanOne_shouldGroupEmailsIntoBatchTasks() {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            emails.add(getEmail("recipient" + i + "@example.tmt"));
+        }
+
+        MockTaskQueuer taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(emails, 2);
+
+        List<TaskWrapper> tasks = taskQueuer.getTasksAdded();
+        assertEquals(3, tasks.size());
+        int numberOfEmailsScheduled = 0;
+        for (TaskWrapper task : tasks) {
+            assertEquals(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, task.getQueueName());
+            assertEquals(Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL, task.getWorkerUrl());
+            List<EmailWrapper> batch = ((SendEmailBatchRequest) task.getRequestBody()).getEmails();
+            assertEquals(emails.subList(numberOfEmailsScheduled, numberOfEmailsScheduled + batch.size()), batch);
+            numberOfEmailsScheduled += batch.size();
+        }
+        assertEquals(5, numberOfEmailsScheduled);
+
+        ______TS("batch size of 1: each email is sent by its own task");
+
+        taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(emails, 1);
+
+        assertEquals(5, taskQueuer.getTasksAdded().size());
+        for (TaskWrapper task : taskQueuer.getTasksAdded()) {
+            assertEquals(Const.TaskQueue.SEND_EMAIL_WORKER_URL, task.getWorkerUrl());
+        }
+    }
+
+    @Test
+    public void testScheduleEmailsForSending_largeEmails_shouldKeepBatchPayloadWithinLimit() {
+        // about 3 KB of content, like the emails of feedback sessions
+        String content = String.join("", Collections.nCopies(60, "<p>A paragraph of a feedback session email.</p>"));
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < Const.SystemParams.MAX_EMAILS_PER_SEND_EMAIL_BATCH_TASK; i++) {
+            EmailWrapper email = getEmail("recipient" + i + "@example.tmt");
+            email.setContent(content);
+            emails.add(email);
+        }
+
+        MockTaskQueuer taskQueuer = new MockTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(emails, Const.SystemParams.MAX_EMAILS_PER_SEND_EMAIL_BATCH_TASK);
+
+        List<TaskWrapper> tasks = taskQueuer.getTasksAdded();
+        assertTrue(tasks.size() > 1);
+        int numberOfEmailsScheduled = 0;
+        for (TaskWrapper task : tasks) {
+            assertTrue(JsonUtils.toJson(task.getRequestBody()).getBytes(StandardCharsets.UTF_8).length
+                    <= Const.SystemParams.MAX_SEND_EMAIL_BATCH_TASK_PAYLOAD_BYTES);
+            List<EmailWrapper> batch = ((SendEmailBatchRequest) task.getRequestBody()).getEmails();
+            assertEquals(emails.subList(numberOfEmailsScheduled, numberOfEmailsScheduled + batch.size()), batch);
+            numberOfEmailsScheduled += batch.size();
+        }
+        assertEquals(emails.size(), numberOfEmailsScheduled);
+    }
+
+    @Test
+    public void testScheduleEmailsForSending_batchTaskNotAdded_shouldScheduleEmailsIndividually() {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            emails.add(getEmail("recipient" + i + "@example.tmt"));
+        }
+
+        MockTaskQueuer taskQueuer = new BatchRejectingTaskQueuer();
+        taskQueuer.scheduleEmailsForSending(emails, 3);
+
+        List<TaskWrapper> tasks = taskQueuer.getTasksAdded();
+        assertEquals(3, tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(Const.TaskQueue.SEND_EMAIL_WORKER_URL, tasks.get(i).getWorkerUrl());
+            assertEquals(emails.get(i), ((SendEmailRequest) tasks.get(i).getRequestBody()).getEmail());
+        }
+    }
+
+    private EmailWrapper getEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient(recipient);
+        email.setSenderEmail("sender@example.tmt");
+        email.setSenderName("Sender");
+        email.setReplyTo("reply-to@example.tmt");
+        email.setSubject("Subject for " + recipient);
+        email.setContent("<p>Content for " + recipient + "</p>");
+        return email;
+    }
+
+    /**
+     * Email sender which fails to send emails to the specified recipients.
+     */
+    private static class FailingEmailSender extends MockEmailSender {
+
+        private final List<String> failingRecipients;
+
+        FailingEmailSender(String... failingRecipients) {
+            this.failingRecipients = Arrays.asList(failingRecipients);
+        }
+
+        @Override
+        public EmailSendingStatus sendEmail(EmailWrapper email) {
+            if (failingRecipients.contains(email.getRecipient())) {
+                return new EmailSendingStatus(HttpStatus.SC_INTERNAL_SERVER_ERROR, "Failed to send email");
+            }
+            return super.sendEmail(email);
+        }
+
+    }
+
+    /**
+     * Task queuer which rejects email batch tasks, e.g. because they are too large.
+     */
+    private static class BatchRejectingTaskQueuer extends MockTaskQueuer {
+
+        @Override
+        protected void addDeferredTask(String queueName, String workerUrl, Map<String, String> paramMap,
+                                       Object requestBody, long countdownTime) {
+            if (Const.TaskQueue.SEND_EMAIL_BATCH_WORKER_URL.equals(workerUrl)) {
+                throw new IllegalArgumentException("Task size too large");
+            }
+            super.addDeferredTask(queueName, workerUrl, paramMap, requestBody, countdownTime);
+        }
+
+    }
+
+}
@@ -0,0 +1,45 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link SessionStatsReconciliationAction}.
+ */
+public class SessionStatsReconciliationActionTest extends BaseActionTest<SessionStatsReconciliationAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_SESSION_STATS_RECONCILIATION;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+        int expectedTotal = logic.getExpectedTotalSubmission(session);
+
+        SessionStatsReconciliationAction action = getAction();
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        // the stats of an open session are recomputed, and are already up to date
+        assertFalse(logic.reconcileSessionStats(session));
+        assertEquals(expectedTotal, logic.getExpectedTotalSubmission(session));
+    }
+
+}
@@ -0,0 +1,87 @@
+package teammates.ui.webapi;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentEnrollmentChange;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidHttpRequestBodyException;
+import teammates.common.util.Const;
+import teammates.ui.request.StudentsEnrollmentCascadeRequest;
+
+/**
+ * SUT: {@link StudentsEnrollmentCascadeWorkerAction}.
+ */
+public class StudentsEnrollmentCascadeWorkerActionTest extends BaseActionTest<StudentsEnrollmentCascadeWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.STUDENTS_ENROLLMENT_CASCADE_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        StudentAttributes student = typicalBundle.students.get("student5InCourse1");
+        FeedbackResponseAttributes responseFromStudent = typicalBundle.feedbackResponses.get("response2ForQ2S1C1");
+        FeedbackResponseAttributes responseToStudent = typicalBundle.feedbackResponses.get("response1ForQ2S1C1");
+        FeedbackQuestionAttributes question = logic.getFeedbackQuestion(
+                responseFromStudent.getFeedbackSessionName(), responseFromStudent.getCourseId(),
+                Integer.parseInt(responseFromStudent.getFeedbackQuestionId()));
+
+        ______TS("typical case: section change is cascaded to responses");
+
+        StudentAttributes studentToEnroll = student.getCopy();
+        studentToEnroll.section = "New Section";
+        List<StudentEnrollmentChange> changes =
+                logic.enrollStudents(Arrays.asList(studentToEnroll), student.getCourse()).getChanges();
+
+        assertEquals(1, changes.size());
+        assertEquals(student.getSection(), getResponseFromStudent(question, student).getGiverSection());
+
+        StudentsEnrollmentCascadeRequest cascadeRequest =
+                new StudentsEnrollmentCascadeRequest(student.getCourse(), changes);
+        StudentsEnrollmentCascadeWorkerAction action = getAction(cascadeRequest);
+        action.execute();
+
+        assertEquals("New Section", getResponseFromStudent(question, student).getGiverSection());
+        assertEquals("New Section", logic.getFeedbackResponse(question.getId(),
+                responseToStudent.getGiver(), student.getEmail()).getRecipientSection());
+
+        ______TS("students no longer in the course are skipped");
+
+        StudentEnrollmentChange changeOfDeletedStudent = new StudentEnrollmentChange(
+                "nonexistent@gmail.tmt", "Team 1.2", "Team 1.3", "Section 2", "Section 3");
+        cascadeRequest = new StudentsEnrollmentCascadeRequest(student.getCourse(), Arrays.asList(changeOfDeletedStudent));
+        action = getAction(cascadeRequest);
+        action.execute();
+
+        ______TS("failure: invalid request body");
+
+        StudentsEnrollmentCascadeRequest invalidRequest = new StudentsEnrollmentCascadeRequest(null, changes);
+        StudentsEnrollmentCascadeWorkerAction invalidAction = getAction(invalidRequest);
+        assertThrows(InvalidHttpRequestBodyException.class, () -> invalidAction.execute());
+    }
+
+    private FeedbackResponseAttributes getResponseFromStudent(FeedbackQuestionAttributes question,
+                                                              StudentAttributes student) {
+        return logic.getFeedbackResponse(question.getId(), student.getEmail(),
+                typicalBundle.feedbackResponses.get("response2ForQ2S1C1").getRecipient());
+    }
+
+}